@@ -0,0 +1,103 @@
+package com.example.demo.model;
+
+import com.example.demo.manager.GameRandom;
+import com.example.demo.plane.EnemyPlane;
+import com.example.demo.projectile.ProjectileStore;
+import com.example.demo.projectile.ProjectileType;
+
+/**
+ * BenchmarkLevelModel is a level model for the benchmarks.
+ * It never spawns enemies by itself and never completes; instead the benchmarks fill it with a fixed number
+ * of enemies and projectiles placed at seeded random positions, so every run measures the same world.
+ */
+class BenchmarkLevelModel extends LevelModel {
+
+	/**
+	 * The height of the game screen, matching the real game.
+	 */
+	static final double SCREEN_HEIGHT = 750;
+
+	/**
+	 * The width of the game screen, matching the real game.
+	 */
+	static final double SCREEN_WIDTH = 1300;
+
+	/**
+	 * The length of a benchmark tick, matching the default tick rate of the game loop.
+	 */
+	static final double TICK_SECONDS = 1.0 / 60;
+
+	/**
+	 * The initial health of the user, high enough that the user survives every benchmark.
+	 */
+	private static final int PLAYER_INITIAL_HEALTH = Integer.MAX_VALUE;
+
+	/**
+	 * The seed for placing actors and for the world's random decisions.
+	 */
+	static final long SEED = 2042;
+
+	/**
+	 * The source of actor positions.
+	 */
+	private final GameRandom random;
+
+	/**
+	 * Constructor for BenchmarkLevelModel.
+	 * Creates an empty world with only the user's plane.
+	 */
+	BenchmarkLevelModel() {
+		super(SCREEN_HEIGHT, SCREEN_WIDTH, PLAYER_INITIAL_HEALTH, new GameRandom(SEED));
+		this.random = new GameRandom(SEED);
+	}
+
+	/**
+	 * Replaces the enemies and projectiles of the world with a fresh set.
+	 * Enemies are spread over the whole screen; the projectiles are split evenly between the user's and the enemy store.
+	 *
+	 * @param enemyCount      the number of enemy planes
+	 * @param projectileCount the total number of projectiles
+	 */
+	void populate(int enemyCount, int projectileCount) {
+		random.setState(SEED);
+		getRandom().setState(SEED);
+		getEnemyUnits().clear();
+		for (int i = 0; i < enemyCount; i++) {
+			addEnemyUnit(new EnemyPlane(random.nextDouble() * SCREEN_WIDTH, random.nextDouble() * getEnemyMaximumYPosition(),
+					getRandom()));
+		}
+		fill(getUserProjectiles(), ProjectileType.USER, projectileCount / 2);
+		fill(getEnemyProjectiles(), ProjectileType.ENEMY, projectileCount - projectileCount / 2);
+	}
+
+	/**
+	 * Replaces the projectiles of a store with the given number of projectiles at random positions.
+	 *
+	 * @param projectiles the store to fill
+	 * @param type        the type of the projectiles
+	 * @param count       the number of projectiles
+	 */
+	private void fill(ProjectileStore projectiles, ProjectileType type, int count) {
+		projectiles.clear();
+		for (int i = 0; i < count; i++) {
+			projectiles.spawn(type, random.nextDouble() * SCREEN_WIDTH, random.nextDouble() * SCREEN_HEIGHT);
+		}
+	}
+
+	/**
+	 * Spawns nothing; the benchmarks populate the world themselves.
+	 */
+	@Override
+	protected void spawnEnemyUnits() {
+	}
+
+	/**
+	 * Never completes, so the world can be stepped for as long as a benchmark runs.
+	 *
+	 * @return false
+	 */
+	@Override
+	public boolean isLevelComplete() {
+		return false;
+	}
+}
@@ -0,0 +1,60 @@
+package com.example.demo.model;
+
+import java.util.concurrent.TimeUnit;
+
+import com.example.demo.manager.GameRandom;
+import com.example.demo.plane.Boss;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * BossBenchmark measures the boss's per-tick logic.
+ * {@code updatePosition} covers the move pattern ({@code getNextMove}) and {@code updateActor}
+ * adds the shield update on top of it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BossBenchmark {
+
+	/**
+	 * The boss under measurement.
+	 */
+	private Boss boss;
+
+	/**
+	 * Creates a fresh boss before each iteration.
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() {
+		boss = new Boss(new GameRandom(BenchmarkLevelModel.SEED));
+	}
+
+	/**
+	 * Moves the boss by the next move of its pattern.
+	 *
+	 * @return the boss's y-coordinate, so the work is not optimised away
+	 */
+	@Benchmark
+	public double updatePosition() {
+		boss.updatePosition(BenchmarkLevelModel.TICK_SECONDS);
+		return boss.getY();
+	}
+
+	/**
+	 * Moves the boss and updates its shield.
+	 *
+	 * @return whether the boss is shielded, so the work is not optimised away
+	 */
+	@Benchmark
+	public boolean updateActor() {
+		boss.updateActor(BenchmarkLevelModel.TICK_SECONDS);
+		return boss.isShielded();
+	}
+}
@@ -0,0 +1,68 @@
+package com.example.demo.model;
+
+import java.util.concurrent.TimeUnit;
+
+import com.example.demo.collision.CollisionMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * CollisionBenchmark measures the collision phase of a level tick with both collision paths.
+ * Damage does not remove anything until the removal phase, so every invocation tests the same pairs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CollisionBenchmark {
+
+	/**
+	 * The number of enemy planes in the world.
+	 */
+	@Param({"10", "100", "1000"})
+	public int enemyCount;
+
+	/**
+	 * The total number of projectiles in the world.
+	 */
+	@Param({"100", "1000", "10000"})
+	public int projectileCount;
+
+	/**
+	 * The collision path under measurement.
+	 */
+	@Param({"SPATIAL_HASH", "BRUTE_FORCE"})
+	public CollisionMode collisionMode;
+
+	/**
+	 * The world under measurement.
+	 */
+	private BenchmarkLevelModel model;
+
+	/**
+	 * Creates and populates the world before each iteration.
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() {
+		model = new BenchmarkLevelModel();
+		model.setCollisionMode(collisionMode);
+		model.populate(enemyCount, projectileCount);
+	}
+
+	/**
+	 * Rebuilds the collision grids and resolves all three collision passes.
+	 */
+	@Benchmark
+	public void handleCollisions() {
+		model.rebuildCollisionGrids();
+		model.handleUserProjectileCollisions();
+		model.handleEnemyProjectileCollisions();
+		model.handlePlaneCollisions();
+	}
+}
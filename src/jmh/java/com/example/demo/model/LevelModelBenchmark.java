@@ -0,0 +1,165 @@
+package com.example.demo.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * LevelModelBenchmark measures the hot phases of a level tick one at a time, without JavaFX.
+ * Each benchmark runs against a world with the given number of enemies and projectiles,
+ * and reports operations per second; run it with the gc profiler to see the allocation rate as well.
+ * Collisions are measured separately by {@link CollisionBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LevelModelBenchmark {
+
+	/**
+	 * The number of enemy planes in the world.
+	 */
+	@Param({"10", "100", "1000"})
+	public int enemyCount;
+
+	/**
+	 * The total number of projectiles in the world.
+	 */
+	@Param({"100", "1000", "10000"})
+	public int projectileCount;
+
+	/**
+	 * The world under measurement.
+	 */
+	private BenchmarkLevelModel model;
+
+	/**
+	 * Creates and populates the world before each iteration.
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() {
+		model = new BenchmarkLevelModel();
+		model.populate(enemyCount, projectileCount);
+	}
+
+	/**
+	 * Holds the world of the fire benchmark and drops the projectiles it fires after each invocation,
+	 * so the enemy store keeps its size without the cleanup being measured.
+	 */
+	@State(Scope.Thread)
+	public static class FireState {
+
+		/**
+		 * The world under measurement.
+		 */
+		private BenchmarkLevelModel model;
+
+		/**
+		 * The number of enemy projectiles the world was populated with.
+		 */
+		private int projectileCount;
+
+		/**
+		 * Creates and populates the world once per iteration.
+		 *
+		 * @param benchmark the benchmark state holding the world size
+		 */
+		@Setup(Level.Iteration)
+		public void populate(LevelModelBenchmark benchmark) {
+			model = new BenchmarkLevelModel();
+			model.populate(benchmark.enemyCount, benchmark.projectileCount);
+			projectileCount = model.getEnemyProjectiles().getCount();
+		}
+
+		/**
+		 * Removes the projectiles fired by the last invocation.
+		 */
+		@TearDown(Level.Invocation)
+		public void dropFiredProjectiles() {
+			for (int i = projectileCount; i < model.getEnemyProjectiles().getCount(); i++) {
+				model.getEnemyProjectiles().destroy(i);
+			}
+			model.getEnemyProjectiles().removeDestroyed();
+		}
+	}
+
+	/**
+	 * Repopulates the world before each invocation of the removal benchmark, with every other actor destroyed.
+	 * The removal benchmark consumes the destroyed actors, so it needs a fresh world every time.
+	 */
+	@State(Scope.Thread)
+	public static class RemovalState {
+
+		/**
+		 * The world under measurement.
+		 */
+		private BenchmarkLevelModel model;
+
+		/**
+		 * Creates the world once per trial.
+		 */
+		@Setup(Level.Trial)
+		public void createModel() {
+			model = new BenchmarkLevelModel();
+		}
+
+		/**
+		 * Repopulates the world and destroys every other enemy and projectile.
+		 *
+		 * @param benchmark the benchmark state holding the world size
+		 */
+		@Setup(Level.Invocation)
+		public void populate(LevelModelBenchmark benchmark) {
+			model.populate(benchmark.enemyCount, benchmark.projectileCount);
+			for (int i = 0; i < model.getEnemyUnits().size(); i += 2) {
+				model.getEnemyUnits().get(i).destroy();
+			}
+			for (int i = 0; i < model.getUserProjectiles().getCount(); i += 2) {
+				model.getUserProjectiles().destroy(i);
+			}
+			for (int i = 0; i < model.getEnemyProjectiles().getCount(); i += 2) {
+				model.getEnemyProjectiles().destroy(i);
+			}
+		}
+	}
+
+	/**
+	 * Moves every plane and projectile by one tick.
+	 */
+	@Benchmark
+	public void updateActors() {
+		model.updateActors(BenchmarkLevelModel.TICK_SECONDS);
+	}
+
+	/**
+	 * Lets every enemy decide whether to fire.
+	 *
+	 * @param state the world whose enemies fire
+	 * @return the number of enemy projectiles, so the work is not optimised away
+	 */
+	@Benchmark
+	public int generateEnemyFire(FireState state) {
+		state.model.generateEnemyFire(BenchmarkLevelModel.TICK_SECONDS);
+		return state.model.getEnemyProjectiles().getCount();
+	}
+
+	/**
+	 * Removes the destroyed half of the planes and projectiles.
+	 *
+	 * @param state the freshly populated world
+	 * @return the number of enemies left, so the work is not optimised away
+	 */
+	@Benchmark
+	public int removeDestroyedActors(RemovalState state) {
+		state.model.removeAllDestroyedActors();
+		return state.model.getEnemyUnits().size();
+	}
+}
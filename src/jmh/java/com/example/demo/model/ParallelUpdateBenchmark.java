@@ -0,0 +1,91 @@
+package com.example.demo.model;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * ParallelUpdateBenchmark measures how the actor update and the collision phase scale with the number of threads
+ * given to {@link ParallelUpdate}. A parallelism of 0 runs the sequential path, so each row of the results
+ * can be compared with the single-threaded baseline of the same world size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParallelUpdateBenchmark {
+
+	/**
+	 * The number of enemy planes in the world; the world holds as many projectiles.
+	 */
+	@Param({"1000", "10000", "50000"})
+	public int enemyCount;
+
+	/**
+	 * The number of worker threads, or 0 for the sequential path.
+	 */
+	@Param({"0", "2", "4", "8", "16"})
+	public int parallelism;
+
+	/**
+	 * The world under measurement.
+	 */
+	private BenchmarkLevelModel model;
+
+	/**
+	 * The pool of the parallel path, or null for the sequential path.
+	 */
+	private ForkJoinPool pool;
+
+	/**
+	 * Creates and populates the world before each iteration, with every list above the parallel threshold.
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() {
+		model = new BenchmarkLevelModel();
+		model.populate(enemyCount, enemyCount);
+		if (parallelism > 0) {
+			pool = new ForkJoinPool(parallelism);
+			model.setParallelUpdate(new ParallelUpdate(pool, 1));
+		}
+	}
+
+	/**
+	 * Shuts the pool down after each iteration.
+	 */
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		if (pool != null) {
+			pool.shutdown();
+			pool = null;
+		}
+	}
+
+	/**
+	 * Moves every plane and projectile.
+	 */
+	@Benchmark
+	public void updateActors() {
+		model.updateActors(BenchmarkLevelModel.TICK_SECONDS);
+	}
+
+	/**
+	 * Rebuilds the collision grids and resolves all three collision passes.
+	 */
+	@Benchmark
+	public void handleCollisions() {
+		model.rebuildCollisionGrids();
+		model.handleUserProjectileCollisions();
+		model.handleEnemyProjectileCollisions();
+		model.handlePlaneCollisions();
+	}
+}
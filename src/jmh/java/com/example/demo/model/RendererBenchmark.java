@@ -0,0 +1,167 @@
+package com.example.demo.model;
+
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import com.example.demo.Image.ActorRenderer;
+import com.example.demo.Image.ActorView;
+import com.example.demo.Image.CanvasRenderer;
+import com.example.demo.Image.RenderMode;
+import com.example.demo.Image.SceneGraphRenderer;
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.image.WritableImage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * RendererBenchmark compares the frame time of the scene graph and canvas renderers.
+ * The populated world is captured into a {@link FrameSnapshot} once, as the simulation thread would after a tick.
+ * A frame positions every actor of the snapshot with the renderer and then renders the whole scene with {@link Scene#snapshot},
+ * which runs the same CSS, layout, sync and Prism drawing a pulse would, on the JavaFX application thread.
+ * The snapshot's pixel read-back is included in both modes alike. Sample time mode reports the percentiles
+ * of the frame times. One in ten actors is an enemy plane and the rest are projectiles.
+ *
+ * <p>The JavaFX toolkit needs a display, so on a headless machine run this benchmark under a virtual one,
+ * for example {@code xvfb-run mvn -P benchmarks test-compile exec:exec -Djmh.args="RendererBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RendererBenchmark {
+
+	/**
+	 * Whether the JavaFX toolkit has been started in this JVM.
+	 */
+	private static boolean toolkitStarted;
+
+	/**
+	 * The total number of actors in the world.
+	 */
+	@Param({"100", "1000", "10000"})
+	public int actorCount;
+
+	/**
+	 * The renderer under measurement.
+	 */
+	@Param({"SCENE_GRAPH", "CANVAS"})
+	public RenderMode renderMode;
+
+	/**
+	 * The world being drawn.
+	 */
+	private BenchmarkLevelModel model;
+
+	/**
+	 * The snapshot of the populated world.
+	 */
+	private FrameSnapshot snapshot;
+
+	/**
+	 * The renderer drawing the world.
+	 */
+	private ActorRenderer renderer;
+
+	/**
+	 * The scene holding the renderer's nodes.
+	 */
+	private Scene scene;
+
+	/**
+	 * The image each frame is rendered into.
+	 */
+	private WritableImage frame;
+
+	/**
+	 * The interpolation factor of the next frame, alternated so every frame moves every actor.
+	 */
+	private double alpha;
+
+	/**
+	 * Starts the toolkit if needed, then builds the scene and populates the world before each trial.
+	 *
+	 * @throws Exception if the scene cannot be built on the JavaFX application thread
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		startToolkit();
+		runOnFxThread(() -> {
+			model = new BenchmarkLevelModel();
+			Group root = new Group();
+			if (renderMode == RenderMode.CANVAS) {
+				renderer = new CanvasRenderer(BenchmarkLevelModel.SCREEN_WIDTH, BenchmarkLevelModel.SCREEN_HEIGHT);
+			} else {
+				ActorView userView = new ActorView(model.getUser());
+				root.getChildren().add(userView);
+				renderer = new SceneGraphRenderer(root, userView);
+			}
+			renderer.addTo(root);
+			int enemyCount = actorCount / 10;
+			model.populate(enemyCount, actorCount - enemyCount);
+			snapshot = new FrameSnapshot();
+			snapshot.capture(model, 0);
+			scene = new Scene(root, BenchmarkLevelModel.SCREEN_WIDTH, BenchmarkLevelModel.SCREEN_HEIGHT);
+			frame = new WritableImage((int) BenchmarkLevelModel.SCREEN_WIDTH, (int) BenchmarkLevelModel.SCREEN_HEIGHT);
+		});
+	}
+
+	/**
+	 * Drops the scene after each trial.
+	 *
+	 * @throws Exception if the scene cannot be cleared on the JavaFX application thread
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		runOnFxThread(() -> {
+			renderer.clear();
+			scene = null;
+		});
+	}
+
+	/**
+	 * Draws one frame with the renderer and renders the scene.
+	 *
+	 * @throws Exception if the frame cannot be drawn on the JavaFX application thread
+	 */
+	@Benchmark
+	public void frame() throws Exception {
+		alpha = alpha == 0.25 ? 0.75 : 0.25;
+		runOnFxThread(() -> {
+			renderer.render(snapshot, alpha);
+			scene.snapshot(frame);
+		});
+	}
+
+	/**
+	 * Starts the JavaFX toolkit the first time it is needed in this JVM.
+	 */
+	private static synchronized void startToolkit() {
+		if (!toolkitStarted) {
+			Platform.startup(() -> {
+			});
+			Platform.setImplicitExit(false);
+			toolkitStarted = true;
+		}
+	}
+
+	/**
+	 * Runs a task on the JavaFX application thread and waits for it to finish.
+	 *
+	 * @param task the task
+	 * @throws Exception if the task throws
+	 */
+	private static void runOnFxThread(Runnable task) throws Exception {
+		FutureTask<Void> future = new FutureTask<>(task, null);
+		Platform.runLater(future);
+		future.get();
+	}
+}
@@ -0,0 +1,88 @@
+package com.example.demo.model;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.demo.save.ByteBufferOutput;
+import com.example.demo.save.SaveState;
+
+/**
+ * SaveStateBenchmark measures how long a quick save takes to capture and to restore, without JavaFX or the disk.
+ * Each benchmark runs against a world with the given number of enemies and projectiles,
+ * and reports the average time of one save or restore; a restore must stay well under a millisecond.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SaveStateBenchmark {
+
+	/**
+	 * The number of enemy planes in the world.
+	 */
+	@Param({"10", "100", "1000"})
+	public int enemyCount;
+
+	/**
+	 * The total number of projectiles in the world.
+	 */
+	@Param({"100", "1000", "10000"})
+	public int projectileCount;
+
+	/**
+	 * The world under measurement.
+	 */
+	private BenchmarkLevelModel model;
+
+	/**
+	 * The buffer the captures are encoded into, reused like the level saver reuses it.
+	 */
+	private ByteBufferOutput scratch;
+
+	/**
+	 * A save of the world, restored by the restore benchmark.
+	 */
+	private SaveState save;
+
+	/**
+	 * Creates and populates the world, and saves it, before each iteration.
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() {
+		model = new BenchmarkLevelModel();
+		model.populate(enemyCount, projectileCount);
+		scratch = new ByteBufferOutput();
+		save = SaveState.capture(model, "benchmark", 0, 60, scratch);
+	}
+
+	/**
+	 * Captures the world into a new save.
+	 *
+	 * @return the save, so the capture cannot be optimised away
+	 */
+	@Benchmark
+	public SaveState capture() {
+		return SaveState.capture(model, "benchmark", 0, 60, scratch);
+	}
+
+	/**
+	 * Restores the world from the save taken before the iteration.
+	 *
+	 * @return the restored world, so the restore cannot be optimised away
+	 * @throws IOException if the save cannot be decoded
+	 */
+	@Benchmark
+	public LevelModel restore() throws IOException {
+		save.restore(model);
+		return model;
+	}
+}
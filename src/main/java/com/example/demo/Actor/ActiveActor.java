@@ -1,17 +1,23 @@
 package com.example.demo.Actor;
 
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import com.example.demo.collision.CollisionMask;
+import com.example.demo.collision.Hitbox;
+import com.example.demo.manager.SpriteMetrics;
 
 /**
  * Abstract class ActiveActor represents an active actor in the application.
- * It extends ImageView, meaning it is associated with an image.
- * This class provides basic functionality for actors that have movement and position within the scene.
+ * It is a plain model object that holds the actor's sprite, position, size and velocity,
+ * and does not depend on JavaFX, so game logic can run without a scene graph.
+ * The position is kept as a layout position plus a translation, mirroring how the actor is displayed.
  *
  * @author [Your Name]
  * @version 1.0
  */
-public abstract class ActiveActor extends ImageView {
+public abstract class ActiveActor {
 
 	/**
 	 * The location of the image resources.
@@ -19,10 +25,116 @@ public abstract class ActiveActor extends ImageView {
 	 */
 	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
 
+	/**
+	 * The classpath path of the actor's image.
+	 */
+	private final String imagePath;
+
+	/**
+	 * The height the actor is displayed at.
+	 */
+	private final double height;
+
+	/**
+	 * The width the actor is displayed at, derived from the image's aspect ratio.
+	 */
+	private final double width;
+
+	/**
+	 * The solid pixels of the actor's sprite at its displayed size, shared with every actor showing the same sprite.
+	 */
+	private final CollisionMask collisionMask;
+
+	/**
+	 * The part of the sprite that can be hit.
+	 */
+	private final Hitbox hitbox;
+
+	/**
+	 * The left edge of the hitbox's bounds relative to the actor's position, resolved once for the actor's size.
+	 */
+	private final double hitboxMinXOffset;
+
+	/**
+	 * The top edge of the hitbox's bounds relative to the actor's position.
+	 */
+	private final double hitboxMinYOffset;
+
+	/**
+	 * The right edge of the hitbox's bounds relative to the actor's position.
+	 */
+	private final double hitboxMaxXOffset;
+
+	/**
+	 * The bottom edge of the hitbox's bounds relative to the actor's position.
+	 */
+	private final double hitboxMaxYOffset;
+
+	/**
+	 * The left edge of the hitbox's bounds in the world, as of the last {@link #updateHitbox()}.
+	 */
+	private double hitboxMinX;
+
+	/**
+	 * The top edge of the hitbox's bounds in the world, as of the last {@link #updateHitbox()}.
+	 */
+	private double hitboxMinY;
+
+	/**
+	 * The right edge of the hitbox's bounds in the world, as of the last {@link #updateHitbox()}.
+	 */
+	private double hitboxMaxX;
+
+	/**
+	 * The bottom edge of the hitbox's bounds in the world, as of the last {@link #updateHitbox()}.
+	 */
+	private double hitboxMaxY;
+
+	/**
+	 * The x-coordinate the actor was placed at.
+	 */
+	private double layoutX;
+
+	/**
+	 * The y-coordinate the actor was placed at.
+	 */
+	private double layoutY;
+
+	/**
+	 * The horizontal distance the actor has moved from its layout position.
+	 */
+	private double translateX;
+
+	/**
+	 * The vertical distance the actor has moved from its layout position.
+	 */
+	private double translateY;
+
+	/**
+	 * The horizontal velocity of the actor, in pixels per second.
+	 */
+	private double velocityX;
+
+	/**
+	 * The vertical velocity of the actor, in pixels per second.
+	 */
+	private double velocityY;
+
+	/**
+	 * The x-coordinate of the actor at the end of the previous tick.
+	 * Used to interpolate the displayed position between ticks.
+	 */
+	private double previousX;
+
+	/**
+	 * The y-coordinate of the actor at the end of the previous tick.
+	 * Used to interpolate the displayed position between ticks.
+	 */
+	private double previousY;
+
 	/**
 	 * Constructor for the ActiveActor.
-	 * Initializes the ImageView with the specified image, sets its initial position,
-	 * height, and maintains the aspect ratio.
+	 * Sets the actor's image, initial position and height. The whole sprite can be hit.
 	 *
 	 * @param imageName     The name of the image file.
 	 * @param imageHeight   The height of the image.
@@ -30,38 +142,354 @@ public abstract class ActiveActor extends ImageView {
 	 * @param initialYPos   The initial y-coordinate position.
 	 */
 	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-		//this.setImage(new Image(IMAGE_LOCATION + imageName));
-		this.setImage(new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm()));
-		this.setLayoutX(initialXPos);
-		this.setLayoutY(initialYPos);
-		this.setFitHeight(imageHeight);
-		this.setPreserveRatio(true);
+		this(imageName, imageHeight, Hitbox.FULL, initialXPos, initialYPos);
+	}
+
+	/**
+	 * Constructor for the ActiveActor.
+	 * Sets the actor's image, hitbox, initial position and height. The width is derived from the image's
+	 * aspect ratio, so it matches an ImageView that preserves the ratio.
+	 *
+	 * @param imageName     The name of the image file.
+	 * @param imageHeight   The height of the image.
+	 * @param hitbox        The part of the sprite that can be hit.
+	 * @param initialXPos   The initial x-coordinate position.
+	 * @param initialYPos   The initial y-coordinate position.
+	 */
+	public ActiveActor(String imageName, int imageHeight, Hitbox hitbox, double initialXPos, double initialYPos) {
+		this.imagePath = IMAGE_LOCATION + imageName;
+		this.height = imageHeight;
+		this.width = SpriteMetrics.getScaledWidth(imagePath, imageHeight);
+		this.collisionMask = CollisionMask.forSprite(imagePath, width, height);
+		this.hitbox = hitbox;
+		this.hitboxMinXOffset = hitbox.getMinXOffset(width, height);
+		this.hitboxMinYOffset = hitbox.getMinYOffset(width, height);
+		this.hitboxMaxXOffset = hitbox.getMaxXOffset(width, height);
+		this.hitboxMaxYOffset = hitbox.getMaxYOffset(width, height);
+		this.layoutX = initialXPos;
+		this.layoutY = initialYPos;
+		savePreviousPosition();
+		updateHitbox();
 	}
 
 	/**
 	 * Abstract method to update the position of the actor.
 	 * Subclasses must implement this method to define how the actor's position changes over time.
+	 *
+	 * @param deltaSeconds The length of the tick, in seconds.
 	 */
-	public abstract void updatePosition();
+	public abstract void updatePosition(double deltaSeconds);
 
 	/**
 	 * Moves the actor horizontally by the specified amount.
-	 * It modifies the translateX property of the ImageView.
+	 * It modifies the horizontal translation of the actor.
 	 *
 	 * @param horizontalMove The amount to move the actor horizontally.
 	 */
 	protected void moveHorizontally(double horizontalMove) {
-		this.setTranslateX(getTranslateX() + horizontalMove);
+		this.translateX += horizontalMove;
 	}
 
 	/**
 	 * Moves the actor vertically by the specified amount.
-	 * It modifies the translateY property of the ImageView.
+	 * It modifies the vertical translation of the actor.
 	 *
 	 * @param verticalMove The amount to move the actor vertically.
 	 */
 	protected void moveVertically(double verticalMove) {
-		this.setTranslateY(getTranslateY() + verticalMove);
+		this.translateY += verticalMove;
+	}
+
+	/**
+	 * Places the actor at a new layout position and clears its translation.
+	 *
+	 * @param layoutX The new layout x-coordinate.
+	 * @param layoutY The new layout y-coordinate.
+	 */
+	protected void relocate(double layoutX, double layoutY) {
+		this.layoutX = layoutX;
+		this.layoutY = layoutY;
+		this.translateX = 0;
+		this.translateY = 0;
+		savePreviousPosition();
+	}
+
+	/**
+	 * Remembers the current position as the position at the end of the previous tick.
+	 * Called at the start of every tick, before the actor moves.
+	 */
+	public void savePreviousPosition() {
+		this.previousX = getX();
+		this.previousY = getY();
+	}
+
+	/**
+	 * Gets the x-coordinate of the actor at the end of the previous tick.
+	 *
+	 * @return The previous x-coordinate.
+	 */
+	public double getPreviousX() {
+		return previousX;
+	}
+
+	/**
+	 * Gets the y-coordinate of the actor at the end of the previous tick.
+	 *
+	 * @return The previous y-coordinate.
+	 */
+	public double getPreviousY() {
+		return previousY;
+	}
+
+	/**
+	 * Gets the x-coordinate to display between the previous tick and the current one.
+	 *
+	 * @param alpha How far the display time is from the previous tick to the current one, from 0 to 1.
+	 * @return The interpolated x-coordinate.
+	 */
+	public double getInterpolatedX(double alpha) {
+		return previousX + (getX() - previousX) * alpha;
+	}
+
+	/**
+	 * Gets the y-coordinate to display between the previous tick and the current one.
+	 *
+	 * @param alpha How far the display time is from the previous tick to the current one, from 0 to 1.
+	 * @return The interpolated y-coordinate.
+	 */
+	public double getInterpolatedY(double alpha) {
+		return previousY + (getY() - previousY) * alpha;
+	}
+
+	/**
+	 * Gets the classpath path of the actor's image.
+	 *
+	 * @return The image path.
+	 */
+	public String getImagePath() {
+		return imagePath;
+	}
+
+	/**
+	 * Gets the solid pixels of the actor's sprite at its displayed size.
+	 *
+	 * @return The collision mask.
+	 */
+	public CollisionMask getCollisionMask() {
+		return collisionMask;
+	}
+
+	/**
+	 * Moves the hitbox to the actor's current position.
+	 * The world calls this once per tick after the actor has moved, so collision checks read four stored values.
+	 */
+	public void updateHitbox() {
+		double x = getX();
+		double y = getY();
+		hitboxMinX = x + hitboxMinXOffset;
+		hitboxMinY = y + hitboxMinYOffset;
+		hitboxMaxX = x + hitboxMaxXOffset;
+		hitboxMaxY = y + hitboxMaxYOffset;
+	}
+
+	/**
+	 * Gets the part of the sprite that can be hit.
+	 *
+	 * @return The hitbox.
+	 */
+	public Hitbox getHitbox() {
+		return hitbox;
+	}
+
+	/**
+	 * Gets the left edge of the hitbox's bounds, as of the last hitbox update.
+	 *
+	 * @return The x-coordinate.
+	 */
+	public double getHitboxMinX() {
+		return hitboxMinX;
+	}
+
+	/**
+	 * Gets the top edge of the hitbox's bounds, as of the last hitbox update.
+	 *
+	 * @return The y-coordinate.
+	 */
+	public double getHitboxMinY() {
+		return hitboxMinY;
+	}
+
+	/**
+	 * Gets the right edge of the hitbox's bounds, as of the last hitbox update.
+	 *
+	 * @return The x-coordinate.
+	 */
+	public double getHitboxMaxX() {
+		return hitboxMaxX;
+	}
+
+	/**
+	 * Gets the bottom edge of the hitbox's bounds, as of the last hitbox update.
+	 *
+	 * @return The y-coordinate.
+	 */
+	public double getHitboxMaxY() {
+		return hitboxMaxY;
+	}
+
+	/**
+	 * Gets the layout x-coordinate of the actor.
+	 *
+	 * @return The layout x-coordinate.
+	 */
+	public double getLayoutX() {
+		return layoutX;
+	}
+
+	/**
+	 * Gets the layout y-coordinate of the actor.
+	 *
+	 * @return The layout y-coordinate.
+	 */
+	public double getLayoutY() {
+		return layoutY;
+	}
+
+	/**
+	 * Gets the horizontal translation of the actor.
+	 *
+	 * @return The horizontal translation.
+	 */
+	public double getTranslateX() {
+		return translateX;
+	}
+
+	/**
+	 * Sets the horizontal translation of the actor.
+	 *
+	 * @param translateX The new horizontal translation.
+	 */
+	public void setTranslateX(double translateX) {
+		this.translateX = translateX;
+	}
+
+	/**
+	 * Gets the vertical translation of the actor.
+	 *
+	 * @return The vertical translation.
+	 */
+	public double getTranslateY() {
+		return translateY;
+	}
+
+	/**
+	 * Sets the vertical translation of the actor.
+	 *
+	 * @param translateY The new vertical translation.
+	 */
+	public void setTranslateY(double translateY) {
+		this.translateY = translateY;
+	}
+
+	/**
+	 * Gets the current x-coordinate of the actor, which is its layout position plus its translation.
+	 *
+	 * @return The current x-coordinate.
+	 */
+	public double getX() {
+		return layoutX + translateX;
+	}
+
+	/**
+	 * Gets the current y-coordinate of the actor, which is its layout position plus its translation.
+	 *
+	 * @return The current y-coordinate.
+	 */
+	public double getY() {
+		return layoutY + translateY;
+	}
+
+	/**
+	 * Gets the displayed width of the actor.
+	 *
+	 * @return The width.
+	 */
+	public double getWidth() {
+		return width;
+	}
+
+	/**
+	 * Gets the displayed height of the actor.
+	 *
+	 * @return The height.
+	 */
+	public double getHeight() {
+		return height;
+	}
+
+	/**
+	 * Gets the horizontal velocity of the actor.
+	 *
+	 * @return The horizontal velocity, in pixels per second.
+	 */
+	public double getVelocityX() {
+		return velocityX;
+	}
+
+	/**
+	 * Gets the vertical velocity of the actor.
+	 *
+	 * @return The vertical velocity, in pixels per second.
+	 */
+	public double getVelocityY() {
+		return velocityY;
+	}
+
+	/**
+	 * Writes the actor's changing state: its position, velocity and previous position.
+	 * Subclasses that hold more state should extend this method and {@link #readState(DataInput)} together.
+	 *
+	 * @param out The output to write to.
+	 * @throws IOException If the output cannot be written.
+	 */
+	public void writeState(DataOutput out) throws IOException {
+		out.writeDouble(layoutX);
+		out.writeDouble(layoutY);
+		out.writeDouble(translateX);
+		out.writeDouble(translateY);
+		out.writeDouble(velocityX);
+		out.writeDouble(velocityY);
+		out.writeDouble(previousX);
+		out.writeDouble(previousY);
+	}
+
+	/**
+	 * Restores state written by {@link #writeState(DataOutput)}.
+	 *
+	 * @param in The input to read from.
+	 * @throws IOException If the input cannot be read.
+	 */
+	public void readState(DataInput in) throws IOException {
+		layoutX = in.readDouble();
+		layoutY = in.readDouble();
+		translateX = in.readDouble();
+		translateY = in.readDouble();
+		velocityX = in.readDouble();
+		velocityY = in.readDouble();
+		previousX = in.readDouble();
+		previousY = in.readDouble();
+		updateHitbox();
+	}
+
+	/**
+	 * Sets the velocity of the actor.
+	 *
+	 * @param velocityX The horizontal velocity, in pixels per second.
+	 * @param velocityY The vertical velocity, in pixels per second.
+	 */
+	protected void setVelocity(double velocityX, double velocityY) {
+		this.velocityX = velocityX;
+		this.velocityY = velocityY;
 	}
 
 	/**
@@ -81,7 +509,7 @@ public abstract class ActiveActor extends ImageView {
 
 		/**
 		 * Constructor for ActiveActorDestructible.
-		 * Calls the superclass constructor to initialize the actor's image and position.
+		 * Calls the superclass constructor to initialize the actor's image, size and position.
 		 * Also initializes the destroyed flag.
 		 *
 		 * @param imageName     The name of the image file.
@@ -90,22 +518,62 @@ public abstract class ActiveActor extends ImageView {
 		 * @param initialYPos   The initial y-coordinate position.
 		 */
 		public ActiveActorDestructible(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-			super(imageName, imageHeight, initialXPos, initialYPos);
+			this(imageName, imageHeight, Hitbox.FULL, initialXPos, initialYPos);
+		}
+
+		/**
+		 * Constructor for ActiveActorDestructible with a hitbox.
+		 * Calls the superclass constructor to initialize the actor's image, size, hitbox and position.
+		 * Also initializes the destroyed flag.
+		 *
+		 * @param imageName     The name of the image file.
+		 * @param imageHeight   The height of the image.
+		 * @param hitbox        The part of the sprite that can be hit.
+		 * @param initialXPos   The initial x-coordinate position.
+		 * @param initialYPos   The initial y-coordinate position.
+		 */
+		public ActiveActorDestructible(String imageName, int imageHeight, Hitbox hitbox, double initialXPos,
+				double initialYPos) {
+			super(imageName, imageHeight, hitbox, initialXPos, initialYPos);
 			isDestroyed = false;
 		}
 
 		/**
 		 * Abstract method to update the position of the actor.
 		 * Subclasses must implement this method.
+		 *
+		 * @param deltaSeconds The length of the tick, in seconds.
 		 */
 		@Override
-		public abstract void updatePosition();
+		public abstract void updatePosition(double deltaSeconds);
 
 		/**
 		 * Abstract method to update the actor's state.
 		 * Subclasses must implement this method to define how the actor updates itself.
+		 *
+		 * @param deltaSeconds The length of the tick, in seconds.
+		 */
+		public abstract void updateActor(double deltaSeconds);
+
+		/**
+		 * Checks whether updating this actor only changes the actor itself.
+		 * Such actors can be updated on several threads at once; an actor whose update draws from the level's
+		 * random source or changes anything shared must return false, so it is always updated in list order.
+		 *
+		 * @return true by default
 		 */
-		public abstract void updateActor();
+		public boolean hasIndependentUpdate() {
+			return true;
+		}
+
+		/**
+		 * Checks whether the actor is shielded from damage, so a view can show its shield.
+		 *
+		 * @return false by default
+		 */
+		public boolean isShielded() {
+			return false;
+		}
 
 		/**
 		 * Abstract method to make the actor take damage.
@@ -123,6 +591,30 @@ public abstract class ActiveActor extends ImageView {
 			setDestroyed(true);
 		}
 
+		/**
+		 * Writes the actor's changing state, including whether it is destroyed.
+		 *
+		 * @param out The output to write to.
+		 * @throws IOException If the output cannot be written.
+		 */
+		@Override
+		public void writeState(DataOutput out) throws IOException {
+			super.writeState(out);
+			out.writeBoolean(isDestroyed);
+		}
+
+		/**
+		 * Restores state written by {@link #writeState(DataOutput)}.
+		 *
+		 * @param in The input to read from.
+		 * @throws IOException If the input cannot be read.
+		 */
+		@Override
+		public void readState(DataInput in) throws IOException {
+			super.readState(in);
+			isDestroyed = in.readBoolean();
+		}
+
 		/**
 		 * Sets the destroyed flag.
 		 *
@@ -1,7 +1,5 @@
 package com.example.demo.Actor;
 
-import javafx.scene.image.ImageView;
-
 /**
  * ActiveActorDestructible is an abstract class that extends ActiveActor and implements Destructible.
  * It represents a destructible active actor in the application.
@@ -35,15 +33,19 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	/**
 	 * Abstract method to update the position of the actor.
 	 * Subclasses must implement this method to define how the actor's position changes over time.
+	 *
+	 * @param deltaSeconds The length of the tick, in seconds.
 	 */
 	@Override
-	public abstract void updatePosition();
+	public abstract void updatePosition(double deltaSeconds);
 
 	/**
 	 * Abstract method to update the state or behavior of the actor.
 	 * Subclasses must implement this method to define how the actor updates itself.
+	 *
+	 * @param deltaSeconds The length of the tick, in seconds.
 	 */
-	public abstract void updateActor();
+	public abstract void updateActor(double deltaSeconds);
 
 	/**
 	 * Abstract method to handle the damage taken by the actor.
@@ -0,0 +1,33 @@
+package com.example.demo.Image;
+
+import com.example.demo.model.FrameSnapshot;
+import javafx.scene.Group;
+
+/**
+ * ActorRenderer is the part of a level that draws the planes and projectiles of a {@link FrameSnapshot}.
+ * It draws the whole world once per frame at positions interpolated between the start and end of the snapshot's tick,
+ * and finds the planes that entered or left the world by comparing each new snapshot with the one before.
+ * It only reads snapshots, so it never touches the level model being stepped on the simulation thread.
+ */
+public interface ActorRenderer {
+
+	/**
+	 * Adds the renderer's nodes to the root, above the nodes already in it.
+	 *
+	 * @param root the root of the level's scene
+	 */
+	void addTo(Group root);
+
+	/**
+	 * Draws every plane and projectile of a snapshot.
+	 *
+	 * @param snapshot the snapshot to draw
+	 * @param alpha    how far the frame is between the start of the snapshot's tick and its end, from 0 to 1
+	 */
+	void render(FrameSnapshot snapshot, double alpha);
+
+	/**
+	 * Forgets every plane drawn so far, when the level ends.
+	 */
+	void clear();
+}
@@ -0,0 +1,77 @@
+package com.example.demo.Image;
+
+import com.example.demo.Actor.ActiveActor;
+import com.example.demo.manager.SpriteCache;
+import javafx.scene.image.ImageView;
+
+/**
+ * The ActorView class extends ImageView and displays a single actor of the game model.
+ * It shares the actor's sprite through the sprite cache and is placed at positions taken from a
+ * {@link com.example.demo.model.FrameSnapshot}; it only reads the actor's image and height, which never change,
+ * so it can be created while the actor is being stepped on another thread.
+ */
+public class ActorView extends ImageView {
+
+	/**
+	 * The actor displayed by this view.
+	 */
+	private final ActiveActor actor;
+
+	/**
+	 * The tick of the last snapshot the actor was part of, used by the renderer to find views of removed actors.
+	 */
+	private long shownTick;
+
+	/**
+	 * Constructor for the ActorView class.
+	 * Sets the actor's shared sprite and scales it to the actor's height with the aspect ratio preserved.
+	 * The view is placed by the first call to {@link #moveTo(double, double)}.
+	 *
+	 * @param actor the actor to display
+	 */
+	public ActorView(ActiveActor actor) {
+		this.actor = actor;
+		SpriteCache.getSprite(actor.getImagePath()).applyTo(this);
+		this.setFitHeight(actor.getHeight());
+		this.setPreserveRatio(true);
+	}
+
+	/**
+	 * Places this view at the given position.
+	 * The whole position is written to the layout, so the view's translation stays at zero.
+	 *
+	 * @param x the x-coordinate
+	 * @param y the y-coordinate
+	 */
+	public void moveTo(double x, double y) {
+		setLayoutX(x);
+		setLayoutY(y);
+	}
+
+	/**
+	 * Gets the actor displayed by this view.
+	 *
+	 * @return the actor
+	 */
+	public ActiveActor getActor() {
+		return actor;
+	}
+
+	/**
+	 * Gets the tick of the last snapshot the actor was part of.
+	 *
+	 * @return the tick count of the snapshot
+	 */
+	long getShownTick() {
+		return shownTick;
+	}
+
+	/**
+	 * Sets the tick of the last snapshot the actor was part of.
+	 *
+	 * @param shownTick the tick count of the snapshot
+	 */
+	void setShownTick(long shownTick) {
+		this.shownTick = shownTick;
+	}
+}
@@ -0,0 +1,137 @@
+package com.example.demo.Image;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.demo.Actor.ActiveActor;
+import com.example.demo.manager.Sprite;
+import com.example.demo.manager.SpriteCache;
+import com.example.demo.model.FrameSnapshot;
+import com.example.demo.projectile.ProjectileStore;
+import com.example.demo.projectile.ProjectileType;
+import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * The CanvasRenderer class extends Canvas and draws every plane and projectile of a level onto itself,
+ * so the scene graph holds a single node however many actors there are.
+ * Each frame the canvas is cleared and redrawn in the same order the scene graph renderer stacks its nodes:
+ * the user's plane, the user's projectiles, the enemy projectiles and then the enemies. Within each group,
+ * all actors sharing a sprite are drawn one after another, so consecutive draw calls reuse the same texture.
+ * Packed sprites are drawn from their region of the atlas, so every batch of packed sprites uses the same texture.
+ */
+public class CanvasRenderer extends Canvas implements ActorRenderer {
+
+	/**
+	 * Every projectile type, in the order their batches are drawn.
+	 */
+	private static final ProjectileType[] PROJECTILE_TYPES = ProjectileType.values();
+
+	/**
+	 * The distinct enemy sprites of the current frame, in the order they were first seen.
+	 * Reused every frame, so drawing does not allocate once the level has shown all its enemy kinds.
+	 */
+	private final List<String> enemySprites;
+
+	/**
+	 * Constructor for the CanvasRenderer class.
+	 *
+	 * @param width  the width of the canvas, normally the screen width
+	 * @param height the height of the canvas, normally the screen height
+	 */
+	public CanvasRenderer(double width, double height) {
+		super(width, height);
+		this.enemySprites = new ArrayList<>();
+		setMouseTransparent(true);
+	}
+
+	/**
+	 * Adds the canvas to the root.
+	 *
+	 * @param root the root of the level's scene
+	 */
+	@Override
+	public void addTo(Group root) {
+		root.getChildren().add(this);
+	}
+
+	/**
+	 * Clears the canvas and draws every plane and projectile of the snapshot.
+	 *
+	 * @param snapshot the snapshot to draw
+	 * @param alpha    how far the frame is between the start of the snapshot's tick and its end, from 0 to 1
+	 */
+	@Override
+	public void render(FrameSnapshot snapshot, double alpha) {
+		GraphicsContext graphics = getGraphicsContext2D();
+		graphics.clearRect(0, 0, getWidth(), getHeight());
+		ActiveActor user = snapshot.getUser();
+		SpriteCache.getSprite(user.getImagePath()).draw(graphics, snapshot.getUserX(alpha), snapshot.getUserY(alpha),
+				user.getWidth(), user.getHeight());
+		drawProjectiles(graphics, snapshot.getUserProjectiles(), alpha);
+		drawProjectiles(graphics, snapshot.getEnemyProjectiles(), alpha);
+		drawEnemies(graphics, snapshot, alpha);
+	}
+
+	/**
+	 * Draws the enemies one sprite at a time, each batch in the order the enemies entered the world.
+	 *
+	 * @param graphics the graphics context of the canvas
+	 * @param snapshot the snapshot holding the enemies
+	 * @param alpha    how far the frame is between the start of the snapshot's tick and its end, from 0 to 1
+	 */
+	private void drawEnemies(GraphicsContext graphics, FrameSnapshot snapshot, double alpha) {
+		int count = snapshot.getPlaneCount();
+		enemySprites.clear();
+		for (int i = 0; i < count; i++) {
+			String sprite = snapshot.getPlane(i).getImagePath();
+			if (!enemySprites.contains(sprite)) {
+				enemySprites.add(sprite);
+			}
+		}
+		for (int s = 0, sprites = enemySprites.size(); s < sprites; s++) {
+			String imagePath = enemySprites.get(s);
+			Sprite sprite = SpriteCache.getSprite(imagePath);
+			for (int i = 0; i < count; i++) {
+				ActiveActor enemy = snapshot.getPlane(i);
+				if (enemy.getImagePath().equals(imagePath)) {
+					sprite.draw(graphics, snapshot.getPlaneX(i, alpha), snapshot.getPlaneY(i, alpha),
+							enemy.getWidth(), enemy.getHeight());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Draws the projectiles of a store one type at a time, each batch in slot order.
+	 *
+	 * @param graphics    the graphics context of the canvas
+	 * @param projectiles the projectiles to draw
+	 * @param alpha       how far the frame is between the start of the tick and its end, from 0 to 1
+	 */
+	private static void drawProjectiles(GraphicsContext graphics, ProjectileStore projectiles, double alpha) {
+		int count = projectiles.getCount();
+		for (ProjectileType type : PROJECTILE_TYPES) {
+			Sprite sprite = null;
+			double width = type.getWidth();
+			double height = type.getHeight();
+			for (int i = 0; i < count; i++) {
+				if (projectiles.getType(i) == type) {
+					if (sprite == null) {
+						sprite = SpriteCache.getSprite(type.getImagePath());
+					}
+					sprite.draw(graphics, projectiles.getInterpolatedX(i, alpha), projectiles.getY(i), width, height);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Clears the canvas.
+	 */
+	@Override
+	public void clear() {
+		getGraphicsContext2D().clearRect(0, 0, getWidth(), getHeight());
+	}
+}
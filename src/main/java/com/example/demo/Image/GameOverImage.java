@@ -1,6 +1,6 @@
 package com.example.demo.Image;
 
-import javafx.scene.image.Image;
+import com.example.demo.manager.SpriteCache;
 import javafx.scene.image.ImageView;
 
 /**
@@ -22,8 +22,7 @@ public class GameOverImage extends ImageView {
 	 * @param yPosition the y-coordinate position of the image in the scene
 	 */
 	public GameOverImage(double xPosition, double yPosition) {
-		setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
-//        setImage(ImageSetUp.getImageList().get(ImageSetUp.getGameOver()));
+		setImage(SpriteCache.getImage(IMAGE_NAME));
 		setLayoutX(xPosition);
 		setLayoutY(yPosition);
 	}
@@ -1,6 +1,6 @@
 package com.example.demo.Image;
 
-import javafx.scene.image.Image;
+import com.example.demo.manager.SpriteCache;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
@@ -80,13 +80,14 @@ public class HeartDisplay {
 
 	/**
 	 * Initializes the heart images and adds them to the container.
-	 * This method loops through the numberOfHeartsToDisplay, creates a new ImageView for each heart using the HEART_IMAGE_NAME,
+	 * This method loops through the numberOfHeartsToDisplay, creates a new ImageView for each heart showing the shared HEART_IMAGE_NAME sprite,
 	 * sets the height of the heart image to HEART_HEIGHT, and ensures the aspect ratio is preserved.
 	 * Each heart image is then added to the container.
 	 */
 	private void initializeHearts() {
 		for (int i = 0; i < numberOfHeartsToDisplay; i++) {
-			ImageView heart = new ImageView(new Image(getClass().getResource(HEART_IMAGE_NAME).toExternalForm()));
+			ImageView heart = new ImageView();
+			SpriteCache.getSprite(HEART_IMAGE_NAME).applyTo(heart);
 			heart.setFitHeight(HEART_HEIGHT);
 			heart.setPreserveRatio(true);
 			container.getChildren().add(heart);
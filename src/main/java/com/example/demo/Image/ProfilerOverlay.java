@@ -0,0 +1,182 @@
+package com.example.demo.Image;
+
+import com.example.demo.model.FrameSnapshot;
+import com.example.demo.model.LevelModel;
+import com.example.demo.profiling.TickProfiler;
+import com.example.demo.replay.RewindBuffer;
+import com.example.demo.save.LevelSaver;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.CornerRadii;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/**
+ * The ProfilerOverlay class extends VBox and shows the tick profiler of a level on top of the game.
+ * It lists the p50, p99 and maximum time of every tick phase, together with the number of planes, projectiles
+ * and scene graph nodes, the seed to replay the level with, what the last save cost, and what the rewind buffer
+ * costs per tick and holds. The counts are read from the snapshot on screen, so the overlay never reads the model
+ * while the simulation thread steps it. Showing the overlay enables the level's {@link TickProfiler} and hiding it
+ * disables it again, so the game is only timed while the numbers are on screen. The text is rebuilt a few times per
+ * second rather than every frame, so the overlay itself barely shows up in the render time it reports.
+ */
+public class ProfilerOverlay extends VBox {
+
+	/**
+	 * The time between two refreshes of the text, in nanoseconds.
+	 */
+	private static final long REFRESH_INTERVAL_NANOS = 250_000_000L;
+
+	/**
+	 * The number of nanoseconds in a microsecond.
+	 */
+	private static final double NANOS_PER_MICRO = 1_000.0;
+
+	/**
+	 * The margin between the overlay and the top left corner of the screen.
+	 */
+	private static final double MARGIN = 10;
+
+	/**
+	 * The text listing the measurements.
+	 */
+	private final Text text;
+
+	/**
+	 * The builder reused for the text of every refresh.
+	 */
+	private final StringBuilder builder;
+
+	/**
+	 * The level model whose profiler and actors are shown.
+	 */
+	private final LevelModel levelModel;
+
+	/**
+	 * The saver of the level, whose last capture and restore times and write counts are shown.
+	 */
+	private final LevelSaver levelSaver;
+
+	/**
+	 * The rewind buffer of the level, whose recording cost and memory are shown, or null if rewinding is off.
+	 */
+	private final RewindBuffer rewindBuffer;
+
+	/**
+	 * The timestamp of the last refresh, in nanoseconds.
+	 */
+	private long lastRefreshTime;
+
+	/**
+	 * Constructor for the ProfilerOverlay class.
+	 * The overlay starts hidden.
+	 *
+	 * @param levelModel   the level model whose profiler and actors are shown
+	 * @param levelSaver   the saver of the level, whose costs are shown
+	 * @param rewindBuffer the rewind buffer of the level, whose costs are shown, or null if rewinding is off
+	 */
+	public ProfilerOverlay(LevelModel levelModel, LevelSaver levelSaver, RewindBuffer rewindBuffer) {
+		this.levelModel = levelModel;
+		this.levelSaver = levelSaver;
+		this.rewindBuffer = rewindBuffer;
+		this.text = new Text();
+		this.builder = new StringBuilder();
+		text.setFont(Font.font("Monospaced", 12));
+		text.setFill(Color.WHITE);
+		getChildren().add(text);
+		setPadding(new Insets(6));
+		setBackground(new Background(new BackgroundFill(Color.rgb(0, 0, 0, 0.6), new CornerRadii(4), Insets.EMPTY)));
+		setLayoutX(MARGIN);
+		setLayoutY(MARGIN);
+		setMouseTransparent(true);
+		setVisible(false);
+	}
+
+	/**
+	 * Shows or hides the overlay, enabling or disabling the level's profiler with it.
+	 * The profiler starts from an empty window every time it is shown, so stale samples are not mixed in.
+	 */
+	public void toggle() {
+		boolean show = !isVisible();
+		TickProfiler profiler = levelModel.getProfiler();
+		if (show) {
+			profiler.reset();
+			lastRefreshTime = 0;
+		}
+		profiler.setEnabled(show);
+		setVisible(show);
+	}
+
+	/**
+	 * Refreshes the text if the overlay is shown and the refresh interval has passed.
+	 *
+	 * @param sceneRoot the root of the scene graph whose nodes are counted
+	 * @param snapshot  the snapshot on screen, whose planes and projectiles are counted
+	 */
+	public void refresh(Parent sceneRoot, FrameSnapshot snapshot) {
+		if (!isVisible()) {
+			return;
+		}
+		long now = System.nanoTime();
+		if (lastRefreshTime != 0 && now - lastRefreshTime < REFRESH_INTERVAL_NANOS) {
+			return;
+		}
+		lastRefreshTime = now;
+		// Keep the overlay above actors added since the last refresh
+		toFront();
+
+		TickProfiler profiler = levelModel.getProfiler();
+		builder.setLength(0);
+		builder.append(String.format("%-16s %8s %8s %8s%n", "phase (us)", "p50", "p99", "max"));
+		for (TickProfiler.Phase phase : TickProfiler.Phase.values()) {
+			builder.append(String.format("%-16s %8.1f %8.1f %8.1f%n", phase.getLabel(),
+					profiler.getPercentile(phase, 0.5) / NANOS_PER_MICRO,
+					profiler.getPercentile(phase, 0.99) / NANOS_PER_MICRO,
+					profiler.getMax(phase) / NANOS_PER_MICRO));
+		}
+		builder.append(String.format("%nplanes %d  user shots %d  enemy shots %d"
+						+ "%nretired planes %d  user shots %d  enemy shots %d%nscene nodes %d  seed %d",
+				snapshot.getPlaneCount() + 1,
+				snapshot.getUserProjectiles().getCount(),
+				snapshot.getEnemyProjectiles().getCount(),
+				snapshot.getRetiredPlanes(),
+				snapshot.getRetiredUserProjectiles(),
+				snapshot.getRetiredEnemyProjectiles(),
+				countNodes(sceneRoot),
+				levelModel.getRandom().getSeed()));
+		builder.append(String.format("%nsave capture %.1f us  restore %.1f us  written %d  failed %d",
+				levelSaver.getLastCaptureNanos() / NANOS_PER_MICRO,
+				levelSaver.getLastRestoreNanos() / NANOS_PER_MICRO,
+				levelSaver.getWrittenCount(),
+				levelSaver.getFailedWriteCount()));
+		if (rewindBuffer != null) {
+			builder.append(String.format("%nrewind record %.2f us/tick  max %.1f us  keyframes %d of %d KB",
+					rewindBuffer.getAverageRecordNanos() / NANOS_PER_MICRO,
+					rewindBuffer.getMaxRecordNanos() / NANOS_PER_MICRO,
+					rewindBuffer.getUsedBytes() / 1024,
+					rewindBuffer.getFootprintBytes() / 1024));
+		}
+		text.setText(builder.toString());
+	}
+
+	/**
+	 * Counts the nodes in a scene graph, including the given node.
+	 *
+	 * @param node the root of the subtree to count
+	 * @return the number of nodes in the subtree
+	 */
+	private static int countNodes(Node node) {
+		int count = 1;
+		if (node instanceof Parent) {
+			for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+				count += countNodes(child);
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,98 @@
+package com.example.demo.Image;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.demo.manager.SpriteCache;
+import com.example.demo.projectile.ProjectileStore;
+import com.example.demo.projectile.ProjectileType;
+import javafx.scene.Group;
+import javafx.scene.image.ImageView;
+
+/**
+ * The ProjectileLayer class extends Group and draws the projectiles of a {@link ProjectileStore}.
+ * It keeps one image view per occupied slot, positions them straight from the store's arrays every frame,
+ * and hides the views of slots that are no longer occupied. Views are never removed, so once the layer has
+ * grown to the busiest moment of the level, drawing projectiles creates no nodes.
+ */
+public class ProjectileLayer extends Group {
+
+	/**
+	 * The image views, one per slot drawn so far.
+	 */
+	private final List<ImageView> views;
+
+	/**
+	 * The projectile type each view is currently showing, so the sprite is only set when the type of a slot changes.
+	 */
+	private final List<ProjectileType> viewTypes;
+
+	/**
+	 * The number of views shown by the previous frame.
+	 */
+	private int visibleCount;
+
+	/**
+	 * Constructor for the ProjectileLayer class.
+	 * Creates an empty layer; views are added as the store grows.
+	 */
+	public ProjectileLayer() {
+		this.views = new ArrayList<>();
+		this.viewTypes = new ArrayList<>();
+	}
+
+	/**
+	 * Draws every projectile in the store at its position interpolated between the last two ticks.
+	 *
+	 * @param projectiles the projectiles to draw
+	 * @param alpha       how far the frame is between the last tick and the next one, from 0 to 1
+	 */
+	public void render(ProjectileStore projectiles, double alpha) {
+		int count = projectiles.getCount();
+		for (int i = 0; i < count; i++) {
+			ImageView view = getView(i);
+			ProjectileType type = projectiles.getType(i);
+			if (viewTypes.get(i) != type) {
+				SpriteCache.getSprite(type.getImagePath()).applyTo(view);
+				view.setFitHeight(type.getHeight());
+				viewTypes.set(i, type);
+			}
+			view.setLayoutX(projectiles.getInterpolatedX(i, alpha));
+			view.setLayoutY(projectiles.getY(i));
+			if (i >= visibleCount) {
+				view.setVisible(true);
+			}
+		}
+		for (int i = count; i < visibleCount; i++) {
+			views.get(i).setVisible(false);
+		}
+		visibleCount = count;
+	}
+
+	/**
+	 * Gets the view of the given slot, creating views up to that slot if needed.
+	 *
+	 * @param index the slot to draw
+	 * @return the view of the slot
+	 */
+	private ImageView getView(int index) {
+		while (views.size() <= index) {
+			ImageView view = new ImageView();
+			view.setPreserveRatio(true);
+			view.setVisible(false);
+			views.add(view);
+			viewTypes.add(null);
+			getChildren().add(view);
+		}
+		return views.get(index);
+	}
+
+	/**
+	 * Gets the number of image views the layer has created.
+	 *
+	 * @return the number of views
+	 */
+	public int getViewCount() {
+		return views.size();
+	}
+}
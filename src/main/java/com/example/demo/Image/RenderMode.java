@@ -0,0 +1,36 @@
+package com.example.demo.Image;
+
+import java.util.Locale;
+
+/**
+ * RenderMode lists the ways a level can draw its actors.
+ * The mode is chosen at launch with the renderer system property, for example {@code -Dgame.renderer=canvas}.
+ */
+public enum RenderMode {
+
+	/**
+	 * Every plane is an {@link ActorView} and every projectile an image view in a {@link ProjectileLayer}.
+	 */
+	SCENE_GRAPH,
+
+	/**
+	 * Every plane and projectile is drawn onto a single {@link CanvasRenderer}, batched by sprite.
+	 */
+	CANVAS;
+
+	/**
+	 * The system property that selects the render mode at launch.
+	 */
+	public static final String RENDERER_PROPERTY = "game.renderer";
+
+	/**
+	 * Gets the render mode chosen at launch.
+	 *
+	 * @return the mode named by the renderer property, ignoring case, or the scene graph mode if it is not set
+	 * @throws IllegalArgumentException if the property does not name a render mode
+	 */
+	public static RenderMode getConfigured() {
+		String name = System.getProperty(RENDERER_PROPERTY);
+		return name != null ? valueOf(name.trim().toUpperCase(Locale.ROOT)) : SCENE_GRAPH;
+	}
+}
@@ -0,0 +1,186 @@
+package com.example.demo.Image;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.demo.Actor.ActiveActor;
+import com.example.demo.model.FrameSnapshot;
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+/**
+ * The SceneGraphRenderer class draws a level with one node per actor.
+ * Every enemy gets an {@link ActorView} added to the root in the first snapshot it appears in, and the projectiles
+ * are drawn by two {@link ProjectileLayer}s. Views of enemies missing from a new snapshot are detached in one batch.
+ */
+public class SceneGraphRenderer implements ActorRenderer {
+
+	/**
+	 * The root the enemy views are added to.
+	 */
+	private final Group root;
+
+	/**
+	 * The view of the user's plane, which the level adds to the root itself.
+	 */
+	private final ActorView userView;
+
+	/**
+	 * The views of the enemies in the last snapshot, keyed by the actor they display.
+	 */
+	private final Map<ActiveActor, ActorView> actorViews;
+
+	/**
+	 * The views of the enemies in the last snapshot, in the snapshot's order.
+	 */
+	private ActorView[] planeViews;
+
+	/**
+	 * The views of the enemies in the snapshot before, swapped with {@link #planeViews} on every new snapshot.
+	 */
+	private ActorView[] previousPlaneViews;
+
+	/**
+	 * The number of views in {@link #planeViews}.
+	 */
+	private int planeViewCount;
+
+	/**
+	 * The views of actors missing from a new snapshot, waiting to be detached from the root.
+	 * They are detached together, so the scene graph sees one change per snapshot.
+	 */
+	private final Set<ActorView> removedViews;
+
+	/**
+	 * The layer that draws the user's projectiles from the snapshot's projectile store.
+	 */
+	private final ProjectileLayer userProjectileLayer;
+
+	/**
+	 * The layer that draws the enemy projectiles from the snapshot's projectile store.
+	 */
+	private final ProjectileLayer enemyProjectileLayer;
+
+	/**
+	 * The tick of the snapshot the views were last matched to, or -1 before the first snapshot.
+	 */
+	private long renderedTick;
+
+	/**
+	 * Constructor for the SceneGraphRenderer class.
+	 *
+	 * @param root     the root the enemy views are added to
+	 * @param userView the view of the user's plane
+	 */
+	public SceneGraphRenderer(Group root, ActorView userView) {
+		this.root = root;
+		this.userView = userView;
+		this.actorViews = new IdentityHashMap<>();
+		this.planeViews = new ActorView[0];
+		this.previousPlaneViews = new ActorView[0];
+		this.removedViews = Collections.newSetFromMap(new IdentityHashMap<>());
+		this.userProjectileLayer = new ProjectileLayer();
+		this.enemyProjectileLayer = new ProjectileLayer();
+		this.renderedTick = -1;
+	}
+
+	/**
+	 * Adds the projectile layers to the root, above the planes added so far.
+	 *
+	 * @param root the root of the level's scene
+	 */
+	@Override
+	public void addTo(Group root) {
+		root.getChildren().addAll(userProjectileLayer, enemyProjectileLayer);
+	}
+
+	/**
+	 * Places every plane's view at its interpolated position, and draws the projectiles from the snapshot's stores.
+	 * On a new snapshot, views are first added for planes that entered the world and detached for planes that left it.
+	 *
+	 * @param snapshot the snapshot to draw
+	 * @param alpha    how far the frame is between the start of the snapshot's tick and its end, from 0 to 1
+	 */
+	@Override
+	public void render(FrameSnapshot snapshot, double alpha) {
+		if (snapshot.getTickCount() != renderedTick) {
+			matchViews(snapshot);
+			renderedTick = snapshot.getTickCount();
+		}
+		userView.moveTo(snapshot.getUserX(alpha), snapshot.getUserY(alpha));
+		for (int i = 0; i < planeViewCount; i++) {
+			planeViews[i].moveTo(snapshot.getPlaneX(i, alpha), snapshot.getPlaneY(i, alpha));
+		}
+		userProjectileLayer.render(snapshot.getUserProjectiles(), alpha);
+		enemyProjectileLayer.render(snapshot.getEnemyProjectiles(), alpha);
+	}
+
+	/**
+	 * Matches a view to every plane of a new snapshot, creating views for new planes,
+	 * and detaches the views of the planes of the previous snapshot that are no longer in it.
+	 *
+	 * @param snapshot the new snapshot
+	 */
+	private void matchViews(FrameSnapshot snapshot) {
+		long tick = snapshot.getTickCount();
+		int count = snapshot.getPlaneCount();
+		ActorView[] views = previousPlaneViews;
+		if (views.length < count) {
+			views = new ActorView[Math.max(count, views.length * 2)];
+		}
+		for (int i = 0; i < count; i++) {
+			ActiveActor plane = snapshot.getPlane(i);
+			ActorView view = actorViews.get(plane);
+			if (view == null) {
+				view = new ActorView(plane);
+				actorViews.put(plane, view);
+				root.getChildren().add(view);
+			}
+			view.setShownTick(tick);
+			views[i] = view;
+		}
+		for (int i = 0; i < planeViewCount; i++) {
+			ActorView view = planeViews[i];
+			if (view.getShownTick() != tick) {
+				actorViews.remove(view.getActor());
+				removedViews.add(view);
+			}
+		}
+		Arrays.fill(planeViews, 0, planeViewCount, null);
+		previousPlaneViews = planeViews;
+		planeViews = views;
+		planeViewCount = count;
+		detachAll(root.getChildren(), removedViews);
+		removedViews.clear();
+	}
+
+	/**
+	 * Detaches a batch of nodes from a list of children in one change, keeping the other children in order.
+	 * Each child is looked up in the batch rather than each node searched for in the children,
+	 * so the cost grows with the number of children, whatever the size of the batch.
+	 *
+	 * @param children the children to detach the nodes from
+	 * @param nodes    the nodes to detach, in a set with constant-time lookups
+	 */
+	static void detachAll(List<Node> children, Set<? extends Node> nodes) {
+		if (!nodes.isEmpty()) {
+			children.removeAll(nodes);
+		}
+	}
+
+	/**
+	 * Forgets the views of every actor.
+	 */
+	@Override
+	public void clear() {
+		actorViews.clear();
+		Arrays.fill(planeViews, 0, planeViewCount, null);
+		planeViewCount = 0;
+		removedViews.clear();
+		renderedTick = -1;
+	}
+}
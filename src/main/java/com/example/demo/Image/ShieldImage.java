@@ -1,19 +1,17 @@
 package com.example.demo.Image;
 
-import javafx.scene.image.Image;
+import com.example.demo.manager.SpriteCache;
 import javafx.scene.image.ImageView;
-import java.util.Objects;
 
 public class ShieldImage extends ImageView {
 
-	private static final String IMAGE_NAME = "/images/shield.png";
+	private static final String IMAGE_NAME = "/com/example/demo/images/shield.png";
 	private static final int SHIELD_SIZE = 200;
 
 	public ShieldImage(double xPosition, double yPosition) {
 		this.setLayoutX(xPosition);
 		this.setLayoutY(yPosition);
-		//this.setImage(new Image(IMAGE_NAME));
-		this.setImage(new Image(Objects.requireNonNull(getClass().getResource("/com/example/demo/images/shield.png")).toExternalForm()));
+		SpriteCache.getSprite(IMAGE_NAME).applyTo(this);
 		this.setVisible(false);
 		this.setFitHeight(SHIELD_SIZE);
 		this.setFitWidth(SHIELD_SIZE);
@@ -1,6 +1,6 @@
 package com.example.demo.Image;
 
-import javafx.scene.image.Image;
+import com.example.demo.manager.SpriteCache;
 import javafx.scene.image.ImageView;
 
 /**
@@ -34,7 +34,7 @@ public class WinImage extends ImageView {
 	 * @param yPosition the y-coordinate position of the winning image in the scene
 	 */
 	public WinImage(double xPosition, double yPosition) {
-		this.setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+		this.setImage(SpriteCache.getImage(IMAGE_NAME));
 		this.setVisible(false);
 		this.setFitHeight(HEIGHT);
 		this.setFitWidth(WIDTH);
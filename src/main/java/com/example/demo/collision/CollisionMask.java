@@ -0,0 +1,288 @@
+package com.example.demo.collision;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.ImageIO;
+
+/**
+ * The CollisionMask class records which pixels of a sprite are solid at the size the sprite is displayed at.
+ * Each row of the mask is packed into 64-bit words, one bit per pixel, with the leftmost pixel in the lowest bit.
+ * Two masks are compared only over the rectangle where they overlap, a word at a time, so a narrow-phase test costs
+ * at most one AND per 64 overlapping pixels per row, and stops at the first solid pixel the two masks share.
+ * Masks are decoded once per sprite and size, without JavaFX, and shared by every actor showing that sprite.
+ */
+public final class CollisionMask {
+
+	/**
+	 * The alpha value from which a source pixel counts as solid.
+	 */
+	private static final int ALPHA_THRESHOLD = 128;
+
+	/**
+	 * The number of pixels packed in a word.
+	 */
+	private static final int BITS_PER_WORD = Long.SIZE;
+
+	/**
+	 * The masks decoded so far, by sprite and displayed size.
+	 */
+	private static final Map<String, CollisionMask> MASKS = new ConcurrentHashMap<>();
+
+	/**
+	 * The width of the mask, in pixels.
+	 */
+	private final int width;
+
+	/**
+	 * The height of the mask, in pixels.
+	 */
+	private final int height;
+
+	/**
+	 * The number of words in each row.
+	 */
+	private final int wordsPerRow;
+
+	/**
+	 * The solid pixels, row by row; bits past the width of a row are always clear.
+	 */
+	private final long[] bits;
+
+	/**
+	 * Constructor for an empty mask.
+	 *
+	 * @param width  the width of the mask, in pixels
+	 * @param height the height of the mask, in pixels
+	 */
+	private CollisionMask(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.wordsPerRow = (width + BITS_PER_WORD - 1) / BITS_PER_WORD;
+		this.bits = new long[wordsPerRow * height];
+	}
+
+	/**
+	 * Gets the mask of a sprite displayed at the given size, decoding it the first time.
+	 * May be called from any thread.
+	 *
+	 * @param resourcePath the classpath path of the sprite image
+	 * @param width        the displayed width of the sprite, in pixels
+	 * @param height       the displayed height of the sprite, in pixels
+	 * @return the mask, sized to the displayed size rounded up to whole pixels
+	 * @throws UncheckedIOException if the image cannot be read
+	 */
+	public static CollisionMask forSprite(String resourcePath, double width, double height) {
+		int maskWidth = Math.max(1, (int) Math.ceil(width));
+		int maskHeight = Math.max(1, (int) Math.ceil(height));
+		return MASKS.computeIfAbsent(resourcePath + "@" + maskWidth + "x" + maskHeight,
+				key -> decode(resourcePath, maskWidth, maskHeight));
+	}
+
+	/**
+	 * Decodes the alpha channel of a sprite image into a mask.
+	 *
+	 * @param resourcePath the classpath path of the sprite image
+	 * @param width        the width of the mask, in pixels
+	 * @param height       the height of the mask, in pixels
+	 * @return the mask
+	 */
+	private static CollisionMask decode(String resourcePath, int width, int height) {
+		try (InputStream stream = Objects.requireNonNull(CollisionMask.class.getResourceAsStream(resourcePath),
+				"Missing sprite resource: " + resourcePath)) {
+			BufferedImage image = ImageIO.read(stream);
+			if (image == null) {
+				throw new IllegalArgumentException("Not an image: " + resourcePath);
+			}
+			return fromImage(image, width, height);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Cannot read sprite: " + resourcePath, e);
+		}
+	}
+
+	/**
+	 * Builds the mask of an image scaled to the given size.
+	 * A pixel of the mask is solid if any source pixel it covers is solid, so thin details of a large source image
+	 * survive the scaling and hits are never missed because of it.
+	 *
+	 * @param image  the source image
+	 * @param width  the width of the mask, in pixels
+	 * @param height the height of the mask, in pixels
+	 * @return the mask
+	 */
+	static CollisionMask fromImage(BufferedImage image, int width, int height) {
+		int sourceWidth = image.getWidth();
+		int sourceHeight = image.getHeight();
+		int[] argb = image.getRGB(0, 0, sourceWidth, sourceHeight, null, 0, sourceWidth);
+		CollisionMask mask = new CollisionMask(width, height);
+		for (int y = 0; y < height; y++) {
+			int sourceTop = (int) ((long) y * sourceHeight / height);
+			int sourceBottom = Math.max(sourceTop + 1, (int) (((long) y + 1) * sourceHeight / height));
+			for (int x = 0; x < width; x++) {
+				int sourceLeft = (int) ((long) x * sourceWidth / width);
+				int sourceRight = Math.max(sourceLeft + 1, (int) (((long) x + 1) * sourceWidth / width));
+				if (isAnySolid(argb, sourceWidth, sourceLeft, sourceTop, sourceRight, sourceBottom)) {
+					mask.bits[y * mask.wordsPerRow + x / BITS_PER_WORD] |= 1L << (x % BITS_PER_WORD);
+				}
+			}
+		}
+		return mask;
+	}
+
+	/**
+	 * Checks whether any pixel of a rectangle of an image is solid.
+	 *
+	 * @param argb        the image's pixels, row by row
+	 * @param sourceWidth the width of the image
+	 * @param left        the first column of the rectangle
+	 * @param top         the first row of the rectangle
+	 * @param right       the column after the last one of the rectangle
+	 * @param bottom      the row after the last one of the rectangle
+	 * @return true if a pixel's alpha reaches the threshold, false otherwise
+	 */
+	private static boolean isAnySolid(int[] argb, int sourceWidth, int left, int top, int right, int bottom) {
+		for (int y = top; y < bottom; y++) {
+			for (int x = left, row = y * sourceWidth; x < right; x++) {
+				if (argb[row + x] >>> 24 >= ALPHA_THRESHOLD) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether two masks placed at the given positions share a solid pixel.
+	 * Positions are rounded down to whole pixels. Only the rows and words of the overlapping rectangle are read.
+	 *
+	 * @param first   the first mask
+	 * @param firstX  the x-coordinate of the first mask's top-left corner
+	 * @param firstY  the y-coordinate of the first mask's top-left corner
+	 * @param second  the second mask
+	 * @param secondX the x-coordinate of the second mask's top-left corner
+	 * @param secondY the y-coordinate of the second mask's top-left corner
+	 * @return true if a pixel is solid in both masks, false otherwise
+	 */
+	public static boolean overlaps(CollisionMask first, double firstX, double firstY,
+			CollisionMask second, double secondX, double secondY) {
+		return overlaps(first, firstX, firstY, second, secondX, secondY, Integer.MIN_VALUE, Integer.MIN_VALUE,
+				Integer.MAX_VALUE, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Checks whether two masks placed at the given positions share a solid pixel inside a clipping rectangle,
+	 * such as the overlap of two hitboxes. Pixels partly inside the rectangle count.
+	 *
+	 * @param first    the first mask
+	 * @param firstX   the x-coordinate of the first mask's top-left corner
+	 * @param firstY   the y-coordinate of the first mask's top-left corner
+	 * @param second   the second mask
+	 * @param secondX  the x-coordinate of the second mask's top-left corner
+	 * @param secondY  the y-coordinate of the second mask's top-left corner
+	 * @param clipMinX the left edge of the clipping rectangle
+	 * @param clipMinY the top edge of the clipping rectangle
+	 * @param clipMaxX the right edge of the clipping rectangle
+	 * @param clipMaxY the bottom edge of the clipping rectangle
+	 * @return true if a pixel inside the rectangle is solid in both masks, false otherwise
+	 */
+	public static boolean overlaps(CollisionMask first, double firstX, double firstY,
+			CollisionMask second, double secondX, double secondY,
+			double clipMinX, double clipMinY, double clipMaxX, double clipMaxY) {
+		int ax = (int) Math.floor(firstX);
+		int ay = (int) Math.floor(firstY);
+		int bx = (int) Math.floor(secondX);
+		int by = (int) Math.floor(secondY);
+		int left = Math.max(Math.max(ax, bx), (int) Math.floor(clipMinX));
+		int right = Math.min(Math.min(ax + first.width, bx + second.width), (int) Math.ceil(clipMaxX));
+		int top = Math.max(Math.max(ay, by), (int) Math.floor(clipMinY));
+		int bottom = Math.min(Math.min(ay + first.height, by + second.height), (int) Math.ceil(clipMaxY));
+		if (left >= right || top >= bottom) {
+			return false;
+		}
+		int span = right - left;
+		int firstStart = left - ax;
+		int secondStart = left - bx;
+		for (int y = top; y < bottom; y++) {
+			int firstRow = (y - ay) * first.wordsPerRow;
+			int secondRow = (y - by) * second.wordsPerRow;
+			for (int offset = 0; offset < span; offset += BITS_PER_WORD) {
+				long shared = first.wordAt(firstRow, firstStart + offset) & second.wordAt(secondRow, secondStart + offset);
+				int remaining = span - offset;
+				if (remaining < BITS_PER_WORD) {
+					shared &= (1L << remaining) - 1;
+				}
+				if (shared != 0) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Reads the 64 pixels of a row starting at any column, joining two stored words if the column is not aligned.
+	 *
+	 * @param row    the index of the row's first word
+	 * @param column the first column to read
+	 * @return the pixels, the first in the lowest bit; pixels past the end of the row are clear
+	 */
+	private long wordAt(int row, int column) {
+		int word = column / BITS_PER_WORD;
+		int shift = column % BITS_PER_WORD;
+		long value = bits[row + word] >>> shift;
+		if (shift != 0 && word + 1 < wordsPerRow) {
+			value |= bits[row + word + 1] << (BITS_PER_WORD - shift);
+		}
+		return value;
+	}
+
+	/**
+	 * Checks whether a pixel of the mask is solid.
+	 *
+	 * @param x the column of the pixel
+	 * @param y the row of the pixel
+	 * @return true if the pixel is solid, false otherwise or if it is outside the mask
+	 */
+	public boolean isSolid(int x, int y) {
+		if (x < 0 || y < 0 || x >= width || y >= height) {
+			return false;
+		}
+		return (bits[y * wordsPerRow + x / BITS_PER_WORD] >>> (x % BITS_PER_WORD) & 1) != 0;
+	}
+
+	/**
+	 * Gets the number of solid pixels in the mask.
+	 *
+	 * @return the solid pixel count
+	 */
+	public int getSolidCount() {
+		int count = 0;
+		for (long word : bits) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	/**
+	 * Gets the width of the mask.
+	 *
+	 * @return the width, in pixels
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Gets the height of the mask.
+	 *
+	 * @return the height, in pixels
+	 */
+	public int getHeight() {
+		return height;
+	}
+}
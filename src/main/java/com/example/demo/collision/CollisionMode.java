@@ -0,0 +1,18 @@
+package com.example.demo.collision;
+
+/**
+ * CollisionMode selects how a level finds colliding actors.
+ * Both modes damage exactly the same pairs in the same order, so they can be swapped to compare results.
+ */
+public enum CollisionMode {
+
+	/**
+	 * Tests every actor of one group against every actor of the other group.
+	 */
+	BRUTE_FORCE,
+
+	/**
+	 * Uses a spatial hash grid rebuilt once per tick, and only tests pairs that share a grid cell.
+	 */
+	SPATIAL_HASH
+}
@@ -0,0 +1,266 @@
+package com.example.demo.collision;
+
+/**
+ * The Hitbox class describes the part of a sprite that can be hit, as insets from the edges of the sprite's
+ * displayed box, in model pixels. The hit area is either the inset rectangle itself or the largest circle centred
+ * in it, for round sprites such as the boss's fireball. Each kind of actor declares one hitbox, shared by every actor
+ * of that kind; an actor turns it into four coordinates once per tick, and the grid and the shape test only read
+ * those. Two hitboxes collide if their shapes overlap; the sprites' collision masks may then confirm the hit.
+ */
+public final class Hitbox {
+
+	/**
+	 * The hitbox covering the whole sprite.
+	 */
+	public static final Hitbox FULL = rectangle(0, 0, 0, 0);
+
+	/**
+	 * The shape of the hit area.
+	 */
+	private final Shape shape;
+
+	/**
+	 * The inset from the left edge of the sprite.
+	 */
+	private final double left;
+
+	/**
+	 * The inset from the top edge of the sprite.
+	 */
+	private final double top;
+
+	/**
+	 * The inset from the right edge of the sprite.
+	 */
+	private final double right;
+
+	/**
+	 * The inset from the bottom edge of the sprite.
+	 */
+	private final double bottom;
+
+	/**
+	 * Constructor for a hitbox.
+	 *
+	 * @param shape  the shape of the hit area
+	 * @param left   the inset from the left edge of the sprite
+	 * @param top    the inset from the top edge of the sprite
+	 * @param right  the inset from the right edge of the sprite
+	 * @param bottom the inset from the bottom edge of the sprite
+	 */
+	private Hitbox(Shape shape, double left, double top, double right, double bottom) {
+		this.shape = shape;
+		this.left = left;
+		this.top = top;
+		this.right = right;
+		this.bottom = bottom;
+	}
+
+	/**
+	 * Creates a rectangular hitbox inset from the sprite's edges.
+	 *
+	 * @param left   the inset from the left edge, in pixels
+	 * @param top    the inset from the top edge, in pixels
+	 * @param right  the inset from the right edge, in pixels
+	 * @param bottom the inset from the bottom edge, in pixels
+	 * @return the hitbox
+	 */
+	public static Hitbox rectangle(double left, double top, double right, double bottom) {
+		return new Hitbox(Shape.RECTANGLE, left, top, right, bottom);
+	}
+
+	/**
+	 * Creates a circular hitbox: the largest circle centred in the rectangle inset from the sprite's edges.
+	 *
+	 * @param left   the inset from the left edge, in pixels
+	 * @param top    the inset from the top edge, in pixels
+	 * @param right  the inset from the right edge, in pixels
+	 * @param bottom the inset from the bottom edge, in pixels
+	 * @return the hitbox
+	 */
+	public static Hitbox circle(double left, double top, double right, double bottom) {
+		return new Hitbox(Shape.CIRCLE, left, top, right, bottom);
+	}
+
+	/**
+	 * Gets the shape of the hit area.
+	 *
+	 * @return the shape
+	 */
+	public Shape getShape() {
+		return shape;
+	}
+
+	/**
+	 * Gets the left edge of the hit area's bounds, relative to the sprite's left edge.
+	 *
+	 * @param width  the displayed width of the sprite
+	 * @param height the displayed height of the sprite
+	 * @return the offset, in pixels
+	 */
+	public double getMinXOffset(double width, double height) {
+		return getCenterXOffset(width) - getHalfWidth(width, height);
+	}
+
+	/**
+	 * Gets the top edge of the hit area's bounds, relative to the sprite's top edge.
+	 *
+	 * @param width  the displayed width of the sprite
+	 * @param height the displayed height of the sprite
+	 * @return the offset, in pixels
+	 */
+	public double getMinYOffset(double width, double height) {
+		return getCenterYOffset(height) - getHalfHeight(width, height);
+	}
+
+	/**
+	 * Gets the right edge of the hit area's bounds, relative to the sprite's left edge.
+	 *
+	 * @param width  the displayed width of the sprite
+	 * @param height the displayed height of the sprite
+	 * @return the offset, in pixels
+	 */
+	public double getMaxXOffset(double width, double height) {
+		return getCenterXOffset(width) + getHalfWidth(width, height);
+	}
+
+	/**
+	 * Gets the bottom edge of the hit area's bounds, relative to the sprite's top edge.
+	 *
+	 * @param width  the displayed width of the sprite
+	 * @param height the displayed height of the sprite
+	 * @return the offset, in pixels
+	 */
+	public double getMaxYOffset(double width, double height) {
+		return getCenterYOffset(height) + getHalfHeight(width, height);
+	}
+
+	/**
+	 * Gets the centre of the inset rectangle, relative to the sprite's left edge.
+	 *
+	 * @param width the displayed width of the sprite
+	 * @return the offset, in pixels
+	 */
+	private double getCenterXOffset(double width) {
+		return (left + width - right) / 2;
+	}
+
+	/**
+	 * Gets the centre of the inset rectangle, relative to the sprite's top edge.
+	 *
+	 * @param height the displayed height of the sprite
+	 * @return the offset, in pixels
+	 */
+	private double getCenterYOffset(double height) {
+		return (top + height - bottom) / 2;
+	}
+
+	/**
+	 * Gets half the width of the hit area's bounds.
+	 *
+	 * @param width  the displayed width of the sprite
+	 * @param height the displayed height of the sprite
+	 * @return half the width, or the circle's radius
+	 */
+	private double getHalfWidth(double width, double height) {
+		double halfWidth = Math.max(0, width - left - right) / 2;
+		return shape == Shape.CIRCLE ? Math.min(halfWidth, getInsetHalfHeight(height)) : halfWidth;
+	}
+
+	/**
+	 * Gets half the height of the hit area's bounds.
+	 *
+	 * @param width  the displayed width of the sprite
+	 * @param height the displayed height of the sprite
+	 * @return half the height, or the circle's radius
+	 */
+	private double getHalfHeight(double width, double height) {
+		double halfHeight = getInsetHalfHeight(height);
+		return shape == Shape.CIRCLE ? Math.min(halfHeight, Math.max(0, width - left - right) / 2) : halfHeight;
+	}
+
+	/**
+	 * Gets half the height of the inset rectangle.
+	 *
+	 * @param height the displayed height of the sprite
+	 * @return half the height, in pixels
+	 */
+	private double getInsetHalfHeight(double height) {
+		return Math.max(0, height - top - bottom) / 2;
+	}
+
+	/**
+	 * Checks whether two hit areas overlap, given the bounds each actor computed for its hitbox.
+	 * Edges that touch count as an overlap, like the bounds test of the collision grid.
+	 *
+	 * @param shape      the shape of the first hit area
+	 * @param minX       the left edge of the first hit area's bounds
+	 * @param minY       the top edge of the first hit area's bounds
+	 * @param maxX       the right edge of the first hit area's bounds
+	 * @param maxY       the bottom edge of the first hit area's bounds
+	 * @param otherShape the shape of the second hit area
+	 * @param otherMinX  the left edge of the second hit area's bounds
+	 * @param otherMinY  the top edge of the second hit area's bounds
+	 * @param otherMaxX  the right edge of the second hit area's bounds
+	 * @param otherMaxY  the bottom edge of the second hit area's bounds
+	 * @return true if the hit areas overlap, false otherwise
+	 */
+	public static boolean overlaps(Shape shape, double minX, double minY, double maxX, double maxY,
+			Shape otherShape, double otherMinX, double otherMinY, double otherMaxX, double otherMaxY) {
+		if (minX > otherMaxX || maxX < otherMinX || minY > otherMaxY || maxY < otherMinY) {
+			return false;
+		}
+		if (shape == Shape.RECTANGLE && otherShape == Shape.RECTANGLE) {
+			return true;
+		}
+		if (shape == Shape.CIRCLE && otherShape == Shape.CIRCLE) {
+			double dx = (minX + maxX - otherMinX - otherMaxX) / 2;
+			double dy = (minY + maxY - otherMinY - otherMaxY) / 2;
+			double radii = (maxX - minX + otherMaxX - otherMinX) / 2;
+			return dx * dx + dy * dy <= radii * radii;
+		}
+		if (shape == Shape.CIRCLE) {
+			return circleOverlapsRectangle(minX, minY, maxX, maxY, otherMinX, otherMinY, otherMaxX, otherMaxY);
+		}
+		return circleOverlapsRectangle(otherMinX, otherMinY, otherMaxX, otherMaxY, minX, minY, maxX, maxY);
+	}
+
+	/**
+	 * Checks whether a circle overlaps a rectangle, by finding the point of the rectangle nearest the circle's centre.
+	 *
+	 * @param circleMinX the left edge of the circle's bounds
+	 * @param circleMinY the top edge of the circle's bounds
+	 * @param circleMaxX the right edge of the circle's bounds
+	 * @param circleMaxY the bottom edge of the circle's bounds
+	 * @param minX       the left edge of the rectangle
+	 * @param minY       the top edge of the rectangle
+	 * @param maxX       the right edge of the rectangle
+	 * @param maxY       the bottom edge of the rectangle
+	 * @return true if they overlap, false otherwise
+	 */
+	private static boolean circleOverlapsRectangle(double circleMinX, double circleMinY, double circleMaxX,
+			double circleMaxY, double minX, double minY, double maxX, double maxY) {
+		double centerX = (circleMinX + circleMaxX) / 2;
+		double centerY = (circleMinY + circleMaxY) / 2;
+		double radius = (circleMaxX - circleMinX) / 2;
+		double dx = centerX - Math.max(minX, Math.min(centerX, maxX));
+		double dy = centerY - Math.max(minY, Math.min(centerY, maxY));
+		return dx * dx + dy * dy <= radius * radius;
+	}
+
+	/**
+	 * Shape is the shape of a hit area.
+	 */
+	public enum Shape {
+
+		/**
+		 * The inset rectangle.
+		 */
+		RECTANGLE,
+
+		/**
+		 * The largest circle centred in the inset rectangle.
+		 */
+		CIRCLE
+	}
+}
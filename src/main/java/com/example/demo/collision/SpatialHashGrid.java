@@ -0,0 +1,407 @@
+package com.example.demo.collision;
+
+import java.util.Arrays;
+
+/**
+ * The SpatialHashGrid class is a uniform-grid broad phase for collision detection.
+ * The world is divided into square cells and every actor is inserted into each cell its bounding box touches.
+ * A query then only returns actors that share at least one cell with the queried box,
+ * so the narrow-phase intersection test runs on a handful of candidates instead of every actor.
+ * Bounds are stored as primitives, and all internal arrays are reused between rebuilds.
+ * Once built, the grid can be queried from several threads at once, as long as each thread uses its own {@link Query}.
+ */
+public class SpatialHashGrid {
+
+	/**
+	 * The marker for an empty cell or the end of a cell's entry chain.
+	 */
+	private static final int NONE = -1;
+
+	/**
+	 * The initial capacity of the per-actor and per-entry arrays.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/**
+	 * The number of candidates from which a query result is put in order by scanning the visit stamps instead of sorting.
+	 * {@code Arrays.sort} merges long runs of this size through a temporary array, so larger results must not be sorted
+	 * for a query to stay free of allocation.
+	 */
+	private static final int MAX_SORTED_CANDIDATES = 4096;
+
+	/**
+	 * The width and height of a single cell.
+	 */
+	private final double cellSize;
+
+	/**
+	 * The number of cell columns covering the world.
+	 */
+	private final int columns;
+
+	/**
+	 * The number of cell rows covering the world.
+	 */
+	private final int rows;
+
+	/**
+	 * The first entry of each cell, or NONE if the cell is empty.
+	 */
+	private final int[] cellHeads;
+
+	/**
+	 * The next entry in the same cell for each entry, or NONE at the end of the chain.
+	 */
+	private int[] entryNext;
+
+	/**
+	 * The actor index stored in each entry.
+	 */
+	private int[] entryActor;
+
+	/**
+	 * The number of entries currently in use.
+	 */
+	private int entryCount;
+
+	/**
+	 * The minimum x-coordinate of each actor's bounds.
+	 */
+	private double[] minX;
+
+	/**
+	 * The minimum y-coordinate of each actor's bounds.
+	 */
+	private double[] minY;
+
+	/**
+	 * The maximum x-coordinate of each actor's bounds.
+	 */
+	private double[] maxX;
+
+	/**
+	 * The maximum y-coordinate of each actor's bounds.
+	 */
+	private double[] maxY;
+
+	/**
+	 * The number of actors inserted since the last clear.
+	 */
+	private int actorCount;
+
+	/**
+	 * The query used by {@link #query(double, double, double, double)} and {@link #getCandidate(int)}.
+	 */
+	private final Query defaultQuery;
+
+	/**
+	 * Constructor for the SpatialHashGrid class.
+	 * Actors outside the world are clamped into the nearest edge cells, so they are still found by queries.
+	 *
+	 * @param worldWidth  the width of the area covered by the grid
+	 * @param worldHeight the height of the area covered by the grid
+	 * @param cellSize    the width and height of a single cell
+	 */
+	public SpatialHashGrid(double worldWidth, double worldHeight, double cellSize) {
+		this.cellSize = cellSize;
+		this.columns = Math.max(1, (int) Math.ceil(worldWidth / cellSize));
+		this.rows = Math.max(1, (int) Math.ceil(worldHeight / cellSize));
+		this.cellHeads = new int[columns * rows];
+		this.entryNext = new int[INITIAL_CAPACITY];
+		this.entryActor = new int[INITIAL_CAPACITY];
+		this.minX = new double[INITIAL_CAPACITY];
+		this.minY = new double[INITIAL_CAPACITY];
+		this.maxX = new double[INITIAL_CAPACITY];
+		this.maxY = new double[INITIAL_CAPACITY];
+		this.defaultQuery = new Query();
+		Arrays.fill(cellHeads, NONE);
+	}
+
+	/**
+	 * Removes every actor from the grid.
+	 * Only the cell heads are reset; the other arrays are overwritten by the next inserts.
+	 */
+	public void clear() {
+		Arrays.fill(cellHeads, NONE);
+		entryCount = 0;
+		actorCount = 0;
+	}
+
+	/**
+	 * Inserts an actor's bounding box into every cell it touches.
+	 * Actors are indexed in insertion order, so inserting a list in order makes the index equal to the list position.
+	 *
+	 * @param boxMinX the minimum x-coordinate of the bounds
+	 * @param boxMinY the minimum y-coordinate of the bounds
+	 * @param boxMaxX the maximum x-coordinate of the bounds
+	 * @param boxMaxY the maximum y-coordinate of the bounds
+	 * @return the index given to the actor
+	 */
+	public int insert(double boxMinX, double boxMinY, double boxMaxX, double boxMaxY) {
+		int actor = actorCount++;
+		ensureActorCapacity(actorCount);
+		minX[actor] = boxMinX;
+		minY[actor] = boxMinY;
+		maxX[actor] = boxMaxX;
+		maxY[actor] = boxMaxY;
+
+		int firstColumn = column(boxMinX);
+		int lastColumn = column(boxMaxX);
+		int firstRow = row(boxMinY);
+		int lastRow = row(boxMaxY);
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int column = firstColumn; column <= lastColumn; column++) {
+				int cell = row * columns + column;
+				int entry = entryCount++;
+				ensureEntryCapacity(entryCount);
+				entryActor[entry] = actor;
+				entryNext[entry] = cellHeads[cell];
+				cellHeads[cell] = entry;
+			}
+		}
+		return actor;
+	}
+
+	/**
+	 * Gives the next index to an actor that takes no part in collisions, without adding it to any cell.
+	 * Queries never find the actor, and the actors inserted after it keep the index equal to their list position.
+	 *
+	 * @return the index given to the actor
+	 */
+	public int skip() {
+		int actor = actorCount++;
+		ensureActorCapacity(actorCount);
+		minX[actor] = Double.POSITIVE_INFINITY;
+		minY[actor] = Double.POSITIVE_INFINITY;
+		maxX[actor] = Double.NEGATIVE_INFINITY;
+		maxY[actor] = Double.NEGATIVE_INFINITY;
+		return actor;
+	}
+
+	/**
+	 * Finds every actor that shares at least one cell with the given box.
+	 * The candidates are returned in ascending index order, which is the order a brute-force loop would visit them.
+	 * Candidates are not guaranteed to intersect the box; use {@link #intersects} as the narrow phase.
+	 *
+	 * @param boxMinX the minimum x-coordinate of the queried box
+	 * @param boxMinY the minimum y-coordinate of the queried box
+	 * @param boxMaxX the maximum x-coordinate of the queried box
+	 * @param boxMaxY the maximum y-coordinate of the queried box
+	 * @return the number of candidates, readable with {@link #getCandidate(int)}
+	 */
+	public int query(double boxMinX, double boxMinY, double boxMaxX, double boxMaxY) {
+		return query(defaultQuery, boxMinX, boxMinY, boxMaxX, boxMaxY);
+	}
+
+	/**
+	 * Finds every actor that shares at least one cell with the given box, keeping the result in the given query.
+	 * The grid itself is only read, so threads can query it at the same time with a query each.
+	 *
+	 * @param query   the query holding the result
+	 * @param boxMinX the minimum x-coordinate of the queried box
+	 * @param boxMinY the minimum y-coordinate of the queried box
+	 * @param boxMaxX the maximum x-coordinate of the queried box
+	 * @param boxMaxY the maximum y-coordinate of the queried box
+	 * @return the number of candidates, readable with {@link Query#getCandidate(int)}
+	 */
+	public int query(Query query, double boxMinX, double boxMinY, double boxMaxX, double boxMaxY) {
+		if (actorCount == 0) {
+			return 0;
+		}
+		query.ensureCapacity(actorCount);
+		int stamp = query.nextStamp();
+		int[] visitStamps = query.visitStamps;
+		int[] queryResult = query.result;
+		int found = 0;
+		int firstColumn = column(boxMinX);
+		int lastColumn = column(boxMaxX);
+		int firstRow = row(boxMinY);
+		int lastRow = row(boxMaxY);
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int column = firstColumn; column <= lastColumn; column++) {
+				for (int entry = cellHeads[row * columns + column]; entry != NONE; entry = entryNext[entry]) {
+					int actor = entryActor[entry];
+					if (visitStamps[actor] != stamp) {
+						visitStamps[actor] = stamp;
+						queryResult[found++] = actor;
+					}
+				}
+			}
+		}
+		if (found >= MAX_SORTED_CANDIDATES || found > actorCount >> 3) {
+			// Every actor in the result carries this query's stamp, so a scan lists them in index order
+			found = 0;
+			for (int actor = 0; actor < actorCount; actor++) {
+				if (visitStamps[actor] == stamp) {
+					queryResult[found++] = actor;
+				}
+			}
+		} else {
+			Arrays.sort(queryResult, 0, found);
+		}
+		return found;
+	}
+
+	/**
+	 * Gets a candidate found by the last query.
+	 *
+	 * @param position the position in the query result, from 0 to the count returned by the query
+	 * @return the index of the candidate actor
+	 */
+	public int getCandidate(int position) {
+		return defaultQuery.getCandidate(position);
+	}
+
+	/**
+	 * Checks whether an actor's stored bounds intersect the given box.
+	 * Edges that touch count as an intersection, matching {@code Bounds.intersects}.
+	 *
+	 * @param actor   the index of the actor
+	 * @param boxMinX the minimum x-coordinate of the box
+	 * @param boxMinY the minimum y-coordinate of the box
+	 * @param boxMaxX the maximum x-coordinate of the box
+	 * @param boxMaxY the maximum y-coordinate of the box
+	 * @return true if the bounds intersect, false otherwise
+	 */
+	public boolean intersects(int actor, double boxMinX, double boxMinY, double boxMaxX, double boxMaxY) {
+		return minX[actor] <= boxMaxX && maxX[actor] >= boxMinX
+				&& minY[actor] <= boxMaxY && maxY[actor] >= boxMinY;
+	}
+
+	/**
+	 * Gets the number of actors inserted since the last clear.
+	 *
+	 * @return the actor count
+	 */
+	public int getActorCount() {
+		return actorCount;
+	}
+
+	/**
+	 * Converts an x-coordinate to a column, clamped to the grid.
+	 *
+	 * @param x the x-coordinate
+	 * @return the column index
+	 */
+	private int column(double x) {
+		return clamp((int) Math.floor(x / cellSize), columns);
+	}
+
+	/**
+	 * Converts a y-coordinate to a row, clamped to the grid.
+	 *
+	 * @param y the y-coordinate
+	 * @return the row index
+	 */
+	private int row(double y) {
+		return clamp((int) Math.floor(y / cellSize), rows);
+	}
+
+	/**
+	 * Clamps a cell coordinate to the range [0, size - 1].
+	 *
+	 * @param value the cell coordinate
+	 * @param size  the number of cells along the axis
+	 * @return the clamped coordinate
+	 */
+	private static int clamp(int value, int size) {
+		return value < 0 ? 0 : Math.min(value, size - 1);
+	}
+
+	/**
+	 * Grows the per-actor arrays so they can hold the given number of actors.
+	 *
+	 * @param capacity the required capacity
+	 */
+	private void ensureActorCapacity(int capacity) {
+		if (capacity > minX.length) {
+			int newCapacity = Math.max(capacity, minX.length * 2);
+			minX = Arrays.copyOf(minX, newCapacity);
+			minY = Arrays.copyOf(minY, newCapacity);
+			maxX = Arrays.copyOf(maxX, newCapacity);
+			maxY = Arrays.copyOf(maxY, newCapacity);
+		}
+	}
+
+	/**
+	 * Grows the per-entry arrays so they can hold the given number of entries.
+	 *
+	 * @param capacity the required capacity
+	 */
+	private void ensureEntryCapacity(int capacity) {
+		if (capacity > entryNext.length) {
+			int newCapacity = Math.max(capacity, entryNext.length * 2);
+			entryNext = Arrays.copyOf(entryNext, newCapacity);
+			entryActor = Arrays.copyOf(entryActor, newCapacity);
+		}
+	}
+
+	/**
+	 * Query holds the state of queries made by one thread: which actors the current query has visited
+	 * and the candidates it found. The stamps of earlier queries never match a later one,
+	 * so the query can be reused across rebuilds of any grid without being cleared.
+	 */
+	public static final class Query {
+
+		/**
+		 * The query stamp each actor was last visited with, used to report every candidate only once per query.
+		 */
+		private int[] visitStamps;
+
+		/**
+		 * The stamp of the current query.
+		 */
+		private int currentStamp;
+
+		/**
+		 * The actor indices found by the last query, in ascending order.
+		 */
+		private int[] result;
+
+		/**
+		 * Constructor for an empty query.
+		 */
+		public Query() {
+			this.visitStamps = new int[INITIAL_CAPACITY];
+			this.result = new int[INITIAL_CAPACITY];
+		}
+
+		/**
+		 * Gets a candidate found by the last query.
+		 *
+		 * @param position the position in the query result, from 0 to the count returned by the query
+		 * @return the index of the candidate actor
+		 */
+		public int getCandidate(int position) {
+			return result[position];
+		}
+
+		/**
+		 * Grows the arrays so they can hold the given number of actors.
+		 * New visit stamps are zero, which no query uses.
+		 *
+		 * @param capacity the required capacity
+		 */
+		private void ensureCapacity(int capacity) {
+			if (capacity > visitStamps.length) {
+				int newCapacity = Math.max(capacity, visitStamps.length * 2);
+				visitStamps = Arrays.copyOf(visitStamps, newCapacity);
+				result = Arrays.copyOf(result, newCapacity);
+			}
+		}
+
+		/**
+		 * Advances the query stamp, resetting all visit stamps when the counter wraps around.
+		 *
+		 * @return the stamp of the new query
+		 */
+		private int nextStamp() {
+			currentStamp++;
+			if (currentStamp == Integer.MAX_VALUE) {
+				Arrays.fill(visitStamps, 0);
+				currentStamp = 1;
+			}
+			return currentStamp;
+		}
+	}
+}
@@ -1,36 +1,53 @@
 package com.example.demo.controller;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.Observable;
-import java.util.Observer;
+import java.io.IOException;
 
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.stage.Stage;
+import com.example.demo.event.EventBus;
+import com.example.demo.event.LevelTransitionEvent;
+import com.example.demo.level.LevelId;
 import com.example.demo.level.LevelParent;
+import com.example.demo.level.LevelPreloader;
+import com.example.demo.level.PreparedLevel;
+import com.example.demo.replay.Replay;
+import com.example.demo.save.SaveState;
 
 /**
- * The Controller class implements the Observer interface and is responsible for managing the game's control logic.
+ * The Controller class is responsible for managing the game's control logic.
  * It handles game launching, scene switching, and exception handling.
- * It uses reflection to create different game level objects based on class names, adds the current controller as an observer to the level objects,
- * and processes update notifications from level objects.
+ * It owns the game's {@link EventBus}, creates levels through the {@link LevelId} registry, hands them the bus,
+ * and goes to the next level when a level publishes a {@link LevelTransitionEvent}.
+ * While a level is played, the level after it is prepared in the background, so moving on is only a scene swap;
+ * the time each transition takes is measured.
  *
  * @author [Your Name]
  * @version 1.0
  */
-public class Controller implements Observer {
+public class Controller {
 
-	/**
-	 * Stores the class name of the first level.
-	 */
-	private static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.level.LevelOne";
 	/**
 	 * Holds the reference to the main stage.
 	 */
 	private final Stage stage;
 
+	/**
+	 * Prepares the next level while the current one is played.
+	 */
+	private final LevelPreloader preloader;
+
+	/**
+	 * The bus every level publishes its events on, for the controller and any other subscriber.
+	 */
+	private final EventBus eventBus;
+
+	/**
+	 * How long the last transition to a level took, in nanoseconds.
+	 */
+	private long lastTransitionNanos;
+
 	/**
 	 * Constructor that takes a Stage object and stores its reference.
 	 *
@@ -38,71 +55,111 @@ public class Controller implements Observer {
 	 */
 	public Controller(Stage stage) {
 		this.stage = stage;
+		this.preloader = new LevelPreloader();
+		this.eventBus = new EventBus();
+		eventBus.subscribe(LevelTransitionEvent.class, this::onLevelTransition);
 	}
 
 	/**
 	 * Method to launch the game.
-	 * It shows the main stage and goes to the first level.
+	 * It shows the main stage and goes to the level chosen at launch, the first level by default,
+	 * or to the level of the replay chosen at launch, or else to the level of the save chosen at launch.
+	 * A replay or save that cannot be read is reported in a warning dialog, and the game starts without it.
 	 *
-	 * @throws ClassNotFoundException if the class with the given name cannot be found.
-	 * @throws NoSuchMethodException if the required constructor is not available in the class.
-	 * @throws SecurityException if a security exception occurs.
-	 * @throws InstantiationException if an object cannot be instantiated.
-	 * @throws IllegalAccessException if there is an access permission issue.
-	 * @throws IllegalArgumentException if the arguments passed to the constructor are invalid.
-	 * @throws InvocationTargetException if an exception occurs during constructor invocation.
+	 * @throws IllegalArgumentException if the level chosen at launch is unknown.
 	 */
-	public void launchGame() throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException  {
-
+	public void launchGame() {
 		stage.show();
-		goToLevel(LEVEL_ONE_CLASS_NAME);
+		Replay replay = Replay.getConfigured();
+		SaveState save = SaveState.getConfigured();
+		reportLoadFailure(Replay.getConfiguredFailure());
+		reportLoadFailure(SaveState.getConfiguredFailure());
+		goToLevel(replay != null ? LevelId.forClassName(replay.getLevelName())
+				: save != null ? LevelId.forClassName(save.getLevelName()) : LevelId.getConfigured());
 	}
 
 	/**
-	 * Method to go to a level specified by the class name.
-	 * It uses reflection to create a level object from the class name, adds the controller as an observer to the level object,
-	 * initializes the level's scene, sets it on the stage, and starts the game.
+	 * Method to go to a level.
+	 * It takes the prepared level from the preloader, preparing it now if it was not preloaded, creates the level,
+	 * hands it the game's event bus, initializes the level's scene, sets it on the stage, and starts the game.
+	 * If the level's save could not be restored, the level starts afresh and the failure is reported.
+	 * The transition time is then recorded and the level after this one starts preparing in the background.
 	 *
-	 * @param className The name of the level class to go to.
-	 * @throws ClassNotFoundException if the class with the given name cannot be found.
-	 * @throws NoSuchMethodException if the required constructor is not available in the class.
-	 * @throws SecurityException if a security exception occurs.
-	 * @throws InstantiationException if an object cannot be instantiated.
-	 * @throws IllegalAccessException if there is an access permission issue.
-	 * @throws IllegalArgumentException if the arguments passed to the constructor are invalid.
-	 * @throws InvocationTargetException if an exception occurs during constructor invocation.
+	 * @param id The level to go to.
 	 */
-	private void goToLevel(String className) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-		Class<?> myClass = Class.forName(className);
-		Constructor<?> constructor = myClass.getConstructor(double.class, double.class);
-		LevelParent myLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth());
-		myLevel.addObserver(this);
+	private void goToLevel(LevelId id) {
+		long start = System.nanoTime();
+		PreparedLevel prepared = preloader.take(id, stage.getHeight(), stage.getWidth());
+		LevelParent myLevel = id.createLevel(prepared);
+		myLevel.setEventBus(eventBus);
 		Scene scene = myLevel.initializeScene();
 		stage.setScene(scene);
 		myLevel.startGame();
+		lastTransitionNanos = System.nanoTime() - start;
+		reportLoadFailure(prepared.getSaveFailure());
 
+		LevelId next = id.getNextLevel();
+		if (next != null) {
+			preloader.preload(next, stage.getHeight(), stage.getWidth());
+		}
 	}
 
 	/**
-	 * Implementation of the update method from the Observer interface.
-	 * Called when the observed object sends an update notification, attempts to go to the level specified in the notification.
+	 * Called when a level is left for the next one, attempts to go to the next level of the event.
 	 * If an exception occurs, an error dialog will be displayed.
 	 *
-	 * @param arg0 The observed object.
-	 * @param arg1 The notification object, usually the class name of the next level in this class.
+	 * @param event The transition, published by the level being left.
 	 */
-	@Override
-	public void update(Observable arg0, Object arg1) {
+	private void onLevelTransition(LevelTransitionEvent event) {
 		try {
-			goToLevel((String) arg1);
-		} catch (ClassNotFoundException | NoSuchMethodException | SecurityException | InstantiationException
-				 | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+			goToLevel(event.getNextLevel());
+		} catch (RuntimeException e) {
 			Alert alert = new Alert(AlertType.ERROR);
 			alert.setContentText(e.getClass().toString());
 			alert.show();
 		}
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Displays a warning dialog for a file chosen at launch that could not be loaded.
+	 *
+	 * @param failure The reason the file could not be loaded, or null if nothing failed.
+	 */
+	private void reportLoadFailure(IOException failure) {
+		if (failure != null) {
+			Alert alert = new Alert(AlertType.WARNING);
+			alert.setContentText(failure.getMessage());
+			alert.show();
+		}
+	}
+
+	/**
+	 * Gets how long the last transition to a level took, from taking its prepared model to its game loop starting.
+	 *
+	 * @return the transition time, in nanoseconds
+	 */
+	public long getLastTransitionNanos() {
+		return lastTransitionNanos;
+	}
+
+	/**
+	 * Gets the bus every level publishes its events on.
+	 * Telemetry, the HUD or audio subscribe here, on the JavaFX thread with {@code Platform::runLater}
+	 * or on a worker executor for events of the tick.
+	 *
+	 * @return the event bus
+	 */
+	public EventBus getEventBus() {
+		return eventBus;
+	}
+
+	/**
+	 * Gets the preloader preparing the next level.
+	 * Exposes whether the last level was preloaded and how long it waited for its preparation.
+	 *
+	 * @return the level preloader
+	 */
+	public LevelPreloader getPreloader() {
+		return preloader;
+	}
+}
@@ -0,0 +1,78 @@
+package com.example.demo.event;
+
+import com.example.demo.Actor.ActiveActor;
+
+/**
+ * The ActorDestroyedEvent class is published on the simulation thread when a destroyed plane leaves the world,
+ * whether it was shot down, crashed or flew out of the world bounds.
+ * The level model reuses one instance for every publication.
+ */
+public final class ActorDestroyedEvent implements GameEvent {
+
+	/**
+	 * The destroyed plane.
+	 */
+	private ActiveActor.ActiveActorDestructible actor;
+
+	/**
+	 * Whether the plane was an enemy.
+	 */
+	private boolean hostile;
+
+	/**
+	 * The tick the plane was destroyed in.
+	 */
+	private long tick;
+
+	/**
+	 * Sets the values of the event before it is published.
+	 *
+	 * @param actor   the destroyed plane
+	 * @param hostile whether the plane was an enemy
+	 * @param tick    the tick the plane was destroyed in
+	 * @return this event
+	 */
+	public ActorDestroyedEvent set(ActiveActor.ActiveActorDestructible actor, boolean hostile, long tick) {
+		this.actor = actor;
+		this.hostile = hostile;
+		this.tick = tick;
+		return this;
+	}
+
+	/**
+	 * Gets the destroyed plane.
+	 *
+	 * @return the plane
+	 */
+	public ActiveActor.ActiveActorDestructible getActor() {
+		return actor;
+	}
+
+	/**
+	 * Checks whether the plane was an enemy.
+	 *
+	 * @return true for an enemy, false for the user's plane
+	 */
+	public boolean isHostile() {
+		return hostile;
+	}
+
+	/**
+	 * Gets the tick the plane was destroyed in.
+	 *
+	 * @return the tick count of the model before the tick
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	/**
+	 * Gets a copy that stays unchanged when this event is reused.
+	 *
+	 * @return the copy
+	 */
+	@Override
+	public ActorDestroyedEvent copy() {
+		return new ActorDestroyedEvent().set(actor, hostile, tick);
+	}
+}
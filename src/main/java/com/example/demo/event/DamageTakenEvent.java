@@ -0,0 +1,78 @@
+package com.example.demo.event;
+
+import com.example.demo.plane.FighterPlane;
+
+/**
+ * The DamageTakenEvent class is published on the simulation thread when a plane loses health,
+ * from a projectile, a collision with another plane, or an enemy getting past the user.
+ * Hits a shielded boss shrugs off are not published. The level model reuses one instance for every publication.
+ */
+public final class DamageTakenEvent implements GameEvent {
+
+	/**
+	 * The damaged plane.
+	 */
+	private FighterPlane plane;
+
+	/**
+	 * The plane's health after the damage.
+	 */
+	private int health;
+
+	/**
+	 * The tick the damage was taken in.
+	 */
+	private long tick;
+
+	/**
+	 * Sets the values of the event before it is published.
+	 *
+	 * @param plane  the damaged plane
+	 * @param health the plane's health after the damage
+	 * @param tick   the tick the damage was taken in
+	 * @return this event
+	 */
+	public DamageTakenEvent set(FighterPlane plane, int health, long tick) {
+		this.plane = plane;
+		this.health = health;
+		this.tick = tick;
+		return this;
+	}
+
+	/**
+	 * Gets the damaged plane.
+	 *
+	 * @return the plane
+	 */
+	public FighterPlane getPlane() {
+		return plane;
+	}
+
+	/**
+	 * Gets the plane's health after the damage.
+	 *
+	 * @return the remaining health, 0 or less if the plane was destroyed
+	 */
+	public int getHealth() {
+		return health;
+	}
+
+	/**
+	 * Gets the tick the damage was taken in.
+	 *
+	 * @return the tick count of the model before the tick
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	/**
+	 * Gets a copy that stays unchanged when this event is reused.
+	 *
+	 * @return the copy
+	 */
+	@Override
+	public DamageTakenEvent copy() {
+		return new DamageTakenEvent().set(plane, health, tick);
+	}
+}
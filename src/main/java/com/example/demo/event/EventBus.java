@@ -0,0 +1,77 @@
+package com.example.demo.event;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * The EventBus class is the typed publish-subscribe hub of the game.
+ * It holds one {@link EventChannel} per event type; listeners subscribe to a type and are only ever handed events
+ * of that type, either on the publishing thread or on an executor of their choice. Telemetry, the HUD or audio can
+ * subscribe without the publishers knowing about them.
+ * Looking a channel up is for setting up; a publisher of frequent events keeps its channel and publishes to it directly.
+ * The bus can be used from any thread.
+ */
+public final class EventBus {
+
+	/**
+	 * The channel of each event type, created on first use.
+	 */
+	private final Map<Class<?>, EventChannel<?>> channels;
+
+	/**
+	 * Constructor for a bus with no listeners.
+	 */
+	public EventBus() {
+		this.channels = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Gets the channel of an event type, creating it the first time.
+	 *
+	 * @param type the event type
+	 * @param <E>  the event type
+	 * @return the channel, the same for every call with the same type
+	 */
+	@SuppressWarnings("unchecked")
+	public <E extends GameEvent> EventChannel<E> channel(Class<E> type) {
+		return (EventChannel<E>) channels.computeIfAbsent(type, key -> new EventChannel<>(type));
+	}
+
+	/**
+	 * Subscribes a listener to an event type, to be called on the publishing thread.
+	 *
+	 * @param type     the event type
+	 * @param listener the listener
+	 * @param <E>      the event type
+	 * @return the subscription, to cancel it
+	 */
+	public <E extends GameEvent> EventChannel.Subscription<E> subscribe(Class<E> type, EventListener<? super E> listener) {
+		return channel(type).subscribe(listener);
+	}
+
+	/**
+	 * Subscribes a listener to an event type, to be called on an executor with a copy of each event.
+	 *
+	 * @param type     the event type
+	 * @param listener the listener
+	 * @param executor the executor running the listener
+	 * @param <E>      the event type
+	 * @return the subscription, to cancel it
+	 */
+	public <E extends GameEvent> EventChannel.Subscription<E> subscribe(Class<E> type, EventListener<? super E> listener,
+																		Executor executor) {
+		return channel(type).subscribe(listener, executor);
+	}
+
+	/**
+	 * Publishes an event to the listeners of its type.
+	 *
+	 * @param type  the event type
+	 * @param event the event
+	 * @param <E>   the event type
+	 */
+	public <E extends GameEvent> void publish(Class<E> type, E event) {
+		channel(type).publish(event);
+	}
+}
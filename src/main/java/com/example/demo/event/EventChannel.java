@@ -0,0 +1,187 @@
+package com.example.demo.event;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+/**
+ * The EventChannel class delivers the events of one type to their listeners.
+ * The listeners are kept in an array that is replaced whenever one subscribes or cancels, so publishing only reads
+ * a volatile field and loops over the array: it takes no lock and does not allocate for synchronous listeners.
+ * A listener subscribed with an executor is handed a {@link GameEvent#copy() copy} of each event on that executor,
+ * so only listeners that asked to run elsewhere pay for the copy and the task.
+ * A publisher of frequent events should keep the channel and skip building the event when {@link #hasListeners()}
+ * is false, so an event nobody listens to costs one read.
+ *
+ * @param <E> the type of the events
+ */
+public final class EventChannel<E extends GameEvent> {
+
+	/**
+	 * The type of the events, used to type the copies handed to executors.
+	 */
+	private final Class<E> type;
+
+	/**
+	 * The current subscriptions, in the order they were made; replaced, never modified.
+	 */
+	private volatile Subscription<E>[] subscriptions;
+
+	/**
+	 * Constructor for a channel with no listeners.
+	 *
+	 * @param type the type of the events
+	 */
+	EventChannel(Class<E> type) {
+		this.type = type;
+		this.subscriptions = newArray(0);
+	}
+
+	/**
+	 * Checks whether any listener is subscribed.
+	 *
+	 * @return true if publishing an event would reach a listener, false otherwise
+	 */
+	public boolean hasListeners() {
+		return subscriptions.length != 0;
+	}
+
+	/**
+	 * Delivers an event to every listener, in the order they subscribed.
+	 * Synchronous listeners have been called when this returns; listeners on an executor have been handed a copy.
+	 *
+	 * @param event the event
+	 */
+	public void publish(E event) {
+		Subscription<E>[] current = subscriptions;
+		for (int i = 0; i < current.length; i++) {
+			current[i].deliver(event);
+		}
+	}
+
+	/**
+	 * Subscribes a listener that is called on the publishing thread.
+	 *
+	 * @param listener the listener
+	 * @return the subscription, to cancel it
+	 */
+	public Subscription<E> subscribe(EventListener<? super E> listener) {
+		return add(new Subscription<>(this, listener, null));
+	}
+
+	/**
+	 * Subscribes a listener that is called on an executor with a copy of each event.
+	 * For example {@code Platform::runLater} runs the listener on the JavaFX thread.
+	 *
+	 * @param listener the listener
+	 * @param executor the executor running the listener
+	 * @return the subscription, to cancel it
+	 */
+	public Subscription<E> subscribe(EventListener<? super E> listener, Executor executor) {
+		if (executor == null) {
+			throw new IllegalArgumentException("Executor must not be null");
+		}
+		return add(new Subscription<>(this, listener, executor));
+	}
+
+	/**
+	 * Adds a subscription at the end of the listeners.
+	 *
+	 * @param subscription the subscription
+	 * @return the subscription
+	 */
+	private synchronized Subscription<E> add(Subscription<E> subscription) {
+		Subscription<E>[] current = subscriptions;
+		Subscription<E>[] next = Arrays.copyOf(current, current.length + 1);
+		next[current.length] = subscription;
+		subscriptions = next;
+		return subscription;
+	}
+
+	/**
+	 * Removes a subscription, if it is still subscribed.
+	 *
+	 * @param subscription the subscription
+	 */
+	private synchronized void remove(Subscription<E> subscription) {
+		Subscription<E>[] current = subscriptions;
+		for (int i = 0; i < current.length; i++) {
+			if (current[i] == subscription) {
+				Subscription<E>[] next = newArray(current.length - 1);
+				System.arraycopy(current, 0, next, 0, i);
+				System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+				subscriptions = next;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Creates an array of subscriptions.
+	 *
+	 * @param length the length of the array
+	 * @param <E>    the type of the events
+	 * @return the array
+	 */
+	@SuppressWarnings("unchecked")
+	private static <E extends GameEvent> Subscription<E>[] newArray(int length) {
+		return (Subscription<E>[]) new Subscription<?>[length];
+	}
+
+	/**
+	 * Subscription is a listener subscribed to a channel, and how it is called.
+	 *
+	 * @param <E> the type of the events
+	 */
+	public static final class Subscription<E extends GameEvent> {
+
+		/**
+		 * The channel the listener is subscribed to.
+		 */
+		private final EventChannel<E> channel;
+
+		/**
+		 * The listener.
+		 */
+		private final EventListener<? super E> listener;
+
+		/**
+		 * The executor running the listener, or null if it is called on the publishing thread.
+		 */
+		private final Executor executor;
+
+		/**
+		 * Constructor for a subscription.
+		 *
+		 * @param channel  the channel the listener is subscribed to
+		 * @param listener the listener
+		 * @param executor the executor running the listener, or null to call it on the publishing thread
+		 */
+		private Subscription(EventChannel<E> channel, EventListener<? super E> listener, Executor executor) {
+			this.channel = channel;
+			this.listener = listener;
+			this.executor = executor;
+		}
+
+		/**
+		 * Delivers an event to the listener, directly or as a copy on the executor.
+		 *
+		 * @param event the event
+		 */
+		private void deliver(E event) {
+			if (executor == null) {
+				listener.onEvent(event);
+			} else {
+				E copy = channel.type.cast(event.copy());
+				executor.execute(() -> listener.onEvent(copy));
+			}
+		}
+
+		/**
+		 * Unsubscribes the listener.
+		 * Events already handed to the executor are still delivered.
+		 */
+		public void cancel() {
+			channel.remove(this);
+		}
+	}
+}
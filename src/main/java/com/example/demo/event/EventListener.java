@@ -0,0 +1,19 @@
+package com.example.demo.event;
+
+/**
+ * EventListener is told about the events of one type published on an {@link EventBus}.
+ *
+ * @param <E> the type of the events
+ */
+@FunctionalInterface
+public interface EventListener<E extends GameEvent> {
+
+	/**
+	 * Called when an event is published.
+	 * A synchronous listener is called on the publishing thread, so one subscribed to the tick's events
+	 * runs inside the tick and should return quickly.
+	 *
+	 * @param event the event
+	 */
+	void onEvent(E event);
+}
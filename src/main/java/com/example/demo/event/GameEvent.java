@@ -0,0 +1,17 @@
+package com.example.demo.event;
+
+/**
+ * GameEvent is something that happened in the game, published on an {@link EventBus}.
+ * Events published from the tick are reused from one publication to the next, so publishing them does not allocate;
+ * a listener that keeps an event past its call, or runs later on an executor, must keep a {@link #copy()} instead.
+ */
+public interface GameEvent {
+
+	/**
+	 * Gets an event holding the same values as this one, that stays unchanged when this one is reused.
+	 * Immutable events return themselves.
+	 *
+	 * @return the copy
+	 */
+	GameEvent copy();
+}
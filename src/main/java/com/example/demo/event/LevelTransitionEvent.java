@@ -0,0 +1,59 @@
+package com.example.demo.event;
+
+import com.example.demo.level.LevelId;
+
+/**
+ * The LevelTransitionEvent class is published on the JavaFX thread when a level is left for the next one.
+ * It is immutable.
+ */
+public final class LevelTransitionEvent implements GameEvent {
+
+	/**
+	 * The level being left.
+	 */
+	private final LevelId level;
+
+	/**
+	 * The level to go to.
+	 */
+	private final LevelId nextLevel;
+
+	/**
+	 * Constructor for a transition.
+	 *
+	 * @param level     the level being left
+	 * @param nextLevel the level to go to
+	 */
+	public LevelTransitionEvent(LevelId level, LevelId nextLevel) {
+		this.level = level;
+		this.nextLevel = nextLevel;
+	}
+
+	/**
+	 * Gets the level being left.
+	 *
+	 * @return the level
+	 */
+	public LevelId getLevel() {
+		return level;
+	}
+
+	/**
+	 * Gets the level to go to.
+	 *
+	 * @return the next level
+	 */
+	public LevelId getNextLevel() {
+		return nextLevel;
+	}
+
+	/**
+	 * Returns this event, which never changes.
+	 *
+	 * @return this event
+	 */
+	@Override
+	public LevelTransitionEvent copy() {
+		return this;
+	}
+}
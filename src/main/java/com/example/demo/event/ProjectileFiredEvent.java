@@ -0,0 +1,110 @@
+package com.example.demo.event;
+
+import com.example.demo.plane.FighterPlane;
+import com.example.demo.projectile.ProjectileType;
+
+/**
+ * The ProjectileFiredEvent class is published on the simulation thread when a plane fires a projectile.
+ * The level model reuses one instance for every publication.
+ */
+public final class ProjectileFiredEvent implements GameEvent {
+
+	/**
+	 * The plane that fired.
+	 */
+	private FighterPlane shooter;
+
+	/**
+	 * The type of the projectile.
+	 */
+	private ProjectileType type;
+
+	/**
+	 * The x-coordinate the projectile was fired from.
+	 */
+	private double x;
+
+	/**
+	 * The y-coordinate the projectile was fired from.
+	 */
+	private double y;
+
+	/**
+	 * The tick the projectile was fired in.
+	 */
+	private long tick;
+
+	/**
+	 * Sets the values of the event before it is published.
+	 *
+	 * @param shooter the plane that fired
+	 * @param type    the type of the projectile
+	 * @param x       the x-coordinate the projectile was fired from
+	 * @param y       the y-coordinate the projectile was fired from
+	 * @param tick    the tick the projectile was fired in
+	 * @return this event
+	 */
+	public ProjectileFiredEvent set(FighterPlane shooter, ProjectileType type, double x, double y, long tick) {
+		this.shooter = shooter;
+		this.type = type;
+		this.x = x;
+		this.y = y;
+		this.tick = tick;
+		return this;
+	}
+
+	/**
+	 * Gets the plane that fired.
+	 *
+	 * @return the shooter
+	 */
+	public FighterPlane getShooter() {
+		return shooter;
+	}
+
+	/**
+	 * Gets the type of the projectile.
+	 *
+	 * @return the projectile type
+	 */
+	public ProjectileType getType() {
+		return type;
+	}
+
+	/**
+	 * Gets the x-coordinate the projectile was fired from.
+	 *
+	 * @return the x-coordinate
+	 */
+	public double getX() {
+		return x;
+	}
+
+	/**
+	 * Gets the y-coordinate the projectile was fired from.
+	 *
+	 * @return the y-coordinate
+	 */
+	public double getY() {
+		return y;
+	}
+
+	/**
+	 * Gets the tick the projectile was fired in.
+	 *
+	 * @return the tick count of the model before the tick
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	/**
+	 * Gets a copy that stays unchanged when this event is reused.
+	 *
+	 * @return the copy
+	 */
+	@Override
+	public ProjectileFiredEvent copy() {
+		return new ProjectileFiredEvent().set(shooter, type, x, y, tick);
+	}
+}
@@ -0,0 +1,77 @@
+package com.example.demo.event;
+
+import com.example.demo.Actor.ActiveActor;
+
+/**
+ * The ShieldChangedEvent class is published on the simulation thread when a plane's shield goes up or down.
+ * The level model reuses one instance for every publication.
+ */
+public final class ShieldChangedEvent implements GameEvent {
+
+	/**
+	 * The plane whose shield changed.
+	 */
+	private ActiveActor.ActiveActorDestructible actor;
+
+	/**
+	 * Whether the shield went up.
+	 */
+	private boolean shielded;
+
+	/**
+	 * The tick the shield changed in.
+	 */
+	private long tick;
+
+	/**
+	 * Sets the values of the event before it is published.
+	 *
+	 * @param actor    the plane whose shield changed
+	 * @param shielded true if the shield went up, false if it went down
+	 * @param tick     the tick the shield changed in
+	 * @return this event
+	 */
+	public ShieldChangedEvent set(ActiveActor.ActiveActorDestructible actor, boolean shielded, long tick) {
+		this.actor = actor;
+		this.shielded = shielded;
+		this.tick = tick;
+		return this;
+	}
+
+	/**
+	 * Gets the plane whose shield changed.
+	 *
+	 * @return the plane
+	 */
+	public ActiveActor.ActiveActorDestructible getActor() {
+		return actor;
+	}
+
+	/**
+	 * Checks whether the shield went up.
+	 *
+	 * @return true if the shield went up, false if it went down
+	 */
+	public boolean isShielded() {
+		return shielded;
+	}
+
+	/**
+	 * Gets the tick the shield changed in.
+	 *
+	 * @return the tick count of the model before the tick
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	/**
+	 * Gets a copy that stays unchanged when this event is reused.
+	 *
+	 * @return the copy
+	 */
+	@Override
+	public ShieldChangedEvent copy() {
+		return new ShieldChangedEvent().set(actor, shielded, tick);
+	}
+}
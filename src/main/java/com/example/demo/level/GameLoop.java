@@ -0,0 +1,389 @@
+package com.example.demo.level;
+
+import java.util.concurrent.locks.LockSupport;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+/**
+ * The GameLoop class drives a level with a fixed simulation step on a dedicated simulation thread,
+ * and renders it every frame on the JavaFX Application Thread.
+ * The simulation thread sleeps until the next tick is due and then ticks the game once for every whole step
+ * that has passed, up to a bounded number of catch-up ticks; each tick is expected to publish what it produced
+ * for the renderer, so the two threads share no mutable state but that handoff. A slow tick therefore delays
+ * the following ticks but never a frame, and rendering or input handling never delays a tick. The simulation
+ * thread is a platform thread of its own that never blocks on the JavaFX thread, so the operating system runs
+ * the two on separate cores whenever there are cores to spare.
+ * A tick that throws, be it an exception or an error, stops the loop, and what it threw is handed to
+ * {@link Game#fail} on the JavaFX thread, so the game never freezes silently on its last tick.
+ * The loop also measures how regular frames and ticks are, so stutter can be diagnosed.
+ */
+public class GameLoop {
+
+	/**
+	 * The default number of simulation ticks per second.
+	 */
+	public static final int DEFAULT_TICK_RATE = 60;
+
+	/**
+	 * The system property that overrides the tick rate at launch, for example {@code -Dgame.tickRate=120}.
+	 */
+	public static final String TICK_RATE_PROPERTY = "game.tickRate";
+
+	/**
+	 * The maximum number of ticks run back to back to catch up.
+	 * When the simulation is later than this, the remaining backlog is dropped instead of freezing the game to catch up.
+	 */
+	private static final int MAX_CATCH_UP_TICKS = 5;
+
+	/**
+	 * The weight of the newest sample in the moving averages used for the jitter measurements.
+	 */
+	private static final double SMOOTHING = 0.05;
+
+	/**
+	 * The number of nanoseconds in a second.
+	 */
+	private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+	/**
+	 * The game ticked and rendered by this loop.
+	 */
+	private final Game game;
+
+	/**
+	 * The number of simulation ticks per second.
+	 */
+	private final int tickRate;
+
+	/**
+	 * The length of a simulation tick, in nanoseconds.
+	 */
+	private final long tickNanos;
+
+	/**
+	 * The length of a simulation tick, in seconds.
+	 */
+	private final double tickSeconds;
+
+	/**
+	 * The timer rendering a frame on every JavaFX pulse.
+	 */
+	private final AnimationTimer frameTimer;
+
+	/**
+	 * The thread running the ticks, or null while the loop is stopped.
+	 */
+	private Thread simulationThread;
+
+	/**
+	 * Whether the loop is running; cleared by {@link #stop()} so neither thread runs the game again.
+	 */
+	private volatile boolean running;
+
+	/**
+	 * The timestamp of the previous frame, or -1 before the first frame; only used on the JavaFX thread.
+	 */
+	private long previousFrameTime;
+
+	/**
+	 * The number of ticks run so far; only written by the simulation thread.
+	 */
+	private volatile long tickCount;
+
+	/**
+	 * The number of ticks skipped because the simulation was too late to catch up; only written by the simulation thread.
+	 */
+	private volatile long droppedTickCount;
+
+	/**
+	 * The moving average of the time between frames, in nanoseconds; only used on the JavaFX thread.
+	 */
+	private double averageFrameNanos;
+
+	/**
+	 * The moving average of how far each frame interval is from the average, in nanoseconds; only used on the JavaFX thread.
+	 */
+	private double frameJitterNanos;
+
+	/**
+	 * The moving average of how late each tick ran after the time it was due, in nanoseconds;
+	 * only written by the simulation thread.
+	 */
+	private volatile double tickJitterNanos;
+
+	/**
+	 * Constructor for the GameLoop class.
+	 *
+	 * @param game     the game to tick and render
+	 * @param tickRate the number of simulation ticks per second
+	 */
+	public GameLoop(Game game, int tickRate) {
+		if (tickRate <= 0) {
+			throw new IllegalArgumentException("Tick rate must be positive: " + tickRate);
+		}
+		this.game = game;
+		this.tickRate = tickRate;
+		this.tickNanos = Math.round(NANOS_PER_SECOND / tickRate);
+		this.tickSeconds = 1.0 / tickRate;
+		this.previousFrameTime = -1;
+		this.frameTimer = new AnimationTimer() {
+			@Override
+			public void handle(long now) {
+				renderFrame();
+			}
+		};
+	}
+
+	/**
+	 * Gets the tick rate chosen at launch.
+	 *
+	 * @return the value of the tick rate system property, or the default tick rate if it is not set
+	 */
+	public static int getConfiguredTickRate() {
+		return Integer.getInteger(TICK_RATE_PROPERTY, DEFAULT_TICK_RATE);
+	}
+
+	/**
+	 * Starts the simulation thread and the frame timer.
+	 * The first tick is due one tick length after starting, so time spent stopped is never simulated.
+	 * Must be called on the JavaFX thread; everything done to the game before is visible to the simulation thread.
+	 */
+	public void start() {
+		if (running) {
+			return;
+		}
+		previousFrameTime = -1;
+		running = true;
+		simulationThread = new Thread(this::runSimulation, "simulation");
+		simulationThread.setDaemon(true);
+		simulationThread.start();
+		frameTimer.start();
+	}
+
+	/**
+	 * Stops the loop and waits for the tick in progress, if any, to finish.
+	 * Once this returns, the game is no longer ticked, and everything the simulation thread did is visible to the caller.
+	 * Must be called on the JavaFX thread.
+	 */
+	public void stop() {
+		running = false;
+		frameTimer.stop();
+		Thread thread = simulationThread;
+		if (thread == null) {
+			return;
+		}
+		simulationThread = null;
+		LockSupport.unpark(thread);
+		boolean interrupted = false;
+		while (thread.isAlive()) {
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Runs ticks on the simulation thread at the tick rate until the loop is stopped or the game ends.
+	 * Ticks that cannot be caught up within {@link #MAX_CATCH_UP_TICKS} are dropped.
+	 * If a tick throws, the loop stops and the exception is passed to the game on the JavaFX thread.
+	 */
+	private void runSimulation() {
+		long nextTickTime = System.nanoTime() + tickNanos;
+		try {
+			while (running) {
+				long now = System.nanoTime();
+				if (now < nextTickTime) {
+					LockSupport.parkNanos(this, nextTickTime - now);
+					continue;
+				}
+				for (int ticks = 0; running && now >= nextTickTime && ticks < MAX_CATCH_UP_TICKS; ticks++) {
+					recordTick(now - nextTickTime);
+					boolean playing = game.tick(tickSeconds, nextTickTime);
+					nextTickTime += tickNanos;
+					tickCount++;
+					if (!playing) {
+						return;
+					}
+					now = System.nanoTime();
+				}
+				if (now >= nextTickTime) {
+					long behind = (now - nextTickTime) / tickNanos + 1;
+					droppedTickCount += behind;
+					nextTickTime += behind * tickNanos;
+				}
+			}
+		} catch (Throwable e) {
+			// The game cannot continue, whatever was thrown; stop rendering it and let the JavaFX thread deal with it
+			running = false;
+			Platform.runLater(() -> {
+				frameTimer.stop();
+				game.fail(e);
+			});
+		}
+	}
+
+	/**
+	 * Renders the game for the current frame on the JavaFX thread.
+	 */
+	private void renderFrame() {
+		long now = System.nanoTime();
+		if (previousFrameTime >= 0) {
+			recordFrame(now - previousFrameTime);
+		}
+		previousFrameTime = now;
+		if (running) {
+			game.render(now);
+		}
+	}
+
+	/**
+	 * Computes how far a frame is between a tick and the next one, for interpolation.
+	 *
+	 * @param tickTime  the time the last published tick was due, in {@link System#nanoTime()} nanoseconds
+	 * @param frameTime the time of the frame, in {@link System#nanoTime()} nanoseconds
+	 * @return the fraction of a tick that has passed since the tick was due, from 0 to 1
+	 */
+	public double getAlpha(long tickTime, long frameTime) {
+		return Math.max(0, Math.min(1, (double) (frameTime - tickTime) / tickNanos));
+	}
+
+	/**
+	 * Updates the frame interval and frame jitter averages.
+	 *
+	 * @param frameNanos the time since the previous frame, in nanoseconds
+	 */
+	private void recordFrame(long frameNanos) {
+		if (averageFrameNanos == 0) {
+			averageFrameNanos = frameNanos;
+		}
+		frameJitterNanos += SMOOTHING * (Math.abs(frameNanos - averageFrameNanos) - frameJitterNanos);
+		averageFrameNanos += SMOOTHING * (frameNanos - averageFrameNanos);
+	}
+
+	/**
+	 * Updates the tick jitter average.
+	 *
+	 * @param latenessNanos how long after its due time the tick is running, in nanoseconds
+	 */
+	private void recordTick(long latenessNanos) {
+		tickJitterNanos += SMOOTHING * (latenessNanos - tickJitterNanos);
+	}
+
+	/**
+	 * Checks whether the loop is running.
+	 *
+	 * @return true between {@link #start()} and {@link #stop()}, false otherwise
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Gets the number of simulation ticks per second.
+	 *
+	 * @return the tick rate
+	 */
+	public int getTickRate() {
+		return tickRate;
+	}
+
+	/**
+	 * Gets the length of a simulation tick.
+	 *
+	 * @return the tick length, in seconds
+	 */
+	public double getTickSeconds() {
+		return tickSeconds;
+	}
+
+	/**
+	 * Gets the number of ticks run so far.
+	 *
+	 * @return the tick count
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Gets the number of ticks skipped because the simulation was too late to catch up.
+	 *
+	 * @return the dropped tick count
+	 */
+	public long getDroppedTickCount() {
+		return droppedTickCount;
+	}
+
+	/**
+	 * Gets the moving average of the time between frames.
+	 *
+	 * @return the average frame interval, in nanoseconds
+	 */
+	public double getAverageFrameNanos() {
+		return averageFrameNanos;
+	}
+
+	/**
+	 * Gets the moving average of how far frame intervals stray from the average frame interval.
+	 *
+	 * @return the frame jitter, in nanoseconds
+	 */
+	public double getFrameJitterNanos() {
+		return frameJitterNanos;
+	}
+
+	/**
+	 * Gets the moving average of how late ticks run after the time they were due.
+	 *
+	 * @return the tick jitter, in nanoseconds
+	 */
+	public double getTickJitterNanos() {
+		return tickJitterNanos;
+	}
+
+	/**
+	 * Game is the part of a level driven by the loop.
+	 */
+	public interface Game {
+
+		/**
+		 * Advances the game by one fixed simulation step, on the simulation thread,
+		 * and publishes the result for {@link #render(long)}.
+		 *
+		 * @param deltaSeconds the length of the step, in seconds
+		 * @param tickTime     the time the step was due, in {@link System#nanoTime()} nanoseconds
+		 * @return true to keep ticking, false if the game has ended and the simulation thread should stop
+		 */
+		boolean tick(double deltaSeconds, long tickTime);
+
+		/**
+		 * Displays the last published step, on the JavaFX thread.
+		 *
+		 * @param frameTime the time of the frame, in {@link System#nanoTime()} nanoseconds
+		 */
+		void render(long frameTime);
+
+		/**
+		 * Handles an exception or error thrown by {@link #tick}, on the JavaFX thread, once the loop has stopped.
+		 * By default it is rethrown, to the JavaFX thread's uncaught exception handler; a checked exception,
+		 * which a tick can only throw by sneaking it past the compiler, is wrapped first.
+		 *
+		 * @param error the exception or error thrown by the tick
+		 */
+		default void fail(Throwable error) {
+			if (error instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (error instanceof Error fatal) {
+				throw fatal;
+			}
+			throw new IllegalStateException("Game tick failed", error);
+		}
+	}
+}
@@ -0,0 +1,193 @@
+package com.example.demo.level;
+
+import java.util.function.Function;
+
+import com.example.demo.manager.GameRandom;
+import com.example.demo.model.LevelModel;
+
+/**
+ * The LevelId enum is the registry of the game's levels, in the order they are played.
+ * Each level knows how to build its headless model, which may happen on any thread, how to build the level itself
+ * from a {@link PreparedLevel} on the JavaFX thread, and which images it needs, so they can be decoded ahead of time.
+ */
+public enum LevelId {
+
+	/**
+	 * The first level, where the user must shoot down a number of enemy planes.
+	 */
+	LEVEL_ONE(LevelOne.class, LevelOne::createModel, LevelOne::new, true,
+			LevelOne.BACKGROUND_IMAGE_NAME),
+
+	/**
+	 * The second level, where the user fights the boss.
+	 */
+	LEVEL_TWO(LevelTwo.class, LevelTwo::createModel, LevelTwo::new, true,
+			LevelTwo.BACKGROUND_IMAGE_NAME, "/com/example/demo/images/bossplane.png",
+			"/com/example/demo/images/shield.png"),
+
+	/**
+	 * The stress level, which ramps up the number of enemies to measure how the game scales.
+	 * It is not part of the campaign and is only played when chosen at launch.
+	 */
+	STRESS(StressLevel.class, StressLevel::createModel, StressLevel::new, false,
+			StressLevel.BACKGROUND_IMAGE_NAME, "/com/example/demo/images/enemyplane.png",
+			"/com/example/demo/images/enemyFire.png");
+
+	/**
+	 * The system property choosing the level the game starts at, by name, for example {@code -Dgame.level=STRESS}.
+	 */
+	public static final String LEVEL_PROPERTY = "game.level";
+
+	/**
+	 * The class of the level.
+	 */
+	private final Class<? extends LevelParent> levelClass;
+
+	/**
+	 * Builds the level's model.
+	 */
+	private final ModelFactory modelFactory;
+
+	/**
+	 * Builds the level from its prepared model and assets.
+	 */
+	private final Function<PreparedLevel, LevelParent> levelFactory;
+
+	/**
+	 * Whether the level is part of the campaign, so that it follows the campaign level before it.
+	 */
+	private final boolean campaign;
+
+	/**
+	 * The classpath paths of the images the level shows.
+	 */
+	private final String[] imagePaths;
+
+	/**
+	 * Constructor for a level entry.
+	 *
+	 * @param levelClass   the class of the level
+	 * @param modelFactory builds the level's model
+	 * @param levelFactory builds the level from its prepared model and assets
+	 * @param campaign     whether the level is part of the campaign
+	 * @param imagePaths   the classpath paths of the images the level shows
+	 */
+	LevelId(Class<? extends LevelParent> levelClass, ModelFactory modelFactory,
+			Function<PreparedLevel, LevelParent> levelFactory, boolean campaign, String... imagePaths) {
+		this.levelClass = levelClass;
+		this.modelFactory = modelFactory;
+		this.levelFactory = levelFactory;
+		this.campaign = campaign;
+		this.imagePaths = imagePaths;
+	}
+
+	/**
+	 * Finds the level with the given class name, as stored in replays.
+	 *
+	 * @param className the fully qualified class name of the level
+	 * @return the level
+	 * @throws IllegalArgumentException if no level has that class name
+	 */
+	public static LevelId forClassName(String className) {
+		for (LevelId id : values()) {
+			if (id.levelClass.getName().equals(className)) {
+				return id;
+			}
+		}
+		throw new IllegalArgumentException("Unknown level: " + className);
+	}
+
+	/**
+	 * Gets the level the game starts at, chosen at launch.
+	 *
+	 * @return the level named by the {@value #LEVEL_PROPERTY} property, or the first level if it is not set
+	 * @throws IllegalArgumentException if no level has that name
+	 */
+	public static LevelId getConfigured() {
+		String name = System.getProperty(LEVEL_PROPERTY);
+		return name != null ? valueOf(name) : LEVEL_ONE;
+	}
+
+	/**
+	 * Gets the level played after this one.
+	 * Levels outside the campaign have no next level.
+	 *
+	 * @return the next campaign level, or null if this is the last level
+	 */
+	public LevelId getNextLevel() {
+		LevelId[] levels = values();
+		int next = ordinal() + 1;
+		return campaign && next < levels.length && levels[next].campaign ? levels[next] : null;
+	}
+
+	/**
+	 * Checks whether the level is part of the campaign.
+	 *
+	 * @return true if the level follows the campaign level before it, false if it is only played when chosen at launch
+	 */
+	public boolean isCampaign() {
+		return campaign;
+	}
+
+	/**
+	 * Gets the class of the level.
+	 *
+	 * @return the level class
+	 */
+	public Class<? extends LevelParent> getLevelClass() {
+		return levelClass;
+	}
+
+	/**
+	 * Builds the level's model.
+	 * The model is headless, so this may be called on any thread, and needs no scene to be stepped.
+	 *
+	 * @param screenHeight the height of the game screen
+	 * @param screenWidth  the width of the game screen
+	 * @param random       the source of the level's randomness
+	 * @return a new model of the level
+	 */
+	public LevelModel createModel(double screenHeight, double screenWidth, GameRandom random) {
+		return modelFactory.create(screenHeight, screenWidth, random);
+	}
+
+	/**
+	 * Builds the level from its prepared model and assets.
+	 * The level creates its scene and game loop, so this must be called on the JavaFX thread.
+	 *
+	 * @param prepared the prepared model and assets of this level
+	 * @return the level, ready to have its scene initialized
+	 */
+	public LevelParent createLevel(PreparedLevel prepared) {
+		if (prepared.getId() != this) {
+			throw new IllegalArgumentException("Level " + prepared.getId() + " was prepared, not " + this);
+		}
+		return levelFactory.apply(prepared);
+	}
+
+	/**
+	 * Gets the images the level shows.
+	 *
+	 * @return a copy of the classpath paths of the images
+	 */
+	String[] getImagePaths() {
+		return imagePaths.clone();
+	}
+
+	/**
+	 * ModelFactory builds the headless model of a level.
+	 */
+	@FunctionalInterface
+	interface ModelFactory {
+
+		/**
+		 * Builds the model.
+		 *
+		 * @param screenHeight the height of the game screen
+		 * @param screenWidth  the width of the game screen
+		 * @param random       the source of the level's randomness
+		 * @return a new model
+		 */
+		LevelModel create(double screenHeight, double screenWidth, GameRandom random);
+	}
+}
@@ -1,46 +1,23 @@
 package com.example.demo.level;
 
-import com.example.demo.Actor.ActiveActor;
-import com.example.demo.plane.EnemyPlane;
+import com.example.demo.manager.GameRandom;
+import com.example.demo.model.LevelModel;
+import com.example.demo.model.LevelOneModel;
 
 /**
  * LevelOne is a concrete implementation of the LevelParent class representing the first level of the game.
- * It sets up specific parameters and behaviors for the first level, including background image,
- * enemy spawn probability, number of enemies, kill target, and initial player health.
- * It also defines how to check if the game is over, initialize friendly units, spawn enemies,
- * and instantiate the level view.
+ * It sets up specific parameters and behaviors for the first level, including background image
+ * and initial player health, while the enemy spawning and kill target live in {@link LevelOneModel}.
+ * It also defines how to check if the game is over, initialize friendly units,
+ * and create the level model and view.
  */
 public class LevelOne extends LevelParent {
 
 	/**
 	 * The relative path of the background image for this level.
-	 * This is used to load the background image from the resources.
+	 * This is used to load the background image from the resources, and by {@link LevelId} to decode it ahead of time.
 	 */
-	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
-
-	/**
-	 * The fully qualified name of the next level.
-	 * This is used to transition the player to the next level when certain conditions are met.
-	 */
-	private static final String NEXT_LEVEL = "com.example.demo.level.LevelTwo";
-
-	/**
-	 * The total number of enemies that can be spawned in this level.
-	 * This sets the maximum number of enemies that will appear in this level.
-	 */
-	private static final int TOTAL_ENEMIES = 5;
-
-	/**
-	 * The number of kills required to advance to the next level.
-	 * The player must achieve this number of kills to move on to the next level.
-	 */
-	private static final int KILLS_TO_ADVANCE = 10;
-
-	/**
-	 * The probability of spawning an enemy.
-	 * This value (between 0 and 1) determines the likelihood of spawning an enemy.
-	 */
-	private static final double ENEMY_SPAWN_PROBABILITY = 0.20;
+	static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
 
 	/**
 	 * The initial health of the player at the start of this level.
@@ -51,51 +28,46 @@ public class LevelOne extends LevelParent {
 	/**
 	 * Constructor for LevelOne.
 	 *
-	 * @param screenHeight the height of the game screen
-	 * @param screenWidth  the width of the game screen
+	 * @param prepared the prepared model and assets of this level
 	 */
-	public LevelOne(double screenHeight, double screenWidth) {
-		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
+	public LevelOne(PreparedLevel prepared) {
+		super(BACKGROUND_IMAGE_NAME, prepared);
 	}
 
 	/**
 	 * Checks if the game is over.
-	 * If the user is destroyed, the game is lost. If the user has reached the kill target, the game advances to the next level.
+	 * If the user is destroyed, the game is lost. If the user has reached the kill target, the game advances to the next level in {@link LevelId}.
 	 */
 	@Override
 	protected void checkIfGameOver() {
 		if (userIsDestroyed()) {
 			loseGame();
 		} else if (userHasReachedKillTarget()) {
-			goToNextLevel(NEXT_LEVEL);
+			goToNextLevel();
 		}
 	}
 
 	/**
 	 * Initializes the friendly units.
-	 * In this implementation, it adds the user to the root of the scene.
+	 * In this implementation, it adds the user's view to the root of the scene.
 	 */
 	@Override
 	protected void initializeFriendlyUnits() {
-		getRoot().getChildren().add(getUser());
+		getRoot().getChildren().add(getUserView());
 	}
 
 	/**
-	 * Spawns enemy units.
-	 * It spawns enemies based on the ENEMY_SPAWN_PROBABILITY until the TOTAL_ENEMIES limit is reached.
-	 * It uses a random value and checks against the probability to decide whether to spawn an enemy.
-	 * The initial Y position of the enemy is randomly determined within the allowed range.
+	 * Creates the level model.
+	 * It creates a new LevelOneModel, which spawns the enemy planes and tracks the kill target.
+	 * The model is headless, so {@link PreparedLevel} may call this on a background thread.
+	 *
+	 * @param screenHeight the height of the game screen
+	 * @param screenWidth  the width of the game screen
+	 * @param random       the source of the level's randomness
+	 * @return a new LevelOneModel object
 	 */
-	@Override
-	protected void spawnEnemyUnits() {
-		int currentNumberOfEnemies = getCurrentNumberOfEnemies();
-		for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-			if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-				double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-				ActiveActor.ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
-				addEnemyUnit(newEnemy);
-			}
-		}
+	static LevelModel createModel(double screenHeight, double screenWidth, GameRandom random) {
+		return new LevelOneModel(screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, random);
 	}
 
 	/**
@@ -112,9 +84,9 @@ public class LevelOne extends LevelParent {
 	/**
 	 * Checks if the user has reached the kill target.
 	 *
-	 * @return true if the user's number of kills is greater than or equal to KILLS_TO_ADVANCE, false otherwise
+	 * @return true if the snapshot on screen shows the kill target reached, false otherwise
 	 */
 	private boolean userHasReachedKillTarget() {
-		return getUser().getNumberOfKills() >= KILLS_TO_ADVANCE;
+		return levelIsComplete();
 	}
 }
\ No newline at end of file
@@ -1,37 +1,56 @@
 package com.example.demo.level;
 
-import java.util.*;
-import java.util.stream.Collectors;
-
-import com.example.demo.Actor.ActiveActor;
-import com.example.demo.plane.FighterPlane;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+import com.example.demo.Image.ActorRenderer;
+import com.example.demo.Image.ActorView;
+import com.example.demo.Image.CanvasRenderer;
+import com.example.demo.Image.ProfilerOverlay;
+import com.example.demo.Image.RenderMode;
+import com.example.demo.Image.SceneGraphRenderer;
+import com.example.demo.event.EventBus;
+import com.example.demo.event.LevelTransitionEvent;
+import com.example.demo.manager.SpriteCache;
+import com.example.demo.model.FrameSnapshot;
+import com.example.demo.model.InputQueue;
+import com.example.demo.model.LevelModel;
+import com.example.demo.model.SnapshotExchange;
+import com.example.demo.model.TickInput;
 import com.example.demo.plane.UserPlane;
-import javafx.animation.*;
+import com.example.demo.profiling.TickProfiler;
+import com.example.demo.replay.Replay;
+import com.example.demo.replay.ReplayPlayer;
+import com.example.demo.replay.ReplayRecorder;
+import com.example.demo.replay.RewindBuffer;
+import com.example.demo.save.LevelSaver;
 import javafx.event.EventHandler;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Alert.AlertType;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.image.*;
 import javafx.scene.input.*;
-import javafx.util.Duration;
 
 /**
  * The LevelParent class is an abstract class that serves as a base for different levels in the game.
- * It manages game elements such as actors, projectiles, the game loop, and user input handling.
- * It also handles the game lifecycle, including initialization, updating, and transitioning between levels.
+ * It is the JavaFX side of a level: it owns the scene, the game loop and user input handling,
+ * and displays the level's {@link LevelModel}, which holds the actors and runs the game logic.
+ * The model is advanced in fixed ticks on the simulation thread of a {@link GameLoop}. After every tick the model
+ * is captured into a {@link FrameSnapshot} and handed to the JavaFX thread through a lock-free {@link SnapshotExchange},
+ * and every frame the {@link ActorRenderer} of the render mode chosen at launch draws the newest snapshot at positions
+ * interpolated across its tick; the JavaFX thread never reads the model while the game is running.
+ * Key presses are passed to the simulation thread through a lock-free {@link InputQueue}, latched, and applied
+ * at the next tick, so a session can be recorded tick by tick and replayed exactly.
+ * F5 quick-saves and F9 quick-loads the level between two ticks, through a {@link LevelSaver}, which also autosaves.
+ * The last seconds of the level are kept in a {@link RewindBuffer}: holding Backspace steps back one tick per tick,
+ * holding Enter steps forward again, and play goes on from the tick on screen once both are released.
+ * A level is built from a {@link PreparedLevel}, whose model and images may have been prepared in the background.
+ * It also handles the game lifecycle, including initialization, updating, and transitioning between levels,
+ * which it announces with a {@link LevelTransitionEvent} on the level model's {@link EventBus}.
  */
-public abstract class LevelParent extends Observable {
-
-	/**
-	 * Adjustment value for screen height.
-	 * Used to calculate the maximum Y position for enemies.
-	 */
-	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
-
-	/**
-	 * Delay in milliseconds for the game loop.
-	 * This value determines how often the game loop updates.
-	 */
-	private static final int MILLISECOND_DELAY = 50;
+public abstract class LevelParent {
 
 	/**
 	 * The height of the game screen.
@@ -45,12 +64,6 @@ public abstract class LevelParent extends Observable {
 	 */
 	private final double screenWidth;
 
-	/**
-	 * The maximum Y position for enemies.
-	 * Calculated based on the screen height and adjustment.
-	 */
-	private final double enemyMaximumYPosition;
-
 	/**
 	 * The root group for all game elements.
 	 * Holds all the visual elements of the game.
@@ -58,16 +71,59 @@ public abstract class LevelParent extends Observable {
 	private final Group root;
 
 	/**
-	 * The game timeline for the main game loop.
-	 * Controls the timing and looping of game updates.
+	 * The registry entry of this level.
+	 */
+	private final LevelId levelId;
+
+	/**
+	 * The fixed-timestep game loop.
+	 * Ticks the level model at a fixed rate and renders the views every frame.
+	 */
+	private final GameLoop gameLoop;
+
+	/**
+	 * The headless game world of this level.
+	 * Holds the actors and runs the game logic that this class displays.
+	 */
+	private final LevelModel levelModel;
+
+	/**
+	 * The view of the user's plane.
+	 * It is only visible in the scene graph render mode; the canvas renderer draws the user itself.
+	 */
+	private final ActorView userView;
+
+	/**
+	 * The renderer drawing the planes and projectiles of the snapshots.
 	 */
-	private final Timeline timeline;
+	private final ActorRenderer renderer;
 
 	/**
-	 * The user's plane.
-	 * Represents the player's plane in the game.
+	 * The exchange handing the snapshot of every tick from the simulation thread to the JavaFX thread.
+	 * It is written on the JavaFX thread until the game loop starts, and on the simulation thread after that.
 	 */
-	private final UserPlane user;
+	private final SnapshotExchange snapshots;
+
+	/**
+	 * The queue passing key events from the JavaFX thread to the simulation thread.
+	 */
+	private final InputQueue inputQueue;
+
+	/**
+	 * The snapshot on screen; only used on the JavaFX thread.
+	 */
+	private FrameSnapshot snapshot;
+
+	/**
+	 * The tick count of the last snapshot the level view and the game over check were updated from,
+	 * or -1 before the first one; only used on the JavaFX thread.
+	 */
+	private long checkedTickCount;
+
+	/**
+	 * The overlay showing the tick profiler, toggled with F3.
+	 */
+	private final ProfilerOverlay profilerOverlay;
 
 	/**
 	 * The game scene.
@@ -82,67 +138,98 @@ public abstract class LevelParent extends Observable {
 	private final ImageView background;
 
 	/**
-	 * List of friendly units.
-	 * Contains all friendly units in the game.
+	 * The view for the current level.
+	 * Manages the visual representation of the level.
 	 */
-	private final List<ActiveActor.ActiveActorDestructible> friendlyUnits;
+	private LevelView levelView;
 
 	/**
-	 * List of enemy units.
-	 * Contains all enemy units in the game.
+	 * The movement direction held down by the player, as {@link TickInput} bits; only used on the simulation thread.
+	 * The key pressed last wins, and releasing either movement key stops the plane.
 	 */
-	private final List<ActiveActor.ActiveActorDestructible> enemyUnits;
+	private int heldDirection;
 
 	/**
-	 * List of user's projectiles.
-	 * Contains all projectiles fired by the user.
+	 * Whether the fire key was pressed since the last tick; only used on the simulation thread.
 	 */
-	private final List<ActiveActor.ActiveActorDestructible> userProjectiles;
+	private boolean firePressed;
 
 	/**
-	 * List of enemy projectiles.
-	 * Contains all projectiles fired by enemies.
+	 * The player feeding a recorded session to this level, or null if the level is played live.
 	 */
-	private final List<ActiveActor.ActiveActorDestructible> enemyProjectiles;
+	private final ReplayPlayer replayPlayer;
 
 	/**
-	 * The current number of enemies in the game.
-	 * Keeps track of the number of active enemies.
+	 * The recorder of this session, or null if the session is not recorded or has been saved.
 	 */
-	private int currentNumberOfEnemies;
+	private ReplayRecorder replayRecorder;
 
 	/**
-	 * The view for the current level.
-	 * Manages the visual representation of the level.
+	 * The file the recorded session was saved to, or null if it has not been saved.
 	 */
-	private LevelView levelView;
+	private Path savedReplayPath;
+
+	/**
+	 * The reason the recorded session could not be saved, or null if saving has not failed.
+	 */
+	private IOException replaySaveFailure;
+
+	/**
+	 * The quick saves and autosaves of this level; only used on the simulation thread while the game loop runs.
+	 */
+	private final LevelSaver levelSaver;
+
+	/**
+	 * The last seconds of this level, or null if rewinding is off; only used on the simulation thread.
+	 */
+	private final RewindBuffer rewindBuffer;
+
+	/**
+	 * The direction the level is being rewound in, -1 back, 1 forward or 0 while it plays;
+	 * only used on the simulation thread.
+	 */
+	private int rewindDirection;
 
 	/**
 	 * Constructor for the LevelParent class.
+	 * The prepared level supplies the model, the replay to play if any, the seed and the tick rate;
+	 * this constructor only creates the scene, the views and the game loop, and must run on the JavaFX thread.
+	 * The model as it was prepared is published as the first snapshot, so the level can be drawn before it starts.
 	 *
 	 * @param backgroundImageName The name of the background image.
-	 * @param screenHeight       The height of the screen.
-	 * @param screenWidth        The width of the screen.
-	 * @param playerInitialHealth The initial health of the player.
+	 * @param prepared           The prepared model and assets of this level.
 	 */
-	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth) {
+	public LevelParent(String backgroundImageName, PreparedLevel prepared) {
+		double screenHeight = prepared.getScreenHeight();
+		double screenWidth = prepared.getScreenWidth();
 		this.root = new Group();
 		this.scene = new Scene(root, screenWidth, screenHeight);
-		this.timeline = new Timeline();
-		this.user = new UserPlane(playerInitialHealth);
-		this.friendlyUnits = new ArrayList<>();
-		this.enemyUnits = new ArrayList<>();
-		this.userProjectiles = new ArrayList<>();
-		this.enemyProjectiles = new ArrayList<>();
-
-		this.background = new ImageView(new Image(getClass().getResource(backgroundImageName).toExternalForm()));
+		this.levelId = prepared.getId();
+		Replay replay = prepared.getReplay();
+		int tickRate = prepared.getTickRate();
+		this.levelModel = prepared.getLevelModel();
+		this.userView = new ActorView(levelModel.getUser());
+		this.renderer = instantiateRenderer(RenderMode.getConfigured(), screenHeight, screenWidth);
+		this.snapshots = new SnapshotExchange();
+		this.inputQueue = new InputQueue();
+		this.checkedTickCount = -1;
+
+		this.background = new ImageView(SpriteCache.getImage(backgroundImageName));
 		this.screenHeight = screenHeight;
 		this.screenWidth = screenWidth;
-		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
 		this.levelView = instantiateLevelView();
-		this.currentNumberOfEnemies = 0;
-		initializeTimeline();
-		friendlyUnits.add(user);
+		this.gameLoop = initializeGameLoop(tickRate);
+		this.replayPlayer = replay != null ? new ReplayPlayer(replay) : null;
+		// A resumed save cannot be replayed from the seed, so it is not recorded
+		this.replayRecorder = replay == null && prepared.getSave() == null && ReplayRecorder.getConfiguredDirectory() != null
+				? new ReplayRecorder(getClass().getName(), prepared.getSeed(), tickRate) : null;
+		this.levelSaver = new LevelSaver(getClass().getName(), prepared.getSeed(), tickRate,
+				LevelSaver.getConfiguredDirectory(), LevelSaver.getConfiguredAutosaveSeconds());
+		// Rewinding would take a recorded or replayed session out of step with its inputs
+		this.rewindBuffer = replayPlayer == null && replayRecorder == null ? RewindBuffer.createConfigured(tickRate) : null;
+		this.profilerOverlay = new ProfilerOverlay(levelModel, levelSaver, rewindBuffer);
+		publishSnapshot(System.nanoTime());
+		this.snapshot = snapshots.acquire();
 	}
 
 	/**
@@ -157,12 +244,6 @@ public abstract class LevelParent extends Observable {
 	 */
 	protected abstract void checkIfGameOver();
 
-	/**
-	 * Abstract method to spawn enemy units.
-	 * Subclasses should implement this method to spawn enemy units.
-	 */
-	protected abstract void spawnEnemyUnits();
-
 	/**
 	 * Abstract method to instantiate the level view.
 	 * Subclasses should implement this method to create the level view.
@@ -171,332 +252,454 @@ public abstract class LevelParent extends Observable {
 
 	/**
 	 * Initializes the game scene.
-	 * Sets up the background, friendly units, and shows the heart display.
+	 * Sets up the background, friendly units and the renderer's nodes, shows the heart display
+	 * and adds the hidden profiler overlay on top.
 	 *
 	 * @return The initialized game scene.
 	 */
 	public Scene initializeScene() {
 		initializeBackground();
 		initializeFriendlyUnits();
+		renderer.addTo(root);
 		levelView.showHeartDisplay();
+		root.getChildren().add(profilerOverlay);
 		return scene;
 	}
 
 	/**
 	 * Starts the game.
-	 * Gives focus to the background and starts the timeline.
+	 * Gives focus to the background and starts the game loop.
+	 * A replayed level first jumps to the start tick chosen at launch, and the model is published as it stands
+	 * before the simulation thread takes it over.
 	 */
 	public void startGame() {
 		background.requestFocus();
-		timeline.play();
+		if (replayPlayer != null) {
+			replayPlayer.seek(levelModel, Replay.getConfiguredStartTick());
+		}
+		publishSnapshot(System.nanoTime());
+		gameLoop.start();
 	}
 
 	/**
 	 * Transitions to the next level.
-	 * Notifies observers about the next level.
-	 *
-	 * @param levelName The name of the next level.
+	 * Ends this level and publishes a {@link LevelTransitionEvent} to the level that follows it in the registry.
 	 */
-	public void goToNextLevel(String levelName) {
-		setChanged();
+	public void goToNextLevel() {
 		endGame();
-		notifyObservers(levelName);
+		levelModel.getEventBus().publish(LevelTransitionEvent.class,
+				new LevelTransitionEvent(levelId, levelId.getNextLevel()));
 	}
 
 	/**
-	 * Updates the game scene.
-	 * This method is called periodically by the game loop and updates various game elements.
-	 */
-	private void updateScene() {
-		spawnEnemyUnits();
-		updateActors();
-		generateEnemyFire();
-		updateNumberOfEnemies();
-		handleEnemyPenetration();
-		handleUserProjectileCollisions();
-		handleEnemyProjectileCollisions();
-		handlePlaneCollisions();
-		removeAllDestroyedActors();
-		updateKillCount();
-		updateLevelView();
-		checkIfGameOver();
-	}
-
-	/**
-	 * Initializes the game timeline.
-	 * Sets the cycle count and adds a key frame for the game loop.
+	 * Sets the bus this level and its model publish their events on.
+	 * Must be called before the game starts.
+	 *
+	 * @param eventBus The game's event bus.
 	 */
-	private void initializeTimeline() {
-		timeline.setCycleCount(Timeline.INDEFINITE);
-		KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
-		timeline.getKeyFrames().add(gameLoop);
+	public void setEventBus(EventBus eventBus) {
+		levelModel.setEventBus(eventBus);
 	}
 
 	/**
-	 * Initializes the background.
-	 * Sets up key event handlers for user input and adds the background to the root.
-	 */
-	private void initializeBackground() {
-		background.setFocusTraversable(true);
-		background.setFitHeight(screenHeight);
-		background.setFitWidth(screenWidth);
-		background.setOnKeyPressed(new EventHandler<KeyEvent>() {
-			public void handle(KeyEvent e) {
-				KeyCode kc = e.getCode();
-				if (kc == KeyCode.UP) user.moveUp();
-				if (kc == KeyCode.DOWN) user.moveDown();
-				if (kc == KeyCode.SPACE) fireProjectile();
+	 * Updates the game state.
+	 * This method is called by the game loop once per tick, on the simulation thread. It latches the key events
+	 * queued since the last tick, applies the tick's input, from the replay if one is playing or from the latched keys
+	 * otherwise, records it if the session is being recorded and into the rewind buffer, advances the level model
+	 * by one tick, autosaves if an autosave is due, and publishes a snapshot of the result to the JavaFX thread.
+	 * While the level is being rewound, the model is moved one tick back or forward through the rewind buffer instead.
+	 * While the profiler is enabled, the snapshot and the whole tick are timed along with the model's own phases.
+	 *
+	 * @param deltaSeconds The length of the tick, in seconds.
+	 * @param tickTime     The time the tick was due, in {@link System#nanoTime()} nanoseconds.
+	 * @return True while the game goes on, false once the user is destroyed or the level is complete.
+	 */
+	private boolean updateScene(double deltaSeconds, long tickTime) {
+		TickProfiler profiler = levelModel.getProfiler();
+		long tickStart = profiler.start();
+		latchInput();
+		if (rewindDirection != 0 && rewindBuffer != null) {
+			rewind();
+		} else {
+			int input = nextInput();
+			if (replayRecorder != null) {
+				replayRecorder.record(levelModel, input);
 			}
-		});
-		background.setOnKeyReleased(new EventHandler<KeyEvent>() {
-			public void handle(KeyEvent e) {
-				KeyCode kc = e.getCode();
-				if (kc == KeyCode.UP || kc == KeyCode.DOWN) user.stop();
+			if (rewindBuffer != null) {
+				long time = profiler.start();
+				rewindBuffer.record(levelModel, input);
+				profiler.lap(TickProfiler.Phase.REWIND, time);
 			}
-		});
-		root.getChildren().add(background);
-	}
-
-	/**
-	 * Fires a projectile from the user's plane.
-	 * Adds the projectile to the root and the userProjectiles list.
-	 */
-	private void fireProjectile() {
-		ActiveActor.ActiveActorDestructible projectile = user.fireProjectile();
-		root.getChildren().add(projectile);
-		userProjectiles.add(projectile);
-	}
-
-	/**
-	 * Generates enemy fire.
-	 * Calls the fireProjectile method on each enemy.
-	 */
-	private void generateEnemyFire() {
-		enemyUnits.forEach(enemy -> spawnEnemyProjectile(((FighterPlane) enemy).fireProjectile()));
+			levelModel.applyInput(input);
+			levelModel.step(deltaSeconds);
+			levelSaver.autosave(levelModel);
+		}
+		long time = profiler.start();
+		publishSnapshot(tickTime);
+		profiler.lap(TickProfiler.Phase.SNAPSHOT, time);
+		profiler.lap(TickProfiler.Phase.TICK, tickStart);
+		return !levelModel.isUserDestroyed() && !levelModel.isLevelComplete();
 	}
 
 	/**
-	 * Spawns an enemy projectile.
-	 * Adds the projectile to the root and the enemyProjectiles list if it is not null.
+	 * Captures the level model into the back buffer of the snapshot exchange and publishes it.
 	 *
-	 * @param projectile The projectile to spawn.
-	 */
-	private void spawnEnemyProjectile(ActiveActor.ActiveActorDestructible projectile) {
-		if (projectile!= null) {
-			root.getChildren().add(projectile);
-			enemyProjectiles.add(projectile);
+	 * @param tickTime The time the model's last tick was due, in {@link System#nanoTime()} nanoseconds.
+	 */
+	private void publishSnapshot(long tickTime) {
+		snapshots.getBackBuffer().capture(levelModel, tickTime);
+		snapshots.publish();
+	}
+
+	/**
+	 * Latches the key events queued since the last tick.
+	 * A movement key press sets the held direction, the release of a movement key clears it,
+	 * and a press of the fire key fires at the next tick. Quick saves and quick loads are done right away,
+	 * so the tick runs on the state they leave, and the rewind keys set the direction the level is rewound in.
+	 */
+	private void latchInput() {
+		for (int event = inputQueue.poll(); event >= 0; event = inputQueue.poll()) {
+			if (event == InputQueue.MOVE_RELEASED) {
+				heldDirection = TickInput.NONE;
+			} else if (event == InputQueue.QUICK_SAVE) {
+				levelSaver.quickSave(levelModel);
+			} else if (event == InputQueue.QUICK_LOAD) {
+				quickLoad();
+			} else if (event == InputQueue.REWIND_BACK) {
+				rewindDirection = -1;
+			} else if (event == InputQueue.REWIND_FORWARD) {
+				rewindDirection = 1;
+			} else if (event == InputQueue.REWIND_RELEASED) {
+				rewindDirection = 0;
+			} else if (event == TickInput.FIRE) {
+				firePressed = true;
+			} else {
+				heldDirection = event;
+			}
 		}
 	}
 
 	/**
-	 * Updates all actors in the game.
-	 * Calls the updateActor method on each actor in the friendlyUnits, enemyUnits, userProjectiles, and enemyProjectiles lists.
+	 * Moves the level model one tick in the rewind direction, and moves the next autosave along with it.
+	 * The model stays where it is once the rewind buffer has no tick further in that direction.
 	 */
-	private void updateActors() {
-		friendlyUnits.forEach(plane -> plane.updateActor());
-		enemyUnits.forEach(enemy -> enemy.updateActor());
-		userProjectiles.forEach(projectile -> projectile.updateActor());
-		enemyProjectiles.forEach(projectile -> projectile.updateActor());
+	private void rewind() {
+		boolean moved = rewindDirection < 0 ? rewindBuffer.stepBack(levelModel) : rewindBuffer.stepForward(levelModel);
+		if (moved) {
+			levelSaver.resync(levelModel);
+		}
 	}
 
 	/**
-	 * Removes all destroyed actors from the game.
-	 * Calls removeDestroyedActors for each actor list.
+	 * Restores the last quick save into the level model, if one has been made.
+	 * A recorded or replayed session cannot jump back in time, so quick loading does nothing while one is running.
+	 * A quick save that fails to restore leaves the model half restored, so the failure ends the game.
 	 */
-	private void removeAllDestroyedActors() {
-		removeDestroyedActors(friendlyUnits);
-		removeDestroyedActors(enemyUnits);
-		removeDestroyedActors(userProjectiles);
-		removeDestroyedActors(enemyProjectiles);
+	private void quickLoad() {
+		if (replayRecorder != null || replayPlayer != null) {
+			return;
+		}
+		try {
+			levelSaver.quickLoad(levelModel);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Quick save could not be restored", e);
+		}
 	}
 
 	/**
-	 * Removes destroyed actors from a given list.
-	 * Filters out destroyed actors, removes them from the root, and from the list.
+	 * Returns the input for the next tick.
+	 * While a replay has inputs left they are used; after that, the level is played live from the latched keys.
 	 *
-	 * @param actors The list of actors to process.
+	 * @return The {@link TickInput} bits of the next tick.
 	 */
-	private void removeDestroyedActors(List<ActiveActor.ActiveActorDestructible> actors) {
-		List<ActiveActor.ActiveActorDestructible> destroyedActors = actors.stream().filter(actor -> actor.isDestroyed())
-				.collect(Collectors.toList());
-		root.getChildren().removeAll(destroyedActors);
-		actors.removeAll(destroyedActors);
-	}
-
-	/**
-	 * Handles plane collisions.
-	 * Calls handleCollisions with friendlyUnits and enemyUnits.
-	 */
-	private void handlePlaneCollisions() {
-		handleCollisions(friendlyUnits, enemyUnits);
+	private int nextInput() {
+		if (replayPlayer != null && replayPlayer.hasNextInput(levelModel)) {
+			return replayPlayer.nextInput(levelModel);
+		}
+		int input = heldDirection | (firePressed ? TickInput.FIRE : TickInput.NONE);
+		firePressed = false;
+		return input;
 	}
 
 	/**
-	 * Handles collisions between user projectiles and enemy units.
-	 * Calls handleCollisions with userProjectiles and enemyUnits.
-	 */
-	private void handleUserProjectileCollisions() {
-		handleCollisions(userProjectiles, enemyUnits);
+	 * Draws the game scene.
+	 * This method is called by the game loop once per frame, on the JavaFX thread. It takes the newest snapshot;
+	 * if it is from a tick not seen before, the level view is updated from it and the game over check is run on it.
+	 * Unless that ended the game, the renderer then draws every plane and projectile of the snapshot
+	 * at its position interpolated across the snapshot's tick.
+	 * The profiler overlay is refreshed afterwards, outside the timed render phase.
+	 *
+	 * @param frameTime The time of the frame, in {@link System#nanoTime()} nanoseconds.
+	 */
+	private void renderScene(long frameTime) {
+		TickProfiler profiler = levelModel.getProfiler();
+		snapshot = snapshots.acquire();
+		if (snapshot.getTickCount() != checkedTickCount) {
+			checkedTickCount = snapshot.getTickCount();
+			long time = profiler.start();
+			updateLevelView();
+			time = profiler.lap(TickProfiler.Phase.LEVEL_VIEW, time);
+			checkIfGameOver();
+			profiler.lap(TickProfiler.Phase.GAME_OVER_CHECK, time);
+			if (!gameLoop.isRunning()) {
+				return;
+			}
+		}
+		long time = profiler.start();
+		double alpha = gameLoop.getAlpha(snapshot.getTickTime(), frameTime);
+		renderer.render(snapshot, alpha);
+		renderLevel(snapshot, alpha);
+		profiler.lap(TickProfiler.Phase.RENDER, time);
+		profilerOverlay.refresh(root, snapshot);
 	}
 
 	/**
-	 * Handles collisions between enemy projectiles and friendly units.
-	 * Calls handleCollisions with enemyProjectiles and friendlyUnits.
+	 * Draws the parts of the scene that belong to a specific level.
+	 * Subclasses can override this method to move level-specific views along with the actors.
+	 *
+	 * @param snapshot The snapshot being drawn.
+	 * @param alpha    How far the frame is between the start of the snapshot's tick and its end, from 0 to 1.
 	 */
-	private void handleEnemyProjectileCollisions() {
-		handleCollisions(enemyProjectiles, friendlyUnits);
+	protected void renderLevel(FrameSnapshot snapshot, double alpha) {
 	}
 
 	/**
-	 * Handles collisions between two sets of actors.
-	 * Causes damage to intersecting actors.
+	 * Creates the renderer of the given render mode.
+	 * In the canvas mode the user's view is hidden, since the canvas draws the user's plane with the other actors.
 	 *
-	 * @param actors1 The first set of actors.
-	 * @param actors2 The second set of actors.
-	 */
-	private void handleCollisions(List<ActiveActor.ActiveActorDestructible> actors1,
-								  List<ActiveActor.ActiveActorDestructible> actors2) {
-		for (ActiveActor.ActiveActorDestructible actor : actors2) {
-			for (ActiveActor.ActiveActorDestructible otherActor : actors1) {
-				if (actor.getBoundsInParent().intersects(otherActor.getBoundsInParent())) {
-					actor.takeDamage();
-					otherActor.takeDamage();
-				}
-			}
+	 * @param mode         The render mode.
+	 * @param screenHeight The height of the screen.
+	 * @param screenWidth  The width of the screen.
+	 * @return The renderer.
+	 */
+	private ActorRenderer instantiateRenderer(RenderMode mode, double screenHeight, double screenWidth) {
+		if (mode == RenderMode.CANVAS) {
+			userView.setVisible(false);
+			return new CanvasRenderer(screenWidth, screenHeight);
 		}
+		return new SceneGraphRenderer(root, userView);
 	}
 
 	/**
-	 * Handles enemy penetration.
-	 * Causes damage to the user if an enemy has penetrated defenses.
+	 * Initializes the game loop.
+	 * The loop calls back into this level to tick on the simulation thread and to render on the JavaFX thread,
+	 * and to report a tick that failed.
 	 *
-	 * @param
+	 * @param tickRate The number of ticks per second: the rate chosen at launch, or the rate a replay was recorded at.
+	 * @return The game loop.
 	 */
-	private void handleEnemyPenetration() {
-		for (ActiveActor.ActiveActorDestructible enemy : enemyUnits) {
-			if (enemyHasPenetratedDefenses(enemy)) {
-				user.takeDamage();
-				enemy.destroy();
+	private GameLoop initializeGameLoop(int tickRate) {
+		return new GameLoop(new GameLoop.Game() {
+			public boolean tick(double deltaSeconds, long tickTime) {
+				return updateScene(deltaSeconds, tickTime);
 			}
-		}
+
+			public void render(long frameTime) {
+				renderScene(frameTime);
+			}
+
+			public void fail(Throwable error) {
+				failGame(error);
+			}
+		}, tickRate);
 	}
 
 	/**
-	 * Updates the level view.
-	 * Updates the heart display based on the user's health.
+	 * Handles a failure on the JavaFX thread once the game loop has stopped, such as a tick that threw.
+	 * The recorded session, if any, is saved so the failure can be replayed, and an error dialog is displayed.
+	 *
+	 * @param error The exception or error the level failed with.
 	 */
-	private void updateLevelView() {
-		levelView.removeHearts(user.getHealth());
+	protected void failGame(Throwable error) {
+		saveRecording();
+		Alert alert = new Alert(AlertType.ERROR);
+		alert.setContentText(error.getClass().toString());
+		alert.show();
 	}
 
 	/**
-	 * Updates the user's kill count.
-	 * Increases the kill count based on the difference between the current and previous number of enemies.
+	 * Initializes the background.
+	 * Sets up key event handlers that queue user input, F5 quick saves, F9 quick loads and the rewind keys
+	 * for the next tick, and F3 for the profiler overlay,
+	 * and adds the background to the root.
 	 */
-	private void updateKillCount() {
-		for (int i = 0; i < currentNumberOfEnemies - enemyUnits.size(); i++) {
-			user.incrementKillCount();
-		}
+	private void initializeBackground() {
+		background.setFocusTraversable(true);
+		background.setFitHeight(screenHeight);
+		background.setFitWidth(screenWidth);
+		background.setOnKeyPressed(new EventHandler<KeyEvent>() {
+			public void handle(KeyEvent e) {
+				KeyCode kc = e.getCode();
+				if (kc == KeyCode.UP) inputQueue.offer(TickInput.MOVE_UP);
+				if (kc == KeyCode.DOWN) inputQueue.offer(TickInput.MOVE_DOWN);
+				if (kc == KeyCode.SPACE) inputQueue.offer(TickInput.FIRE);
+				if (kc == KeyCode.F5) inputQueue.offer(InputQueue.QUICK_SAVE);
+				if (kc == KeyCode.F9) inputQueue.offer(InputQueue.QUICK_LOAD);
+				if (kc == KeyCode.BACK_SPACE) inputQueue.offer(InputQueue.REWIND_BACK);
+				if (kc == KeyCode.ENTER) inputQueue.offer(InputQueue.REWIND_FORWARD);
+				if (kc == KeyCode.F3) profilerOverlay.toggle();
+			}
+		});
+		background.setOnKeyReleased(new EventHandler<KeyEvent>() {
+			public void handle(KeyEvent e) {
+				KeyCode kc = e.getCode();
+				if (kc == KeyCode.UP || kc == KeyCode.DOWN) inputQueue.offer(InputQueue.MOVE_RELEASED);
+				if (kc == KeyCode.BACK_SPACE || kc == KeyCode.ENTER) inputQueue.offer(InputQueue.REWIND_RELEASED);
+			}
+		});
+		root.getChildren().add(background);
 	}
 
 	/**
-	 * Checks if an enemy has penetrated defenses.
-	 *
-	 * @param enemy The enemy to check.
-	 * @return True if the enemy has penetrated defenses, false otherwise.
+	 * Updates the level view.
+	 * Updates the heart display based on the user's health in the snapshot on screen.
 	 */
-	private boolean enemyHasPenetratedDefenses(ActiveActor.ActiveActorDestructible enemy) {
-		return Math.abs(enemy.getTranslateX()) > screenWidth;
+	private void updateLevelView() {
+		levelView.removeHearts(snapshot.getUserHealth());
 	}
 
 	/**
 	 * Handles winning the game.
-	 * Stops the timeline and shows the win image.
+	 * Stops the game loop and shows the win image.
 	 */
 	protected void winGame() {
-		timeline.stop();
+		gameLoop.stop();
+		saveRecording();
 		levelView.showWinImage();
 	}
 
 	/**
 	 * Handles losing the game.
-	 * Stops the timeline and shows the game over image.
+	 * Stops the game loop and shows the game over image.
 	 */
 	protected void loseGame() {
-		timeline.stop();
+		gameLoop.stop();
+		saveRecording();
 		levelView.showGameOverImage();
 	}
 
 	/**
 	 * Ends the game.
-	 * Stops the timeline, clears all key frames, removes event listeners, and clears all game elements.
+	 * Stops the game loop, removes event listeners, and clears all game elements.
 	 */
 	public void endGame() {
-		// Stop the timeline (pause any ongoing animations or timed events)
-		timeline.stop();
-		// Clear all key frames from the timeline (removes any scheduled animations or events)
-		timeline.getKeyFrames().clear();
+		// Stop the game loop (no further ticks or frames are run, even later in the current frame)
+		gameLoop.stop();
+		// Write the recorded session, if any, before the level is torn down
+		saveRecording();
+		// Let the pending saves finish in the background, then stop the save writer
+		levelSaver.close();
 		// Remove the key release event listener from the background
 		// (prevents further keyboard events from being processed after game ends)
 		background.setOnKeyReleased(null);
 		// Clear all child nodes from the root container (removes all visible game objects from the screen)
 		root.getChildren().clear();
-		// Clear the collections tracking different game elements:
-		// - Friendly units (e.g., player's characters or allies)
-		friendlyUnits.clear();
-		// - Enemy projectiles (e.g., bullets fired by enemies)
-		enemyProjectiles.clear();
-		// - Enemy units (e.g., enemy characters or enemies)
-		enemyUnits.clear();
-		// - User projectiles (e.g., bullets fired by the player)
-		userProjectiles.clear();
+		// Forget the views of the actors drawn so far
+		renderer.clear();
+		// Clear the collections tracking the game elements in the model
+		// (friendly units, enemy units, both projectile lists and the recycled projectiles)
+		levelModel.clear();
 	}
 
 	/**
-	 * Returns the user's plane.
+	 * Writes the recorded session to the record directory chosen at launch,
+	 * keeping the file it was saved to, or the reason it could not be.
+	 * Does nothing if the session is not recorded or has already been saved.
+	 */
+	private void saveRecording() {
+		if (replayRecorder == null) {
+			return;
+		}
+		try {
+			savedReplayPath = replayRecorder.save(ReplayRecorder.getConfiguredDirectory());
+		} catch (IOException e) {
+			replaySaveFailure = e;
+		}
+		replayRecorder = null;
+	}
+
+	/**
+	 * Returns the file the recorded session was saved to.
 	 *
-	 * @return The user's plane.
+	 * @return The replay file, or null if the session is not recorded, has not ended yet or could not be saved.
 	 */
-	protected UserPlane getUser() {
-		return user;
+	public Path getSavedReplayPath() {
+		return savedReplayPath;
 	}
 
 	/**
-	 * Returns the root group.
+	 * Returns the reason the recorded session could not be saved.
 	 *
-	 * @return The root group.
+	 * @return The failure, or null if saving has not failed.
 	 */
-	protected Group getRoot() {
-		return root;
+	public IOException getReplaySaveFailure() {
+		return replaySaveFailure;
 	}
 
 	/**
-	 * Returns the current number of enemies.
+	 * Returns the player of the replay this level is playing.
 	 *
-	 * @return The number of active enemies.
+	 * @return The replay player, or null if the level is played live.
 	 */
-	protected int getCurrentNumberOfEnemies() {
-		return enemyUnits.size();
+	public ReplayPlayer getReplayPlayer() {
+		return replayPlayer;
 	}
 
 	/**
-	 * Adds an enemy unit.
-	 * Adds the enemy to the enemyUnits list and the root.
+	 * Returns the registry entry of this level.
 	 *
-	 * @param enemy The enemy unit to add.
+	 * @return The level's id.
 	 */
-	protected void addEnemyUnit(ActiveActor.ActiveActorDestructible enemy) {
-		enemyUnits.add(enemy);
-		root.getChildren().add(enemy);
+	public LevelId getLevelId() {
+		return levelId;
 	}
 
 	/**
-	 * Returns the maximum Y position for enemies.
+	 * Returns the level model.
+	 * While the game loop is running, the model is stepped on the simulation thread,
+	 * so the JavaFX thread must only read it through the snapshots.
 	 *
-	 * @return The maximum Y position for enemies.
+	 * @return The headless game world of this level.
 	 */
-	protected double getEnemyMaximumYPosition() {
-		return enemyMaximumYPosition;
+	public LevelModel getLevelModel() {
+		return levelModel;
+	}
+
+	/**
+	 * Returns the game loop.
+	 * Exposes the tick rate, dropped ticks and the frame and tick jitter for diagnostics.
+	 *
+	 * @return The game loop driving this level.
+	 */
+	public GameLoop getGameLoop() {
+		return gameLoop;
+	}
+
+	/**
+	 * Returns the user's plane.
+	 *
+	 * @return The user's plane.
+	 */
+	protected UserPlane getUser() {
+		return levelModel.getUser();
+	}
+
+	/**
+	 * Returns the view of the user's plane.
+	 *
+	 * @return The user's plane view.
+	 */
+	protected ActorView getUserView() {
+		return userView;
+	}
+
+	/**
+	 * Returns the root group.
+	 *
+	 * @return The root group.
+	 */
+	protected Group getRoot() {
+		return root;
 	}
 
 	/**
@@ -509,19 +712,20 @@ public abstract class LevelParent extends Observable {
 	}
 
 	/**
-	 * Checks if the user is destroyed.
+	 * Checks if the user is destroyed in the snapshot on screen.
 	 *
 	 * @return True if the user is destroyed, false otherwise.
 	 */
 	protected boolean userIsDestroyed() {
-		return user.isDestroyed();
+		return snapshot.isUserDestroyed();
 	}
 
 	/**
-	 * Updates the number of enemies.
-	 * Sets the currentNumberOfEnemies to the size of the enemyUnits list.
+	 * Checks if the level's goal has been reached in the snapshot on screen.
+	 *
+	 * @return True if the level is complete, false otherwise.
 	 */
-	private void updateNumberOfEnemies() {
-		currentNumberOfEnemies = enemyUnits.size();
+	protected boolean levelIsComplete() {
+		return snapshot.isLevelComplete();
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,129 @@
+package com.example.demo.level;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The LevelPreloader class prepares the next level on a background thread while the current one is played.
+ * When the game moves on, {@link #take(LevelId, double, double)} hands over the prepared level, waiting for the
+ * preparation to finish if it is still running. A level that was not preloaded is prepared on the calling thread
+ * instead. A preparation that failed in the background is rethrown by the take, so its error reaches the caller.
+ */
+public class LevelPreloader {
+
+	/**
+	 * The thread preparing levels. It is a daemon, so a pending preparation never keeps the game running.
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * The level being preloaded, or null if none is.
+	 */
+	private LevelId pendingId;
+
+	/**
+	 * The preparation of the level being preloaded, or null if none is.
+	 */
+	private Future<PreparedLevel> pending;
+
+	/**
+	 * Whether the level taken last had been preloaded.
+	 */
+	private boolean lastPreloaded;
+
+	/**
+	 * How long taking the last level waited for its preparation, in nanoseconds.
+	 */
+	private long lastWaitNanos;
+
+	/**
+	 * Constructor for the LevelPreloader class.
+	 */
+	public LevelPreloader() {
+		this.executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "level-preloader");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Starts preparing a level in the background.
+	 * A preloaded level that was never taken is dropped.
+	 *
+	 * @param id           the level to prepare
+	 * @param screenHeight the height of the game screen
+	 * @param screenWidth  the width of the game screen
+	 */
+	public void preload(LevelId id, double screenHeight, double screenWidth) {
+		if (pending != null) {
+			pending.cancel(false);
+		}
+		pendingId = id;
+		pending = executor.submit(() -> PreparedLevel.prepare(id, screenHeight, screenWidth));
+	}
+
+	/**
+	 * Takes a prepared level.
+	 * If the level is being preloaded, its preparation is used, waiting for it to finish if needed;
+	 * otherwise the level is prepared on the calling thread.
+	 *
+	 * @param id           the level to take
+	 * @param screenHeight the height of the game screen
+	 * @param screenWidth  the width of the game screen
+	 * @return the prepared level
+	 * @throws IllegalStateException if the background preparation failed with a checked exception; a runtime
+	 *                               exception or error it failed with is rethrown as it is
+	 */
+	public PreparedLevel take(LevelId id, double screenHeight, double screenWidth) {
+		Future<PreparedLevel> preparation = pendingId == id ? pending : null;
+		if (pending != null && preparation == null) {
+			pending.cancel(false);
+		}
+		pendingId = null;
+		pending = null;
+		lastPreloaded = false;
+		lastWaitNanos = 0;
+		if (preparation != null) {
+			long start = System.nanoTime();
+			try {
+				PreparedLevel prepared = preparation.get();
+				lastPreloaded = true;
+				lastWaitNanos = System.nanoTime() - start;
+				return prepared;
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				if (cause instanceof Error error) {
+					throw error;
+				}
+				throw new IllegalStateException("Level " + id + " could not be prepared", cause);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		return PreparedLevel.prepare(id, screenHeight, screenWidth);
+	}
+
+	/**
+	 * Checks whether the level taken last had been preloaded.
+	 *
+	 * @return true if the last level came from a background preparation, false if it was prepared when taken
+	 */
+	public boolean wasLastPreloaded() {
+		return lastPreloaded;
+	}
+
+	/**
+	 * Gets how long taking the last level waited for its background preparation to finish.
+	 *
+	 * @return the wait, in nanoseconds, or 0 if the level was not preloaded
+	 */
+	public long getLastWaitNanos() {
+		return lastWaitNanos;
+	}
+}
@@ -1,22 +1,26 @@
 package com.example.demo.level;
 
+import com.example.demo.manager.GameRandom;
+import com.example.demo.model.FrameSnapshot;
+import com.example.demo.model.LevelModel;
+import com.example.demo.model.LevelTwoModel;
 import com.example.demo.plane.Boss;
 import com.example.demo.Image.ShieldImage;
 
 /**
  * LevelTwo is a concrete implementation of the LevelParent class representing the second level of the game.
  * It sets up specific parameters and behaviors for the second level, including background image,
- * initial player health, and the introduction of a boss.
- * It also defines how to check if the game is over, initialize friendly units, spawn enemies,
- * and instantiate the level view.
+ * initial player health, and the display of the boss's shield, while the boss itself lives in {@link LevelTwoModel}.
+ * It also defines how to check if the game is over, initialize friendly units,
+ * and create the level model and view.
  */
 public class LevelTwo extends LevelParent {
 
 	/**
 	 * The relative path of the background image for this level.
-	 * This is used to load the background image from the resources.
+	 * This is used to load the background image from the resources, and by {@link LevelId} to decode it ahead of time.
 	 */
-	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
+	static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
 
 	/**
 	 * The initial health of the player at the start of this level.
@@ -38,54 +42,90 @@ public class LevelTwo extends LevelParent {
 
 	/**
 	 * The shield image associated with the boss.
-	 * Represents the shield that the boss might have.
+	 * Follows the boss and is shown while the boss's shield is active.
 	 */
-	private ShieldImage shieldImage;
+	private final ShieldImage shieldImage;
 
 	/**
 	 * Constructor for LevelTwo.
 	 *
-	 * @param screenHeight the height of the game screen
-	 * @param screenWidth  the width of the game screen
+	 * @param prepared the prepared model and assets of this level
 	 */
-	public LevelTwo(double screenHeight, double screenWidth) {
-		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
-		boss = new Boss();
-		shieldImage = boss.getShieldImage();
+	public LevelTwo(PreparedLevel prepared) {
+		super(BACKGROUND_IMAGE_NAME, prepared);
+		boss = ((LevelTwoModel) getLevelModel()).getBoss();
+		shieldImage = new ShieldImage(boss.getLayoutX(), boss.getLayoutY());
 	}
 
 	/**
 	 * Initializes the friendly units.
-	 * In this implementation, it adds the user and the shield image to the root of the scene.
+	 * In this implementation, it adds the user's view and the shield image to the root of the scene.
 	 */
 	@Override
 	protected void initializeFriendlyUnits() {
-		getRoot().getChildren().add(getUser());
+		getRoot().getChildren().add(getUserView());
 		getRoot().getChildren().add(shieldImage);
 	}
 
 	/**
 	 * Checks if the game is over.
-	 * If the user is destroyed, the game is lost. If the boss is destroyed, the game is won.
+	 * If the user is destroyed, the game is lost. If the boss is destroyed, which completes the level, the game is won.
 	 */
 	@Override
 	protected void checkIfGameOver() {
 		if (userIsDestroyed()) {
 			loseGame();
-		} else if (boss.isDestroyed()) {
+		} else if (levelIsComplete()) {
 			winGame();
 		}
 	}
 
 	/**
-	 * Spawns enemy units.
-	 * In this level, only the boss is spawned if there are no current enemies.
+	 * Draws the boss's shield.
+	 * Moves the shield image along with the boss and shows it while the boss is shielded.
+	 *
+	 * @param snapshot the snapshot being drawn
+	 * @param alpha    how far the frame is between the start of the snapshot's tick and its end, from 0 to 1
 	 */
 	@Override
-	protected void spawnEnemyUnits() {
-		if (getCurrentNumberOfEnemies() == 0) {
-			addEnemyUnit(boss);
+	protected void renderLevel(FrameSnapshot snapshot, double alpha) {
+		updateShieldImage(snapshot, alpha);
+	}
+
+	/**
+	 * Moves the shield image to the boss's interpolated position in the snapshot and shows it while the boss is shielded.
+	 * The shield is hidden once the boss is no longer in the snapshot.
+	 *
+	 * @param snapshot the snapshot being drawn
+	 * @param alpha    how far the frame is between the start of the snapshot's tick and its end, from 0 to 1
+	 */
+	private void updateShieldImage(FrameSnapshot snapshot, double alpha) {
+		int index = snapshot.indexOfPlane(boss);
+		if (index < 0) {
+			shieldImage.hideShield();
+			return;
 		}
+		shieldImage.setLayoutX(snapshot.getPlaneX(index, alpha));
+		shieldImage.setLayoutY(snapshot.getPlaneY(index, alpha));
+		if (snapshot.isPlaneShielded(index)) {
+			shieldImage.showShield();
+		} else {
+			shieldImage.hideShield();
+		}
+	}
+
+	/**
+	 * Creates the level model.
+	 * It creates a new LevelTwoModel, which holds the boss.
+	 * The model is headless, so {@link PreparedLevel} may call this on a background thread.
+	 *
+	 * @param screenHeight the height of the game screen
+	 * @param screenWidth  the width of the game screen
+	 * @param random       the source of the level's randomness
+	 * @return a new LevelTwoModel object
+	 */
+	static LevelModel createModel(double screenHeight, double screenWidth, GameRandom random) {
+		return new LevelTwoModel(screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, random);
 	}
 
 	/**
@@ -0,0 +1,231 @@
+package com.example.demo.level;
+
+import java.io.IOException;
+
+import com.example.demo.manager.GameRandom;
+import com.example.demo.manager.SpriteCache;
+import com.example.demo.model.LevelModel;
+import com.example.demo.replay.Replay;
+import com.example.demo.save.SaveState;
+
+/**
+ * The PreparedLevel class holds everything about a level that can be built off the JavaFX thread:
+ * its seeded model, the replay it plays if one was chosen at launch for it, the save it resumes if one was chosen
+ * at launch for it, its tick rate, and its decoded images,
+ * which are kept in the sprite cache. Building the level's nodes from a prepared level is then only a matter of
+ * creating views, so it can be done between two frames. A prepared level is used by exactly one level.
+ */
+public final class PreparedLevel {
+
+	/**
+	 * The prepared level.
+	 */
+	private final LevelId id;
+
+	/**
+	 * The height of the game screen.
+	 */
+	private final double screenHeight;
+
+	/**
+	 * The width of the game screen.
+	 */
+	private final double screenWidth;
+
+	/**
+	 * The replay chosen at launch for this level, or null if the level is played live.
+	 */
+	private final Replay replay;
+
+	/**
+	 * The save chosen at launch for this level, already restored into the model, or null if the level starts afresh.
+	 */
+	private final SaveState save;
+
+	/**
+	 * The reason the save chosen at launch for this level could not be restored, or null if it was or there is none.
+	 */
+	private final IOException saveFailure;
+
+	/**
+	 * The seed of the level's random source.
+	 */
+	private final long seed;
+
+	/**
+	 * The number of ticks per second the level runs at.
+	 */
+	private final int tickRate;
+
+	/**
+	 * The level's model.
+	 */
+	private final LevelModel levelModel;
+
+	/**
+	 * How long preparing the level took, in nanoseconds.
+	 */
+	private final long preparationNanos;
+
+	/**
+	 * Constructor for a prepared level.
+	 *
+	 * @param id               the prepared level
+	 * @param screenHeight     the height of the game screen
+	 * @param screenWidth      the width of the game screen
+	 * @param replay           the replay chosen at launch for this level, or null
+	 * @param save             the save restored into the model, or null
+	 * @param saveFailure      the reason the save could not be restored, or null
+	 * @param seed             the seed of the level's random source
+	 * @param tickRate         the number of ticks per second
+	 * @param levelModel       the level's model
+	 * @param preparationNanos how long preparing the level took, in nanoseconds
+	 */
+	private PreparedLevel(LevelId id, double screenHeight, double screenWidth, Replay replay, SaveState save,
+			IOException saveFailure, long seed, int tickRate, LevelModel levelModel, long preparationNanos) {
+		this.id = id;
+		this.screenHeight = screenHeight;
+		this.screenWidth = screenWidth;
+		this.replay = replay;
+		this.save = save;
+		this.saveFailure = saveFailure;
+		this.seed = seed;
+		this.tickRate = tickRate;
+		this.levelModel = levelModel;
+		this.preparationNanos = preparationNanos;
+	}
+
+	/**
+	 * Prepares a level: decodes its images and builds its model.
+	 * A replay chosen at launch is only used by the level it was recorded in; it sets the seed and tick rate.
+	 * Otherwise a save chosen at launch is resumed by the level it was taken in: it sets the seed and tick rate,
+	 * and is restored into the model. If it cannot be restored, the error is kept for {@link #getSaveFailure()}
+	 * and the level starts afresh with a new model.
+	 * Otherwise the seed and tick rate chosen at launch are used. This may be called on any thread.
+	 *
+	 * @param id           the level to prepare
+	 * @param screenHeight the height of the game screen
+	 * @param screenWidth  the width of the game screen
+	 * @return the prepared level
+	 */
+	public static PreparedLevel prepare(LevelId id, double screenHeight, double screenWidth) {
+		long start = System.nanoTime();
+		for (String imagePath : id.getImagePaths()) {
+			SpriteCache.getSprite(imagePath);
+		}
+		Replay replay = Replay.getConfigured();
+		if (replay != null && !replay.getLevelName().equals(id.getLevelClass().getName())) {
+			replay = null;
+		}
+		SaveState save = replay == null ? SaveState.getConfigured() : null;
+		if (save != null && !save.getLevelName().equals(id.getLevelClass().getName())) {
+			save = null;
+		}
+		long seed = replay != null ? replay.getSeed() : save != null ? save.getSeed() : GameRandom.getConfiguredSeed();
+		int tickRate = replay != null ? replay.getTickRate()
+				: save != null ? save.getTickRate() : GameLoop.getConfiguredTickRate();
+		LevelModel levelModel = id.createModel(screenHeight, screenWidth, new GameRandom(seed));
+		IOException saveFailure = null;
+		if (save != null) {
+			try {
+				save.restore(levelModel);
+			} catch (IOException e) {
+				saveFailure = e;
+				save = null;
+				levelModel = id.createModel(screenHeight, screenWidth, new GameRandom(seed));
+			}
+		}
+		return new PreparedLevel(id, screenHeight, screenWidth, replay, save, saveFailure, seed, tickRate, levelModel,
+				System.nanoTime() - start);
+	}
+
+	/**
+	 * Gets the prepared level.
+	 *
+	 * @return the level
+	 */
+	public LevelId getId() {
+		return id;
+	}
+
+	/**
+	 * Gets the height of the game screen.
+	 *
+	 * @return the screen height
+	 */
+	public double getScreenHeight() {
+		return screenHeight;
+	}
+
+	/**
+	 * Gets the width of the game screen.
+	 *
+	 * @return the screen width
+	 */
+	public double getScreenWidth() {
+		return screenWidth;
+	}
+
+	/**
+	 * Gets the replay the level plays.
+	 *
+	 * @return the replay chosen at launch for this level, or null if the level is played live
+	 */
+	public Replay getReplay() {
+		return replay;
+	}
+
+	/**
+	 * Gets the save the level resumes.
+	 *
+	 * @return the save chosen at launch for this level and restored into its model, or null if the level starts afresh
+	 */
+	public SaveState getSave() {
+		return save;
+	}
+
+	/**
+	 * Gets the reason the save chosen at launch for this level could not be restored.
+	 *
+	 * @return the failure, or null if the save was restored or there is none
+	 */
+	public IOException getSaveFailure() {
+		return saveFailure;
+	}
+
+	/**
+	 * Gets the seed of the level's random source.
+	 *
+	 * @return the seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Gets the number of ticks per second the level runs at.
+	 *
+	 * @return the tick rate
+	 */
+	public int getTickRate() {
+		return tickRate;
+	}
+
+	/**
+	 * Gets the level's model.
+	 *
+	 * @return the model
+	 */
+	public LevelModel getLevelModel() {
+		return levelModel;
+	}
+
+	/**
+	 * Gets how long preparing the level took.
+	 *
+	 * @return the preparation time, in nanoseconds
+	 */
+	public long getPreparationNanos() {
+		return preparationNanos;
+	}
+}
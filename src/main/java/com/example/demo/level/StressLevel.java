@@ -0,0 +1,150 @@
+package com.example.demo.level;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.demo.manager.GameRandom;
+import com.example.demo.model.LevelModel;
+import com.example.demo.model.ParallelUpdate;
+import com.example.demo.model.StressConfig;
+import com.example.demo.model.StressLevelModel;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/**
+ * StressLevel is a level for measuring how the game scales, rather than one to be played.
+ * Its {@link StressLevelModel} keeps adding enemy planes that fill the screen with fire until a tick no longer fits
+ * the frame budget; when the run ends the game loop is stopped, the measured scaling curve is written to the file
+ * chosen with {@code -Dgame.stress.out} if any, where it is shown on screen, and the level is won.
+ * The curve is built on the simulation thread, so it is only read once that thread has stopped.
+ * It is not part of the campaign; launch it with {@code -Dgame.level=STRESS}.
+ */
+public class StressLevel extends LevelParent {
+
+	/**
+	 * The relative path of the background image for this level.
+	 * This is used to load the background image from the resources, and by {@link LevelId} to decode it ahead of time.
+	 */
+	static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
+
+	/**
+	 * The position of the line reporting where the curve was saved, from the top left corner of the screen.
+	 */
+	private static final double RESULT_OFFSET = 40;
+
+	/**
+	 * The model of this level, which holds the settings and the measured curve.
+	 */
+	private final StressLevelModel stressModel;
+
+	/**
+	 * The lines describing the run, written above the curve.
+	 */
+	private final List<String> description;
+
+	/**
+	 * Constructor for StressLevel.
+	 *
+	 * @param prepared the prepared model and assets of this level
+	 */
+	public StressLevel(PreparedLevel prepared) {
+		super(BACKGROUND_IMAGE_NAME, prepared);
+		this.stressModel = (StressLevelModel) getLevelModel();
+		this.description = describeRun(prepared, stressModel);
+	}
+
+	/**
+	 * Describes what the run was measured on, so curves from different builds and machines can be told apart.
+	 *
+	 * @param prepared the prepared level
+	 * @param model    the model of the level
+	 * @return the lines describing the run
+	 */
+	private static List<String> describeRun(PreparedLevel prepared, StressLevelModel model) {
+		Runtime runtime = Runtime.getRuntime();
+		ParallelUpdate parallelUpdate = model.getParallelUpdate();
+		List<String> lines = new ArrayList<>();
+		lines.add("java=" + System.getProperty("java.version") + " vm=" + System.getProperty("java.vm.name")
+				+ " os=" + System.getProperty("os.name") + " cores=" + runtime.availableProcessors()
+				+ " maxHeapMb=" + runtime.maxMemory() / (1024 * 1024));
+		lines.add("seed=" + prepared.getSeed() + " tickRate=" + prepared.getTickRate()
+				+ " collisionMode=" + model.getCollisionMode()
+				+ " parallelThreshold=" + (parallelUpdate != null ? parallelUpdate.getThreshold() : "off"));
+		lines.add(model.getConfig().toString());
+		return lines;
+	}
+
+	/**
+	 * Initializes the friendly units.
+	 * In this implementation, it adds the user's view to the root of the scene.
+	 */
+	@Override
+	protected void initializeFriendlyUnits() {
+		getRoot().getChildren().add(getUserView());
+	}
+
+	/**
+	 * Checks if the run is over.
+	 * Once the snapshot on screen shows the run complete, stops the game loop, saves the curve and wins the game.
+	 * If the curve cannot be saved, the level fails with the error instead.
+	 */
+	@Override
+	protected void checkIfGameOver() {
+		if (levelIsComplete()) {
+			getGameLoop().stop();
+			try {
+				saveCurve();
+			} catch (IOException e) {
+				failGame(new UncheckedIOException("Scaling curve could not be saved", e));
+				return;
+			}
+			winGame();
+		}
+	}
+
+	/**
+	 * Writes the curve to the file chosen at launch, if any, and shows where it was written.
+	 *
+	 * @throws IOException if the file cannot be written
+	 */
+	private void saveCurve() throws IOException {
+		StressConfig config = stressModel.getConfig();
+		if (config.getOutput() == null) {
+			return;
+		}
+		stressModel.getCurve().write(config.getOutput(), description);
+		Text result = new Text(RESULT_OFFSET, RESULT_OFFSET,
+				"Scaling curve of " + stressModel.getCurve().getPoints().size() + " points saved to " + config.getOutput());
+		result.setFont(Font.font("Monospaced", 14));
+		result.setFill(Color.WHITE);
+		getRoot().getChildren().add(result);
+	}
+
+	/**
+	 * Creates the level model.
+	 * It creates a new StressLevelModel with the stress settings chosen at launch.
+	 * The model is headless, so {@link PreparedLevel} may call this on a background thread.
+	 *
+	 * @param screenHeight the height of the game screen
+	 * @param screenWidth  the width of the game screen
+	 * @param random       the source of the level's randomness
+	 * @return a new StressLevelModel object
+	 */
+	static LevelModel createModel(double screenHeight, double screenWidth, GameRandom random) {
+		return new StressLevelModel(screenHeight, screenWidth, random, StressConfig.getConfigured());
+	}
+
+	/**
+	 * Instantiates the level view.
+	 * The user cannot be destroyed in this level, so no hearts are shown.
+	 *
+	 * @return a new LevelView object
+	 */
+	@Override
+	protected LevelView instantiateLevelView() {
+		return new LevelView(getRoot(), 0);
+	}
+}
@@ -0,0 +1,153 @@
+package com.example.demo.manager;
+
+/**
+ * The GameRandom class is the source of all gameplay randomness of a level.
+ * It is a SplitMix64 generator, the same algorithm as {@link java.util.SplittableRandom}: each value is a mix of a
+ * 64-bit counter, so it needs no synchronisation and never contends with other levels or threads.
+ * Unlike SplittableRandom, the counter can be read and restored with {@link #getState()} and {@link #setState(long)},
+ * so a saved game or a replay can resume the exact same sequence. A level seeded with the same value
+ * makes the same random decisions, tick for tick.
+ */
+public final class GameRandom {
+
+	/**
+	 * The system property that fixes the seed at launch, for example {@code -Dgame.seed=2042}.
+	 */
+	public static final String SEED_PROPERTY = "game.seed";
+
+	/**
+	 * The increment added to the state for every value, the odd constant 2^64 divided by the golden ratio.
+	 */
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	/**
+	 * The scale that turns the top 53 bits of a value into a double between 0 and 1.
+	 */
+	private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+	/**
+	 * The seed the generator was created with.
+	 */
+	private final long seed;
+
+	/**
+	 * The counter the next value is mixed from.
+	 */
+	private long state;
+
+	/**
+	 * Constructor for the GameRandom class.
+	 *
+	 * @param seed the seed; generators with the same seed produce the same values
+	 */
+	public GameRandom(long seed) {
+		this.seed = seed;
+		this.state = seed;
+	}
+
+	/**
+	 * Gets the seed chosen at launch.
+	 *
+	 * @return the value of the seed system property, or a fresh seed from the clock if it is not set
+	 */
+	public static long getConfiguredSeed() {
+		Long configured = Long.getLong(SEED_PROPERTY);
+		return configured != null ? configured : mix(System.nanoTime() ^ System.currentTimeMillis());
+	}
+
+	/**
+	 * Returns the next random long.
+	 *
+	 * @return a value spread evenly over every long
+	 */
+	public long nextLong() {
+		state += GOLDEN_GAMMA;
+		return mix(state);
+	}
+
+	/**
+	 * Returns the next random double.
+	 *
+	 * @return a value from 0 inclusive to 1 exclusive
+	 */
+	public double nextDouble() {
+		return (nextLong() >>> 11) * DOUBLE_UNIT;
+	}
+
+	/**
+	 * Returns the next random int below a bound.
+	 *
+	 * @param bound the exclusive upper bound, which must be positive
+	 * @return a value from 0 inclusive to the bound exclusive
+	 */
+	public int nextInt(int bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("Bound must be positive: " + bound);
+		}
+		// Lemire's multiply-shift maps 32 random bits onto the range without a division
+		return (int) (((nextLong() >>> 32) * bound) >>> 32);
+	}
+
+	/**
+	 * Decides whether an event with the given probability happens.
+	 *
+	 * @param probability the chance of the event, from 0 to 1
+	 * @return true with the given probability, false otherwise
+	 */
+	public boolean chance(double probability) {
+		return nextDouble() < probability;
+	}
+
+	/**
+	 * Shuffles an array in place with the Fisher-Yates algorithm.
+	 *
+	 * @param values the array to shuffle
+	 */
+	public void shuffle(int[] values) {
+		for (int i = values.length - 1; i > 0; i--) {
+			int j = nextInt(i + 1);
+			int swapped = values[i];
+			values[i] = values[j];
+			values[j] = swapped;
+		}
+	}
+
+	/**
+	 * Gets the seed the generator was created with.
+	 *
+	 * @return the seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Gets the position of the generator in its sequence.
+	 *
+	 * @return the state, which {@link #setState(long)} accepts to resume from this point
+	 */
+	public long getState() {
+		return state;
+	}
+
+	/**
+	 * Moves the generator to a position in its sequence.
+	 *
+	 * @param state a state returned by {@link #getState()}, or a seed to restart that seed's sequence
+	 */
+	public void setState(long state) {
+		this.state = state;
+	}
+
+	/**
+	 * Scrambles a 64-bit value with the SplitMix64 finaliser.
+	 *
+	 * @param z the value to scramble
+	 * @return the scrambled value
+	 */
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
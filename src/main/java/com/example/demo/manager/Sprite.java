@@ -0,0 +1,101 @@
+package com.example.demo.manager;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * The Sprite class is a drawable sprite: an image and the rectangle of that image the sprite occupies.
+ * A packed sprite is a region of the shared atlas; a sprite missing from the atlas covers the whole of its own image.
+ * Views and canvases draw through a sprite instead of an image, so they never need to know which of the two it is.
+ */
+public final class Sprite {
+
+	/**
+	 * The image holding the sprite.
+	 */
+	private final Image image;
+
+	/**
+	 * The region of the image the sprite occupies, or null if it covers the whole image.
+	 */
+	private final Rectangle2D region;
+
+	/**
+	 * The x-coordinate of the sprite in the image.
+	 */
+	private final double sourceX;
+
+	/**
+	 * The y-coordinate of the sprite in the image.
+	 */
+	private final double sourceY;
+
+	/**
+	 * The width of the sprite in the image.
+	 */
+	private final double sourceWidth;
+
+	/**
+	 * The height of the sprite in the image.
+	 */
+	private final double sourceHeight;
+
+	/**
+	 * Constructor for a sprite.
+	 *
+	 * @param image  the image holding the sprite
+	 * @param region the region of the image the sprite occupies, or null if it covers the whole image
+	 */
+	Sprite(Image image, Rectangle2D region) {
+		this.image = image;
+		this.region = region;
+		this.sourceX = region == null ? 0 : region.getMinX();
+		this.sourceY = region == null ? 0 : region.getMinY();
+		this.sourceWidth = region == null ? image.getWidth() : region.getWidth();
+		this.sourceHeight = region == null ? image.getHeight() : region.getHeight();
+	}
+
+	/**
+	 * Makes an image view show this sprite.
+	 * The view's fit size and aspect ratio apply to the sprite's region, as they would to a standalone image.
+	 *
+	 * @param view the view
+	 */
+	public void applyTo(ImageView view) {
+		view.setImage(image);
+		view.setViewport(region);
+	}
+
+	/**
+	 * Draws this sprite onto a canvas, scaled to the given rectangle.
+	 *
+	 * @param graphics the graphics context of the canvas
+	 * @param x        the x-coordinate to draw at
+	 * @param y        the y-coordinate to draw at
+	 * @param width    the width to draw
+	 * @param height   the height to draw
+	 */
+	public void draw(GraphicsContext graphics, double x, double y, double width, double height) {
+		graphics.drawImage(image, sourceX, sourceY, sourceWidth, sourceHeight, x, y, width, height);
+	}
+
+	/**
+	 * Gets the image holding the sprite.
+	 *
+	 * @return the atlas if the sprite is packed, or the sprite's own image otherwise
+	 */
+	public Image getImage() {
+		return image;
+	}
+
+	/**
+	 * Checks whether the sprite is a region of the atlas.
+	 *
+	 * @return true if the sprite is packed, false if it covers the whole of its own image
+	 */
+	public boolean isPacked() {
+		return region != null;
+	}
+}
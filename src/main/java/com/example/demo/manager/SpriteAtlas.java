@@ -0,0 +1,106 @@
+package com.example.demo.manager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.geometry.Rectangle2D;
+
+/**
+ * The SpriteAtlas class reads the index of the sprite atlas packed at build time by
+ * {@link com.example.demo.tools.AtlasPacker}. It maps the resource path of every packed sprite to its region in the atlas.
+ * If the build did not pack an atlas, or the atlas is turned off with {@code -Dgame.atlas=false}, the index is empty
+ * and every sprite is drawn from its own image.
+ */
+public final class SpriteAtlas {
+
+	/**
+	 * The system property that turns the atlas off at launch.
+	 */
+	public static final String ATLAS_PROPERTY = "game.atlas";
+
+	/**
+	 * The classpath path of the atlas image.
+	 */
+	public static final String IMAGE_PATH = "/com/example/demo/images/atlas/sprites.png";
+
+	/**
+	 * The classpath path of the atlas index.
+	 */
+	private static final String INDEX_PATH = "/com/example/demo/images/atlas/sprites.atlas";
+
+	/**
+	 * The directory the packed sprites were read from; index names are relative to it.
+	 */
+	private static final String SPRITE_LOCATION = "/com/example/demo/images/";
+
+	/**
+	 * The regions of the packed sprites, keyed by the sprites' resource paths.
+	 */
+	private static final Map<String, Rectangle2D> REGIONS = load();
+
+	/**
+	 * Private constructor, as SpriteAtlas only exposes static methods.
+	 */
+	private SpriteAtlas() {
+	}
+
+	/**
+	 * Gets the region of a sprite in the atlas.
+	 *
+	 * @param resourcePath the absolute classpath path of the sprite's own image
+	 * @return the sprite's region in the atlas, or null if the sprite is not packed
+	 */
+	public static Rectangle2D getRegion(String resourcePath) {
+		return REGIONS.get(resourcePath);
+	}
+
+	/**
+	 * Gets the number of sprites in the atlas.
+	 *
+	 * @return the number of packed sprites, or 0 if the atlas is not used
+	 */
+	public static int getRegionCount() {
+		return REGIONS.size();
+	}
+
+	/**
+	 * Reads the atlas index.
+	 *
+	 * @return the regions of the packed sprites, or an empty map if the atlas is missing or turned off
+	 * @throws UncheckedIOException if the index exists but cannot be read
+	 */
+	private static Map<String, Rectangle2D> load() {
+		if (!Boolean.parseBoolean(System.getProperty(ATLAS_PROPERTY, "true"))) {
+			return Collections.emptyMap();
+		}
+		InputStream stream = SpriteAtlas.class.getResourceAsStream(INDEX_PATH);
+		if (stream == null || SpriteAtlas.class.getResource(IMAGE_PATH) == null) {
+			return Collections.emptyMap();
+		}
+		Map<String, Rectangle2D> regions = new HashMap<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank() || line.startsWith("#")) {
+					continue;
+				}
+				String[] fields = line.trim().split(" ");
+				if (fields.length != 5) {
+					throw new IOException("Malformed atlas index line: " + line);
+				}
+				regions.put(SPRITE_LOCATION + fields[0], new Rectangle2D(Integer.parseInt(fields[1]),
+						Integer.parseInt(fields[2]), Integer.parseInt(fields[3]), Integer.parseInt(fields[4])));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return Collections.unmodifiableMap(regions);
+	}
+}
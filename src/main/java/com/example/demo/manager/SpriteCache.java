@@ -0,0 +1,159 @@
+package com.example.demo.manager;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+
+/**
+ * The SpriteCache class is the central store for every sprite image used by the game.
+ * Each image is decoded from the classpath only once, keyed by its resource path,
+ * and the same Image instance is then shared by all actors and views that display it.
+ * Sprites packed into the atlas at build time are handed out as regions of the single atlas image,
+ * so every packed sprite shares one texture.
+ * It also records cache hits, misses and the number of bytes held by decoded images.
+ */
+public final class SpriteCache {
+
+	/**
+	 * The number of bytes used by one decoded pixel.
+	 * JavaFX keeps decoded images as 32-bit ARGB, so each pixel costs four bytes.
+	 */
+	private static final int BYTES_PER_PIXEL = 4;
+
+	/**
+	 * The decoded images, keyed by their resource path.
+	 * A concurrent map is used so images can also be warmed up outside the FX thread.
+	 */
+	private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+
+	/**
+	 * The sprites handed out so far, keyed by the resource path of their own image.
+	 */
+	private static final Map<String, Sprite> SPRITES = new ConcurrentHashMap<>();
+
+	/**
+	 * The number of lookups that were served from the cache.
+	 */
+	private static final AtomicLong HITS = new AtomicLong();
+
+	/**
+	 * The number of lookups that had to decode the image.
+	 */
+	private static final AtomicLong MISSES = new AtomicLong();
+
+	/**
+	 * The total number of bytes held by the decoded images in the cache.
+	 */
+	private static final AtomicLong DECODED_BYTES = new AtomicLong();
+
+	/**
+	 * Private constructor, as SpriteCache only exposes static methods.
+	 */
+	private SpriteCache() {
+	}
+
+	/**
+	 * Returns the image stored at the given classpath resource path.
+	 * The image is decoded on the first request and shared by every later request.
+	 *
+	 * @param resourcePath the absolute classpath path of the image, e.g. "/com/example/demo/images/heart.png"
+	 * @return the shared decoded image
+	 * @throws NullPointerException if no resource exists at the given path
+	 */
+	public static Image getImage(String resourcePath) {
+		Image image = IMAGES.get(resourcePath);
+		if (image != null) {
+			HITS.incrementAndGet();
+			return image;
+		}
+		return IMAGES.computeIfAbsent(resourcePath, SpriteCache::decode);
+	}
+
+	/**
+	 * Returns the sprite for the image stored at the given classpath resource path.
+	 * A sprite packed into the atlas is a region of the shared atlas image; any other sprite covers its own image.
+	 *
+	 * @param resourcePath the absolute classpath path of the sprite's own image
+	 * @return the shared sprite
+	 * @throws NullPointerException if the sprite is not packed and no resource exists at the given path
+	 */
+	public static Sprite getSprite(String resourcePath) {
+		Sprite sprite = SPRITES.get(resourcePath);
+		if (sprite != null) {
+			return sprite;
+		}
+		return SPRITES.computeIfAbsent(resourcePath, path -> {
+			Rectangle2D region = SpriteAtlas.getRegion(path);
+			return region == null ? new Sprite(getImage(path), null)
+					: new Sprite(getImage(SpriteAtlas.IMAGE_PATH), region);
+		});
+	}
+
+	/**
+	 * Decodes the image at the given resource path and updates the miss and byte counters.
+	 *
+	 * @param resourcePath the absolute classpath path of the image
+	 * @return the decoded image
+	 */
+	private static Image decode(String resourcePath) {
+		URL url = Objects.requireNonNull(SpriteCache.class.getResource(resourcePath),
+				"Missing sprite resource: " + resourcePath);
+		Image image = new Image(url.toExternalForm());
+		MISSES.incrementAndGet();
+		DECODED_BYTES.addAndGet((long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL);
+		return image;
+	}
+
+	/**
+	 * Gets the number of lookups served from the cache.
+	 *
+	 * @return the hit count
+	 */
+	public static long getHitCount() {
+		return HITS.get();
+	}
+
+	/**
+	 * Gets the number of lookups that had to decode an image.
+	 *
+	 * @return the miss count
+	 */
+	public static long getMissCount() {
+		return MISSES.get();
+	}
+
+	/**
+	 * Gets the number of bytes held by the decoded images in the cache.
+	 *
+	 * @return the decoded size in bytes
+	 */
+	public static long getDecodedBytes() {
+		return DECODED_BYTES.get();
+	}
+
+	/**
+	 * Gets the number of distinct images currently held by the cache.
+	 *
+	 * @return the number of cached images
+	 */
+	public static int getCachedImageCount() {
+		return IMAGES.size();
+	}
+
+	/**
+	 * Removes every image from the cache and resets all counters.
+	 * Views that still reference an image keep it alive until they are discarded.
+	 */
+	public static void clear() {
+		IMAGES.clear();
+		SPRITES.clear();
+		HITS.set(0);
+		MISSES.set(0);
+		DECODED_BYTES.set(0);
+	}
+}
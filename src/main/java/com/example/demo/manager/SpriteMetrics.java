@@ -0,0 +1,105 @@
+package com.example.demo.manager;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The SpriteMetrics class reads the natural width and height of sprite images without decoding them.
+ * Only the PNG header is parsed, so it needs no JavaFX toolkit and can be used by the headless game model
+ * to size actors exactly as an ImageView would display them.
+ */
+public final class SpriteMetrics {
+
+	/**
+	 * The eight-byte signature every PNG file starts with.
+	 */
+	private static final long PNG_SIGNATURE = 0x89504E470D0A1A0AL;
+
+	/**
+	 * The chunk type of the PNG header chunk, which holds the image size.
+	 */
+	private static final int IHDR_CHUNK_TYPE = 0x49484452;
+
+	/**
+	 * The natural sizes read so far, keyed by resource path, stored as {width, height}.
+	 */
+	private static final Map<String, int[]> SIZES = new ConcurrentHashMap<>();
+
+	/**
+	 * Private constructor, as SpriteMetrics only exposes static methods.
+	 */
+	private SpriteMetrics() {
+	}
+
+	/**
+	 * Gets the natural width of the PNG image at the given resource path.
+	 *
+	 * @param resourcePath the absolute classpath path of the image
+	 * @return the width in pixels
+	 */
+	public static int getWidth(String resourcePath) {
+		return getSize(resourcePath)[0];
+	}
+
+	/**
+	 * Gets the natural height of the PNG image at the given resource path.
+	 *
+	 * @param resourcePath the absolute classpath path of the image
+	 * @return the height in pixels
+	 */
+	public static int getHeight(String resourcePath) {
+		return getSize(resourcePath)[1];
+	}
+
+	/**
+	 * Gets the width an image has when it is scaled to the given height with its aspect ratio preserved.
+	 * This matches an ImageView using setFitHeight together with setPreserveRatio(true).
+	 *
+	 * @param resourcePath the absolute classpath path of the image
+	 * @param fitHeight    the height the image is scaled to
+	 * @return the scaled width
+	 */
+	public static double getScaledWidth(String resourcePath, double fitHeight) {
+		int[] size = getSize(resourcePath);
+		return fitHeight * size[0] / size[1];
+	}
+
+	/**
+	 * Gets the cached size of an image, reading its header on the first request.
+	 *
+	 * @param resourcePath the absolute classpath path of the image
+	 * @return the size as {width, height}
+	 */
+	private static int[] getSize(String resourcePath) {
+		return SIZES.computeIfAbsent(resourcePath, SpriteMetrics::readSize);
+	}
+
+	/**
+	 * Reads the size of a PNG image from its IHDR chunk.
+	 *
+	 * @param resourcePath the absolute classpath path of the image
+	 * @return the size as {width, height}
+	 * @throws IllegalArgumentException if the resource is not a PNG image
+	 * @throws UncheckedIOException     if the resource cannot be read
+	 */
+	private static int[] readSize(String resourcePath) {
+		InputStream stream = Objects.requireNonNull(SpriteMetrics.class.getResourceAsStream(resourcePath),
+				"Missing sprite resource: " + resourcePath);
+		try (DataInputStream input = new DataInputStream(stream)) {
+			long signature = input.readLong();
+			input.readInt();
+			int chunkType = input.readInt();
+			if (signature != PNG_SIGNATURE || chunkType != IHDR_CHUNK_TYPE) {
+				throw new IllegalArgumentException("Not a PNG image: " + resourcePath);
+			}
+			return new int[] {input.readInt(), input.readInt()};
+		} catch (IOException e) {
+			throw new UncheckedIOException("Cannot read sprite header: " + resourcePath, e);
+		}
+	}
+}
@@ -0,0 +1,393 @@
+package com.example.demo.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.example.demo.Actor.ActiveActor;
+import com.example.demo.plane.UserPlane;
+import com.example.demo.projectile.ProjectileStore;
+
+/**
+ * The FrameSnapshot class is a copy of everything needed to draw a level model between two ticks:
+ * the positions of the user and the enemies at the start and end of the tick, the projectiles,
+ * the user's health and how the level stands. The simulation thread captures the model into a snapshot after
+ * every tick, and the JavaFX thread draws from the snapshot, so drawing never reads the model while it is stepped.
+ * The planes are kept as references only to tell them apart between snapshots; their image, width and height
+ * never change, and everything that does is copied. A snapshot is reused, and its arrays only grow,
+ * so capturing a warm level does not allocate.
+ */
+public final class FrameSnapshot {
+
+	/**
+	 * The number of plane slots a new snapshot starts with.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/**
+	 * The number of ticks the model had simulated when it was captured.
+	 */
+	private long tickCount;
+
+	/**
+	 * The time the captured tick was due, in {@link System#nanoTime()} nanoseconds.
+	 * A view interpolates from the start of the tick to its end over the following tick length.
+	 */
+	private long tickTime;
+
+	/**
+	 * The user's plane.
+	 */
+	private UserPlane user;
+
+	/**
+	 * The user's x-coordinate at the end of the tick.
+	 */
+	private double userX;
+
+	/**
+	 * The user's y-coordinate at the end of the tick.
+	 */
+	private double userY;
+
+	/**
+	 * The user's x-coordinate at the start of the tick.
+	 */
+	private double userPreviousX;
+
+	/**
+	 * The user's y-coordinate at the start of the tick.
+	 */
+	private double userPreviousY;
+
+	/**
+	 * The user's health.
+	 */
+	private int userHealth;
+
+	/**
+	 * Whether the user's plane is destroyed.
+	 */
+	private boolean userDestroyed;
+
+	/**
+	 * Whether the level's goal has been reached.
+	 */
+	private boolean levelComplete;
+
+	/**
+	 * The number of enemy planes.
+	 */
+	private int planeCount;
+
+	/**
+	 * The enemy planes, in the order of the model's enemy list.
+	 */
+	private ActiveActor.ActiveActorDestructible[] planes;
+
+	/**
+	 * The x-coordinates of the enemy planes at the end of the tick.
+	 */
+	private double[] planeX;
+
+	/**
+	 * The y-coordinates of the enemy planes at the end of the tick.
+	 */
+	private double[] planeY;
+
+	/**
+	 * The x-coordinates of the enemy planes at the start of the tick.
+	 */
+	private double[] planePreviousX;
+
+	/**
+	 * The y-coordinates of the enemy planes at the start of the tick.
+	 */
+	private double[] planePreviousY;
+
+	/**
+	 * Whether each enemy plane is shielded.
+	 */
+	private boolean[] planeShielded;
+
+	/**
+	 * A copy of the user's projectiles.
+	 */
+	private final ProjectileStore userProjectiles;
+
+	/**
+	 * A copy of the enemies' projectiles.
+	 */
+	private final ProjectileStore enemyProjectiles;
+
+	/**
+	 * The number of planes the model had retired for leaving the world.
+	 */
+	private long retiredPlanes;
+
+	/**
+	 * The number of user projectiles the model had retired for leaving the world.
+	 */
+	private long retiredUserProjectiles;
+
+	/**
+	 * The number of enemy projectiles the model had retired for leaving the world.
+	 */
+	private long retiredEnemyProjectiles;
+
+	/**
+	 * Constructor for an empty snapshot.
+	 */
+	public FrameSnapshot() {
+		this.planes = new ActiveActor.ActiveActorDestructible[INITIAL_CAPACITY];
+		this.planeX = new double[INITIAL_CAPACITY];
+		this.planeY = new double[INITIAL_CAPACITY];
+		this.planePreviousX = new double[INITIAL_CAPACITY];
+		this.planePreviousY = new double[INITIAL_CAPACITY];
+		this.planeShielded = new boolean[INITIAL_CAPACITY];
+		this.userProjectiles = new ProjectileStore();
+		this.enemyProjectiles = new ProjectileStore();
+	}
+
+	/**
+	 * Copies the state of a model between two ticks into this snapshot.
+	 * Must be called on the thread that steps the model.
+	 *
+	 * @param model    the model to capture
+	 * @param tickTime the time the model's last tick was due, in {@link System#nanoTime()} nanoseconds
+	 */
+	public void capture(LevelModel model, long tickTime) {
+		this.tickCount = model.getTickCount();
+		this.tickTime = tickTime;
+		this.user = model.getUser();
+		this.userX = user.getX();
+		this.userY = user.getY();
+		this.userPreviousX = user.getPreviousX();
+		this.userPreviousY = user.getPreviousY();
+		this.userHealth = user.getHealth();
+		this.userDestroyed = model.isUserDestroyed();
+		this.levelComplete = model.isLevelComplete();
+		capturePlanes(model.getEnemyUnits());
+		userProjectiles.copyFrom(model.getUserProjectiles());
+		enemyProjectiles.copyFrom(model.getEnemyProjectiles());
+		this.retiredPlanes = model.getRetiredPlanes();
+		this.retiredUserProjectiles = model.getRetiredUserProjectiles();
+		this.retiredEnemyProjectiles = model.getRetiredEnemyProjectiles();
+	}
+
+	/**
+	 * Copies the positions of a list of planes.
+	 * Slots past the new count are cleared, so planes that left the world can be collected.
+	 *
+	 * @param enemies the planes to copy
+	 */
+	private void capturePlanes(List<ActiveActor.ActiveActorDestructible> enemies) {
+		int count = enemies.size();
+		if (count > planes.length) {
+			int capacity = Math.max(count, planes.length * 2);
+			planes = Arrays.copyOf(planes, capacity);
+			planeX = Arrays.copyOf(planeX, capacity);
+			planeY = Arrays.copyOf(planeY, capacity);
+			planePreviousX = Arrays.copyOf(planePreviousX, capacity);
+			planePreviousY = Arrays.copyOf(planePreviousY, capacity);
+			planeShielded = Arrays.copyOf(planeShielded, capacity);
+		}
+		for (int i = 0; i < count; i++) {
+			ActiveActor.ActiveActorDestructible plane = enemies.get(i);
+			planes[i] = plane;
+			planeX[i] = plane.getX();
+			planeY[i] = plane.getY();
+			planePreviousX[i] = plane.getPreviousX();
+			planePreviousY[i] = plane.getPreviousY();
+			planeShielded[i] = plane.isShielded();
+		}
+		if (planeCount > count) {
+			Arrays.fill(planes, count, planeCount, null);
+		}
+		planeCount = count;
+	}
+
+	/**
+	 * Gets the number of ticks the model had simulated when it was captured.
+	 *
+	 * @return the tick count
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Gets the time the captured tick was due.
+	 *
+	 * @return the time, in {@link System#nanoTime()} nanoseconds
+	 */
+	public long getTickTime() {
+		return tickTime;
+	}
+
+	/**
+	 * Gets the user's plane, for its image and size.
+	 *
+	 * @return the user's plane
+	 */
+	public UserPlane getUser() {
+		return user;
+	}
+
+	/**
+	 * Gets the user's x-coordinate between the start and the end of the tick.
+	 *
+	 * @param alpha how far the display time is from the start of the tick to its end, from 0 to 1
+	 * @return the interpolated x-coordinate
+	 */
+	public double getUserX(double alpha) {
+		return userPreviousX + (userX - userPreviousX) * alpha;
+	}
+
+	/**
+	 * Gets the user's y-coordinate between the start and the end of the tick.
+	 *
+	 * @param alpha how far the display time is from the start of the tick to its end, from 0 to 1
+	 * @return the interpolated y-coordinate
+	 */
+	public double getUserY(double alpha) {
+		return userPreviousY + (userY - userPreviousY) * alpha;
+	}
+
+	/**
+	 * Gets the user's health.
+	 *
+	 * @return the health
+	 */
+	public int getUserHealth() {
+		return userHealth;
+	}
+
+	/**
+	 * Checks whether the user's plane is destroyed.
+	 *
+	 * @return true if the user is destroyed, false otherwise
+	 */
+	public boolean isUserDestroyed() {
+		return userDestroyed;
+	}
+
+	/**
+	 * Checks whether the level's goal has been reached.
+	 *
+	 * @return true if the level is complete, false otherwise
+	 */
+	public boolean isLevelComplete() {
+		return levelComplete;
+	}
+
+	/**
+	 * Gets the number of enemy planes.
+	 *
+	 * @return the plane count
+	 */
+	public int getPlaneCount() {
+		return planeCount;
+	}
+
+	/**
+	 * Gets an enemy plane, for its identity, image and size.
+	 *
+	 * @param index the index of the plane, from 0 to the plane count
+	 * @return the plane
+	 */
+	public ActiveActor.ActiveActorDestructible getPlane(int index) {
+		return planes[index];
+	}
+
+	/**
+	 * Finds the index of an enemy plane.
+	 *
+	 * @param plane the plane to find
+	 * @return the index of the plane, or -1 if it is not in the snapshot
+	 */
+	public int indexOfPlane(ActiveActor plane) {
+		for (int i = 0; i < planeCount; i++) {
+			if (planes[i] == plane) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Gets the x-coordinate of an enemy plane between the start and the end of the tick.
+	 *
+	 * @param index the index of the plane
+	 * @param alpha how far the display time is from the start of the tick to its end, from 0 to 1
+	 * @return the interpolated x-coordinate
+	 */
+	public double getPlaneX(int index, double alpha) {
+		return planePreviousX[index] + (planeX[index] - planePreviousX[index]) * alpha;
+	}
+
+	/**
+	 * Gets the y-coordinate of an enemy plane between the start and the end of the tick.
+	 *
+	 * @param index the index of the plane
+	 * @param alpha how far the display time is from the start of the tick to its end, from 0 to 1
+	 * @return the interpolated y-coordinate
+	 */
+	public double getPlaneY(int index, double alpha) {
+		return planePreviousY[index] + (planeY[index] - planePreviousY[index]) * alpha;
+	}
+
+	/**
+	 * Checks whether an enemy plane is shielded.
+	 *
+	 * @param index the index of the plane
+	 * @return true if the plane is shielded, false otherwise
+	 */
+	public boolean isPlaneShielded(int index) {
+		return planeShielded[index];
+	}
+
+	/**
+	 * Gets the copy of the user's projectiles.
+	 *
+	 * @return the user's projectiles
+	 */
+	public ProjectileStore getUserProjectiles() {
+		return userProjectiles;
+	}
+
+	/**
+	 * Gets the copy of the enemies' projectiles.
+	 *
+	 * @return the enemies' projectiles
+	 */
+	public ProjectileStore getEnemyProjectiles() {
+		return enemyProjectiles;
+	}
+
+	/**
+	 * Gets the number of planes the model had retired for leaving the world.
+	 *
+	 * @return the number of retired planes
+	 */
+	public long getRetiredPlanes() {
+		return retiredPlanes;
+	}
+
+	/**
+	 * Gets the number of user projectiles the model had retired for leaving the world.
+	 *
+	 * @return the number of retired user projectiles
+	 */
+	public long getRetiredUserProjectiles() {
+		return retiredUserProjectiles;
+	}
+
+	/**
+	 * Gets the number of enemy projectiles the model had retired for leaving the world.
+	 *
+	 * @return the number of retired enemy projectiles
+	 */
+	public long getRetiredEnemyProjectiles() {
+		return retiredEnemyProjectiles;
+	}
+}
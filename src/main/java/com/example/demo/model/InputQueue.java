@@ -0,0 +1,108 @@
+package com.example.demo.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The InputQueue class passes key events from the JavaFX thread to the simulation thread without locks.
+ * It is a bounded ring of int events with one producer and one consumer: the producer only advances the tail
+ * and the consumer only advances the head, each with a single release write, so neither ever waits.
+ * Events are {@link TickInput} bits for pressed keys, {@link #MOVE_RELEASED} when a movement key is released,
+ * {@link #QUICK_SAVE} and {@link #QUICK_LOAD}, which are handled between ticks like the keys,
+ * or the rewind events {@link #REWIND_BACK}, {@link #REWIND_FORWARD} and {@link #REWIND_RELEASED}.
+ * There must be exactly one producing thread and one consuming thread.
+ */
+public final class InputQueue {
+
+	/**
+	 * The event sent when a movement key is released; it is not a {@link TickInput} bit.
+	 */
+	public static final int MOVE_RELEASED = 1 << 8;
+
+	/**
+	 * The event sent when the quick save key is pressed.
+	 */
+	public static final int QUICK_SAVE = 1 << 9;
+
+	/**
+	 * The event sent when the quick load key is pressed.
+	 */
+	public static final int QUICK_LOAD = 1 << 10;
+
+	/**
+	 * The event sent when the rewind key is pressed; the level steps back one tick per tick until it is released.
+	 */
+	public static final int REWIND_BACK = 1 << 11;
+
+	/**
+	 * The event sent when the forward key is pressed; the level steps forward through the ticks it was rewound over.
+	 */
+	public static final int REWIND_FORWARD = 1 << 12;
+
+	/**
+	 * The event sent when the rewind or forward key is released.
+	 */
+	public static final int REWIND_RELEASED = 1 << 13;
+
+	/**
+	 * The number of events the queue holds, a power of two.
+	 * Far more key events than a player can make between two ticks.
+	 */
+	private static final int CAPACITY = 256;
+
+	/**
+	 * The events, indexed by sequence number modulo the capacity.
+	 */
+	private final int[] events;
+
+	/**
+	 * The sequence number of the next event to take; only advanced by the consumer.
+	 */
+	private final AtomicLong head;
+
+	/**
+	 * The sequence number of the next event to add; only advanced by the producer.
+	 */
+	private final AtomicLong tail;
+
+	/**
+	 * Constructor for an empty queue.
+	 */
+	public InputQueue() {
+		this.events = new int[CAPACITY];
+		this.head = new AtomicLong();
+		this.tail = new AtomicLong();
+	}
+
+	/**
+	 * Adds an event to the queue.
+	 * Called by the producer only.
+	 *
+	 * @param event the event
+	 * @return true if the event was added, false if the queue is full and the event was dropped
+	 */
+	public boolean offer(int event) {
+		long sequence = tail.get();
+		if (sequence - head.getAcquire() == CAPACITY) {
+			return false;
+		}
+		events[(int) (sequence & (CAPACITY - 1))] = event;
+		tail.setRelease(sequence + 1);
+		return true;
+	}
+
+	/**
+	 * Takes the oldest event from the queue.
+	 * Called by the consumer only.
+	 *
+	 * @return the event, or -1 if the queue is empty
+	 */
+	public int poll() {
+		long sequence = head.get();
+		if (sequence == tail.getAcquire()) {
+			return -1;
+		}
+		int event = events[(int) (sequence & (CAPACITY - 1))];
+		head.setRelease(sequence + 1);
+		return event;
+	}
+}
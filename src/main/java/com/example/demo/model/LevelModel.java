@@ -0,0 +1,1331 @@
+package com.example.demo.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.demo.Actor.ActiveActor;
+import com.example.demo.collision.CollisionMask;
+import com.example.demo.collision.CollisionMode;
+import com.example.demo.collision.Hitbox;
+import com.example.demo.collision.SpatialHashGrid;
+import com.example.demo.event.ActorDestroyedEvent;
+import com.example.demo.event.DamageTakenEvent;
+import com.example.demo.event.EventBus;
+import com.example.demo.event.EventChannel;
+import com.example.demo.event.ProjectileFiredEvent;
+import com.example.demo.event.ShieldChangedEvent;
+import com.example.demo.manager.GameRandom;
+import com.example.demo.plane.EnemyPlane;
+import com.example.demo.plane.FighterPlane;
+import com.example.demo.plane.UserPlane;
+import com.example.demo.profiling.TickProfiler;
+import com.example.demo.profiling.TickProfiler.Phase;
+import com.example.demo.projectile.ProjectileStore;
+import com.example.demo.projectile.ProjectileType;
+
+/**
+ * The LevelModel class is the headless game world of a level.
+ * It owns the user's plane, the friendly and enemy units and both projectile stores, and advances them
+ * with {@link #step(double)}, which mirrors the game loop of a level without touching JavaFX.
+ * A view can follow the model through a {@link Listener}, which is told when planes enter or leave the world,
+ * and draws the projectiles straight from the stores.
+ * Planes destroyed, damage taken, shields going up or down and projectiles fired are published on the model's
+ * {@link EventBus} as they happen in the tick; an event nobody listens to is not even built.
+ * Subclasses define how enemies are spawned and when the level is complete.
+ * With a {@link ParallelUpdate}, large actor lists are updated and searched for collisions on several threads,
+ * with the same result as the sequential path.
+ * The individual tick phases are package-private so the benchmarks in this package can measure them one at a time.
+ */
+public abstract class LevelModel {
+
+	/**
+	 * Adjustment value for screen height.
+	 * Used to calculate the maximum Y position for enemies.
+	 */
+	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
+
+	/**
+	 * The width and height of a collision grid cell, in pixels.
+	 * Roughly the size of a plane, so most actors only touch a few cells.
+	 */
+	private static final double COLLISION_CELL_SIZE = 128;
+
+	/**
+	 * The height of the game screen.
+	 */
+	private final double screenHeight;
+
+	/**
+	 * The width of the game screen.
+	 */
+	private final double screenWidth;
+
+	/**
+	 * The maximum Y position for enemies.
+	 * Calculated based on the screen height and adjustment.
+	 */
+	private final double enemyMaximumYPosition;
+
+	/**
+	 * The user's plane.
+	 */
+	private final UserPlane user;
+
+	/**
+	 * List of friendly units.
+	 */
+	private final List<ActiveActor.ActiveActorDestructible> friendlyUnits;
+
+	/**
+	 * List of enemy units.
+	 */
+	private final List<ActiveActor.ActiveActorDestructible> enemyUnits;
+
+	/**
+	 * The user's projectiles.
+	 */
+	private final ProjectileStore userProjectiles;
+
+	/**
+	 * The projectiles fired by enemies and the boss.
+	 */
+	private final ProjectileStore enemyProjectiles;
+
+	/**
+	 * The collision grid holding the user's projectiles.
+	 * Rebuilt once per tick when the spatial hash collision mode is selected.
+	 */
+	private final SpatialHashGrid userProjectileGrid;
+
+	/**
+	 * The collision grid holding the enemy projectiles.
+	 * Rebuilt once per tick when the spatial hash collision mode is selected.
+	 */
+	private final SpatialHashGrid enemyProjectileGrid;
+
+	/**
+	 * The collision grid holding the friendly units.
+	 * Rebuilt once per tick when the spatial hash collision mode is selected.
+	 */
+	private final SpatialHashGrid friendlyUnitGrid;
+
+	/**
+	 * The way collisions are detected.
+	 * Can be switched between the brute-force and spatial hash paths to compare their results.
+	 */
+	private CollisionMode collisionMode;
+
+	/**
+	 * Whether pairs whose hitboxes overlap must also share a solid pixel to collide.
+	 * Can be switched off to compare against the hitbox shapes alone.
+	 */
+	private boolean pixelCollisions;
+
+	/**
+	 * Confirms hits between planes and the user projectiles in their grid.
+	 */
+	private final NarrowPhase userProjectileNarrowPhase;
+
+	/**
+	 * Confirms hits between planes and the enemy projectiles in their grid.
+	 */
+	private final NarrowPhase enemyProjectileNarrowPhase;
+
+	/**
+	 * Confirms hits between planes and the friendly units in their grid.
+	 */
+	private final NarrowPhase friendlyUnitNarrowPhase;
+
+	/**
+	 * The area actors must stay in; actors that leave it are retired.
+	 */
+	private final WorldBounds worldBounds;
+
+	/**
+	 * The number of planes retired for leaving the world.
+	 */
+	private long retiredPlanes;
+
+	/**
+	 * The number of user projectiles retired for leaving the world.
+	 */
+	private long retiredUserProjectiles;
+
+	/**
+	 * The number of enemy projectiles retired for leaving the world.
+	 */
+	private long retiredEnemyProjectiles;
+
+	/**
+	 * The number of enemies at the start of the current tick's kill count.
+	 */
+	private int currentNumberOfEnemies;
+
+	/**
+	 * The number of ticks simulated so far.
+	 */
+	private long tickCount;
+
+	/**
+	 * The length of the tick being simulated, in seconds.
+	 * Holds the length of the last tick between ticks.
+	 */
+	private double tickSeconds;
+
+	/**
+	 * The source of every random decision in this world.
+	 * Two worlds created with the same seed and given the same input play out identically.
+	 */
+	private final GameRandom random;
+
+	/**
+	 * The profiler timing each phase of a tick.
+	 * It is disabled until the profiler overlay is shown, and then costs one branch per phase.
+	 */
+	private final TickProfiler profiler;
+
+	/**
+	 * The parallel path for large actor lists, or null if the world is always updated on the calling thread.
+	 */
+	private ParallelUpdate parallelUpdate;
+
+	/**
+	 * The listener told about actors entering and leaving the world, or null if there is none.
+	 */
+	private Listener listener;
+
+	/**
+	 * The bus the tick's events are published on.
+	 */
+	private EventBus eventBus;
+
+	/**
+	 * The channel of {@link ActorDestroyedEvent}s on the event bus.
+	 */
+	private EventChannel<ActorDestroyedEvent> actorDestroyedChannel;
+
+	/**
+	 * The channel of {@link DamageTakenEvent}s on the event bus.
+	 */
+	private EventChannel<DamageTakenEvent> damageTakenChannel;
+
+	/**
+	 * The channel of {@link ShieldChangedEvent}s on the event bus.
+	 */
+	private EventChannel<ShieldChangedEvent> shieldChangedChannel;
+
+	/**
+	 * The channel of {@link ProjectileFiredEvent}s on the event bus.
+	 */
+	private EventChannel<ProjectileFiredEvent> projectileFiredChannel;
+
+	/**
+	 * The event reused for every plane destroyed.
+	 */
+	private final ActorDestroyedEvent actorDestroyedEvent;
+
+	/**
+	 * The event reused for every damage taken.
+	 */
+	private final DamageTakenEvent damageTakenEvent;
+
+	/**
+	 * The event reused for every shield change.
+	 */
+	private final ShieldChangedEvent shieldChangedEvent;
+
+	/**
+	 * The event reused for every projectile fired.
+	 */
+	private final ProjectileFiredEvent projectileFiredEvent;
+
+	/**
+	 * Constructor for the LevelModel class.
+	 *
+	 * @param screenHeight        The height of the screen.
+	 * @param screenWidth         The width of the screen.
+	 * @param playerInitialHealth The initial health of the player.
+	 * @param random              The source of every random decision in this world.
+	 */
+	protected LevelModel(double screenHeight, double screenWidth, int playerInitialHealth, GameRandom random) {
+		this.screenHeight = screenHeight;
+		this.screenWidth = screenWidth;
+		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
+		this.user = new UserPlane(playerInitialHealth);
+		this.friendlyUnits = new ArrayList<>();
+		this.enemyUnits = new ArrayList<>();
+		this.userProjectiles = new ProjectileStore();
+		this.enemyProjectiles = new ProjectileStore();
+		this.userProjectileGrid = new SpatialHashGrid(screenWidth, screenHeight, COLLISION_CELL_SIZE);
+		this.enemyProjectileGrid = new SpatialHashGrid(screenWidth, screenHeight, COLLISION_CELL_SIZE);
+		this.friendlyUnitGrid = new SpatialHashGrid(screenWidth, screenHeight, COLLISION_CELL_SIZE);
+		this.collisionMode = CollisionMode.SPATIAL_HASH;
+		this.pixelCollisions = true;
+		this.userProjectileNarrowPhase = (plane, index) -> hitsOverlap(plane, userProjectiles, index);
+		this.enemyProjectileNarrowPhase = (plane, index) -> hitsOverlap(plane, enemyProjectiles, index);
+		this.friendlyUnitNarrowPhase = (plane, index) -> hitsOverlap(plane, friendlyUnits.get(index));
+		this.worldBounds = WorldBounds.getConfigured(screenWidth, screenHeight);
+		this.currentNumberOfEnemies = 0;
+		this.random = random;
+		this.profiler = new TickProfiler();
+		this.parallelUpdate = ParallelUpdate.getConfigured();
+		this.actorDestroyedEvent = new ActorDestroyedEvent();
+		this.damageTakenEvent = new DamageTakenEvent();
+		this.shieldChangedEvent = new ShieldChangedEvent();
+		this.projectileFiredEvent = new ProjectileFiredEvent();
+		useEventBus(new EventBus());
+		this.user.setProjectileStore(userProjectiles);
+		this.friendlyUnits.add(user);
+	}
+
+	/**
+	 * Abstract method to spawn enemy units.
+	 * Subclasses should implement this method to spawn enemy units with {@link #addEnemyUnit}.
+	 * Random spawns should draw from {@link #getRandom()} and scale their chance with {@link #getTickSeconds()}.
+	 */
+	protected abstract void spawnEnemyUnits();
+
+	/**
+	 * Abstract method to check if the level's goal has been reached.
+	 * For example, a kill target has been met or the boss has been destroyed.
+	 *
+	 * @return True if the level is complete, false otherwise.
+	 */
+	public abstract boolean isLevelComplete();
+
+	/**
+	 * Advances the world by one tick.
+	 * Remembers every actor's position for interpolation, spawns enemies, moves every actor, fires enemy projectiles,
+	 * retires actors that left the world, resolves collisions, removes destroyed actors and updates the kill count.
+	 * Each phase is timed by the level's {@link TickProfiler} while it is enabled.
+	 *
+	 * @param deltaSeconds The length of the tick, in seconds.
+	 */
+	public void step(double deltaSeconds) {
+		tickSeconds = deltaSeconds;
+		long time = profiler.start();
+		savePreviousPositions();
+		time = profiler.lap(Phase.SAVE_POSITIONS, time);
+		spawnEnemyUnits();
+		time = profiler.lap(Phase.SPAWN_ENEMIES, time);
+		updateActors(deltaSeconds);
+		time = profiler.lap(Phase.UPDATE_ACTORS, time);
+		generateEnemyFire(deltaSeconds);
+		time = profiler.lap(Phase.ENEMY_FIRE, time);
+		updateNumberOfEnemies();
+		time = profiler.lap(Phase.COUNT_ENEMIES, time);
+		retireOffscreenActors();
+		time = profiler.lap(Phase.WORLD_BOUNDS, time);
+		rebuildCollisionGrids();
+		time = profiler.lap(Phase.COLLISION_GRIDS, time);
+		handleUserProjectileCollisions();
+		time = profiler.lap(Phase.USER_PROJECTILE_COLLISIONS, time);
+		handleEnemyProjectileCollisions();
+		time = profiler.lap(Phase.ENEMY_PROJECTILE_COLLISIONS, time);
+		handlePlaneCollisions();
+		time = profiler.lap(Phase.PLANE_COLLISIONS, time);
+		removeAllDestroyedActors();
+		time = profiler.lap(Phase.REMOVE_DESTROYED, time);
+		updateKillCount();
+		profiler.lap(Phase.KILL_COUNT, time);
+		tickCount++;
+	}
+
+	/**
+	 * Fires a projectile from the user's plane.
+	 * The user's plane adds the projectile to the user's projectile store.
+	 */
+	public void fireProjectile() {
+		if (user.fireProjectile(tickSeconds)) {
+			publishProjectileFired(user, userProjectiles);
+		}
+	}
+
+	/**
+	 * Applies the player's input for the next tick.
+	 * Called once before every {@link #step(double)}, so the user moves and fires at tick boundaries only.
+	 *
+	 * @param input The {@link TickInput} bits of the tick.
+	 */
+	public void applyInput(int input) {
+		if ((input & TickInput.MOVE_UP) != 0) {
+			user.moveUp();
+		} else if ((input & TickInput.MOVE_DOWN) != 0) {
+			user.moveDown();
+		} else {
+			user.stop();
+		}
+		if ((input & TickInput.FIRE) != 0) {
+			fireProjectile();
+		}
+	}
+
+	/**
+	 * Generates enemy fire.
+	 * Calls the fireProjectile method on each enemy, which adds any projectile to the enemy projectile store.
+	 *
+	 * @param deltaSeconds The length of the tick, in seconds.
+	 */
+	void generateEnemyFire(double deltaSeconds) {
+		for (int i = 0, size = enemyUnits.size(); i < size; i++) {
+			FighterPlane enemy = (FighterPlane) enemyUnits.get(i);
+			if (enemy.fireProjectile(deltaSeconds)) {
+				publishProjectileFired(enemy, enemyProjectiles);
+			}
+		}
+	}
+
+	/**
+	 * Publishes the projectile a plane just fired, if anyone listens.
+	 *
+	 * @param shooter     The plane that fired.
+	 * @param projectiles The store the projectile was added to, last.
+	 */
+	private void publishProjectileFired(FighterPlane shooter, ProjectileStore projectiles) {
+		if (projectileFiredChannel.hasListeners()) {
+			int index = projectiles.getCount() - 1;
+			projectileFiredChannel.publish(projectileFiredEvent.set(shooter, projectiles.getType(index),
+					projectiles.getX(index), projectiles.getY(index), tickCount));
+		}
+	}
+
+	/**
+	 * Remembers the position of every plane at the start of the tick.
+	 * A view interpolates between this position and the one reached at the end of the tick.
+	 * The projectile stores keep their previous positions themselves when they are updated.
+	 */
+	private void savePreviousPositions() {
+		savePreviousPositions(friendlyUnits);
+		savePreviousPositions(enemyUnits);
+	}
+
+	/**
+	 * Remembers the position of every plane in a list at the start of the tick.
+	 *
+	 * @param actors The planes whose positions to remember.
+	 */
+	private static void savePreviousPositions(List<ActiveActor.ActiveActorDestructible> actors) {
+		for (int i = 0, size = actors.size(); i < size; i++) {
+			actors.get(i).savePreviousPosition();
+		}
+	}
+
+	/**
+	 * Updates all actors in the game.
+	 * Calls the updateActor method on each plane in the friendlyUnits and enemyUnits lists,
+	 * and moves every projectile in both projectile stores, through the parallel path if there is one.
+	 * Then moves every plane's hitbox to its new position.
+	 *
+	 * @param deltaSeconds The length of the tick, in seconds.
+	 */
+	void updateActors(double deltaSeconds) {
+		if (parallelUpdate != null) {
+			parallelUpdate.updateActors(friendlyUnits, deltaSeconds);
+			parallelUpdate.updateActors(enemyUnits, deltaSeconds);
+			parallelUpdate.updateProjectiles(userProjectiles, deltaSeconds);
+			parallelUpdate.updateProjectiles(enemyProjectiles, deltaSeconds);
+		} else {
+			updateActors(friendlyUnits, deltaSeconds);
+			updateActors(enemyUnits, deltaSeconds);
+			userProjectiles.update(deltaSeconds);
+			enemyProjectiles.update(deltaSeconds);
+		}
+		updateHitboxes(friendlyUnits);
+		updateHitboxes(enemyUnits);
+	}
+
+	/**
+	 * Updates every plane in a list on the calling thread, in list order.
+	 *
+	 * @param actors       The planes to update.
+	 * @param deltaSeconds The length of the tick, in seconds.
+	 */
+	private static void updateActors(List<ActiveActor.ActiveActorDestructible> actors, double deltaSeconds) {
+		for (int i = 0, size = actors.size(); i < size; i++) {
+			actors.get(i).updateActor(deltaSeconds);
+		}
+	}
+
+	/**
+	 * Moves the hitbox of every plane in a list to where the plane ended up this tick.
+	 * Projectile hitboxes follow from their positions and need no update.
+	 *
+	 * @param actors The planes whose hitboxes to update.
+	 */
+	private static void updateHitboxes(List<ActiveActor.ActiveActorDestructible> actors) {
+		for (int i = 0, size = actors.size(); i < size; i++) {
+			actors.get(i).updateHitbox();
+		}
+	}
+
+	/**
+	 * Removes all destroyed actors from the game.
+	 * Calls removeDestroyedActors for each plane list and compacts both projectile stores.
+	 */
+	void removeAllDestroyedActors() {
+		removeDestroyedActors(friendlyUnits, false);
+		removeDestroyedActors(enemyUnits, true);
+		userProjectiles.removeDestroyed();
+		enemyProjectiles.removeDestroyed();
+	}
+
+	/**
+	 * Removes destroyed actors from a given list, and tells the listener and the event bus about each of them.
+	 * The list is compacted in place in a single pass, so the surviving actors keep their order.
+	 *
+	 * @param actors  The list of actors to process.
+	 * @param hostile True if the actors are enemies.
+	 */
+	private void removeDestroyedActors(List<ActiveActor.ActiveActorDestructible> actors, boolean hostile) {
+		int kept = 0;
+		for (int i = 0, size = actors.size(); i < size; i++) {
+			ActiveActor.ActiveActorDestructible actor = actors.get(i);
+			if (actor.isDestroyed()) {
+				if (listener != null) {
+					listener.actorRemoved(actor);
+				}
+				if (actorDestroyedChannel.hasListeners()) {
+					actorDestroyedChannel.publish(actorDestroyedEvent.set(actor, hostile, tickCount));
+				}
+			} else {
+				actors.set(kept++, actor);
+			}
+		}
+		truncate(actors, kept);
+	}
+
+	/**
+	 * Drops every element past the given size from a compacted list.
+	 * Elements are removed from the end, so no element is shifted.
+	 *
+	 * @param actors The list to shorten.
+	 * @param size   The number of elements to keep.
+	 */
+	private static void truncate(List<ActiveActor.ActiveActorDestructible> actors, int size) {
+		for (int i = actors.size() - 1; i >= size; i--) {
+			actors.remove(i);
+		}
+	}
+
+	/**
+	 * Handles plane collisions.
+	 * Calls handleCollisions with friendlyUnits and enemyUnits.
+	 */
+	void handlePlaneCollisions() {
+		handleCollisions(friendlyUnits, friendlyUnitGrid, friendlyUnitNarrowPhase, enemyUnits);
+	}
+
+	/**
+	 * Handles collisions between user projectiles and enemy units.
+	 * Calls handleCollisions with userProjectiles and enemyUnits.
+	 */
+	void handleUserProjectileCollisions() {
+		handleCollisions(userProjectiles, userProjectileGrid, userProjectileNarrowPhase, enemyUnits);
+	}
+
+	/**
+	 * Handles collisions between enemy projectiles and friendly units.
+	 * Calls handleCollisions with enemyProjectiles and friendlyUnits.
+	 */
+	void handleEnemyProjectileCollisions() {
+		handleCollisions(enemyProjectiles, enemyProjectileGrid, enemyProjectileNarrowPhase, friendlyUnits);
+	}
+
+	/**
+	 * Rebuilds the collision grids from the current hitbox bounds.
+	 * Called once per tick, after all actors have moved and before any collisions are handled.
+	 */
+	void rebuildCollisionGrids() {
+		if (collisionMode == CollisionMode.SPATIAL_HASH) {
+			rebuildCollisionGrid(userProjectileGrid, userProjectiles);
+			rebuildCollisionGrid(enemyProjectileGrid, enemyProjectiles);
+			rebuildCollisionGrid(friendlyUnitGrid, friendlyUnits);
+		}
+	}
+
+	/**
+	 * Rebuilds a collision grid from a list of actors.
+	 * Actors are inserted in list order, so each grid index equals the actor's position in the list.
+	 * Destroyed actors are skipped, so no query finds them.
+	 *
+	 * @param grid   The grid to rebuild.
+	 * @param actors The actors to insert.
+	 */
+	private void rebuildCollisionGrid(SpatialHashGrid grid, List<ActiveActor.ActiveActorDestructible> actors) {
+		grid.clear();
+		for (int i = 0, size = actors.size(); i < size; i++) {
+			ActiveActor.ActiveActorDestructible actor = actors.get(i);
+			if (actor.isDestroyed()) {
+				grid.skip();
+			} else {
+				grid.insert(actor.getHitboxMinX(), actor.getHitboxMinY(), actor.getHitboxMaxX(), actor.getHitboxMaxY());
+			}
+		}
+	}
+
+	/**
+	 * Rebuilds a collision grid from a projectile store.
+	 * Projectiles are inserted in slot order, so each grid index equals the projectile's slot.
+	 * Destroyed projectiles are skipped, so no query finds them.
+	 *
+	 * @param grid        The grid to rebuild.
+	 * @param projectiles The projectiles to insert.
+	 */
+	private void rebuildCollisionGrid(SpatialHashGrid grid, ProjectileStore projectiles) {
+		grid.clear();
+		for (int i = 0, count = projectiles.getCount(); i < count; i++) {
+			if (projectiles.isAlive(i)) {
+				grid.insert(projectiles.getHitboxMinX(i), projectiles.getHitboxMinY(i),
+						projectiles.getHitboxMaxX(i), projectiles.getHitboxMaxY(i));
+			} else {
+				grid.skip();
+			}
+		}
+	}
+
+	/**
+	 * Handles collisions between two sets of actors using the selected collision mode.
+	 * Causes damage to colliding actors.
+	 *
+	 * @param actors1      The first set of actors.
+	 * @param grid1        The collision grid built from the first set of actors.
+	 * @param narrowPhase1 Confirms hits against the actors of the first grid.
+	 * @param actors2      The second set of actors.
+	 */
+	private void handleCollisions(List<ActiveActor.ActiveActorDestructible> actors1, SpatialHashGrid grid1,
+								  NarrowPhase narrowPhase1, List<ActiveActor.ActiveActorDestructible> actors2) {
+		if (collisionMode == CollisionMode.SPATIAL_HASH) {
+			handleCollisionsWithGrid(actors1, grid1, narrowPhase1, actors2);
+		} else {
+			handleCollisionsBruteForce(actors1, actors2);
+		}
+	}
+
+	/**
+	 * Handles collisions between two sets of actors with the spatial hash grid.
+	 * Only actors of the first set that share a grid cell with an actor of the second set are tested,
+	 * and pairs whose bounds intersect are confirmed with the narrow phase.
+	 * Candidates are visited in list order, so actors are damaged in the same order as the brute-force path.
+	 * A second set large enough for the parallel path is searched on several threads, and the damage is then
+	 * applied here in the same order. A pair is only damaged while neither actor is destroyed.
+	 *
+	 * @param actors1      The first set of actors.
+	 * @param grid1        The collision grid built from the first set of actors.
+	 * @param narrowPhase1 Confirms hits against the actors of the first grid.
+	 * @param actors2      The second set of actors.
+	 */
+	private void handleCollisionsWithGrid(List<ActiveActor.ActiveActorDestructible> actors1, SpatialHashGrid grid1,
+										  NarrowPhase narrowPhase1, List<ActiveActor.ActiveActorDestructible> actors2) {
+		if (parallelUpdate != null && parallelUpdate.isParallel(actors2.size())) {
+			for (int chunk = 0, chunks = parallelUpdate.findHits(actors2, grid1, narrowPhase1); chunk < chunks; chunk++) {
+				for (int hit = 0, hits = parallelUpdate.getHitCount(chunk); hit < hits; hit++) {
+					ActiveActor.ActiveActorDestructible actor = actors2.get(parallelUpdate.getHitPlane(chunk, hit));
+					ActiveActor.ActiveActorDestructible otherActor = actors1.get(parallelUpdate.getHitIndex(chunk, hit));
+					if (!actor.isDestroyed() && !otherActor.isDestroyed()) {
+						damage(actor);
+						damage(otherActor);
+					}
+				}
+			}
+			return;
+		}
+		for (int plane = 0, size = actors2.size(); plane < size; plane++) {
+			ActiveActor.ActiveActorDestructible actor = actors2.get(plane);
+			double minX = actor.getHitboxMinX();
+			double minY = actor.getHitboxMinY();
+			double maxX = actor.getHitboxMaxX();
+			double maxY = actor.getHitboxMaxY();
+			int candidates = grid1.query(minX, minY, maxX, maxY);
+			for (int i = 0; i < candidates && !actor.isDestroyed(); i++) {
+				int index = grid1.getCandidate(i);
+				ActiveActor.ActiveActorDestructible otherActor = actors1.get(index);
+				if (!otherActor.isDestroyed() && grid1.intersects(index, minX, minY, maxX, maxY)
+						&& narrowPhase1.collides(actor, index)) {
+					damage(actor);
+					damage(otherActor);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Handles collisions between two sets of actors by testing every pair.
+	 * Causes damage to colliding actors; destroyed actors are skipped.
+	 *
+	 * @param actors1 The first set of actors.
+	 * @param actors2 The second set of actors.
+	 */
+	private void handleCollisionsBruteForce(List<ActiveActor.ActiveActorDestructible> actors1,
+											List<ActiveActor.ActiveActorDestructible> actors2) {
+		for (int i = 0, size2 = actors2.size(); i < size2; i++) {
+			ActiveActor.ActiveActorDestructible actor = actors2.get(i);
+			for (int j = 0, size1 = actors1.size(); j < size1 && !actor.isDestroyed(); j++) {
+				ActiveActor.ActiveActorDestructible otherActor = actors1.get(j);
+				if (!otherActor.isDestroyed() && intersects(actor, otherActor) && hitsOverlap(actor, otherActor)) {
+					damage(actor);
+					damage(otherActor);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Handles collisions between a projectile store and a set of planes using the selected collision mode.
+	 * Destroys colliding projectiles and damages colliding planes.
+	 *
+	 * @param projectiles    The projectiles.
+	 * @param projectileGrid The collision grid built from the projectiles.
+	 * @param narrowPhase    Confirms hits against the projectiles of the grid.
+	 * @param planes         The planes the projectiles can hit.
+	 */
+	private void handleCollisions(ProjectileStore projectiles, SpatialHashGrid projectileGrid, NarrowPhase narrowPhase,
+								  List<ActiveActor.ActiveActorDestructible> planes) {
+		if (collisionMode == CollisionMode.SPATIAL_HASH) {
+			handleCollisionsWithGrid(projectiles, projectileGrid, narrowPhase, planes);
+		} else {
+			handleCollisionsBruteForce(projectiles, planes);
+		}
+	}
+
+	/**
+	 * Handles collisions between a projectile store and a set of planes with the spatial hash grid.
+	 * Pairs whose bounds intersect are confirmed with the narrow phase.
+	 * Candidates are visited in slot order, so planes are damaged in the same order as the brute-force path.
+	 * A set of planes large enough for the parallel path is searched on several threads, and the damage is then
+	 * applied here in the same order. A hit only counts while the plane is not destroyed and the projectile is alive.
+	 *
+	 * @param projectiles    The projectiles.
+	 * @param projectileGrid The collision grid built from the projectiles.
+	 * @param narrowPhase    Confirms hits against the projectiles of the grid.
+	 * @param planes         The planes the projectiles can hit.
+	 */
+	private void handleCollisionsWithGrid(ProjectileStore projectiles, SpatialHashGrid projectileGrid,
+										  NarrowPhase narrowPhase, List<ActiveActor.ActiveActorDestructible> planes) {
+		if (parallelUpdate != null && parallelUpdate.isParallel(planes.size())) {
+			for (int chunk = 0, chunks = parallelUpdate.findHits(planes, projectileGrid, narrowPhase); chunk < chunks; chunk++) {
+				for (int hit = 0, hits = parallelUpdate.getHitCount(chunk); hit < hits; hit++) {
+					ActiveActor.ActiveActorDestructible plane = planes.get(parallelUpdate.getHitPlane(chunk, hit));
+					int index = parallelUpdate.getHitIndex(chunk, hit);
+					if (!plane.isDestroyed() && projectiles.isAlive(index)) {
+						damage(plane);
+						projectiles.destroy(index);
+					}
+				}
+			}
+			return;
+		}
+		for (int p = 0, size = planes.size(); p < size; p++) {
+			ActiveActor.ActiveActorDestructible plane = planes.get(p);
+			double minX = plane.getHitboxMinX();
+			double minY = plane.getHitboxMinY();
+			double maxX = plane.getHitboxMaxX();
+			double maxY = plane.getHitboxMaxY();
+			int candidates = projectileGrid.query(minX, minY, maxX, maxY);
+			for (int i = 0; i < candidates && !plane.isDestroyed(); i++) {
+				int index = projectileGrid.getCandidate(i);
+				if (projectiles.isAlive(index) && projectileGrid.intersects(index, minX, minY, maxX, maxY)
+						&& narrowPhase.collides(plane, index)) {
+					damage(plane);
+					projectiles.destroy(index);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Handles collisions between a projectile store and a set of planes by testing every pair.
+	 * Destroys colliding projectiles and damages colliding planes; destroyed planes and projectiles are skipped.
+	 *
+	 * @param projectiles The projectiles.
+	 * @param planes      The planes the projectiles can hit.
+	 */
+	private void handleCollisionsBruteForce(ProjectileStore projectiles, List<ActiveActor.ActiveActorDestructible> planes) {
+		for (int p = 0, size = planes.size(); p < size; p++) {
+			ActiveActor.ActiveActorDestructible plane = planes.get(p);
+			double minX = plane.getHitboxMinX();
+			double minY = plane.getHitboxMinY();
+			double maxX = plane.getHitboxMaxX();
+			double maxY = plane.getHitboxMaxY();
+			for (int i = 0, count = projectiles.getCount(); i < count && !plane.isDestroyed(); i++) {
+				if (projectiles.isAlive(i) && minX <= projectiles.getHitboxMaxX(i) && maxX >= projectiles.getHitboxMinX(i)
+						&& minY <= projectiles.getHitboxMaxY(i) && maxY >= projectiles.getHitboxMinY(i)
+						&& hitsOverlap(plane, projectiles, i)) {
+					damage(plane);
+					projectiles.destroy(i);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the hitbox bounds of two actors intersect.
+	 * Edges that touch count as an intersection, matching {@code Bounds.intersects}.
+	 *
+	 * @param actor      The first actor.
+	 * @param otherActor The second actor.
+	 * @return True if the bounds intersect, false otherwise.
+	 */
+	private static boolean intersects(ActiveActor actor, ActiveActor otherActor) {
+		return actor.getHitboxMinX() <= otherActor.getHitboxMaxX()
+				&& actor.getHitboxMaxX() >= otherActor.getHitboxMinX()
+				&& actor.getHitboxMinY() <= otherActor.getHitboxMaxY()
+				&& actor.getHitboxMaxY() >= otherActor.getHitboxMinY();
+	}
+
+	/**
+	 * Checks whether two actors whose hitbox bounds intersect really hit each other.
+	 * Their hitbox shapes must overlap and, while pixel collisions are on, their collision masks must share
+	 * a solid pixel inside the overlap of the two hitboxes' bounds.
+	 *
+	 * @param actor      The first actor.
+	 * @param otherActor The second actor.
+	 * @return True if the actors hit each other, false otherwise.
+	 */
+	private boolean hitsOverlap(ActiveActor actor, ActiveActor otherActor) {
+		double minX = actor.getHitboxMinX();
+		double minY = actor.getHitboxMinY();
+		double maxX = actor.getHitboxMaxX();
+		double maxY = actor.getHitboxMaxY();
+		double otherMinX = otherActor.getHitboxMinX();
+		double otherMinY = otherActor.getHitboxMinY();
+		double otherMaxX = otherActor.getHitboxMaxX();
+		double otherMaxY = otherActor.getHitboxMaxY();
+		return Hitbox.overlaps(actor.getHitbox().getShape(), minX, minY, maxX, maxY,
+				otherActor.getHitbox().getShape(), otherMinX, otherMinY, otherMaxX, otherMaxY)
+				&& (!pixelCollisions || CollisionMask.overlaps(actor.getCollisionMask(), actor.getX(), actor.getY(),
+						otherActor.getCollisionMask(), otherActor.getX(), otherActor.getY(),
+						Math.max(minX, otherMinX), Math.max(minY, otherMinY),
+						Math.min(maxX, otherMaxX), Math.min(maxY, otherMaxY)));
+	}
+
+	/**
+	 * Checks whether a plane and a projectile whose hitbox bounds intersect really hit each other.
+	 * Their hitbox shapes must overlap and, while pixel collisions are on, their collision masks must share
+	 * a solid pixel inside the overlap of the two hitboxes' bounds.
+	 *
+	 * @param plane       The plane.
+	 * @param projectiles The store holding the projectile.
+	 * @param index       The slot of the projectile.
+	 * @return True if the plane and the projectile hit each other, false otherwise.
+	 */
+	private boolean hitsOverlap(ActiveActor plane, ProjectileStore projectiles, int index) {
+		ProjectileType type = projectiles.getType(index);
+		double minX = plane.getHitboxMinX();
+		double minY = plane.getHitboxMinY();
+		double maxX = plane.getHitboxMaxX();
+		double maxY = plane.getHitboxMaxY();
+		double otherMinX = projectiles.getHitboxMinX(index);
+		double otherMinY = projectiles.getHitboxMinY(index);
+		double otherMaxX = projectiles.getHitboxMaxX(index);
+		double otherMaxY = projectiles.getHitboxMaxY(index);
+		return Hitbox.overlaps(plane.getHitbox().getShape(), minX, minY, maxX, maxY,
+				type.getHitbox().getShape(), otherMinX, otherMinY, otherMaxX, otherMaxY)
+				&& (!pixelCollisions || CollisionMask.overlaps(plane.getCollisionMask(), plane.getX(), plane.getY(),
+						type.getCollisionMask(), projectiles.getX(index), projectiles.getY(index),
+						Math.max(minX, otherMinX), Math.max(minY, otherMinY),
+						Math.min(maxX, otherMaxX), Math.min(maxY, otherMaxY)));
+	}
+
+	/**
+	 * Retires every plane and projectile whose hitbox has left the world bounds, and counts them.
+	 * Retired actors are destroyed, so they take no part in this tick's collisions and are removed with the
+	 * other destroyed actors. An enemy that leaves past the left edge got past the user's defenses and damages the user.
+	 */
+	void retireOffscreenActors() {
+		retiredPlanes += retireOffscreenPlanes(friendlyUnits, false);
+		retiredPlanes += retireOffscreenPlanes(enemyUnits, true);
+		retiredUserProjectiles += userProjectiles.destroyOutside(worldBounds.getMinX(), worldBounds.getMinY(),
+				worldBounds.getMaxX(), worldBounds.getMaxY());
+		retiredEnemyProjectiles += enemyProjectiles.destroyOutside(worldBounds.getMinX(), worldBounds.getMinY(),
+				worldBounds.getMaxX(), worldBounds.getMaxY());
+	}
+
+	/**
+	 * Destroys every plane of a list whose hitbox has left the world bounds.
+	 *
+	 * @param planes  The planes to check.
+	 * @param hostile True if the planes are enemies, which damage the user when they leave past the left edge.
+	 * @return The number of planes destroyed.
+	 */
+	private int retireOffscreenPlanes(List<ActiveActor.ActiveActorDestructible> planes, boolean hostile) {
+		int retired = 0;
+		for (int i = 0, size = planes.size(); i < size; i++) {
+			ActiveActor.ActiveActorDestructible plane = planes.get(i);
+			if (!plane.isDestroyed() && worldBounds.isOutside(plane.getHitboxMinX(), plane.getHitboxMinY(),
+					plane.getHitboxMaxX(), plane.getHitboxMaxY())) {
+				if (hostile && worldBounds.isPastLeftEdge(plane.getHitboxMaxX())) {
+					damage(user);
+				}
+				plane.destroy();
+				retired++;
+			}
+		}
+		return retired;
+	}
+
+	/**
+	 * Damages a plane, and publishes the damage if anyone listens and the plane lost health.
+	 *
+	 * @param plane The plane to damage.
+	 */
+	private void damage(ActiveActor.ActiveActorDestructible plane) {
+		if (!damageTakenChannel.hasListeners() || !(plane instanceof FighterPlane)) {
+			plane.takeDamage();
+			return;
+		}
+		FighterPlane fighter = (FighterPlane) plane;
+		int health = fighter.getHealth();
+		fighter.takeDamage();
+		if (fighter.getHealth() < health) {
+			damageTakenChannel.publish(damageTakenEvent.set(fighter, fighter.getHealth(), tickCount));
+		}
+	}
+
+	/**
+	 * Publishes that a plane's shield went up or down, if anyone listens.
+	 * Levels whose planes have shields call this when they see a shield change during the tick.
+	 *
+	 * @param actor    The plane whose shield changed.
+	 * @param shielded True if the shield went up, false if it went down.
+	 */
+	protected void publishShieldChanged(ActiveActor.ActiveActorDestructible actor, boolean shielded) {
+		if (shieldChangedChannel.hasListeners()) {
+			shieldChangedChannel.publish(shieldChangedEvent.set(actor, shielded, tickCount));
+		}
+	}
+
+	/**
+	 * Updates the user's kill count.
+	 * Increases the kill count based on the difference between the current and previous number of enemies.
+	 */
+	private void updateKillCount() {
+		for (int i = 0; i < currentNumberOfEnemies - enemyUnits.size(); i++) {
+			user.incrementKillCount();
+		}
+	}
+
+	/**
+	 * Updates the number of enemies.
+	 * Sets the currentNumberOfEnemies to the size of the enemyUnits list.
+	 */
+	private void updateNumberOfEnemies() {
+		currentNumberOfEnemies = enemyUnits.size();
+	}
+
+	/**
+	 * Adds an enemy unit.
+	 * Adds the enemy to the enemyUnits list, lets fighter planes fire into the enemy projectile store,
+	 * and tells the listener about it.
+	 *
+	 * @param enemy The enemy unit to add.
+	 */
+	protected void addEnemyUnit(ActiveActor.ActiveActorDestructible enemy) {
+		if (enemy instanceof FighterPlane) {
+			((FighterPlane) enemy).setProjectileStore(enemyProjectiles);
+		}
+		enemyUnits.add(enemy);
+		if (listener != null) {
+			listener.actorAdded(enemy);
+		}
+	}
+
+	/**
+	 * Writes the complete changing state of the world between two ticks.
+	 * Together with the seed, this is enough for {@link #readState(DataInput)} to resume the world exactly,
+	 * so the same inputs that follow produce the same game.
+	 *
+	 * @param out The output to write to.
+	 * @throws IOException If the output cannot be written.
+	 */
+	public void writeState(DataOutput out) throws IOException {
+		out.writeLong(tickCount);
+		out.writeDouble(tickSeconds);
+		out.writeInt(currentNumberOfEnemies);
+		out.writeLong(random.getState());
+		user.writeState(out);
+		out.writeBoolean(friendlyUnits.contains(user));
+		writeLevelState(out);
+		out.writeInt(enemyUnits.size());
+		for (int i = 0, size = enemyUnits.size(); i < size; i++) {
+			ActiveActor.ActiveActorDestructible enemy = enemyUnits.get(i);
+			out.writeByte(getEnemyKind(enemy));
+			enemy.writeState(out);
+		}
+		userProjectiles.writeState(out);
+		enemyProjectiles.writeState(out);
+	}
+
+	/**
+	 * Restores state written by {@link #writeState(DataOutput)} by a world of the same level.
+	 * The enemies present before are removed and the restored enemies added, and the listener is told about both.
+	 *
+	 * @param in The input to read from.
+	 * @throws IOException If the input cannot be read.
+	 */
+	public void readState(DataInput in) throws IOException {
+		tickCount = in.readLong();
+		tickSeconds = in.readDouble();
+		currentNumberOfEnemies = in.readInt();
+		random.setState(in.readLong());
+		user.readState(in);
+		friendlyUnits.clear();
+		if (in.readBoolean()) {
+			friendlyUnits.add(user);
+		}
+		readLevelState(in);
+		for (ActiveActor.ActiveActorDestructible enemy : enemyUnits) {
+			if (listener != null) {
+				listener.actorRemoved(enemy);
+			}
+		}
+		enemyUnits.clear();
+		for (int i = 0, count = in.readInt(); i < count; i++) {
+			ActiveActor.ActiveActorDestructible enemy = createEnemyUnit(in.readByte());
+			enemy.readState(in);
+			addEnemyUnit(enemy);
+		}
+		userProjectiles.readState(in);
+		enemyProjectiles.readState(in);
+	}
+
+	/**
+	 * Writes state that belongs to a specific level rather than to the actors in the world.
+	 * Subclasses holding such state should override this method and {@link #readLevelState(DataInput)} together.
+	 *
+	 * @param out The output to write to.
+	 * @throws IOException If the output cannot be written.
+	 */
+	protected void writeLevelState(DataOutput out) throws IOException {
+	}
+
+	/**
+	 * Restores state written by {@link #writeLevelState(DataOutput)}.
+	 *
+	 * @param in The input to read from.
+	 * @throws IOException If the input cannot be read.
+	 */
+	protected void readLevelState(DataInput in) throws IOException {
+	}
+
+	/**
+	 * Returns the kind of an enemy, which {@link #createEnemyUnit(byte)} turns back into an enemy when state is restored.
+	 * Subclasses with other kinds of enemies should override this method and createEnemyUnit together.
+	 *
+	 * @param enemy The enemy.
+	 * @return The kind of the enemy; 0 for an enemy plane.
+	 */
+	protected byte getEnemyKind(ActiveActor.ActiveActorDestructible enemy) {
+		return 0;
+	}
+
+	/**
+	 * Creates an enemy of the given kind for restored state to be read into.
+	 *
+	 * @param kind The kind returned by {@link #getEnemyKind}.
+	 * @return The enemy.
+	 * @throws IOException If the kind is not one this level has.
+	 */
+	protected ActiveActor.ActiveActorDestructible createEnemyUnit(byte kind) throws IOException {
+		if (kind != 0) {
+			throw new IOException("Unknown enemy kind: " + kind);
+		}
+		return new EnemyPlane(screenWidth, 0, random);
+	}
+
+	/**
+	 * Removes every actor from the world.
+	 * Used when the level ends.
+	 */
+	public void clear() {
+		friendlyUnits.clear();
+		enemyProjectiles.clear();
+		enemyUnits.clear();
+		userProjectiles.clear();
+	}
+
+	/**
+	 * Sets the listener told about actors entering and leaving the world.
+	 *
+	 * @param listener The listener, or null to remove it.
+	 */
+	public void setListener(Listener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Sets the bus the tick's events are published on.
+	 * A model starts with a bus of its own; the game replaces it with its shared bus before the level starts.
+	 * Must not be called while the model is being stepped.
+	 *
+	 * @param eventBus The event bus.
+	 */
+	public void setEventBus(EventBus eventBus) {
+		useEventBus(eventBus);
+	}
+
+	/**
+	 * Publishes the tick's events on a bus, keeping its channels so publishing does not look them up.
+	 *
+	 * @param eventBus The event bus.
+	 */
+	private void useEventBus(EventBus eventBus) {
+		this.eventBus = eventBus;
+		this.actorDestroyedChannel = eventBus.channel(ActorDestroyedEvent.class);
+		this.damageTakenChannel = eventBus.channel(DamageTakenEvent.class);
+		this.shieldChangedChannel = eventBus.channel(ShieldChangedEvent.class);
+		this.projectileFiredChannel = eventBus.channel(ProjectileFiredEvent.class);
+	}
+
+	/**
+	 * Returns the bus the tick's events are published on.
+	 *
+	 * @return The event bus.
+	 */
+	public EventBus getEventBus() {
+		return eventBus;
+	}
+
+	/**
+	 * Returns the user's plane.
+	 *
+	 * @return The user's plane.
+	 */
+	public UserPlane getUser() {
+		return user;
+	}
+
+	/**
+	 * Checks if the user is destroyed.
+	 *
+	 * @return True if the user is destroyed, false otherwise.
+	 */
+	public boolean isUserDestroyed() {
+		return user.isDestroyed();
+	}
+
+	/**
+	 * Returns the friendly units.
+	 *
+	 * @return The friendly units.
+	 */
+	public List<ActiveActor.ActiveActorDestructible> getFriendlyUnits() {
+		return friendlyUnits;
+	}
+
+	/**
+	 * Returns the enemy units.
+	 *
+	 * @return The enemy units.
+	 */
+	public List<ActiveActor.ActiveActorDestructible> getEnemyUnits() {
+		return enemyUnits;
+	}
+
+	/**
+	 * Returns the user's projectiles.
+	 *
+	 * @return The store of the user's projectiles.
+	 */
+	public ProjectileStore getUserProjectiles() {
+		return userProjectiles;
+	}
+
+	/**
+	 * Returns the enemy projectiles.
+	 *
+	 * @return The store of the enemy projectiles.
+	 */
+	public ProjectileStore getEnemyProjectiles() {
+		return enemyProjectiles;
+	}
+
+	/**
+	 * Returns the collision mode of this level.
+	 *
+	 * @return The collision mode.
+	 */
+	public CollisionMode getCollisionMode() {
+		return collisionMode;
+	}
+
+	/**
+	 * Sets the collision mode of this level.
+	 * Both modes produce the same collisions, so this can be used to compare the spatial hash against brute force.
+	 *
+	 * @param collisionMode The collision mode to use.
+	 */
+	public void setCollisionMode(CollisionMode collisionMode) {
+		this.collisionMode = collisionMode;
+	}
+
+	/**
+	 * Returns whether pairs whose hitboxes overlap must also share a solid pixel to collide.
+	 *
+	 * @return True if collision masks are checked, false if hitbox shapes alone decide.
+	 */
+	public boolean isPixelCollisions() {
+		return pixelCollisions;
+	}
+
+	/**
+	 * Sets whether pairs whose hitboxes overlap must also share a solid pixel to collide.
+	 *
+	 * @param pixelCollisions True to check collision masks, false to let hitbox shapes alone decide.
+	 */
+	public void setPixelCollisions(boolean pixelCollisions) {
+		this.pixelCollisions = pixelCollisions;
+	}
+
+	/**
+	 * Returns the parallel path for large actor lists.
+	 *
+	 * @return The parallel path, or null if the world is always updated on the calling thread.
+	 */
+	public ParallelUpdate getParallelUpdate() {
+		return parallelUpdate;
+	}
+
+	/**
+	 * Sets the parallel path for large actor lists.
+	 * The result of a tick does not depend on it, so it can be changed between ticks.
+	 *
+	 * @param parallelUpdate The parallel path, or null to update the world on the calling thread.
+	 */
+	public void setParallelUpdate(ParallelUpdate parallelUpdate) {
+		this.parallelUpdate = parallelUpdate;
+	}
+
+	/**
+	 * Returns the number of ticks simulated so far.
+	 *
+	 * @return The tick count.
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Returns the length of the tick being simulated.
+	 * Between ticks, this is the length of the last tick.
+	 *
+	 * @return The tick length, in seconds.
+	 */
+	public double getTickSeconds() {
+		return tickSeconds;
+	}
+
+	/**
+	 * Returns the source of every random decision in this world.
+	 * Actors created by the world should be given this source rather than their own.
+	 *
+	 * @return The world's random source.
+	 */
+	public GameRandom getRandom() {
+		return random;
+	}
+
+	/**
+	 * Returns the profiler timing each phase of a tick.
+	 *
+	 * @return The tick profiler.
+	 */
+	public TickProfiler getProfiler() {
+		return profiler;
+	}
+
+	/**
+	 * Returns the area actors must stay in.
+	 *
+	 * @return The world bounds.
+	 */
+	public WorldBounds getWorldBounds() {
+		return worldBounds;
+	}
+
+	/**
+	 * Returns the number of planes retired for leaving the world.
+	 *
+	 * @return The number of retired planes.
+	 */
+	public long getRetiredPlanes() {
+		return retiredPlanes;
+	}
+
+	/**
+	 * Returns the number of user projectiles retired for leaving the world.
+	 *
+	 * @return The number of retired user projectiles.
+	 */
+	public long getRetiredUserProjectiles() {
+		return retiredUserProjectiles;
+	}
+
+	/**
+	 * Returns the number of enemy projectiles retired for leaving the world.
+	 *
+	 * @return The number of retired enemy projectiles.
+	 */
+	public long getRetiredEnemyProjectiles() {
+		return retiredEnemyProjectiles;
+	}
+
+	/**
+	 * Returns the current number of enemies.
+	 *
+	 * @return The number of active enemies.
+	 */
+	protected int getCurrentNumberOfEnemies() {
+		return enemyUnits.size();
+	}
+
+	/**
+	 * Returns the maximum Y position for enemies.
+	 *
+	 * @return The maximum Y position for enemies.
+	 */
+	protected double getEnemyMaximumYPosition() {
+		return enemyMaximumYPosition;
+	}
+
+	/**
+	 * Returns the screen width.
+	 *
+	 * @return The screen width.
+	 */
+	public double getScreenWidth() {
+		return screenWidth;
+	}
+
+	/**
+	 * Returns the screen height.
+	 *
+	 * @return The screen height.
+	 */
+	public double getScreenHeight() {
+		return screenHeight;
+	}
+
+	/**
+	 * Listener is told when planes enter or leave the world, so a view can add or remove their nodes.
+	 * Projectiles are not reported; they are drawn from the projectile stores.
+	 */
+	public interface Listener {
+
+		/**
+		 * Called when an enemy enters the world.
+		 *
+		 * @param actor The actor that was added.
+		 */
+		void actorAdded(ActiveActor.ActiveActorDestructible actor);
+
+		/**
+		 * Called when a destroyed actor leaves the world.
+		 *
+		 * @param actor The actor that was removed.
+		 */
+		void actorRemoved(ActiveActor.ActiveActorDestructible actor);
+	}
+}
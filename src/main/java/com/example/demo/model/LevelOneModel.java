@@ -0,0 +1,73 @@
+package com.example.demo.model;
+
+import com.example.demo.Actor.ActiveActor;
+import com.example.demo.manager.GameRandom;
+import com.example.demo.plane.EnemyPlane;
+
+/**
+ * LevelOneModel is the headless game world of the first level.
+ * It spawns enemy planes at random heights until the enemy limit is reached,
+ * and the level is complete once the user has reached the kill target.
+ */
+public class LevelOneModel extends LevelModel {
+
+	/**
+	 * The total number of enemies that can be spawned in this level.
+	 * This sets the maximum number of enemies that will appear in this level.
+	 */
+	private static final int TOTAL_ENEMIES = 5;
+
+	/**
+	 * The number of kills required to advance to the next level.
+	 * The player must achieve this number of kills to move on to the next level.
+	 */
+	private static final int KILLS_TO_ADVANCE = 10;
+
+	/**
+	 * The rate of spawning an enemy.
+	 * The average number of enemies spawned per second for each free enemy slot.
+	 */
+	private static final double ENEMY_SPAWN_RATE = 4.0;
+
+	/**
+	 * Constructor for LevelOneModel.
+	 *
+	 * @param screenHeight        the height of the game screen
+	 * @param screenWidth         the width of the game screen
+	 * @param playerInitialHealth the initial health of the player
+	 * @param random              the source of the level's randomness
+	 */
+	public LevelOneModel(double screenHeight, double screenWidth, int playerInitialHealth, GameRandom random) {
+		super(screenHeight, screenWidth, playerInitialHealth, random);
+	}
+
+	/**
+	 * Spawns enemy units.
+	 * It spawns enemies based on the ENEMY_SPAWN_RATE until the TOTAL_ENEMIES limit is reached.
+	 * It uses a random value and checks it against the rate times the tick length to decide whether to spawn an enemy.
+	 * The initial Y position of the enemy is randomly determined within the allowed range.
+	 */
+	@Override
+	protected void spawnEnemyUnits() {
+		GameRandom random = getRandom();
+		int currentNumberOfEnemies = getCurrentNumberOfEnemies();
+		double spawnProbability = ENEMY_SPAWN_RATE * getTickSeconds();
+		for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
+			if (random.chance(spawnProbability)) {
+				double newEnemyInitialYPosition = random.nextDouble() * getEnemyMaximumYPosition();
+				ActiveActor.ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition, random);
+				addEnemyUnit(newEnemy);
+			}
+		}
+	}
+
+	/**
+	 * Checks if the user has reached the kill target.
+	 *
+	 * @return true if the user's number of kills is greater than or equal to KILLS_TO_ADVANCE, false otherwise
+	 */
+	@Override
+	public boolean isLevelComplete() {
+		return getUser().getNumberOfKills() >= KILLS_TO_ADVANCE;
+	}
+}
@@ -0,0 +1,136 @@
+package com.example.demo.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import com.example.demo.Actor.ActiveActor;
+import com.example.demo.manager.GameRandom;
+import com.example.demo.plane.Boss;
+
+/**
+ * LevelTwoModel is the headless game world of the second level.
+ * The boss is the only enemy, and the level is complete once the boss has been destroyed.
+ * The boss's shield going up or down is published on the event bus.
+ */
+public class LevelTwoModel extends LevelModel {
+
+	/**
+	 * The enemy kind of the boss in saved state.
+	 */
+	private static final byte BOSS_KIND = 1;
+
+	/**
+	 * The boss for this level.
+	 * Represents the main enemy in this level that the player must defeat.
+	 */
+	private final Boss boss;
+
+	/**
+	 * Whether the boss was shielded after the last update, to tell when the shield goes up or down.
+	 */
+	private boolean bossShielded;
+
+	/**
+	 * Constructor for LevelTwoModel.
+	 *
+	 * @param screenHeight        the height of the game screen
+	 * @param screenWidth         the width of the game screen
+	 * @param playerInitialHealth the initial health of the player
+	 * @param random              the source of the level's randomness
+	 */
+	public LevelTwoModel(double screenHeight, double screenWidth, int playerInitialHealth, GameRandom random) {
+		super(screenHeight, screenWidth, playerInitialHealth, random);
+		boss = new Boss(random);
+	}
+
+	/**
+	 * Spawns enemy units.
+	 * In this level, only the boss is spawned if there are no current enemies.
+	 */
+	@Override
+	protected void spawnEnemyUnits() {
+		if (getCurrentNumberOfEnemies() == 0) {
+			addEnemyUnit(boss);
+		}
+	}
+
+	/**
+	 * Moves every actor, then publishes the boss's shield going up or down.
+	 *
+	 * @param deltaSeconds the length of the tick, in seconds
+	 */
+	@Override
+	void updateActors(double deltaSeconds) {
+		super.updateActors(deltaSeconds);
+		if (boss.isShielded() != bossShielded) {
+			bossShielded = boss.isShielded();
+			publishShieldChanged(boss, bossShielded);
+		}
+	}
+
+	/**
+	 * Checks if the boss has been destroyed.
+	 *
+	 * @return true if the boss is destroyed, false otherwise
+	 */
+	@Override
+	public boolean isLevelComplete() {
+		return boss.isDestroyed();
+	}
+
+	/**
+	 * Writes the boss's state, which is kept even while the boss is not in the world.
+	 *
+	 * @param out the output to write to
+	 * @throws IOException if the output cannot be written
+	 */
+	@Override
+	protected void writeLevelState(DataOutput out) throws IOException {
+		boss.writeState(out);
+	}
+
+	/**
+	 * Restores the boss's state.
+	 *
+	 * @param in the input to read from
+	 * @throws IOException if the input cannot be read
+	 */
+	@Override
+	protected void readLevelState(DataInput in) throws IOException {
+		boss.readState(in);
+		bossShielded = boss.isShielded();
+	}
+
+	/**
+	 * Returns the kind of an enemy, telling the boss apart from enemy planes.
+	 *
+	 * @param enemy the enemy
+	 * @return the boss kind for the boss, or the enemy plane kind otherwise
+	 */
+	@Override
+	protected byte getEnemyKind(ActiveActor.ActiveActorDestructible enemy) {
+		return enemy == boss ? BOSS_KIND : super.getEnemyKind(enemy);
+	}
+
+	/**
+	 * Returns the boss for the boss kind, so restored state keeps referring to the level's only boss.
+	 *
+	 * @param kind the kind returned by {@link #getEnemyKind}
+	 * @return the enemy
+	 * @throws IOException if the kind is not one this level has
+	 */
+	@Override
+	protected ActiveActor.ActiveActorDestructible createEnemyUnit(byte kind) throws IOException {
+		return kind == BOSS_KIND ? boss : super.createEnemyUnit(kind);
+	}
+
+	/**
+	 * Gets the boss of this level.
+	 *
+	 * @return the boss
+	 */
+	public Boss getBoss() {
+		return boss;
+	}
+}
@@ -0,0 +1,21 @@
+package com.example.demo.model;
+
+import com.example.demo.Actor.ActiveActor;
+
+/**
+ * NarrowPhase decides whether a plane really hits an actor of a collision grid whose bounds it intersects.
+ * Each grid of a {@link LevelModel} has its own narrow phase, which knows what the grid's indices refer to.
+ * A narrow phase only reads the world, so it may be called from several threads at once.
+ */
+@FunctionalInterface
+public interface NarrowPhase {
+
+	/**
+	 * Checks whether a plane hits a grid actor whose bounds it is already known to intersect.
+	 *
+	 * @param plane     the plane
+	 * @param candidate the index of the actor in the grid
+	 * @return true if the two collide, false otherwise
+	 */
+	boolean collides(ActiveActor plane, int candidate);
+}
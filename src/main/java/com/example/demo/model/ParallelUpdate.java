@@ -0,0 +1,558 @@
+package com.example.demo.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.example.demo.Actor.ActiveActor;
+import com.example.demo.collision.SpatialHashGrid;
+import com.example.demo.projectile.ProjectileStore;
+
+/**
+ * The ParallelUpdate class splits the actor update and the collision search of a tick across a ForkJoinPool
+ * once a list is large enough for the split to pay off. Below the threshold everything runs on the calling thread.
+ * Lists are cut into fixed chunks of consecutive actors, and each chunk is one task.
+ *
+ * <p>A tick stays deterministic whatever the number of threads. Only actors with an independent update
+ * are updated in parallel; the others are updated afterwards, in list order. The collision search only reads
+ * the actors and the grid, and records each chunk's hits in order. The caller then applies the damage
+ * chunk by chunk, which is the same order as a sequential loop.
+ */
+public final class ParallelUpdate {
+
+	/**
+	 * The system property that turns the parallel path on at launch and sets its threshold,
+	 * for example {@code -Dgame.parallelThreshold=2000}.
+	 */
+	public static final String THRESHOLD_PROPERTY = "game.parallelThreshold";
+
+	/**
+	 * The smallest number of planes given to one task.
+	 * A plane update takes nanoseconds, so smaller chunks would cost more to schedule than to run.
+	 */
+	private static final int MIN_PLANE_CHUNK = 256;
+
+	/**
+	 * The smallest number of projectiles given to one task.
+	 */
+	private static final int MIN_PROJECTILE_CHUNK = 4096;
+
+	/**
+	 * The number of chunks made per worker thread, so a thread that finishes early can steal more work.
+	 */
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	/**
+	 * The pool running the tasks.
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * The smallest list size that is processed in parallel.
+	 */
+	private final int threshold;
+
+	/**
+	 * The hits found by each chunk of the last collision search, reused between searches.
+	 */
+	private HitBuffer[] hitBuffers;
+
+	/**
+	 * Constructor for the ParallelUpdate class.
+	 *
+	 * @param pool      the pool running the tasks
+	 * @param threshold the smallest list size that is processed in parallel
+	 */
+	public ParallelUpdate(ForkJoinPool pool, int threshold) {
+		if (threshold < 1) {
+			throw new IllegalArgumentException("Parallel threshold must be positive: " + threshold);
+		}
+		this.pool = pool;
+		this.threshold = threshold;
+		this.hitBuffers = new HitBuffer[0];
+	}
+
+	/**
+	 * Creates the parallel path chosen at launch.
+	 *
+	 * @return a parallel path on the common pool with the threshold given by the system property,
+	 *         or null if the property is not set
+	 */
+	public static ParallelUpdate getConfigured() {
+		Integer threshold = Integer.getInteger(THRESHOLD_PROPERTY);
+		return threshold != null ? new ParallelUpdate(ForkJoinPool.commonPool(), threshold) : null;
+	}
+
+	/**
+	 * Checks whether a list of the given size is processed in parallel.
+	 *
+	 * @param size the number of elements
+	 * @return true if the size reaches the threshold, false otherwise
+	 */
+	public boolean isParallel(int size) {
+		return size >= threshold;
+	}
+
+	/**
+	 * Updates every actor of a list.
+	 * Above the threshold, the actors with an independent update are updated in parallel,
+	 * and then the remaining actors are updated in list order on the calling thread.
+	 *
+	 * @param actors       the actors to update
+	 * @param deltaSeconds the length of the tick, in seconds
+	 */
+	public void updateActors(List<ActiveActor.ActiveActorDestructible> actors, double deltaSeconds) {
+		int size = actors.size();
+		if (!isParallel(size)) {
+			for (int i = 0; i < size; i++) {
+				actors.get(i).updateActor(deltaSeconds);
+			}
+			return;
+		}
+		int chunk = chunkSize(size, MIN_PLANE_CHUNK);
+		pool.invoke(new UpdateTask(actors, deltaSeconds, chunk, 0, chunkCount(size, chunk)));
+		for (int i = 0; i < size; i++) {
+			ActiveActor.ActiveActorDestructible actor = actors.get(i);
+			if (!actor.hasIndependentUpdate()) {
+				actor.updateActor(deltaSeconds);
+			}
+		}
+	}
+
+	/**
+	 * Moves every projectile of a store, in parallel above the threshold.
+	 *
+	 * @param projectiles  the projectiles to move
+	 * @param deltaSeconds the length of the tick, in seconds
+	 */
+	public void updateProjectiles(ProjectileStore projectiles, double deltaSeconds) {
+		int count = projectiles.getCount();
+		if (!isParallel(count)) {
+			projectiles.update(deltaSeconds);
+			return;
+		}
+		int chunk = chunkSize(count, MIN_PROJECTILE_CHUNK);
+		pool.invoke(new ProjectileTask(projectiles, deltaSeconds, chunk, 0, chunkCount(count, chunk)));
+	}
+
+	/**
+	 * Finds every pair of a plane and a grid actor that collide, searching chunks of planes in parallel.
+	 * Pairs whose bounds intersect are confirmed with the narrow phase. Nothing is damaged; the hits are kept per
+	 * chunk, in plane order and then in ascending grid index, and read back with
+	 * {@link #getHitCount(int)}, {@link #getHitPlane(int, int)} and {@link #getHitIndex(int, int)}.
+	 *
+	 * @param planes      the planes to test
+	 * @param grid        the grid to test them against
+	 * @param narrowPhase confirms the pairs whose bounds intersect
+	 * @return the number of chunks holding hits
+	 */
+	public int findHits(List<ActiveActor.ActiveActorDestructible> planes, SpatialHashGrid grid, NarrowPhase narrowPhase) {
+		int size = planes.size();
+		int chunk = chunkSize(size, MIN_PLANE_CHUNK);
+		int chunks = chunkCount(size, chunk);
+		if (hitBuffers.length < chunks) {
+			int oldLength = hitBuffers.length;
+			hitBuffers = Arrays.copyOf(hitBuffers, chunks);
+			for (int i = oldLength; i < chunks; i++) {
+				hitBuffers[i] = new HitBuffer();
+			}
+		}
+		pool.invoke(new HitTask(planes, grid, narrowPhase, hitBuffers, chunk, 0, chunks));
+		return chunks;
+	}
+
+	/**
+	 * Gets the number of hits a chunk of the last collision search found.
+	 *
+	 * @param chunk the chunk
+	 * @return the number of hits
+	 */
+	public int getHitCount(int chunk) {
+		return hitBuffers[chunk].count;
+	}
+
+	/**
+	 * Gets the plane of a hit.
+	 *
+	 * @param chunk the chunk that found the hit
+	 * @param hit   the position of the hit in the chunk
+	 * @return the index of the plane in the list searched
+	 */
+	public int getHitPlane(int chunk, int hit) {
+		return hitBuffers[chunk].pairs[2 * hit];
+	}
+
+	/**
+	 * Gets the grid actor of a hit.
+	 *
+	 * @param chunk the chunk that found the hit
+	 * @param hit   the position of the hit in the chunk
+	 * @return the index of the actor in the grid
+	 */
+	public int getHitIndex(int chunk, int hit) {
+		return hitBuffers[chunk].pairs[2 * hit + 1];
+	}
+
+	/**
+	 * Gets the smallest list size that is processed in parallel.
+	 *
+	 * @return the threshold
+	 */
+	public int getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * Gets the number of worker threads of the pool.
+	 *
+	 * @return the pool's parallelism
+	 */
+	public int getParallelism() {
+		return pool.getParallelism();
+	}
+
+	/**
+	 * Chooses how many elements each task gets.
+	 *
+	 * @param size     the number of elements
+	 * @param minChunk the smallest number of elements per task
+	 * @return the chunk size
+	 */
+	private int chunkSize(int size, int minChunk) {
+		int chunks = pool.getParallelism() * CHUNKS_PER_THREAD;
+		return Math.max(minChunk, (size + chunks - 1) / chunks);
+	}
+
+	/**
+	 * Counts the chunks needed to cover the given number of elements.
+	 *
+	 * @param size  the number of elements
+	 * @param chunk the chunk size
+	 * @return the number of chunks
+	 */
+	private static int chunkCount(int size, int chunk) {
+		return (size + chunk - 1) / chunk;
+	}
+
+	/**
+	 * ChunkTask processes a range of chunks, splitting it in halves until a task holds a single chunk.
+	 * Tasks are serializable only because {@link RecursiveAction} is; they are never serialized,
+	 * so the fields referring to the world are transient.
+	 */
+	private abstract static class ChunkTask extends RecursiveAction {
+
+		/**
+		 * The version of the serialized form.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The number of elements in a chunk.
+		 */
+		final int chunk;
+
+		/**
+		 * The first chunk of the range.
+		 */
+		final int fromChunk;
+
+		/**
+		 * The chunk after the last one of the range.
+		 */
+		final int toChunk;
+
+		/**
+		 * Constructor for a chunk task.
+		 *
+		 * @param chunk     the number of elements in a chunk
+		 * @param fromChunk the first chunk of the range
+		 * @param toChunk   the chunk after the last one of the range
+		 */
+		ChunkTask(int chunk, int fromChunk, int toChunk) {
+			this.chunk = chunk;
+			this.fromChunk = fromChunk;
+			this.toChunk = toChunk;
+		}
+
+		/**
+		 * Processes the range, forking one half and running the other.
+		 */
+		@Override
+		protected void compute() {
+			if (toChunk - fromChunk == 1) {
+				processChunk(fromChunk, fromChunk * chunk);
+				return;
+			}
+			int middle = (fromChunk + toChunk) >>> 1;
+			invokeAll(split(fromChunk, middle), split(middle, toChunk));
+		}
+
+		/**
+		 * Creates a task for part of this range.
+		 *
+		 * @param from the first chunk of the part
+		 * @param to   the chunk after the last one of the part
+		 * @return the task
+		 */
+		abstract ChunkTask split(int from, int to);
+
+		/**
+		 * Processes one chunk.
+		 *
+		 * @param index the chunk
+		 * @param from  the first element of the chunk
+		 */
+		abstract void processChunk(int index, int from);
+	}
+
+	/**
+	 * UpdateTask updates the actors with an independent update in a range of chunks of a list.
+	 */
+	private static final class UpdateTask extends ChunkTask {
+
+		/**
+		 * The version of the serialized form.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The actors to update.
+		 */
+		private final transient List<ActiveActor.ActiveActorDestructible> actors;
+
+		/**
+		 * The length of the tick, in seconds.
+		 */
+		private final double deltaSeconds;
+
+		/**
+		 * Constructor for an update task.
+		 *
+		 * @param actors       the actors to update
+		 * @param deltaSeconds the length of the tick, in seconds
+		 * @param chunk        the number of actors in a chunk
+		 * @param fromChunk    the first chunk of the range
+		 * @param toChunk      the chunk after the last one of the range
+		 */
+		UpdateTask(List<ActiveActor.ActiveActorDestructible> actors, double deltaSeconds, int chunk, int fromChunk,
+				int toChunk) {
+			super(chunk, fromChunk, toChunk);
+			this.actors = actors;
+			this.deltaSeconds = deltaSeconds;
+		}
+
+		/**
+		 * Creates an update task for part of this range.
+		 *
+		 * @param from the first chunk of the part
+		 * @param to   the chunk after the last one of the part
+		 * @return the task
+		 */
+		@Override
+		ChunkTask split(int from, int to) {
+			return new UpdateTask(actors, deltaSeconds, chunk, from, to);
+		}
+
+		/**
+		 * Updates the actors of a chunk that have an independent update.
+		 *
+		 * @param index the chunk
+		 * @param from  the first actor of the chunk
+		 */
+		@Override
+		void processChunk(int index, int from) {
+			for (int i = from, to = Math.min(from + chunk, actors.size()); i < to; i++) {
+				ActiveActor.ActiveActorDestructible actor = actors.get(i);
+				if (actor.hasIndependentUpdate()) {
+					actor.updateActor(deltaSeconds);
+				}
+			}
+		}
+	}
+
+	/**
+	 * ProjectileTask moves the projectiles in a range of chunks of a store.
+	 */
+	private static final class ProjectileTask extends ChunkTask {
+
+		/**
+		 * The version of the serialized form.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The projectiles to move.
+		 */
+		private final transient ProjectileStore projectiles;
+
+		/**
+		 * The length of the tick, in seconds.
+		 */
+		private final double deltaSeconds;
+
+		/**
+		 * Constructor for a projectile task.
+		 *
+		 * @param projectiles  the projectiles to move
+		 * @param deltaSeconds the length of the tick, in seconds
+		 * @param chunk        the number of projectiles in a chunk
+		 * @param fromChunk    the first chunk of the range
+		 * @param toChunk      the chunk after the last one of the range
+		 */
+		ProjectileTask(ProjectileStore projectiles, double deltaSeconds, int chunk, int fromChunk, int toChunk) {
+			super(chunk, fromChunk, toChunk);
+			this.projectiles = projectiles;
+			this.deltaSeconds = deltaSeconds;
+		}
+
+		/**
+		 * Creates a projectile task for part of this range.
+		 *
+		 * @param from the first chunk of the part
+		 * @param to   the chunk after the last one of the part
+		 * @return the task
+		 */
+		@Override
+		ChunkTask split(int from, int to) {
+			return new ProjectileTask(projectiles, deltaSeconds, chunk, from, to);
+		}
+
+		/**
+		 * Moves the projectiles of a chunk.
+		 *
+		 * @param index the chunk
+		 * @param from  the first slot of the chunk
+		 */
+		@Override
+		void processChunk(int index, int from) {
+			projectiles.update(deltaSeconds, from, Math.min(from + chunk, projectiles.getCount()));
+		}
+	}
+
+	/**
+	 * HitTask searches the grid for the planes in a range of chunks of a list.
+	 */
+	private static final class HitTask extends ChunkTask {
+
+		/**
+		 * The version of the serialized form.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The planes to test.
+		 */
+		private final transient List<ActiveActor.ActiveActorDestructible> planes;
+
+		/**
+		 * The grid to test the planes against.
+		 */
+		private final transient SpatialHashGrid grid;
+
+		/**
+		 * Confirms the pairs whose bounds intersect.
+		 */
+		private final transient NarrowPhase narrowPhase;
+
+		/**
+		 * The hit buffer of every chunk.
+		 */
+		private final transient HitBuffer[] buffers;
+
+		/**
+		 * Constructor for a hit task.
+		 *
+		 * @param planes      the planes to test
+		 * @param grid        the grid to test the planes against
+		 * @param narrowPhase confirms the pairs whose bounds intersect
+		 * @param buffers     the hit buffer of every chunk
+		 * @param chunk       the number of planes in a chunk
+		 * @param fromChunk   the first chunk of the range
+		 * @param toChunk     the chunk after the last one of the range
+		 */
+		HitTask(List<ActiveActor.ActiveActorDestructible> planes, SpatialHashGrid grid, NarrowPhase narrowPhase,
+				HitBuffer[] buffers, int chunk, int fromChunk, int toChunk) {
+			super(chunk, fromChunk, toChunk);
+			this.planes = planes;
+			this.grid = grid;
+			this.narrowPhase = narrowPhase;
+			this.buffers = buffers;
+		}
+
+		/**
+		 * Creates a hit task for part of this range.
+		 *
+		 * @param from the first chunk of the part
+		 * @param to   the chunk after the last one of the part
+		 * @return the task
+		 */
+		@Override
+		ChunkTask split(int from, int to) {
+			return new HitTask(planes, grid, narrowPhase, buffers, chunk, from, to);
+		}
+
+		/**
+		 * Searches the grid for the planes of a chunk, replacing the chunk's hits.
+		 *
+		 * @param index the chunk
+		 * @param from  the first plane of the chunk
+		 */
+		@Override
+		void processChunk(int index, int from) {
+			HitBuffer buffer = buffers[index];
+			SpatialHashGrid.Query query = buffer.query;
+			buffer.count = 0;
+			for (int p = from, to = Math.min(from + chunk, planes.size()); p < to; p++) {
+				ActiveActor plane = planes.get(p);
+				double minX = plane.getHitboxMinX();
+				double minY = plane.getHitboxMinY();
+				double maxX = plane.getHitboxMaxX();
+				double maxY = plane.getHitboxMaxY();
+				int candidates = grid.query(query, minX, minY, maxX, maxY);
+				for (int i = 0; i < candidates; i++) {
+					int candidate = query.getCandidate(i);
+					if (grid.intersects(candidate, minX, minY, maxX, maxY) && narrowPhase.collides(plane, candidate)) {
+						buffer.add(p, candidate);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * HitBuffer holds the hits found by one chunk and the grid query it searches with.
+	 */
+	private static final class HitBuffer {
+
+		/**
+		 * The grid query of the chunk.
+		 */
+		private final SpatialHashGrid.Query query = new SpatialHashGrid.Query();
+
+		/**
+		 * The hits as consecutive pairs of a plane index and a grid index.
+		 */
+		private int[] pairs = new int[32];
+
+		/**
+		 * The number of hits.
+		 */
+		private int count;
+
+		/**
+		 * Records a hit.
+		 *
+		 * @param plane the index of the plane
+		 * @param index the index of the grid actor
+		 */
+		void add(int plane, int index) {
+			if (2 * count + 2 > pairs.length) {
+				pairs = Arrays.copyOf(pairs, pairs.length * 2);
+			}
+			pairs[2 * count] = plane;
+			pairs[2 * count + 1] = index;
+			count++;
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package com.example.demo.model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The SnapshotExchange class hands frame snapshots from the simulation thread to the JavaFX thread without locks.
+ * It is a triple buffer, the non-blocking form of double buffering: the writer fills its back buffer and swaps it
+ * with the shared middle buffer, and the reader swaps the middle buffer with its front buffer whenever a newer one
+ * has been published. Each swap is a single atomic exchange, so neither thread ever waits for the other;
+ * a reader that falls behind only skips snapshots, and a writer that falls behind leaves the reader on the last one.
+ * There must be exactly one writing thread and one reading thread.
+ */
+public final class SnapshotExchange {
+
+	/**
+	 * The bit of the shared state that is set while the middle buffer holds a snapshot the reader has not taken.
+	 */
+	private static final int FRESH = 1 << 2;
+
+	/**
+	 * The bits of the shared state holding the index of the middle buffer.
+	 */
+	private static final int INDEX_MASK = FRESH - 1;
+
+	/**
+	 * The three buffers.
+	 */
+	private final FrameSnapshot[] buffers;
+
+	/**
+	 * The index of the middle buffer, with the {@link #FRESH} bit set if it has not been read yet.
+	 */
+	private final AtomicInteger middle;
+
+	/**
+	 * The index of the buffer being written; only touched by the writer.
+	 */
+	private int back;
+
+	/**
+	 * The index of the buffer being read; only touched by the reader.
+	 */
+	private int front;
+
+	/**
+	 * Constructor for an exchange of three empty snapshots.
+	 */
+	public SnapshotExchange() {
+		this.buffers = new FrameSnapshot[] {new FrameSnapshot(), new FrameSnapshot(), new FrameSnapshot()};
+		this.front = 0;
+		this.middle = new AtomicInteger(1);
+		this.back = 2;
+	}
+
+	/**
+	 * Gets the snapshot the writer fills next.
+	 * It is not seen by the reader until {@link #publish()} is called.
+	 *
+	 * @return the back buffer
+	 */
+	public FrameSnapshot getBackBuffer() {
+		return buffers[back];
+	}
+
+	/**
+	 * Publishes the back buffer as the newest snapshot, and takes the old middle buffer as the next back buffer.
+	 * Everything the writer did before publishing is visible to the reader once it has taken the snapshot.
+	 */
+	public void publish() {
+		back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+	}
+
+	/**
+	 * Gets the newest published snapshot.
+	 * If a snapshot was published since the last call, it becomes the front buffer; otherwise the front buffer is kept,
+	 * so the same snapshot is returned until a newer one arrives.
+	 *
+	 * @return the front buffer
+	 */
+	public FrameSnapshot acquire() {
+		if ((middle.get() & FRESH) != 0) {
+			front = middle.getAndSet(front) & INDEX_MASK;
+		}
+		return buffers[front];
+	}
+}
@@ -0,0 +1,212 @@
+package com.example.demo.model;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * The StressConfig class holds the settings of a stress run: how many enemies the world starts with,
+ * how the enemy count ramps up, how hard the enemies fire, and the tick time that ends the run.
+ * The run holds each enemy count for a fixed number of seconds, so every point of the scaling curve
+ * is measured on a settled world, and then adds a fixed number of enemies.
+ */
+public final class StressConfig {
+
+	/**
+	 * The prefix of the system properties that override the settings at launch, for example
+	 * {@code -Dgame.stress.enemyStep=200}.
+	 */
+	public static final String PROPERTY_PREFIX = "game.stress.";
+
+	/**
+	 * The number of enemies the world starts with.
+	 */
+	private final int initialEnemies;
+
+	/**
+	 * The number of enemies added at each step of the ramp.
+	 */
+	private final int enemyStep;
+
+	/**
+	 * How long each enemy count is held, in seconds.
+	 */
+	private final double stepSeconds;
+
+	/**
+	 * The enemy count at which the ramp stops even if the tick time is still within the budget.
+	 */
+	private final int maxEnemies;
+
+	/**
+	 * The average number of projectiles each enemy fires per second.
+	 */
+	private final double fireRate;
+
+	/**
+	 * The horizontal velocity of enemy projectiles, in pixels per second.
+	 */
+	private final double projectileVelocity;
+
+	/**
+	 * The median tick time at which the run ends, in nanoseconds.
+	 */
+	private final long budgetNanos;
+
+	/**
+	 * The file the scaling curve is written to, or null if it is only printed.
+	 */
+	private final Path output;
+
+	/**
+	 * Constructor for a stress configuration.
+	 *
+	 * @param initialEnemies     the number of enemies the world starts with
+	 * @param enemyStep          the number of enemies added at each step of the ramp
+	 * @param stepSeconds        how long each enemy count is held, in seconds
+	 * @param maxEnemies         the enemy count at which the ramp stops
+	 * @param fireRate           the average number of projectiles each enemy fires per second
+	 * @param projectileVelocity the horizontal velocity of enemy projectiles, in pixels per second
+	 * @param budgetNanos        the median tick time at which the run ends, in nanoseconds
+	 * @param output             the file the scaling curve is written to, or null
+	 */
+	public StressConfig(int initialEnemies, int enemyStep, double stepSeconds, int maxEnemies, double fireRate,
+			double projectileVelocity, long budgetNanos, Path output) {
+		if (initialEnemies < 0 || enemyStep <= 0 || stepSeconds <= 0 || maxEnemies < initialEnemies || budgetNanos <= 0) {
+			throw new IllegalArgumentException("Invalid stress settings");
+		}
+		this.initialEnemies = initialEnemies;
+		this.enemyStep = enemyStep;
+		this.stepSeconds = stepSeconds;
+		this.maxEnemies = maxEnemies;
+		this.fireRate = fireRate;
+		this.projectileVelocity = projectileVelocity;
+		this.budgetNanos = budgetNanos;
+		this.output = output;
+	}
+
+	/**
+	 * Reads the stress settings chosen at launch.
+	 * Every setting has a default: 100 enemies rising by 100 every 2 seconds up to 50000, each firing twice a second
+	 * at -400 pixels per second, until the median tick takes longer than a 60 Hz frame.
+	 *
+	 * @return the settings
+	 */
+	public static StressConfig getConfigured() {
+		String output = System.getProperty(PROPERTY_PREFIX + "out");
+		return new StressConfig(
+				Integer.getInteger(PROPERTY_PREFIX + "initialEnemies", 100),
+				Integer.getInteger(PROPERTY_PREFIX + "enemyStep", 100),
+				getDouble("stepSeconds", 2),
+				Integer.getInteger(PROPERTY_PREFIX + "maxEnemies", 50_000),
+				getDouble("fireRate", 2),
+				getDouble("projectileVelocity", -400),
+				Math.round(getDouble("budgetMs", 1000.0 / 60) * 1_000_000),
+				output != null ? Paths.get(output) : null);
+	}
+
+	/**
+	 * Reads a decimal stress setting.
+	 *
+	 * @param name         the name of the setting, after the property prefix
+	 * @param defaultValue the value used if the property is not set
+	 * @return the value of the setting
+	 */
+	private static double getDouble(String name, double defaultValue) {
+		String value = System.getProperty(PROPERTY_PREFIX + name);
+		return value != null ? Double.parseDouble(value) : defaultValue;
+	}
+
+	/**
+	 * Gets the number of enemies the world holds at a step of the ramp.
+	 *
+	 * @param step the step, counted from 0
+	 * @return the enemy count, at most the maximum
+	 */
+	public int getEnemiesAtStep(long step) {
+		return (int) Math.min(maxEnemies, initialEnemies + step * enemyStep);
+	}
+
+	/**
+	 * Gets the number of enemies the world starts with.
+	 *
+	 * @return the initial enemy count
+	 */
+	public int getInitialEnemies() {
+		return initialEnemies;
+	}
+
+	/**
+	 * Gets the number of enemies added at each step of the ramp.
+	 *
+	 * @return the enemy step
+	 */
+	public int getEnemyStep() {
+		return enemyStep;
+	}
+
+	/**
+	 * Gets how long each enemy count is held.
+	 *
+	 * @return the step length, in seconds
+	 */
+	public double getStepSeconds() {
+		return stepSeconds;
+	}
+
+	/**
+	 * Gets the enemy count at which the ramp stops.
+	 *
+	 * @return the maximum enemy count
+	 */
+	public int getMaxEnemies() {
+		return maxEnemies;
+	}
+
+	/**
+	 * Gets the average number of projectiles each enemy fires per second.
+	 *
+	 * @return the fire rate
+	 */
+	public double getFireRate() {
+		return fireRate;
+	}
+
+	/**
+	 * Gets the horizontal velocity of enemy projectiles.
+	 *
+	 * @return the velocity, in pixels per second
+	 */
+	public double getProjectileVelocity() {
+		return projectileVelocity;
+	}
+
+	/**
+	 * Gets the median tick time at which the run ends.
+	 *
+	 * @return the budget, in nanoseconds
+	 */
+	public long getBudgetNanos() {
+		return budgetNanos;
+	}
+
+	/**
+	 * Gets the file the scaling curve is written to.
+	 *
+	 * @return the output file, or null if the curve is only printed
+	 */
+	public Path getOutput() {
+		return output;
+	}
+
+	/**
+	 * Describes the settings in one line, for the header of a scaling curve.
+	 *
+	 * @return the settings as name=value pairs
+	 */
+	@Override
+	public String toString() {
+		return "initialEnemies=" + initialEnemies + " enemyStep=" + enemyStep + " stepSeconds=" + stepSeconds
+				+ " maxEnemies=" + maxEnemies + " fireRate=" + fireRate + " projectileVelocity=" + projectileVelocity
+				+ " budgetMs=" + budgetNanos / 1e6;
+	}
+}
@@ -0,0 +1,174 @@
+package com.example.demo.model;
+
+import java.io.IOException;
+
+import com.example.demo.Actor.ActiveActor;
+import com.example.demo.manager.GameRandom;
+import com.example.demo.plane.EnemyPlane;
+import com.example.demo.profiling.ScalingCurve;
+
+/**
+ * StressLevelModel is the headless game world of the stress level.
+ * It keeps the world filled with enemy planes firing at the settings of a {@link StressConfig}, raising the enemy count
+ * one step at a time, and records how long each tick takes against the number of live actors in a {@link ScalingCurve}.
+ * The ramp follows the simulated time, not the wall clock, so a seeded run spawns the same world on every machine and
+ * only the measured times differ. The level is complete once a plateau's median tick exceeds the budget, or once the
+ * plateau at the maximum enemy count has been measured. Each tick is measured only the first time it is simulated,
+ * so a world moved back by a rewind or a quick load simulates its ticks again without adding them to the curve twice.
+ */
+public class StressLevelModel extends LevelModel {
+
+	/**
+	 * The user's health; the user must survive the whole run, whatever reaches them.
+	 */
+	private static final int PLAYER_INITIAL_HEALTH = Integer.MAX_VALUE;
+
+	/**
+	 * The settings of the run.
+	 */
+	private final StressConfig config;
+
+	/**
+	 * The tick times measured so far.
+	 */
+	private final ScalingCurve curve;
+
+	/**
+	 * Whether the run has ended.
+	 */
+	private boolean complete;
+
+	/**
+	 * The number of ticks measured so far, counted from the start of the run; later ticks are the only ones measured.
+	 */
+	private long measuredTicks;
+
+	/**
+	 * Constructor for StressLevelModel.
+	 *
+	 * @param screenHeight the height of the game screen
+	 * @param screenWidth  the width of the game screen
+	 * @param random       the source of the level's randomness
+	 * @param config       the settings of the run
+	 */
+	public StressLevelModel(double screenHeight, double screenWidth, GameRandom random, StressConfig config) {
+		super(screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, random);
+		this.config = config;
+		this.curve = new ScalingCurve();
+	}
+
+	/**
+	 * Advances the world by one tick and records how long the tick took.
+	 * A tick that starts a new step of the ramp closes the previous plateau and checks it against the budget.
+	 * A tick that was measured before, because the world was moved back to an earlier tick, is not measured again.
+	 *
+	 * @param deltaSeconds the length of the tick, in seconds
+	 */
+	@Override
+	public void step(double deltaSeconds) {
+		long start = System.nanoTime();
+		super.step(deltaSeconds);
+		long elapsed = System.nanoTime() - start;
+		long tick = getTickCount() - 1;
+		if (complete || tick < measuredTicks) {
+			return;
+		}
+		measuredTicks = tick + 1;
+		long rampStep = getRampStep(tick, deltaSeconds);
+		ScalingCurve.Point point = curve.record(rampStep, getEnemyUnits().size(), getProjectileCount(), elapsed);
+		if (point != null && (point.getP50Nanos() > config.getBudgetNanos()
+				|| config.getEnemiesAtStep(point.getStep()) >= config.getMaxEnemies())) {
+			complete = true;
+		}
+	}
+
+	/**
+	 * Tops the enemy count up to the current step of the ramp.
+	 * New enemies appear anywhere across the screen, so the world is full from the first tick of a step
+	 * rather than filling from the right edge.
+	 */
+	@Override
+	protected void spawnEnemyUnits() {
+		GameRandom random = getRandom();
+		int target = config.getEnemiesAtStep(getRampStep(getTickCount(), getTickSeconds()));
+		for (int i = getCurrentNumberOfEnemies(); i < target; i++) {
+			double x = random.nextDouble() * getScreenWidth();
+			double y = random.nextDouble() * getEnemyMaximumYPosition();
+			addEnemyUnit(createEnemy(x, y));
+		}
+	}
+
+	/**
+	 * Creates an enemy of the given kind for restored state to be read into, with the run's fire settings.
+	 *
+	 * @param kind the kind returned by {@link #getEnemyKind}
+	 * @return the enemy
+	 * @throws IOException if the kind is not one this level has
+	 */
+	@Override
+	protected ActiveActor.ActiveActorDestructible createEnemyUnit(byte kind) throws IOException {
+		if (kind != 0) {
+			throw new IOException("Unknown enemy kind: " + kind);
+		}
+		return createEnemy(getScreenWidth(), 0);
+	}
+
+	/**
+	 * Creates an enemy plane with the run's fire rate and projectile velocity.
+	 *
+	 * @param x the initial x-coordinate of the enemy
+	 * @param y the initial y-coordinate of the enemy
+	 * @return the enemy
+	 */
+	private EnemyPlane createEnemy(double x, double y) {
+		return new EnemyPlane(x, y, getRandom(), config.getFireRate(), config.getProjectileVelocity());
+	}
+
+	/**
+	 * Gets the step of the ramp a tick belongs to.
+	 *
+	 * @param tick         the tick, counted from 0
+	 * @param deltaSeconds the length of a tick, in seconds
+	 * @return the ramp step, counted from 0
+	 */
+	private long getRampStep(long tick, double deltaSeconds) {
+		return (long) (tick * deltaSeconds / config.getStepSeconds());
+	}
+
+	/**
+	 * Gets the number of projectiles in the world, fired by either side.
+	 *
+	 * @return the projectile count
+	 */
+	private int getProjectileCount() {
+		return getUserProjectiles().getCount() + getEnemyProjectiles().getCount();
+	}
+
+	/**
+	 * Checks if the run has ended.
+	 *
+	 * @return true once a plateau exceeded the budget or the maximum enemy count was measured, false otherwise
+	 */
+	@Override
+	public boolean isLevelComplete() {
+		return complete;
+	}
+
+	/**
+	 * Gets the settings of the run.
+	 *
+	 * @return the stress configuration
+	 */
+	public StressConfig getConfig() {
+		return config;
+	}
+
+	/**
+	 * Gets the tick times measured so far.
+	 *
+	 * @return the scaling curve
+	 */
+	public ScalingCurve getCurve() {
+		return curve;
+	}
+}
@@ -0,0 +1,41 @@
+package com.example.demo.model;
+
+/**
+ * TickInput defines the player input applied to a {@link LevelModel} at the start of a tick.
+ * The input of a tick is a small bit set: at most one movement direction and whether the user fires.
+ * Key events are latched into this form between ticks, so the same inputs applied to a world created with
+ * the same seed always play out the same way, whether they come from the keyboard or from a replay.
+ */
+public final class TickInput {
+
+	/**
+	 * No input: the user's plane stops and does not fire.
+	 */
+	public static final int NONE = 0;
+
+	/**
+	 * The user's plane moves up during the tick.
+	 */
+	public static final int MOVE_UP = 1;
+
+	/**
+	 * The user's plane moves down during the tick.
+	 */
+	public static final int MOVE_DOWN = 1 << 1;
+
+	/**
+	 * The user's plane fires once at the start of the tick.
+	 */
+	public static final int FIRE = 1 << 2;
+
+	/**
+	 * Every bit that an input may have set.
+	 */
+	public static final int ALL = MOVE_UP | MOVE_DOWN | FIRE;
+
+	/**
+	 * Private constructor; TickInput only holds constants.
+	 */
+	private TickInput() {
+	}
+}
@@ -0,0 +1,130 @@
+package com.example.demo.model;
+
+/**
+ * The WorldBounds class is the area an actor must stay in to remain part of the world:
+ * the screen grown by a margin on every side.
+ * An actor whose hitbox lies entirely outside this area can no longer be seen or hit, and is retired by the level.
+ * The margin keeps actors that are still entering the world, such as enemies spawned just past the right edge
+ * and the shots they fire there, from being retired before they reach the screen.
+ */
+public final class WorldBounds {
+
+	/**
+	 * The system property that sets the margin at launch, in pixels, for example {@code -Dgame.cullMargin=400}.
+	 */
+	public static final String MARGIN_PROPERTY = "game.cullMargin";
+
+	/**
+	 * The margin used when the property is not set, in pixels.
+	 * Wide enough for the widest plane, so an enemy spawned beyond the right edge is still inside.
+	 */
+	public static final double DEFAULT_MARGIN = 200;
+
+	/**
+	 * The left edge of the world.
+	 */
+	private final double minX;
+
+	/**
+	 * The top edge of the world.
+	 */
+	private final double minY;
+
+	/**
+	 * The right edge of the world.
+	 */
+	private final double maxX;
+
+	/**
+	 * The bottom edge of the world.
+	 */
+	private final double maxY;
+
+	/**
+	 * Constructor for the WorldBounds class.
+	 *
+	 * @param screenWidth  the width of the screen
+	 * @param screenHeight the height of the screen
+	 * @param margin       how far past each edge of the screen the world extends, in pixels
+	 */
+	public WorldBounds(double screenWidth, double screenHeight, double margin) {
+		if (margin < 0) {
+			throw new IllegalArgumentException("World margin must not be negative: " + margin);
+		}
+		this.minX = -margin;
+		this.minY = -margin;
+		this.maxX = screenWidth + margin;
+		this.maxY = screenHeight + margin;
+	}
+
+	/**
+	 * Creates the world bounds chosen at launch.
+	 *
+	 * @param screenWidth  the width of the screen
+	 * @param screenHeight the height of the screen
+	 * @return world bounds with the margin given by the system property, or the default margin if it is not set
+	 */
+	public static WorldBounds getConfigured(double screenWidth, double screenHeight) {
+		String margin = System.getProperty(MARGIN_PROPERTY);
+		return new WorldBounds(screenWidth, screenHeight, margin != null ? Double.parseDouble(margin) : DEFAULT_MARGIN);
+	}
+
+	/**
+	 * Checks whether a box lies entirely outside the world.
+	 *
+	 * @param boxMinX the left edge of the box
+	 * @param boxMinY the top edge of the box
+	 * @param boxMaxX the right edge of the box
+	 * @param boxMaxY the bottom edge of the box
+	 * @return true if no part of the box is inside the world, false otherwise
+	 */
+	public boolean isOutside(double boxMinX, double boxMinY, double boxMaxX, double boxMaxY) {
+		return boxMaxX < minX || boxMinX > maxX || boxMaxY < minY || boxMinY > maxY;
+	}
+
+	/**
+	 * Checks whether a box lies entirely past the left edge of the world, the edge the user defends.
+	 *
+	 * @param boxMaxX the right edge of the box
+	 * @return true if the box is past the left edge, false otherwise
+	 */
+	public boolean isPastLeftEdge(double boxMaxX) {
+		return boxMaxX < minX;
+	}
+
+	/**
+	 * Gets the left edge of the world.
+	 *
+	 * @return the x-coordinate
+	 */
+	public double getMinX() {
+		return minX;
+	}
+
+	/**
+	 * Gets the top edge of the world.
+	 *
+	 * @return the y-coordinate
+	 */
+	public double getMinY() {
+		return minY;
+	}
+
+	/**
+	 * Gets the right edge of the world.
+	 *
+	 * @return the x-coordinate
+	 */
+	public double getMaxX() {
+		return maxX;
+	}
+
+	/**
+	 * Gets the bottom edge of the world.
+	 *
+	 * @return the y-coordinate
+	 */
+	public double getMaxY() {
+		return maxY;
+	}
+}
@@ -1,14 +1,18 @@
 package com.example.demo.plane;
 
-import com.example.demo.projectile.BossProjectile;
-import java.util.*;
-import com.example.demo.Image.ShieldImage;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import com.example.demo.collision.Hitbox;
+import com.example.demo.manager.GameRandom;
+import com.example.demo.projectile.ProjectileType;
 
 /**
  * The Boss class extends FighterPlane and represents the boss enemy in the game.
  * It has unique characteristics and behaviors, such as a shield, a move pattern,
  * and a fire rate. It controls the boss's movement, firing projectiles, taking damage,
- * and shield activation.
+ * and shield activation. The shield is only modelled here; the level displays it from {@link #isShielded()}.
  */
 public class Boss extends FighterPlane {
 
@@ -36,17 +40,23 @@ public class Boss extends FighterPlane {
 	 */
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 75.0;
 
+	/**
+	 * The offset for the projectile's x-position.
+	 * This value places the boss's projectiles just in front of the boss.
+	 */
+	private static final double PROJECTILE_X_POSITION_OFFSET = -50.0;
+
 	/**
 	 * The fire rate of the boss.
-	 * A value between 0 and 1 indicating the probability of the boss firing a projectile in a frame.
+	 * The average number of projectiles the boss fires per second.
 	 */
-	private static final double BOSS_FIRE_RATE = 0.04;
+	private static final double BOSS_FIRE_RATE = 0.8;
 
 	/**
-	 * The probability of the boss activating its shield.
-	 * A value between 0 and 1 indicating the likelihood of the shield being activated.
+	 * The rate at which the boss activates its shield.
+	 * The average number of activations per second while the shield is down.
 	 */
-	private static final double BOSS_SHIELD_PROBABILITY = 0.02;
+	private static final double BOSS_SHIELD_RATE = 0.4;
 
 	/**
 	 * The height of the boss's image.
@@ -54,11 +64,16 @@ public class Boss extends FighterPlane {
 	 */
 	private static final int IMAGE_HEIGHT = 300;
 
+	/**
+	 * The part of the boss that can be hit: the drawn plane, without the transparent margin around it.
+	 */
+	private static final Hitbox HITBOX = Hitbox.rectangle(58, 122, 58, 122);
+
 	/**
 	 * The vertical velocity of the boss.
-	 * This value determines how fast the boss moves vertically.
+	 * This value determines how fast the boss moves vertically, in pixels per second.
 	 */
-	private static final int VERTICAL_VELOCITY = 8;
+	private static final int VERTICAL_VELOCITY = 160;
 
 	/**
 	 * The health of the boss.
@@ -79,10 +94,10 @@ public class Boss extends FighterPlane {
 	private static final int ZERO = 0;
 
 	/**
-	 * The maximum number of frames the boss can move in the same direction.
+	 * The time the boss keeps moving in the same direction, in seconds.
 	 * This limits how long the boss can move in one direction before changing.
 	 */
-	private static final int MAX_FRAMES_WITH_SAME_MOVE = 10;
+	private static final double SECONDS_WITH_SAME_MOVE = 0.5;
 
 	/**
 	 * The upper bound of the boss's y-position.
@@ -97,16 +112,21 @@ public class Boss extends FighterPlane {
 	private static final int Y_POSITION_LOWER_BOUND = 475;
 
 	/**
-	 * The maximum number of frames the shield can be activated.
-	 * The shield will deactivate after this many frames.
+	 * The time the shield stays activated, in seconds.
+	 * The shield will deactivate after this long.
 	 */
-	private static final int MAX_FRAMES_WITH_SHIELD = 20;
+	private static final double SECONDS_WITH_SHIELD = 1.0;
 
 	/**
-	 * The list of moves in the boss's move pattern.
+	 * The moves in the boss's move pattern.
 	 * Contains vertical velocities that determine the boss's vertical movement.
 	 */
-	private final List<Integer> movePattern;
+	private final int[] movePattern;
+
+	/**
+	 * The level's source of randomness, which decides the boss's moves, shots and shield.
+	 */
+	private final GameRandom random;
 
 	/**
 	 * Flag indicating if the boss has its shield activated.
@@ -127,43 +147,40 @@ public class Boss extends FighterPlane {
 	private int indexOfCurrentMove;
 
 	/**
-	 * The number of frames the shield has been activated.
+	 * The number of ticks the shield has been activated.
 	 * Tracks how long the shield has been active.
 	 */
-	private int framesWithShieldActivated;
-
-	/**
-	 * The shield image associated with the boss.
-	 * Represents the shield that can be activated or deactivated.
-	 */
-	private final ShieldImage shieldImage;
+	private int ticksWithShieldActivated;
 
 	/**
 	 * Constructor for the Boss class.
-	 * Initializes the boss's properties, move pattern, and shield image.
+	 * Initializes the boss's properties and move pattern.
+	 *
+	 * @param random The level's source of randomness.
 	 */
-	public Boss() {
-		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
-		movePattern = new ArrayList<>();
+	public Boss(GameRandom random) {
+		super(IMAGE_NAME, IMAGE_HEIGHT, HITBOX, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
+		this.random = random;
+		movePattern = new int[MOVE_FREQUENCY_PER_CYCLE * 3];
 		consecutiveMovesInSameDirection = 0;
 		indexOfCurrentMove = 0;
-		framesWithShieldActivated = 0;
+		ticksWithShieldActivated = 0;
 		isShielded = false;
 		initializeMovePattern();
-		shieldImage = new ShieldImage(INITIAL_X_POSITION, INITIAL_Y_POSITION);
 	}
 
 	/**
 	 * Updates the boss's position.
-	 * Moves the boss vertically, adjusts the shield image's position, and checks position bounds.
+	 * Moves the boss vertically by the next move of its pattern, and checks position bounds.
+	 *
+	 * @param deltaSeconds The length of the tick, in seconds.
 	 */
 	@Override
-	public void updatePosition() {
+	public void updatePosition(double deltaSeconds) {
 		double initialTranslateY = getTranslateY();
-		moveVertically(getNextMove());
+		setVelocity(0, getNextMove(deltaSeconds));
+		moveVertically(getVelocityY() * deltaSeconds);
 		double currentPosition = getLayoutY() + getTranslateY();
-		shieldImage.setLayoutX(getLayoutX());
-		shieldImage.setLayoutY(currentPosition);
 
 		if (currentPosition < Y_POSITION_UPPER_BOUND || currentPosition > Y_POSITION_LOWER_BOUND) {
 			setTranslateY(initialTranslateY);
@@ -173,22 +190,39 @@ public class Boss extends FighterPlane {
 	/**
 	 * Updates the boss's state.
 	 * Calls updatePosition() and updateShield() to update the boss's position and shield.
+	 *
+	 * @param deltaSeconds The length of the tick, in seconds.
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
-		updateShield();
+	public void updateActor(double deltaSeconds) {
+		updatePosition(deltaSeconds);
+		updateShield(deltaSeconds);
+	}
+
+	/**
+	 * The boss's update draws from the level's random source, so it must run in list order with the other draws.
+	 *
+	 * @return false
+	 */
+	@Override
+	public boolean hasIndependentUpdate() {
+		return false;
 	}
 
 	/**
 	 * Fires a projectile from the boss.
-	 * The boss fires a projectile based on the bossFiresInCurrentFrame() condition.
+	 * The boss fires a projectile based on the bossFiresInCurrentTick() condition.
 	 *
-	 * @return A new BossProjectile if the boss fires, or null if it doesn't.
+	 * @param deltaSeconds The length of the tick the decision covers, in seconds.
+	 * @return True if the boss fired a fireball, false otherwise.
 	 */
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		return bossFiresInCurrentFrame()? new BossProjectile(getProjectileInitialPosition()) : null;
+	public boolean fireProjectile(double deltaSeconds) {
+		if (!bossFiresInCurrentTick(deltaSeconds)) {
+			return false;
+		}
+		return spawnProjectile(ProjectileType.BOSS, getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET),
+				getProjectileInitialPosition());
 	}
 
 	/**
@@ -202,62 +236,96 @@ public class Boss extends FighterPlane {
 		}
 	}
 
+	/**
+	 * Writes the boss's changing state, including its move pattern and shield.
+	 *
+	 * @param out The output to write to.
+	 * @throws IOException If the output cannot be written.
+	 */
+	@Override
+	public void writeState(DataOutput out) throws IOException {
+		super.writeState(out);
+		for (int move : movePattern) {
+			out.writeInt(move);
+		}
+		out.writeInt(indexOfCurrentMove);
+		out.writeInt(consecutiveMovesInSameDirection);
+		out.writeBoolean(isShielded);
+		out.writeInt(ticksWithShieldActivated);
+	}
+
+	/**
+	 * Restores state written by {@link #writeState(DataOutput)}.
+	 *
+	 * @param in The input to read from.
+	 * @throws IOException If the input cannot be read.
+	 */
+	@Override
+	public void readState(DataInput in) throws IOException {
+		super.readState(in);
+		for (int i = 0; i < movePattern.length; i++) {
+			movePattern[i] = in.readInt();
+		}
+		indexOfCurrentMove = in.readInt();
+		consecutiveMovesInSameDirection = in.readInt();
+		isShielded = in.readBoolean();
+		ticksWithShieldActivated = in.readInt();
+	}
+
 	/**
 	 * Initializes the boss's move pattern.
 	 * Creates a pattern of vertical moves and shuffles them.
 	 */
 	private void initializeMovePattern() {
 		for (int i = 0; i < MOVE_FREQUENCY_PER_CYCLE; i++) {
-			movePattern.add(VERTICAL_VELOCITY);
-			movePattern.add(-VERTICAL_VELOCITY);
-			movePattern.add(ZERO);
+			movePattern[3 * i] = VERTICAL_VELOCITY;
+			movePattern[3 * i + 1] = -VERTICAL_VELOCITY;
+			movePattern[3 * i + 2] = ZERO;
 		}
-		Collections.shuffle(movePattern);
+		random.shuffle(movePattern);
 	}
 
 	/**
 	 * Updates the shield's state.
 	 * Activates, deactivates, or maintains the shield based on various conditions.
+	 *
+	 * @param deltaSeconds The length of the tick, in seconds.
 	 */
-	private void updateShield() {
-		if (isShielded) framesWithShieldActivated++;
-		else if (shieldShouldBeActivated()) {
-			activateShield();
-			shieldImage.showShield();
-		}
-		if (shieldExhausted()) {
-			deactivateShield();
-			shieldImage.hideShield();
-		}
+	private void updateShield(double deltaSeconds) {
+		if (isShielded) ticksWithShieldActivated++;
+		else if (shieldShouldBeActivated(deltaSeconds)) activateShield();
+		if (shieldExhausted(deltaSeconds)) deactivateShield();
 	}
 
 	/**
 	 * Gets the next move from the move pattern.
 	 * Chooses the next move, shuffles the pattern if necessary, and resets the index.
 	 *
+	 * @param deltaSeconds The length of the tick, in seconds.
 	 * @return The next vertical move from the move pattern.
 	 */
-	private int getNextMove() {
-		int currentMove = movePattern.get(indexOfCurrentMove);
+	private int getNextMove(double deltaSeconds) {
+		int currentMove = movePattern[indexOfCurrentMove];
 		consecutiveMovesInSameDirection++;
-		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern);
+		if (consecutiveMovesInSameDirection >= ticksIn(SECONDS_WITH_SAME_MOVE, deltaSeconds)) {
+			random.shuffle(movePattern);
 			consecutiveMovesInSameDirection = 0;
 			indexOfCurrentMove++;
 		}
-		if (indexOfCurrentMove == movePattern.size()) {
+		if (indexOfCurrentMove == movePattern.length) {
 			indexOfCurrentMove = 0;
 		}
 		return currentMove;
 	}
 
 	/**
-	 * Determines if the boss fires in the current frame.
+	 * Determines if the boss fires in the current tick.
 	 *
+	 * @param deltaSeconds The length of the tick, in seconds.
 	 * @return True if the boss fires, false otherwise.
 	 */
-	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
+	private boolean bossFiresInCurrentTick(double deltaSeconds) {
+		return random.chance(BOSS_FIRE_RATE * deltaSeconds);
 	}
 
 	/**
@@ -273,19 +341,32 @@ public class Boss extends FighterPlane {
 	/**
 	 * Determines if the shield should be activated.
 	 *
+	 * @param deltaSeconds The length of the tick, in seconds.
 	 * @return True if the shield should be activated, false otherwise.
 	 */
-	private boolean shieldShouldBeActivated() {
-		return Math.random() < BOSS_SHIELD_PROBABILITY;
+	private boolean shieldShouldBeActivated(double deltaSeconds) {
+		return random.chance(BOSS_SHIELD_RATE * deltaSeconds);
 	}
 
 	/**
 	 * Determines if the shield is exhausted.
 	 *
+	 * @param deltaSeconds The length of the tick, in seconds.
 	 * @return True if the shield has been active for too long, false otherwise.
 	 */
-	private boolean shieldExhausted() {
-		return framesWithShieldActivated == MAX_FRAMES_WITH_SHIELD;
+	private boolean shieldExhausted(double deltaSeconds) {
+		return ticksWithShieldActivated >= ticksIn(SECONDS_WITH_SHIELD, deltaSeconds);
+	}
+
+	/**
+	 * Converts a duration to a whole number of ticks, so timers count the same time at any tick rate.
+	 *
+	 * @param seconds      The duration, in seconds.
+	 * @param deltaSeconds The length of a tick, in seconds.
+	 * @return The number of ticks in the duration, at least one.
+	 */
+	private static int ticksIn(double seconds, double deltaSeconds) {
+		return (int) Math.max(1, Math.round(seconds / deltaSeconds));
 	}
 
 	/**
@@ -298,19 +379,20 @@ public class Boss extends FighterPlane {
 
 	/**
 	 * Deactivates the boss's shield.
-	 * Resets the shield activation status and frame counter.
+	 * Resets the shield activation status and tick counter.
 	 */
 	private void deactivateShield() {
 		isShielded = false;
-		framesWithShieldActivated = 0;
+		ticksWithShieldActivated = 0;
 	}
 
 	/**
-	 * Gets the boss's shield image.
+	 * Checks if the boss's shield is currently activated.
 	 *
-	 * @return The ShieldImage associated with the boss.
+	 * @return True if the shield is active, false otherwise.
 	 */
-	public ShieldImage getShieldImage() {
-		return shieldImage;
+	@Override
+	public boolean isShielded() {
+		return isShielded;
 	}
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.example.demo.plane;
 
-import com.example.demo.projectile.EnemyProjectile;
+import com.example.demo.collision.Hitbox;
+import com.example.demo.manager.GameRandom;
+import com.example.demo.projectile.ProjectileType;
 
 /**
  * The EnemyPlane class extends FighterPlane and represents an enemy plane in the game.
@@ -21,12 +23,17 @@ public class EnemyPlane extends FighterPlane {
 	 */
 	private static final int IMAGE_HEIGHT = 150;
 
+	/**
+	 * The part of the enemy plane that can be hit: the drawn plane, without the transparent margin around it.
+	 */
+	private static final Hitbox HITBOX = Hitbox.rectangle(19, 48, 19, 48);
+
 	/**
 	 * The horizontal velocity of the enemy plane.
-	 * It determines how fast the enemy plane moves horizontally. A negative value indicates
+	 * It determines how fast the enemy plane moves horizontally, in pixels per second. A negative value indicates
 	 * it moves from right to left.
 	 */
-	private static final int HORIZONTAL_VELOCITY = -6;
+	private static final int HORIZONTAL_VELOCITY = -120;
 
 	/**
 	 * The offset for the projectile's x-position.
@@ -47,52 +54,91 @@ public class EnemyPlane extends FighterPlane {
 	private static final int INITIAL_HEALTH = 1;
 
 	/**
-	 * The fire rate of the enemy plane.
-	 * A value between 0 and 1 indicating the probability of the enemy plane firing a projectile in a frame.
+	 * The default fire rate of an enemy plane.
+	 * The average number of projectiles the enemy plane fires per second.
+	 */
+	private static final double FIRE_RATE = 0.2;
+
+	/**
+	 * The level's source of randomness, which decides when the enemy plane fires.
 	 */
-	private static final double FIRE_RATE = 0.01;
+	private final GameRandom random;
+
+	/**
+	 * The average number of projectiles this enemy plane fires per second.
+	 */
+	private final double fireRate;
+
+	/**
+	 * The horizontal velocity of this enemy plane's projectiles, in pixels per second.
+	 */
+	private final double projectileVelocity;
 
 	/**
 	 * Constructor for the EnemyPlane class.
 	 *
 	 * @param initialXPos The initial x-coordinate position of the enemy plane.
 	 * @param initialYPos The initial y-coordinate position of the enemy plane.
+	 * @param random      The level's source of randomness.
 	 */
-	public EnemyPlane(double initialXPos, double initialYPos) {
-		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
+	public EnemyPlane(double initialXPos, double initialYPos, GameRandom random) {
+		this(initialXPos, initialYPos, random, FIRE_RATE, ProjectileType.ENEMY.getVelocityX());
+	}
+
+	/**
+	 * Constructor for an enemy plane with its own fire rate and projectile speed, as used by the stress level.
+	 *
+	 * @param initialXPos        The initial x-coordinate position of the enemy plane.
+	 * @param initialYPos        The initial y-coordinate position of the enemy plane.
+	 * @param random             The level's source of randomness.
+	 * @param fireRate           The average number of projectiles the enemy plane fires per second.
+	 * @param projectileVelocity The horizontal velocity of the enemy plane's projectiles, in pixels per second.
+	 */
+	public EnemyPlane(double initialXPos, double initialYPos, GameRandom random, double fireRate,
+			double projectileVelocity) {
+		super(IMAGE_NAME, IMAGE_HEIGHT, HITBOX, initialXPos, initialYPos, INITIAL_HEALTH);
+		this.random = random;
+		this.fireRate = fireRate;
+		this.projectileVelocity = projectileVelocity;
+		setVelocity(HORIZONTAL_VELOCITY, 0);
 	}
 
 	/**
 	 * Updates the position of the enemy plane.
 	 * Moves the enemy plane horizontally based on its horizontal velocity.
+	 *
+	 * @param deltaSeconds The length of the tick, in seconds.
 	 */
 	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+	public void updatePosition(double deltaSeconds) {
+		moveHorizontally(getVelocityX() * deltaSeconds);
 	}
 
 	/**
 	 * Fires a projectile from the enemy plane.
-	 * The enemy plane fires a projectile based on the fire rate probability.
+	 * The enemy plane fires with a chance of the fire rate times the tick length.
 	 *
-	 * @return A new EnemyProjectile if the enemy plane fires, or null if it doesn't.
+	 * @param deltaSeconds The length of the tick the decision covers, in seconds.
+	 * @return True if the enemy plane fired an enemy projectile, false otherwise.
 	 */
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		if (Math.random() < FIRE_RATE) {
+	public boolean fireProjectile(double deltaSeconds) {
+		if (random.chance(fireRate * deltaSeconds)) {
 			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
 			double projectileYPostion = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-			return new EnemyProjectile(projectileXPosition, projectileYPostion);
+			return spawnProjectile(ProjectileType.ENEMY, projectileXPosition, projectileYPostion, projectileVelocity);
 		}
-		return null;
+		return false;
 	}
 
 	/**
 	 * Updates the state of the enemy plane.
 	 * Calls updatePosition() to update the enemy plane's position.
+	 *
+	 * @param deltaSeconds The length of the tick, in seconds.
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateActor(double deltaSeconds) {
+		updatePosition(deltaSeconds);
 	}
 }
\ No newline at end of file
@@ -1,6 +1,13 @@
 package com.example.demo.plane;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 import com.example.demo.Actor.ActiveActor;
+import com.example.demo.collision.Hitbox;
+import com.example.demo.projectile.ProjectileStore;
+import com.example.demo.projectile.ProjectileType;
 
 /**
  * The FighterPlane class is an abstract class that extends ActiveActor.ActiveActorDestructible.
@@ -15,6 +22,12 @@ public abstract class FighterPlane extends ActiveActor.ActiveActorDestructible {
 	 */
 	private int health;
 
+	/**
+	 * The store that projectiles fired by this plane are added to.
+	 * If no store has been set, the plane cannot fire.
+	 */
+	private ProjectileStore projectileStore;
+
 	/**
 	 * Constructor for the FighterPlane class.
 	 *
@@ -25,17 +38,34 @@ public abstract class FighterPlane extends ActiveActor.ActiveActorDestructible {
 	 * @param health      The initial health of the fighter plane.
 	 */
 	public FighterPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
-		super(imageName, imageHeight, initialXPos, initialYPos);
+		this(imageName, imageHeight, Hitbox.FULL, initialXPos, initialYPos, health);
+	}
+
+	/**
+	 * Constructor for the FighterPlane class with a hitbox.
+	 *
+	 * @param imageName   The name of the image file for the fighter plane.
+	 * @param imageHeight The height of the fighter plane's image.
+	 * @param hitbox      The part of the sprite that can be hit.
+	 * @param initialXPos The initial x-coordinate position of the fighter plane.
+	 * @param initialYPos The initial y-coordinate position of the fighter plane.
+	 * @param health      The initial health of the fighter plane.
+	 */
+	public FighterPlane(String imageName, int imageHeight, Hitbox hitbox, double initialXPos, double initialYPos,
+			int health) {
+		super(imageName, imageHeight, hitbox, initialXPos, initialYPos);
 		this.health = health;
 	}
 
 	/**
 	 * Abstract method to fire a projectile.
-	 * Subclasses must implement this method to define how the fighter plane fires a projectile.
+	 * Subclasses must implement this method to define how the fighter plane fires a projectile into its store.
+	 * Planes that fire at random turn their per-second fire rate into a chance for the given tick.
 	 *
-	 * @return An ActiveActorDestructible representing the fired projectile.
+	 * @param deltaSeconds The length of the tick the decision covers, in seconds.
+	 * @return True if a projectile was fired, false otherwise.
 	 */
-	public abstract ActiveActorDestructible fireProjectile();
+	public abstract boolean fireProjectile(double deltaSeconds);
 
 	/**
 	 * Handles taking damage for the fighter plane.
@@ -49,6 +79,68 @@ public abstract class FighterPlane extends ActiveActor.ActiveActorDestructible {
 		}
 	}
 
+	/**
+	 * Writes the plane's changing state, including its health.
+	 *
+	 * @param out The output to write to.
+	 * @throws IOException If the output cannot be written.
+	 */
+	@Override
+	public void writeState(DataOutput out) throws IOException {
+		super.writeState(out);
+		out.writeInt(health);
+	}
+
+	/**
+	 * Restores state written by {@link #writeState(DataOutput)}.
+	 *
+	 * @param in The input to read from.
+	 * @throws IOException If the input cannot be read.
+	 */
+	@Override
+	public void readState(DataInput in) throws IOException {
+		super.readState(in);
+		health = in.readInt();
+	}
+
+	/**
+	 * Sets the store that this plane's projectiles are added to.
+	 *
+	 * @param projectileStore The projectile store of the current level for this plane's side.
+	 */
+	public void setProjectileStore(ProjectileStore projectileStore) {
+		this.projectileStore = projectileStore;
+	}
+
+	/**
+	 * Adds a projectile of the given type to this plane's projectile store.
+	 *
+	 * @param type        The projectile type to fire.
+	 * @param initialXPos The initial x-coordinate position of the projectile.
+	 * @param initialYPos The initial y-coordinate position of the projectile.
+	 * @return True if the projectile was added, false if no store has been set.
+	 */
+	protected boolean spawnProjectile(ProjectileType type, double initialXPos, double initialYPos) {
+		return spawnProjectile(type, initialXPos, initialYPos, type.getVelocityX());
+	}
+
+	/**
+	 * Adds a projectile of the given type, moving at the given velocity, to this plane's projectile store.
+	 *
+	 * @param type        The projectile type to fire.
+	 * @param initialXPos The initial x-coordinate position of the projectile.
+	 * @param initialYPos The initial y-coordinate position of the projectile.
+	 * @param velocityX   The horizontal velocity of the projectile, in pixels per second.
+	 * @return True if the projectile was added, false if no store has been set.
+	 */
+	protected boolean spawnProjectile(ProjectileType type, double initialXPos, double initialYPos, double velocityX) {
+		if (projectileStore == null) {
+			return false;
+		}
+		projectileStore.spawn(type, initialXPos, initialYPos, velocityX);
+		return true;
+	}
+
 	/**
 	 * Calculates the x-position of the projectile.
 	 *
@@ -1,6 +1,11 @@
 package com.example.demo.plane;
 
-import com.example.demo.projectile.UserProjectile;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import com.example.demo.collision.Hitbox;
+import com.example.demo.projectile.ProjectileType;
 
 /**
  * The UserPlane class extends FighterPlane and represents the player's plane in the game.
@@ -45,11 +50,17 @@ public class UserPlane extends FighterPlane {
 	 */
 	private static final int IMAGE_HEIGHT = 150;
 
+	/**
+	 * The part of the user plane that can be hit.
+	 * It sits a few pixels inside the drawn fuselage and wings, so grazing shots pass.
+	 */
+	private static final Hitbox HITBOX = Hitbox.rectangle(30, 58, 30, 58);
+
 	/**
 	 * The vertical velocity of the user plane.
-	 * It determines how fast the user plane moves vertically.
+	 * It determines how fast the user plane moves vertically, in pixels per second.
 	 */
-	private static final int VERTICAL_VELOCITY = 8;
+	private static final int VERTICAL_VELOCITY = 160;
 
 	/**
 	 * The x-position of the user plane's projectile.
@@ -63,12 +74,6 @@ public class UserPlane extends FighterPlane {
 	 */
 	private static final int PROJECTILE_Y_POSITION_OFFSET = 20;
 
-	/**
-	 * The velocity multiplier for the user plane's movement.
-	 * It controls the direction and speed of vertical movement.
-	 */
-	private int velocityMultiplier;
-
 	/**
 	 * The number of kills made by the user plane.
 	 * It keeps track of the number of enemies killed by the user plane.
@@ -81,19 +86,20 @@ public class UserPlane extends FighterPlane {
 	 * @param initialHealth The initial health of the user plane.
 	 */
 	public UserPlane(int initialHealth) {
-		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
-		velocityMultiplier = 0;
+		super(IMAGE_NAME, IMAGE_HEIGHT, HITBOX, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
 	}
 
 	/**
 	 * Updates the position of the user plane.
-	 * Moves the user plane vertically based on the velocity multiplier, and checks position bounds.
+	 * Moves the user plane vertically based on its vertical velocity, and checks position bounds.
+	 *
+	 * @param deltaSeconds The length of the tick, in seconds.
 	 */
 	@Override
-	public void updatePosition() {
+	public void updatePosition(double deltaSeconds) {
 		if (isMoving()) {
 			double initialTranslateY = getTranslateY();
-			this.moveVertically(VERTICAL_VELOCITY * velocityMultiplier);
+			this.moveVertically(getVelocityY() * deltaSeconds);
 			double newPosition = getLayoutY() + getTranslateY();
 			if (newPosition < Y_UPPER_BOUND || newPosition > Y_LOWER_BOUND) {
 				this.setTranslateY(initialTranslateY);
@@ -104,53 +110,58 @@ public class UserPlane extends FighterPlane {
 	/**
 	 * Updates the state of the user plane.
 	 * Calls updatePosition() to update the user plane's position.
+	 *
+	 * @param deltaSeconds The length of the tick, in seconds.
 	 */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateActor(double deltaSeconds) {
+		updatePosition(deltaSeconds);
 	}
 
 	/**
 	 * Fires a projectile from the user plane.
+	 * The user plane always fires when asked, so the tick length is not used.
 	 *
-	 * @return A new UserProjectile at the specified position.
+	 * @param deltaSeconds The length of the tick the decision covers, in seconds.
+	 * @return True if a user projectile was fired at the specified position, false otherwise.
 	 */
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		return new UserProjectile(PROJECTILE_X_POSITION, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
+	public boolean fireProjectile(double deltaSeconds) {
+		return spawnProjectile(ProjectileType.USER, PROJECTILE_X_POSITION,
+				getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
 	}
 
 	/**
 	 * Checks if the user plane is moving.
 	 *
-	 * @return True if the velocity multiplier is not zero, false otherwise.
+	 * @return True if the vertical velocity is not zero, false otherwise.
 	 */
 	private boolean isMoving() {
-		return velocityMultiplier!= 0;
+		return getVelocityY() != 0;
 	}
 
 	/**
 	 * Moves the user plane upwards.
-	 * Sets the velocity multiplier to -1, indicating upward movement.
+	 * Sets the vertical velocity to -VERTICAL_VELOCITY, indicating upward movement.
 	 */
 	public void moveUp() {
-		velocityMultiplier = -1;
+		setVelocity(0, -VERTICAL_VELOCITY);
 	}
 
 	/**
 	 * Moves the user plane downwards.
-	 * Sets the velocity multiplier to 1, indicating downward movement.
+	 * Sets the vertical velocity to VERTICAL_VELOCITY, indicating downward movement.
 	 */
 	public void moveDown() {
-		velocityMultiplier = 1;
+		setVelocity(0, VERTICAL_VELOCITY);
 	}
 
 	/**
 	 * Stops the user plane's movement.
-	 * Sets the velocity multiplier to 0.
+	 * Sets the vertical velocity to 0.
 	 */
 	public void stop() {
-		velocityMultiplier = 0;
+		setVelocity(0, 0);
 	}
 
 	/**
@@ -168,4 +179,28 @@ public class UserPlane extends FighterPlane {
 	public void incrementKillCount() {
 		numberOfKills++;
 	}
+
+	/**
+	 * Writes the user plane's changing state, including its number of kills.
+	 *
+	 * @param out The output to write to.
+	 * @throws IOException If the output cannot be written.
+	 */
+	@Override
+	public void writeState(DataOutput out) throws IOException {
+		super.writeState(out);
+		out.writeInt(numberOfKills);
+	}
+
+	/**
+	 * Restores state written by {@link #writeState(DataOutput)}.
+	 *
+	 * @param in The input to read from.
+	 * @throws IOException If the input cannot be read.
+	 */
+	@Override
+	public void readState(DataInput in) throws IOException {
+		super.readState(in);
+		numberOfKills = in.readInt();
+	}
 }
\ No newline at end of file
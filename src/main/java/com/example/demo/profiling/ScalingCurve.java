@@ -0,0 +1,295 @@
+package com.example.demo.profiling;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The ScalingCurve class records how long ticks take as the number of live actors grows.
+ * Ticks are recorded in plateaus, one per load step; when a plateau ends, the first quarter of its ticks is dropped
+ * as warm-up after the load change, and the rest are reduced to one point of the curve: the actor counts
+ * and the median, 99th percentile and maximum tick time. The curve can be written as CSV, so runs on
+ * different builds or machines can be compared.
+ */
+public class ScalingCurve {
+
+	/**
+	 * The fraction of each plateau's ticks dropped as warm-up.
+	 */
+	private static final double WARM_UP_FRACTION = 0.25;
+
+	/**
+	 * The number of nanoseconds in a microsecond.
+	 */
+	private static final double NANOS_PER_MICRO = 1000.0;
+
+	/**
+	 * The points of the curve, one per completed plateau.
+	 */
+	private final List<Point> points;
+
+	/**
+	 * The tick times of the current plateau, in nanoseconds.
+	 */
+	private long[] samples;
+
+	/**
+	 * The number of ticks recorded in the current plateau.
+	 */
+	private int sampleCount;
+
+	/**
+	 * The step of the current plateau, or -1 before the first tick.
+	 */
+	private long step;
+
+	/**
+	 * The sums of the actor counts over the current plateau, for averaging: enemies, then projectiles.
+	 */
+	private long enemySum;
+
+	/**
+	 * The sum of the projectile counts over the current plateau.
+	 */
+	private long projectileSum;
+
+	/**
+	 * Constructor for an empty curve.
+	 */
+	public ScalingCurve() {
+		this.points = new ArrayList<>();
+		this.samples = new long[256];
+		this.step = -1;
+	}
+
+	/**
+	 * Records a tick.
+	 * A tick of a new step closes the plateau of the previous step.
+	 *
+	 * @param tickStep    the load step the tick ran at
+	 * @param enemies     the number of enemies at the end of the tick
+	 * @param projectiles the number of projectiles at the end of the tick
+	 * @param tickNanos   how long the tick took, in nanoseconds
+	 * @return the point completed by this tick, or null if the plateau goes on
+	 */
+	public Point record(long tickStep, int enemies, int projectiles, long tickNanos) {
+		Point completed = null;
+		if (tickStep != step) {
+			completed = closePlateau();
+			step = tickStep;
+		}
+		if (sampleCount == samples.length) {
+			samples = Arrays.copyOf(samples, samples.length * 2);
+		}
+		samples[sampleCount++] = tickNanos;
+		enemySum += enemies;
+		projectileSum += projectiles;
+		return completed;
+	}
+
+	/**
+	 * Closes the current plateau, adding its point to the curve.
+	 *
+	 * @return the new point, or null if the plateau had no ticks
+	 */
+	public Point closePlateau() {
+		if (sampleCount == 0) {
+			return null;
+		}
+		int skipped = (int) (sampleCount * WARM_UP_FRACTION);
+		long[] measured = Arrays.copyOfRange(samples, skipped, sampleCount);
+		Arrays.sort(measured);
+		Point point = new Point(step, (int) (enemySum / sampleCount), (int) (projectileSum / sampleCount),
+				percentile(measured, 0.5), percentile(measured, 0.99), measured[measured.length - 1], sampleCount);
+		points.add(point);
+		sampleCount = 0;
+		enemySum = 0;
+		projectileSum = 0;
+		return point;
+	}
+
+	/**
+	 * Reads a percentile from sorted samples.
+	 *
+	 * @param sorted the samples in ascending order
+	 * @param q      the quantile, from 0 to 1
+	 * @return the sample at the quantile
+	 */
+	private static long percentile(long[] sorted, double q) {
+		return sorted[Math.min(sorted.length - 1, (int) (q * sorted.length))];
+	}
+
+	/**
+	 * Gets the completed points of the curve.
+	 *
+	 * @return the points, in the order they were measured
+	 */
+	public List<Point> getPoints() {
+		return Collections.unmodifiableList(points);
+	}
+
+	/**
+	 * Writes the curve as CSV.
+	 * Lines starting with '#' describe the run; the rest is a header row and one row per point, in microseconds.
+	 *
+	 * @param path        the file to write
+	 * @param description lines describing the run, written as comments
+	 * @throws IOException if the file cannot be written
+	 */
+	public void write(Path path, List<String> description) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			for (String line : description) {
+				writer.write("# " + line);
+				writer.newLine();
+			}
+			writer.write("step,enemies,projectiles,actors,ticks,p50_us,p99_us,max_us");
+			writer.newLine();
+			for (Point point : points) {
+				writer.write(point.toCsv());
+				writer.newLine();
+			}
+		}
+	}
+
+	/**
+	 * Point is the tick time measured on one plateau of the curve.
+	 */
+	public static final class Point {
+
+		/**
+		 * The load step of the plateau.
+		 */
+		private final long step;
+
+		/**
+		 * The average number of enemies over the plateau.
+		 */
+		private final int enemies;
+
+		/**
+		 * The average number of projectiles over the plateau.
+		 */
+		private final int projectiles;
+
+		/**
+		 * The median tick time after warm-up, in nanoseconds.
+		 */
+		private final long p50Nanos;
+
+		/**
+		 * The 99th percentile tick time after warm-up, in nanoseconds.
+		 */
+		private final long p99Nanos;
+
+		/**
+		 * The longest tick after warm-up, in nanoseconds.
+		 */
+		private final long maxNanos;
+
+		/**
+		 * The number of ticks in the plateau, including warm-up.
+		 */
+		private final int ticks;
+
+		/**
+		 * Constructor for a point.
+		 *
+		 * @param step        the load step of the plateau
+		 * @param enemies     the average number of enemies
+		 * @param projectiles the average number of projectiles
+		 * @param p50Nanos    the median tick time, in nanoseconds
+		 * @param p99Nanos    the 99th percentile tick time, in nanoseconds
+		 * @param maxNanos    the longest tick, in nanoseconds
+		 * @param ticks       the number of ticks in the plateau
+		 */
+		Point(long step, int enemies, int projectiles, long p50Nanos, long p99Nanos, long maxNanos, int ticks) {
+			this.step = step;
+			this.enemies = enemies;
+			this.projectiles = projectiles;
+			this.p50Nanos = p50Nanos;
+			this.p99Nanos = p99Nanos;
+			this.maxNanos = maxNanos;
+			this.ticks = ticks;
+		}
+
+		/**
+		 * Gets the load step of the plateau.
+		 *
+		 * @return the step
+		 */
+		public long getStep() {
+			return step;
+		}
+
+		/**
+		 * Gets the average number of enemies over the plateau.
+		 *
+		 * @return the enemy count
+		 */
+		public int getEnemies() {
+			return enemies;
+		}
+
+		/**
+		 * Gets the average number of projectiles over the plateau.
+		 *
+		 * @return the projectile count
+		 */
+		public int getProjectiles() {
+			return projectiles;
+		}
+
+		/**
+		 * Gets the average number of live actors, enemies and projectiles, over the plateau.
+		 *
+		 * @return the actor count
+		 */
+		public int getActors() {
+			return enemies + projectiles;
+		}
+
+		/**
+		 * Gets the median tick time after warm-up.
+		 *
+		 * @return the median, in nanoseconds
+		 */
+		public long getP50Nanos() {
+			return p50Nanos;
+		}
+
+		/**
+		 * Gets the 99th percentile tick time after warm-up.
+		 *
+		 * @return the 99th percentile, in nanoseconds
+		 */
+		public long getP99Nanos() {
+			return p99Nanos;
+		}
+
+		/**
+		 * Gets the longest tick after warm-up.
+		 *
+		 * @return the maximum, in nanoseconds
+		 */
+		public long getMaxNanos() {
+			return maxNanos;
+		}
+
+		/**
+		 * Formats the point as a CSV row matching the header written by {@link ScalingCurve#write}.
+		 *
+		 * @return the row
+		 */
+		public String toCsv() {
+			return step + "," + enemies + "," + projectiles + "," + getActors() + "," + ticks + ","
+					+ String.format("%.1f,%.1f,%.1f", p50Nanos / NANOS_PER_MICRO, p99Nanos / NANOS_PER_MICRO,
+							maxNanos / NANOS_PER_MICRO);
+		}
+	}
+}
@@ -0,0 +1,268 @@
+package com.example.demo.profiling;
+
+import java.util.Arrays;
+
+/**
+ * The TickProfiler class times the phases of a game tick in nanoseconds.
+ * Each phase keeps its most recent samples in a ring buffer, from which rolling percentiles and the maximum are computed
+ * on demand. A phase is timed by passing the timestamp returned by {@link #start()} or the previous {@link #lap} to the
+ * next {@code lap} call. While the profiler is disabled, both return immediately without reading the clock,
+ * so instrumented code costs one branch per phase.
+ * The simulation phases are recorded on the simulation thread and the frame phases on the JavaFX thread;
+ * each phase is only ever recorded by one thread, and the statistics read the samples without synchronization,
+ * so a figure shown while a tick is running may mix in a sample from that tick.
+ */
+public class TickProfiler {
+
+	/**
+	 * The number of samples kept per phase, a few seconds of ticks at the default tick rate.
+	 */
+	private static final int WINDOW_SIZE = 256;
+
+	/**
+	 * The most recent samples of each phase, in nanoseconds, indexed by phase ordinal.
+	 */
+	private final long[][] samples;
+
+	/**
+	 * The number of samples recorded for each phase, indexed by phase ordinal.
+	 * The next sample of a phase is written at this count modulo the window size.
+	 */
+	private final long[] sampleCounts;
+
+	/**
+	 * A scratch array for sorting the samples of one phase when percentiles are computed.
+	 */
+	private final long[] sortBuffer;
+
+	/**
+	 * Whether phases are being timed; toggled on the JavaFX thread and read by both threads.
+	 */
+	private volatile boolean enabled;
+
+	/**
+	 * Constructor for the TickProfiler class.
+	 * The profiler starts disabled.
+	 */
+	public TickProfiler() {
+		this.samples = new long[Phase.values().length][WINDOW_SIZE];
+		this.sampleCounts = new long[Phase.values().length];
+		this.sortBuffer = new long[WINDOW_SIZE];
+	}
+
+	/**
+	 * Starts timing a sequence of phases.
+	 *
+	 * @return the current time in nanoseconds, or 0 if the profiler is disabled
+	 */
+	public long start() {
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records the time since the given timestamp as a sample of the given phase.
+	 *
+	 * @param phase       the phase that just finished
+	 * @param startNanos  the timestamp the phase started at, as returned by {@link #start()} or a previous lap
+	 * @return the current time in nanoseconds, to start the next phase from, or 0 if the profiler is disabled
+	 */
+	public long lap(Phase phase, long startNanos) {
+		if (!enabled) {
+			return 0;
+		}
+		long now = System.nanoTime();
+		if (startNanos != 0) {
+			int ordinal = phase.ordinal();
+			samples[ordinal][(int) (sampleCounts[ordinal]++ % WINDOW_SIZE)] = now - startNanos;
+		}
+		return now;
+	}
+
+	/**
+	 * Computes a percentile of the recent samples of a phase.
+	 *
+	 * @param phase    the phase
+	 * @param quantile the quantile to compute, from 0 to 1; for example 0.99 for the 99th percentile
+	 * @return the percentile in nanoseconds, or 0 if the phase has no samples
+	 */
+	public long getPercentile(Phase phase, double quantile) {
+		int count = getWindowCount(phase);
+		if (count == 0) {
+			return 0;
+		}
+		System.arraycopy(samples[phase.ordinal()], 0, sortBuffer, 0, count);
+		Arrays.sort(sortBuffer, 0, count);
+		int index = (int) Math.ceil(quantile * count) - 1;
+		return sortBuffer[Math.max(0, Math.min(index, count - 1))];
+	}
+
+	/**
+	 * Gets the longest of the recent samples of a phase.
+	 *
+	 * @param phase the phase
+	 * @return the maximum in nanoseconds, or 0 if the phase has no samples
+	 */
+	public long getMax(Phase phase) {
+		long[] phaseSamples = samples[phase.ordinal()];
+		long max = 0;
+		for (int i = 0, count = getWindowCount(phase); i < count; i++) {
+			max = Math.max(max, phaseSamples[i]);
+		}
+		return max;
+	}
+
+	/**
+	 * Gets the number of recent samples of a phase that the statistics are computed from.
+	 *
+	 * @param phase the phase
+	 * @return the number of samples in the window
+	 */
+	public int getWindowCount(Phase phase) {
+		return (int) Math.min(sampleCounts[phase.ordinal()], WINDOW_SIZE);
+	}
+
+	/**
+	 * Discards every sample.
+	 */
+	public void reset() {
+		Arrays.fill(sampleCounts, 0);
+	}
+
+	/**
+	 * Turns timing on or off.
+	 * Samples recorded before the profiler was turned off are kept until it is reset.
+	 *
+	 * @param enabled true to time phases, false to skip timing
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Checks whether phases are being timed.
+	 *
+	 * @return true if the profiler is enabled, false otherwise
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Phase lists the timed parts of a tick, in the order they run, followed by the timed parts of a frame.
+	 */
+	public enum Phase {
+
+		/**
+		 * Recording the tick's input, and every few ticks a keyframe, into the rewind buffer.
+		 */
+		REWIND("rewind record"),
+
+		/**
+		 * Remembering every plane's position for interpolation.
+		 */
+		SAVE_POSITIONS("save positions"),
+
+		/**
+		 * Spawning new enemies.
+		 */
+		SPAWN_ENEMIES("spawn enemies"),
+
+		/**
+		 * Moving every plane and projectile.
+		 */
+		UPDATE_ACTORS("update actors"),
+
+		/**
+		 * Letting every enemy decide whether to fire.
+		 */
+		ENEMY_FIRE("enemy fire"),
+
+		/**
+		 * Counting the enemies before collisions.
+		 */
+		COUNT_ENEMIES("count enemies"),
+
+		/**
+		 * Retiring actors that left the world, and damaging the user for enemies that got past.
+		 */
+		WORLD_BOUNDS("world bounds"),
+
+		/**
+		 * Rebuilding the collision grids.
+		 */
+		COLLISION_GRIDS("collision grids"),
+
+		/**
+		 * Resolving user projectiles against enemies.
+		 */
+		USER_PROJECTILE_COLLISIONS("user shots"),
+
+		/**
+		 * Resolving enemy projectiles against friendly units.
+		 */
+		ENEMY_PROJECTILE_COLLISIONS("enemy shots"),
+
+		/**
+		 * Resolving planes against planes.
+		 */
+		PLANE_COLLISIONS("plane collisions"),
+
+		/**
+		 * Removing destroyed planes and projectiles.
+		 */
+		REMOVE_DESTROYED("remove destroyed"),
+
+		/**
+		 * Updating the kill count.
+		 */
+		KILL_COUNT("kill count"),
+
+		/**
+		 * Copying the model into a snapshot and publishing it to the JavaFX thread.
+		 */
+		SNAPSHOT("snapshot"),
+
+		/**
+		 * A whole tick, from the first phase to the last.
+		 */
+		TICK("tick total"),
+
+		/**
+		 * Updating the heart display and other level view elements from a new snapshot.
+		 */
+		LEVEL_VIEW("level view"),
+
+		/**
+		 * Checking whether a new snapshot shows the level won or lost.
+		 */
+		GAME_OVER_CHECK("game over check"),
+
+		/**
+		 * Positioning every view for a frame.
+		 */
+		RENDER("render");
+
+		/**
+		 * The name of the phase shown in the overlay.
+		 */
+		private final String label;
+
+		/**
+		 * Constructor for a phase.
+		 *
+		 * @param label the name of the phase shown in the overlay
+		 */
+		Phase(String label) {
+			this.label = label;
+		}
+
+		/**
+		 * Gets the name of the phase shown in the overlay.
+		 *
+		 * @return the label
+		 */
+		public String getLabel() {
+			return label;
+		}
+	}
+}
@@ -0,0 +1,478 @@
+package com.example.demo.projectile;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The ProjectileStore class holds a set of projectiles as parallel primitive arrays instead of one object each.
+ * Slot {@code i} of every array belongs to the same projectile, and the live projectiles always occupy
+ * slots {@code 0} to {@code getCount() - 1}, so updates, collision checks and rendering walk the arrays in order.
+ * A destroyed projectile is only cleared from the alive mask during the tick; {@link #removeDestroyed()} then
+ * compacts the arrays once, keeping the survivors in firing order. Slots are reused, so a warm store does not allocate.
+ */
+public class ProjectileStore {
+
+	/**
+	 * The number of slots a new store starts with.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/**
+	 * The x-coordinates of the projectiles.
+	 */
+	private double[] x;
+
+	/**
+	 * The y-coordinates of the projectiles.
+	 */
+	private double[] y;
+
+	/**
+	 * The x-coordinates of the projectiles at the end of the previous tick, used for interpolation.
+	 * Projectiles only move horizontally, so no previous y-coordinate is needed.
+	 */
+	private double[] previousX;
+
+	/**
+	 * The horizontal velocities of the projectiles, in pixels per second.
+	 */
+	private double[] velocityX;
+
+	/**
+	 * The types of the projectiles.
+	 */
+	private ProjectileType[] types;
+
+	/**
+	 * The alive mask; false once a projectile has been destroyed and until the store is compacted.
+	 */
+	private boolean[] alive;
+
+	/**
+	 * The number of occupied slots.
+	 */
+	private int count;
+
+	/**
+	 * The highest number of occupied slots at the same time.
+	 */
+	private int highWaterMark;
+
+	/**
+	 * The number of projectiles spawned, not counting those restored by {@link #readState(DataInput)}.
+	 */
+	private long spawnCount;
+
+	/**
+	 * The number of spawned projectiles that took a slot an earlier projectile had already used.
+	 */
+	private long reuseCount;
+
+	/**
+	 * Constructor for the ProjectileStore class.
+	 * Creates an empty store; the arrays grow as more projectiles are fired at once.
+	 */
+	public ProjectileStore() {
+		this.x = new double[INITIAL_CAPACITY];
+		this.y = new double[INITIAL_CAPACITY];
+		this.previousX = new double[INITIAL_CAPACITY];
+		this.velocityX = new double[INITIAL_CAPACITY];
+		this.types = new ProjectileType[INITIAL_CAPACITY];
+		this.alive = new boolean[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Adds a projectile of the given type at the given position.
+	 *
+	 * @param type        the projectile type
+	 * @param initialXPos the initial x-coordinate of the projectile
+	 * @param initialYPos the initial y-coordinate of the projectile
+	 * @return the slot of the new projectile
+	 */
+	public int spawn(ProjectileType type, double initialXPos, double initialYPos) {
+		return spawn(type, initialXPos, initialYPos, type.getVelocityX());
+	}
+
+	/**
+	 * Adds a projectile of the given type at the given position, moving at the given velocity instead of the type's.
+	 *
+	 * @param type        the projectile type
+	 * @param initialXPos the initial x-coordinate of the projectile
+	 * @param initialYPos the initial y-coordinate of the projectile
+	 * @param velocityX   the horizontal velocity of the projectile, in pixels per second
+	 * @return the slot of the new projectile
+	 */
+	public int spawn(ProjectileType type, double initialXPos, double initialYPos, double velocityX) {
+		if (count == x.length) {
+			grow();
+		}
+		int index = count++;
+		x[index] = initialXPos;
+		y[index] = initialYPos;
+		previousX[index] = initialXPos;
+		this.velocityX[index] = velocityX;
+		types[index] = type;
+		alive[index] = true;
+		spawnCount++;
+		if (index < highWaterMark) {
+			reuseCount++;
+		}
+		highWaterMark = Math.max(highWaterMark, count);
+		return index;
+	}
+
+	/**
+	 * Moves every projectile by its velocity over one tick.
+	 * Each projectile's position before the move is kept for interpolation.
+	 *
+	 * @param deltaSeconds the length of the tick, in seconds
+	 */
+	public void update(double deltaSeconds) {
+		update(deltaSeconds, 0, count);
+	}
+
+	/**
+	 * Moves the projectiles in a range of slots by their velocity over one tick.
+	 * Each slot is only touched by its own update, so disjoint ranges can be updated on different threads.
+	 *
+	 * @param deltaSeconds the length of the tick, in seconds
+	 * @param from         the first slot to move
+	 * @param to           the slot after the last one to move
+	 */
+	public void update(double deltaSeconds, int from, int to) {
+		double[] x = this.x;
+		double[] previousX = this.previousX;
+		double[] velocityX = this.velocityX;
+		for (int i = from; i < to; i++) {
+			previousX[i] = x[i];
+			x[i] += velocityX[i] * deltaSeconds;
+		}
+	}
+
+	/**
+	 * Marks the projectile in the given slot as destroyed.
+	 * It stays in its slot until {@link #removeDestroyed()} is called.
+	 *
+	 * @param index the slot of the projectile
+	 */
+	public void destroy(int index) {
+		alive[index] = false;
+	}
+
+	/**
+	 * Marks every live projectile whose hitbox lies entirely outside the given area as destroyed.
+	 * Like {@link #destroy(int)}, the projectiles stay in their slots until {@link #removeDestroyed()} is called.
+	 *
+	 * @param minX the left edge of the area
+	 * @param minY the top edge of the area
+	 * @param maxX the right edge of the area
+	 * @param maxY the bottom edge of the area
+	 * @return the number of projectiles destroyed
+	 */
+	public int destroyOutside(double minX, double minY, double maxX, double maxY) {
+		int destroyed = 0;
+		for (int i = 0, n = count; i < n; i++) {
+			if (alive[i] && (getHitboxMaxX(i) < minX || getHitboxMinX(i) > maxX
+					|| getHitboxMaxY(i) < minY || getHitboxMinY(i) > maxY)) {
+				alive[i] = false;
+				destroyed++;
+			}
+		}
+		return destroyed;
+	}
+
+	/**
+	 * Removes every destroyed projectile in a single pass.
+	 * The surviving projectiles are moved down in place and keep their order.
+	 *
+	 * @return the number of projectiles removed
+	 */
+	public int removeDestroyed() {
+		int kept = 0;
+		for (int i = 0, n = count; i < n; i++) {
+			if (alive[i]) {
+				if (kept != i) {
+					x[kept] = x[i];
+					y[kept] = y[i];
+					previousX[kept] = previousX[i];
+					velocityX[kept] = velocityX[i];
+					types[kept] = types[i];
+					alive[kept] = true;
+				}
+				kept++;
+			}
+		}
+		int removed = count - kept;
+		Arrays.fill(types, kept, count, null);
+		count = kept;
+		return removed;
+	}
+
+	/**
+	 * Removes every projectile from the store.
+	 */
+	public void clear() {
+		Arrays.fill(types, 0, count, null);
+		count = 0;
+	}
+
+	/**
+	 * Replaces the projectiles in this store with a copy of those in another store.
+	 * The arrays only grow when the other store holds more projectiles than this one ever has,
+	 * so copying a store every tick does not allocate once this store has grown to the busiest moment.
+	 *
+	 * @param other the store to copy
+	 */
+	public void copyFrom(ProjectileStore other) {
+		int otherCount = other.count;
+		while (x.length < otherCount) {
+			grow();
+		}
+		System.arraycopy(other.x, 0, x, 0, otherCount);
+		System.arraycopy(other.y, 0, y, 0, otherCount);
+		System.arraycopy(other.previousX, 0, previousX, 0, otherCount);
+		System.arraycopy(other.velocityX, 0, velocityX, 0, otherCount);
+		System.arraycopy(other.types, 0, types, 0, otherCount);
+		System.arraycopy(other.alive, 0, alive, 0, otherCount);
+		if (count > otherCount) {
+			Arrays.fill(types, otherCount, count, null);
+		}
+		count = otherCount;
+		highWaterMark = Math.max(highWaterMark, count);
+	}
+
+	/**
+	 * Writes every projectile in the store, including destroyed ones not yet removed.
+	 *
+	 * @param out the output to write to
+	 * @throws IOException if the output cannot be written
+	 */
+	public void writeState(DataOutput out) throws IOException {
+		out.writeInt(count);
+		for (int i = 0; i < count; i++) {
+			out.writeByte(types[i].ordinal());
+			out.writeDouble(x[i]);
+			out.writeDouble(y[i]);
+			out.writeDouble(previousX[i]);
+			out.writeDouble(velocityX[i]);
+			out.writeBoolean(alive[i]);
+		}
+	}
+
+	/**
+	 * Replaces the projectiles in the store with those written by {@link #writeState(DataOutput)}.
+	 *
+	 * @param in the input to read from
+	 * @throws IOException if the input cannot be read or names an unknown projectile type
+	 */
+	public void readState(DataInput in) throws IOException {
+		clear();
+		long spawned = spawnCount;
+		long reused = reuseCount;
+		int restoredCount = in.readInt();
+		ProjectileType[] allTypes = ProjectileType.values();
+		for (int i = 0; i < restoredCount; i++) {
+			int type = in.readUnsignedByte();
+			if (type >= allTypes.length) {
+				throw new IOException("Unknown projectile type: " + type);
+			}
+			int index = spawn(allTypes[type], in.readDouble(), in.readDouble());
+			previousX[index] = in.readDouble();
+			velocityX[index] = in.readDouble();
+			alive[index] = in.readBoolean();
+		}
+		spawnCount = spawned;
+		reuseCount = reused;
+	}
+
+	/**
+	 * Doubles the capacity of every array.
+	 */
+	private void grow() {
+		int capacity = x.length * 2;
+		x = Arrays.copyOf(x, capacity);
+		y = Arrays.copyOf(y, capacity);
+		previousX = Arrays.copyOf(previousX, capacity);
+		velocityX = Arrays.copyOf(velocityX, capacity);
+		types = Arrays.copyOf(types, capacity);
+		alive = Arrays.copyOf(alive, capacity);
+	}
+
+	/**
+	 * Gets the number of projectiles in the store, including destroyed ones not yet removed.
+	 *
+	 * @return the number of occupied slots
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * Checks whether the projectile in the given slot has not been destroyed.
+	 *
+	 * @param index the slot of the projectile
+	 * @return true if the projectile is alive, false otherwise
+	 */
+	public boolean isAlive(int index) {
+		return alive[index];
+	}
+
+	/**
+	 * Gets the x-coordinate of the projectile in the given slot.
+	 *
+	 * @param index the slot of the projectile
+	 * @return the x-coordinate
+	 */
+	public double getX(int index) {
+		return x[index];
+	}
+
+	/**
+	 * Gets the y-coordinate of the projectile in the given slot.
+	 *
+	 * @param index the slot of the projectile
+	 * @return the y-coordinate
+	 */
+	public double getY(int index) {
+		return y[index];
+	}
+
+	/**
+	 * Gets the x-coordinate to display for the projectile in the given slot between the previous tick and the current one.
+	 *
+	 * @param index the slot of the projectile
+	 * @param alpha how far the display time is from the previous tick to the current one, from 0 to 1
+	 * @return the interpolated x-coordinate
+	 */
+	public double getInterpolatedX(int index, double alpha) {
+		return previousX[index] + (x[index] - previousX[index]) * alpha;
+	}
+
+	/**
+	 * Gets the horizontal velocity of the projectile in the given slot.
+	 *
+	 * @param index the slot of the projectile
+	 * @return the velocity, in pixels per second
+	 */
+	public double getVelocityX(int index) {
+		return velocityX[index];
+	}
+
+	/**
+	 * Gets the type of the projectile in the given slot.
+	 *
+	 * @param index the slot of the projectile
+	 * @return the projectile type
+	 */
+	public ProjectileType getType(int index) {
+		return types[index];
+	}
+
+	/**
+	 * Gets the displayed width of the projectile in the given slot.
+	 *
+	 * @param index the slot of the projectile
+	 * @return the width, in pixels
+	 */
+	public double getWidth(int index) {
+		return types[index].getWidth();
+	}
+
+	/**
+	 * Gets the displayed height of the projectile in the given slot.
+	 *
+	 * @param index the slot of the projectile
+	 * @return the height, in pixels
+	 */
+	public double getHeight(int index) {
+		return types[index].getHeight();
+	}
+
+	/**
+	 * Gets the left edge of the hitbox of the projectile in the given slot.
+	 * Hitbox offsets are fixed per type, so the hitbox follows from the position without being stored.
+	 *
+	 * @param index the slot of the projectile
+	 * @return the x-coordinate
+	 */
+	public double getHitboxMinX(int index) {
+		return x[index] + types[index].getHitboxMinXOffset();
+	}
+
+	/**
+	 * Gets the top edge of the hitbox of the projectile in the given slot.
+	 *
+	 * @param index the slot of the projectile
+	 * @return the y-coordinate
+	 */
+	public double getHitboxMinY(int index) {
+		return y[index] + types[index].getHitboxMinYOffset();
+	}
+
+	/**
+	 * Gets the right edge of the hitbox of the projectile in the given slot.
+	 *
+	 * @param index the slot of the projectile
+	 * @return the x-coordinate
+	 */
+	public double getHitboxMaxX(int index) {
+		return x[index] + types[index].getHitboxMaxXOffset();
+	}
+
+	/**
+	 * Gets the bottom edge of the hitbox of the projectile in the given slot.
+	 *
+	 * @param index the slot of the projectile
+	 * @return the y-coordinate
+	 */
+	public double getHitboxMaxY(int index) {
+		return y[index] + types[index].getHitboxMaxYOffset();
+	}
+
+	/**
+	 * Gets the number of slots the arrays can hold before they grow.
+	 *
+	 * @return the capacity
+	 */
+	public int getCapacity() {
+		return x.length;
+	}
+
+	/**
+	 * Gets the highest number of projectiles that were in the store at the same time.
+	 *
+	 * @return the high-water mark
+	 */
+	public int getHighWaterMark() {
+		return highWaterMark;
+	}
+
+	/**
+	 * Gets the number of projectiles spawned into the store.
+	 *
+	 * @return the spawn count
+	 */
+	public long getSpawnCount() {
+		return spawnCount;
+	}
+
+	/**
+	 * Gets the number of spawned projectiles that took a slot an earlier projectile had already used.
+	 *
+	 * @return the reuse count
+	 */
+	public long getReuseCount() {
+		return reuseCount;
+	}
+
+	/**
+	 * Gets the fraction of spawned projectiles that reused a slot instead of taking a new one.
+	 *
+	 * @return the reuse ratio between 0 and 1, or 0 if nothing has been spawned yet
+	 */
+	public double getReuseRatio() {
+		return spawnCount == 0 ? 0 : (double) reuseCount / spawnCount;
+	}
+}
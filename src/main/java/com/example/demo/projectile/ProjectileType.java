@@ -0,0 +1,197 @@
+package com.example.demo.projectile;
+
+import com.example.demo.collision.CollisionMask;
+import com.example.demo.collision.Hitbox;
+import com.example.demo.manager.SpriteMetrics;
+
+/**
+ * The ProjectileType enum describes the kinds of projectiles in the game.
+ * Each type holds the sprite, displayed size, hitbox, collision mask and horizontal velocity shared by every projectile of that kind,
+ * so a projectile itself only needs its position in a {@link ProjectileStore}.
+ */
+public enum ProjectileType {
+
+	/**
+	 * A projectile fired by the user. It moves to the right.
+	 * Only the small bolt in the middle of the sprite can hit.
+	 */
+	USER("userfire.png", 125, 300, Hitbox.rectangle(71, 60, 70, 59)),
+
+	/**
+	 * A projectile fired by an enemy plane. It moves to the left.
+	 */
+	ENEMY("enemyFire.png", 50, -200, Hitbox.rectangle(5, 9, 5, 9)),
+
+	/**
+	 * A fireball fired by the boss. It moves to the left, faster than enemy fire.
+	 * Only the round head at its front can hit, not the trail.
+	 */
+	BOSS("fireball.png", 75, -300, Hitbox.circle(0, 0, 113, 0));
+
+	/**
+	 * The location of the image resources.
+	 */
+	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+
+	/**
+	 * The classpath path of the projectile's image.
+	 */
+	private final String imagePath;
+
+	/**
+	 * The height the projectile is displayed at, in pixels.
+	 */
+	private final int height;
+
+	/**
+	 * The width the projectile is displayed at, derived from the image's aspect ratio.
+	 */
+	private final double width;
+
+	/**
+	 * The solid pixels of the projectile's sprite at its displayed size.
+	 */
+	private final CollisionMask collisionMask;
+
+	/**
+	 * The part of the projectile's sprite that can hit.
+	 */
+	private final Hitbox hitbox;
+
+	/**
+	 * The left edge of the hitbox's bounds relative to the projectile's position.
+	 */
+	private final double hitboxMinXOffset;
+
+	/**
+	 * The top edge of the hitbox's bounds relative to the projectile's position.
+	 */
+	private final double hitboxMinYOffset;
+
+	/**
+	 * The right edge of the hitbox's bounds relative to the projectile's position.
+	 */
+	private final double hitboxMaxXOffset;
+
+	/**
+	 * The bottom edge of the hitbox's bounds relative to the projectile's position.
+	 */
+	private final double hitboxMaxYOffset;
+
+	/**
+	 * The horizontal velocity of the projectile, in pixels per second.
+	 * A negative value indicates movement to the left.
+	 */
+	private final double velocityX;
+
+	/**
+	 * Constructor for a projectile type.
+	 *
+	 * @param imageName the name of the image representing the projectile
+	 * @param height    the height of the projectile's image, in pixels
+	 * @param velocityX the horizontal velocity of the projectile, in pixels per second
+	 * @param hitbox    the part of the projectile's sprite that can hit
+	 */
+	ProjectileType(String imageName, int height, double velocityX, Hitbox hitbox) {
+		this.imagePath = IMAGE_LOCATION + imageName;
+		this.height = height;
+		this.width = SpriteMetrics.getScaledWidth(imagePath, height);
+		this.collisionMask = CollisionMask.forSprite(imagePath, width, height);
+		this.velocityX = velocityX;
+		this.hitbox = hitbox;
+		this.hitboxMinXOffset = hitbox.getMinXOffset(width, height);
+		this.hitboxMinYOffset = hitbox.getMinYOffset(width, height);
+		this.hitboxMaxXOffset = hitbox.getMaxXOffset(width, height);
+		this.hitboxMaxYOffset = hitbox.getMaxYOffset(width, height);
+	}
+
+	/**
+	 * Gets the classpath path of the projectile's image.
+	 *
+	 * @return the image path
+	 */
+	public String getImagePath() {
+		return imagePath;
+	}
+
+	/**
+	 * Gets the displayed height of the projectile.
+	 *
+	 * @return the height, in pixels
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Gets the displayed width of the projectile.
+	 *
+	 * @return the width, in pixels
+	 */
+	public double getWidth() {
+		return width;
+	}
+
+	/**
+	 * Gets the solid pixels of the projectile's sprite at its displayed size.
+	 *
+	 * @return the collision mask
+	 */
+	public CollisionMask getCollisionMask() {
+		return collisionMask;
+	}
+
+	/**
+	 * Gets the part of the projectile's sprite that can hit.
+	 *
+	 * @return the hitbox
+	 */
+	public Hitbox getHitbox() {
+		return hitbox;
+	}
+
+	/**
+	 * Gets the left edge of the hitbox's bounds relative to the projectile's position.
+	 *
+	 * @return the offset, in pixels
+	 */
+	public double getHitboxMinXOffset() {
+		return hitboxMinXOffset;
+	}
+
+	/**
+	 * Gets the top edge of the hitbox's bounds relative to the projectile's position.
+	 *
+	 * @return the offset, in pixels
+	 */
+	public double getHitboxMinYOffset() {
+		return hitboxMinYOffset;
+	}
+
+	/**
+	 * Gets the right edge of the hitbox's bounds relative to the projectile's position.
+	 *
+	 * @return the offset, in pixels
+	 */
+	public double getHitboxMaxXOffset() {
+		return hitboxMaxXOffset;
+	}
+
+	/**
+	 * Gets the bottom edge of the hitbox's bounds relative to the projectile's position.
+	 *
+	 * @return the offset, in pixels
+	 */
+	public double getHitboxMaxYOffset() {
+		return hitboxMaxYOffset;
+	}
+
+	/**
+	 * Gets the horizontal velocity of the projectile.
+	 *
+	 * @return the velocity, in pixels per second
+	 */
+	public double getVelocityX() {
+		return velocityX;
+	}
+}
@@ -0,0 +1,383 @@
+package com.example.demo.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import com.example.demo.level.LevelId;
+
+/**
+ * The Replay class holds a recorded session of one level: its seed and tick rate, the player input of every tick,
+ * and keyframes of the complete world state taken at regular ticks.
+ * Replaying the inputs in a world of the same level created with the same seed reproduces the session exactly;
+ * the keyframes let a player jump to any tick by restoring the nearest earlier keyframe and simulating from there.
+ *
+ * <p>The file starts with a magic number, a version, the level class name, the seed and the tick rate.
+ * Inputs are stored as changes only: the number of ticks since the previous change as a varint, then the new input byte.
+ * Each keyframe is stored as the number of ticks since the previous keyframe and the length of its state, both varints,
+ * followed by the state written by {@link com.example.demo.model.LevelModel#writeState}.
+ */
+public final class Replay {
+
+	/**
+	 * The system property naming a replay file to play at launch, for example {@code -Dgame.replay=session.replay}.
+	 */
+	public static final String REPLAY_PROPERTY = "game.replay";
+
+	/**
+	 * The system property giving the tick a replay played at launch starts from, for example {@code -Dgame.replayStart=3600}.
+	 */
+	public static final String START_TICK_PROPERTY = "game.replayStart";
+
+	/**
+	 * The number at the start of every replay file, "SKYR" in ASCII.
+	 */
+	private static final int MAGIC = 0x534b5952;
+
+	/**
+	 * The version of the file format.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * The longest replay that can be read, in hours of play, so a corrupt tick count cannot allocate without limit.
+	 */
+	private static final int MAX_HOURS = 24;
+
+	/**
+	 * The replay named by the replay property, loaded the first time it is asked for.
+	 */
+	private static Replay configuredReplay;
+
+	/**
+	 * Whether the replay property has been read already.
+	 */
+	private static boolean configuredReplayLoaded;
+
+	/**
+	 * The reason the replay named by the replay property could not be read, or null if it was read or is not set.
+	 */
+	private static IOException configuredReplayFailure;
+
+	/**
+	 * The class name of the level the replay was recorded in.
+	 */
+	private final String levelName;
+
+	/**
+	 * The seed of the level's random source.
+	 */
+	private final long seed;
+
+	/**
+	 * The number of ticks per second the level was simulated at.
+	 */
+	private final int tickRate;
+
+	/**
+	 * The {@link com.example.demo.model.TickInput} bits of every tick, indexed by tick.
+	 */
+	private final byte[] inputs;
+
+	/**
+	 * The ticks the keyframes were taken at, in increasing order.
+	 */
+	private final int[] keyframeTicks;
+
+	/**
+	 * The world state of each keyframe, taken before the input of its tick was applied.
+	 */
+	private final byte[][] keyframes;
+
+	/**
+	 * Constructor for the Replay class.
+	 *
+	 * @param levelName     the class name of the level the replay was recorded in
+	 * @param seed          the seed of the level's random source
+	 * @param tickRate      the number of ticks per second the level was simulated at
+	 * @param inputs        the input of every tick
+	 * @param keyframeTicks the ticks the keyframes were taken at, in increasing order
+	 * @param keyframes     the world state of each keyframe
+	 */
+	Replay(String levelName, long seed, int tickRate, byte[] inputs, int[] keyframeTicks, byte[][] keyframes) {
+		this.levelName = levelName;
+		this.seed = seed;
+		this.tickRate = tickRate;
+		this.inputs = inputs;
+		this.keyframeTicks = keyframeTicks;
+		this.keyframes = keyframes;
+	}
+
+	/**
+	 * Gets the replay chosen at launch.
+	 * The file is read the first time this method is called; if it cannot be read, the error is kept for
+	 * {@link #getConfiguredFailure()} and the game is played live.
+	 *
+	 * @return the replay named by the replay property, or null if the property is not set or the file cannot be read
+	 */
+	public static synchronized Replay getConfigured() {
+		if (!configuredReplayLoaded) {
+			configuredReplayLoaded = true;
+			String path = System.getProperty(REPLAY_PROPERTY);
+			if (path != null) {
+				try {
+					configuredReplay = read(Paths.get(path));
+				} catch (IOException e) {
+					configuredReplayFailure = e;
+				}
+			}
+		}
+		return configuredReplay;
+	}
+
+	/**
+	 * Gets the reason the replay chosen at launch could not be read.
+	 *
+	 * @return the failure, or null if the replay was read, is not set or has not been asked for yet
+	 */
+	public static synchronized IOException getConfiguredFailure() {
+		return configuredReplayFailure;
+	}
+
+	/**
+	 * Gets the tick a replay played at launch starts from.
+	 *
+	 * @return the value of the start tick property, or 0 if it is not set
+	 */
+	public static int getConfiguredStartTick() {
+		return Integer.getInteger(START_TICK_PROPERTY, 0);
+	}
+
+	/**
+	 * Reads a replay file.
+	 * The file is read whole and every count, tick and length in it is checked against what is left of it,
+	 * so a corrupt file is reported as such rather than failing or allocating without limit.
+	 *
+	 * @param path the file to read
+	 * @return the replay
+	 * @throws IOException if the file cannot be read, is not a replay or is corrupt
+	 */
+	public static Replay read(Path path) throws IOException {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(path)))) {
+			if (in.readInt() != MAGIC) {
+				throw new IOException("Not a replay file: " + path);
+			}
+			int version = in.readUnsignedByte();
+			if (version != VERSION) {
+				throw new IOException("Unsupported replay version " + version + ": " + path);
+			}
+			String levelName = in.readUTF();
+			try {
+				LevelId.forClassName(levelName);
+			} catch (IllegalArgumentException e) {
+				throw corrupt(path, "unknown level " + levelName);
+			}
+			long seed = in.readLong();
+			int tickRate = VarInts.read(in);
+			if (tickRate <= 0) {
+				throw corrupt(path, "tick rate " + tickRate);
+			}
+
+			int tickCount = VarInts.read(in);
+			if (tickCount < 0 || tickCount > (long) tickRate * 3600 * MAX_HOURS) {
+				throw corrupt(path, "tick count " + tickCount);
+			}
+			byte[] inputs = new byte[tickCount];
+			int tick = 0;
+			byte input = 0;
+			for (int i = 0, changes = VarInts.read(in); i < changes; i++) {
+				int delta = VarInts.read(in);
+				if (delta < 0 || delta > inputs.length - tick) {
+					throw corrupt(path, "input change past tick " + inputs.length);
+				}
+				int changeTick = tick + delta;
+				Arrays.fill(inputs, tick, changeTick, input);
+				tick = changeTick;
+				input = in.readByte();
+			}
+			Arrays.fill(inputs, tick, inputs.length, input);
+
+			int keyframeCount = VarInts.read(in);
+			// Every keyframe takes at least a tick byte and a length byte
+			if (keyframeCount < 0 || keyframeCount > in.available() / 2) {
+				throw corrupt(path, "keyframe count " + keyframeCount);
+			}
+			int[] keyframeTicks = new int[keyframeCount];
+			byte[][] keyframes = new byte[keyframeCount][];
+			tick = 0;
+			for (int i = 0; i < keyframeCount; i++) {
+				int delta = VarInts.read(in);
+				if (delta < 0 || delta > inputs.length - tick) {
+					throw corrupt(path, "keyframe past tick " + inputs.length);
+				}
+				tick += delta;
+				keyframeTicks[i] = tick;
+				int length = VarInts.read(in);
+				if (length < 0 || length > in.available()) {
+					throw corrupt(path, "keyframe length " + length + " with " + in.available() + " bytes left");
+				}
+				keyframes[i] = new byte[length];
+				in.readFully(keyframes[i]);
+			}
+			return new Replay(levelName, seed, tickRate, inputs, keyframeTicks, keyframes);
+		}
+	}
+
+	/**
+	 * Creates the exception thrown for a corrupt replay file.
+	 *
+	 * @param path   the file being read
+	 * @param detail what is wrong with it
+	 * @return the exception
+	 */
+	private static IOException corrupt(Path path, String detail) {
+		return new IOException("Corrupt replay, " + detail + ": " + path);
+	}
+
+	/**
+	 * Writes the replay to a file, replacing any existing file.
+	 *
+	 * @param path the file to write
+	 * @throws IOException if the file cannot be written
+	 */
+	public void write(Path path) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+			out.writeInt(MAGIC);
+			out.writeByte(VERSION);
+			out.writeUTF(levelName);
+			out.writeLong(seed);
+			VarInts.write(out, tickRate);
+
+			VarInts.write(out, inputs.length);
+			VarInts.write(out, countInputChanges());
+			int previousTick = 0;
+			byte previousInput = 0;
+			for (int tick = 0; tick < inputs.length; tick++) {
+				if (inputs[tick] != previousInput) {
+					VarInts.write(out, tick - previousTick);
+					out.writeByte(inputs[tick]);
+					previousTick = tick;
+					previousInput = inputs[tick];
+				}
+			}
+
+			VarInts.write(out, keyframes.length);
+			previousTick = 0;
+			for (int i = 0; i < keyframes.length; i++) {
+				VarInts.write(out, keyframeTicks[i] - previousTick);
+				VarInts.write(out, keyframes[i].length);
+				out.write(keyframes[i]);
+				previousTick = keyframeTicks[i];
+			}
+		}
+	}
+
+	/**
+	 * Counts the ticks whose input differs from the input of the tick before; the first tick is compared to no input.
+	 *
+	 * @return the number of input changes
+	 */
+	private int countInputChanges() {
+		int changes = 0;
+		byte previousInput = 0;
+		for (byte input : inputs) {
+			if (input != previousInput) {
+				changes++;
+				previousInput = input;
+			}
+		}
+		return changes;
+	}
+
+	/**
+	 * Finds the last keyframe taken at or before a tick.
+	 *
+	 * @param tick the tick
+	 * @return the index of the keyframe, or -1 if every keyframe is later
+	 */
+	int findKeyframe(int tick) {
+		int index = Arrays.binarySearch(keyframeTicks, tick);
+		return index >= 0 ? index : -index - 2;
+	}
+
+	/**
+	 * Gets the class name of the level the replay was recorded in.
+	 *
+	 * @return the level class name
+	 */
+	public String getLevelName() {
+		return levelName;
+	}
+
+	/**
+	 * Gets the seed of the level's random source.
+	 *
+	 * @return the seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Gets the number of ticks per second the level was simulated at.
+	 *
+	 * @return the tick rate
+	 */
+	public int getTickRate() {
+		return tickRate;
+	}
+
+	/**
+	 * Gets the number of recorded ticks.
+	 *
+	 * @return the tick count
+	 */
+	public int getTickCount() {
+		return inputs.length;
+	}
+
+	/**
+	 * Gets the input of a tick.
+	 *
+	 * @param tick the tick, from 0 to the tick count
+	 * @return the {@link com.example.demo.model.TickInput} bits of the tick
+	 */
+	public int getInput(int tick) {
+		return inputs[tick];
+	}
+
+	/**
+	 * Gets the number of keyframes.
+	 *
+	 * @return the keyframe count
+	 */
+	public int getKeyframeCount() {
+		return keyframes.length;
+	}
+
+	/**
+	 * Gets the tick a keyframe was taken at.
+	 *
+	 * @param index the index of the keyframe
+	 * @return the tick
+	 */
+	public int getKeyframeTick(int index) {
+		return keyframeTicks[index];
+	}
+
+	/**
+	 * Gets the world state of a keyframe.
+	 *
+	 * @param index the index of the keyframe
+	 * @return the state; the array is shared and must not be modified
+	 */
+	byte[] getKeyframe(int index) {
+		return keyframes[index];
+	}
+}
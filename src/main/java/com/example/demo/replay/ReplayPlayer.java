@@ -0,0 +1,147 @@
+package com.example.demo.replay;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+import com.example.demo.model.LevelModel;
+import com.example.demo.model.TickInput;
+
+/**
+ * The ReplayPlayer class feeds the inputs of a {@link Replay} to a world of the level it was recorded in.
+ * The world must have been created with the replay's seed and be stepped at the replay's tick rate.
+ * On every keyframe tick, the world is compared with the recorded state, so a replay that no longer plays back
+ * exactly is counted, with the first tick it drifted at, instead of silently drifting.
+ * {@link #seek} jumps to any tick from the nearest keyframe.
+ */
+public class ReplayPlayer {
+
+	/**
+	 * The replay being played.
+	 */
+	private final Replay replay;
+
+	/**
+	 * The length of a tick of the replay, in seconds.
+	 */
+	private final double tickSeconds;
+
+	/**
+	 * The number of keyframes the world did not match.
+	 */
+	private int desyncCount;
+
+	/**
+	 * The first keyframe tick the world did not match, or -1 while every keyframe has matched.
+	 */
+	private int firstDesyncTick;
+
+	/**
+	 * Constructor for the ReplayPlayer class.
+	 *
+	 * @param replay the replay to play
+	 */
+	public ReplayPlayer(Replay replay) {
+		this.replay = replay;
+		this.tickSeconds = 1.0 / replay.getTickRate();
+		this.firstDesyncTick = -1;
+	}
+
+	/**
+	 * Checks whether the replay has an input for the world's next tick.
+	 *
+	 * @param model the world being played
+	 * @return true if the next tick was recorded, false once the replay has run out
+	 */
+	public boolean hasNextInput(LevelModel model) {
+		return model.getTickCount() < replay.getTickCount();
+	}
+
+	/**
+	 * Gets the recorded input for the world's next tick.
+	 * If a keyframe was taken at that tick, the world is checked against it first.
+	 *
+	 * @param model the world being played
+	 * @return the {@link TickInput} bits of the tick, or no input once the replay has run out
+	 */
+	public int nextInput(LevelModel model) {
+		int tick = (int) model.getTickCount();
+		if (tick >= replay.getTickCount()) {
+			return TickInput.NONE;
+		}
+		int keyframe = replay.findKeyframe(tick);
+		if (keyframe >= 0 && replay.getKeyframeTick(keyframe) == tick
+				&& !Arrays.equals(replay.getKeyframe(keyframe), ReplayRecorder.captureState(model))) {
+			if (desyncCount++ == 0) {
+				firstDesyncTick = tick;
+			}
+		}
+		return replay.getInput(tick);
+	}
+
+	/**
+	 * Moves the world to the state it was in before the given tick was played.
+	 * The nearest keyframe at or before the tick is restored, unless the world is already between that keyframe
+	 * and the tick, and the recorded inputs are then simulated up to the tick.
+	 *
+	 * @param model the world being played
+	 * @param tick  the tick to move to; clamped to the recorded ticks
+	 */
+	public void seek(LevelModel model, int tick) {
+		int target = Math.max(0, Math.min(tick, replay.getTickCount()));
+		int current = (int) model.getTickCount();
+		int keyframe = replay.findKeyframe(target);
+		if (keyframe >= 0 && (target < current || replay.getKeyframeTick(keyframe) > current)) {
+			restore(model, replay.getKeyframe(keyframe));
+		} else if (target < current) {
+			throw new IllegalStateException("No keyframe before tick " + target);
+		}
+		while (model.getTickCount() < target) {
+			model.applyInput(replay.getInput((int) model.getTickCount()));
+			model.step(tickSeconds);
+		}
+	}
+
+	/**
+	 * Restores a keyframe into the world.
+	 *
+	 * @param model the world
+	 * @param state the state of the keyframe
+	 */
+	private static void restore(LevelModel model, byte[] state) {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(state))) {
+			model.readState(in);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Gets the replay being played.
+	 *
+	 * @return the replay
+	 */
+	public Replay getReplay() {
+		return replay;
+	}
+
+	/**
+	 * Gets the number of keyframes the world did not match while playing.
+	 *
+	 * @return the desync count
+	 */
+	public int getDesyncCount() {
+		return desyncCount;
+	}
+
+	/**
+	 * Gets the first keyframe tick the world did not match while playing.
+	 *
+	 * @return the tick, or -1 if the replay has played back exactly so far
+	 */
+	public int getFirstDesyncTick() {
+		return firstDesyncTick;
+	}
+}
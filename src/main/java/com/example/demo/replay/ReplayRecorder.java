@@ -0,0 +1,175 @@
+package com.example.demo.replay;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.example.demo.model.LevelModel;
+
+/**
+ * The ReplayRecorder class records the input of every tick of a level, and a keyframe of the world state
+ * every few seconds, into a {@link Replay}.
+ * Recording an input is an array store; only the keyframe ticks serialise the world.
+ */
+public class ReplayRecorder {
+
+	/**
+	 * The system property naming the directory sessions are recorded to, for example {@code -Dgame.record=replays}.
+	 */
+	public static final String RECORD_DIRECTORY_PROPERTY = "game.record";
+
+	/**
+	 * The time between two keyframes, in seconds.
+	 * Seeking simulates at most this long after restoring a keyframe.
+	 */
+	private static final int KEYFRAME_INTERVAL_SECONDS = 5;
+
+	/**
+	 * The number of ticks the input array starts with, one minute at the default tick rate.
+	 */
+	private static final int INITIAL_CAPACITY = 3600;
+
+	/**
+	 * The file name extension of replay files.
+	 */
+	private static final String EXTENSION = ".replay";
+
+	/**
+	 * The class name of the level being recorded.
+	 */
+	private final String levelName;
+
+	/**
+	 * The seed of the level's random source.
+	 */
+	private final long seed;
+
+	/**
+	 * The number of ticks per second the level is simulated at.
+	 */
+	private final int tickRate;
+
+	/**
+	 * The number of ticks between two keyframes.
+	 */
+	private final int keyframeInterval;
+
+	/**
+	 * The input of every recorded tick; only the first tick count entries are used.
+	 */
+	private byte[] inputs;
+
+	/**
+	 * The number of recorded ticks.
+	 */
+	private int tickCount;
+
+	/**
+	 * The ticks the keyframes were taken at.
+	 */
+	private final List<Integer> keyframeTicks;
+
+	/**
+	 * The world state of each keyframe.
+	 */
+	private final List<byte[]> keyframes;
+
+	/**
+	 * Constructor for the ReplayRecorder class.
+	 *
+	 * @param levelName the class name of the level being recorded
+	 * @param seed      the seed of the level's random source
+	 * @param tickRate  the number of ticks per second the level is simulated at
+	 */
+	public ReplayRecorder(String levelName, long seed, int tickRate) {
+		this.levelName = levelName;
+		this.seed = seed;
+		this.tickRate = tickRate;
+		this.keyframeInterval = KEYFRAME_INTERVAL_SECONDS * tickRate;
+		this.inputs = new byte[INITIAL_CAPACITY];
+		this.keyframeTicks = new ArrayList<>();
+		this.keyframes = new ArrayList<>();
+	}
+
+	/**
+	 * Gets the directory chosen at launch to record sessions to.
+	 *
+	 * @return the value of the record directory property, or null if sessions are not recorded
+	 */
+	public static Path getConfiguredDirectory() {
+		String directory = System.getProperty(RECORD_DIRECTORY_PROPERTY);
+		return directory != null ? Paths.get(directory) : null;
+	}
+
+	/**
+	 * Records the input of the next tick.
+	 * Called before the input is applied to the world; on keyframe ticks the world state is captured first.
+	 *
+	 * @param model the world being recorded, which must not have been stepped since the previous call
+	 * @param input the {@link com.example.demo.model.TickInput} bits of the tick
+	 */
+	public void record(LevelModel model, int input) {
+		if (tickCount % keyframeInterval == 0) {
+			keyframeTicks.add(tickCount);
+			keyframes.add(captureState(model));
+		}
+		if (tickCount == inputs.length) {
+			inputs = Arrays.copyOf(inputs, inputs.length * 2);
+		}
+		inputs[tickCount++] = (byte) input;
+	}
+
+	/**
+	 * Creates a replay of the ticks recorded so far.
+	 *
+	 * @return the replay
+	 */
+	public Replay toReplay() {
+		int[] ticks = new int[keyframeTicks.size()];
+		for (int i = 0; i < ticks.length; i++) {
+			ticks[i] = keyframeTicks.get(i);
+		}
+		return new Replay(levelName, seed, tickRate, Arrays.copyOf(inputs, tickCount), ticks,
+				keyframes.toArray(new byte[0][]));
+	}
+
+	/**
+	 * Writes the ticks recorded so far to a new file in a directory, creating the directory if needed.
+	 * The file is named after the level, the seed and the current time.
+	 *
+	 * @param directory the directory to write to
+	 * @return the file written
+	 * @throws IOException if the file cannot be written
+	 */
+	public Path save(Path directory) throws IOException {
+		Files.createDirectories(directory);
+		String simpleName = levelName.substring(levelName.lastIndexOf('.') + 1);
+		Path path = directory.resolve(simpleName + "-" + seed + "-" + System.currentTimeMillis() + EXTENSION);
+		toReplay().write(path);
+		return path;
+	}
+
+	/**
+	 * Serialises the complete state of a world.
+	 *
+	 * @param model the world
+	 * @return the state written by {@link LevelModel#writeState}
+	 */
+	static byte[] captureState(LevelModel model) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			model.writeState(out);
+		} catch (IOException e) {
+			// A byte array output never fails
+			throw new UncheckedIOException(e);
+		}
+		return bytes.toByteArray();
+	}
+}
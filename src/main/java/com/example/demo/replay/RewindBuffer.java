@@ -0,0 +1,460 @@
+package com.example.demo.replay;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+import com.example.demo.event.EventBus;
+import com.example.demo.model.LevelModel;
+import com.example.demo.save.ByteBufferInput;
+import com.example.demo.save.ByteBufferOutput;
+
+/**
+ * The RewindBuffer class keeps the last few seconds of a level so it can be stepped back and forward tick by tick.
+ * Like a {@link Replay}, it holds a keyframe of the world state every few ticks and, in between, only the input of
+ * every tick: the world is deterministic, so the input is the whole difference between a tick and the next,
+ * and any tick is rebuilt by restoring the keyframe before it and simulating the inputs that follow.
+ * Every array is allocated up front and used as a ring, so the memory held stays the same however long the level
+ * runs: keyframes are copied into a fixed arena of the budget's size, and the oldest are dropped once they fall out
+ * of the window or their space is needed. Recording a tick stores one byte, and every keyframe interval a pass over
+ * the world; the time it takes is measured on every tick so the cost can be reported.
+ * Must only be used on the thread stepping the model, except for the cost and memory figures,
+ * which are published for the profiler overlay to read from the JavaFX thread.
+ */
+public class RewindBuffer {
+
+	/**
+	 * The system property giving how many seconds can be rewound, for example {@code -Dgame.rewind=10}; 0 turns it off.
+	 */
+	public static final String SECONDS_PROPERTY = "game.rewind";
+
+	/**
+	 * The system property giving the memory budget of the keyframes in kilobytes, for example
+	 * {@code -Dgame.rewind.budget=1024}.
+	 */
+	public static final String BUDGET_PROPERTY = "game.rewind.budget";
+
+	/**
+	 * The system property giving the number of ticks between two keyframes, for example {@code -Dgame.rewind.keyframe=30}.
+	 */
+	public static final String KEYFRAME_INTERVAL_PROPERTY = "game.rewind.keyframe";
+
+	/**
+	 * The number of seconds kept if none is chosen at launch.
+	 */
+	private static final int DEFAULT_SECONDS = 10;
+
+	/**
+	 * The memory budget of the keyframes in kilobytes if none is chosen at launch.
+	 */
+	private static final int DEFAULT_BUDGET_KILOBYTES = 1024;
+
+	/**
+	 * The number of ticks between two keyframes if none is chosen at launch.
+	 * Stepping back simulates at most this many ticks after restoring a keyframe.
+	 */
+	private static final int DEFAULT_KEYFRAME_INTERVAL = 30;
+
+	/**
+	 * The length of a tick, in seconds.
+	 */
+	private final double tickSeconds;
+
+	/**
+	 * The number of ticks between two keyframes.
+	 */
+	private final int keyframeInterval;
+
+	/**
+	 * The number of ticks that can be rewound while the budget allows it.
+	 */
+	private final int windowTicks;
+
+	/**
+	 * The arena the keyframes are copied into, one after the other, wrapping around to the start.
+	 */
+	private final byte[] arena;
+
+	/**
+	 * The tick of each keyframe, indexed like a ring from the oldest keyframe.
+	 */
+	private final long[] keyframeTicks;
+
+	/**
+	 * The offset of each keyframe in the arena.
+	 */
+	private final int[] keyframeOffsets;
+
+	/**
+	 * The length of each keyframe in the arena.
+	 */
+	private final int[] keyframeLengths;
+
+	/**
+	 * The index of the oldest keyframe in the keyframe rings.
+	 */
+	private int firstKeyframe;
+
+	/**
+	 * The number of keyframes kept.
+	 */
+	private int keyframeCount;
+
+	/**
+	 * The input of every tick since the oldest keyframe, indexed by tick modulo the length.
+	 */
+	private final byte[] inputs;
+
+	/**
+	 * The tick after the last recorded input; every tick from the oldest keyframe up to this one can be rebuilt.
+	 */
+	private long endTick;
+
+	/**
+	 * The output keyframes are written into before they are copied into the arena.
+	 */
+	private final ByteBufferOutput scratch;
+
+	/**
+	 * The bus the world publishes on while ticks it already played are simulated again, so they are not announced twice.
+	 */
+	private final EventBus silentBus;
+
+	/**
+	 * The number of arena bytes taken by the kept keyframes; only written by the thread stepping the model.
+	 */
+	private volatile int usedBytes;
+
+	/**
+	 * The number of ticks recorded; only written by the thread stepping the model.
+	 */
+	private volatile long recordedTicks;
+
+	/**
+	 * The total time spent recording ticks, in nanoseconds; only written by the thread stepping the model.
+	 */
+	private volatile long recordNanos;
+
+	/**
+	 * The longest time spent recording one tick, in nanoseconds; only written by the thread stepping the model.
+	 */
+	private volatile long maxRecordNanos;
+
+	/**
+	 * Constructor for the RewindBuffer class.
+	 *
+	 * @param tickRate         the number of ticks per second the level is simulated at
+	 * @param seconds          the number of seconds that can be rewound
+	 * @param budgetBytes      the memory budget of the keyframes, in bytes
+	 * @param keyframeInterval the number of ticks between two keyframes
+	 */
+	public RewindBuffer(int tickRate, int seconds, int budgetBytes, int keyframeInterval) {
+		if (seconds <= 0 || budgetBytes <= 0 || keyframeInterval <= 0) {
+			throw new IllegalArgumentException("Rewind window, budget and keyframe interval must be positive: "
+					+ seconds + ", " + budgetBytes + ", " + keyframeInterval);
+		}
+		this.tickSeconds = 1.0 / tickRate;
+		this.keyframeInterval = keyframeInterval;
+		this.windowTicks = seconds * tickRate;
+		this.arena = new byte[budgetBytes];
+		// The oldest keyframe is kept until the next one covers the window, so one more interval of ticks is held
+		int keyframeCapacity = windowTicks / keyframeInterval + 3;
+		this.keyframeTicks = new long[keyframeCapacity];
+		this.keyframeOffsets = new int[keyframeCapacity];
+		this.keyframeLengths = new int[keyframeCapacity];
+		this.inputs = new byte[windowTicks + keyframeInterval];
+		this.scratch = new ByteBufferOutput();
+		this.silentBus = new EventBus();
+	}
+
+	/**
+	 * Creates a rewind buffer as chosen at launch.
+	 *
+	 * @param tickRate the number of ticks per second the level is simulated at
+	 * @return the buffer, or null if rewinding is turned off
+	 */
+	public static RewindBuffer createConfigured(int tickRate) {
+		int seconds = Integer.getInteger(SECONDS_PROPERTY, DEFAULT_SECONDS);
+		if (seconds <= 0) {
+			return null;
+		}
+		return new RewindBuffer(tickRate, seconds, Integer.getInteger(BUDGET_PROPERTY, DEFAULT_BUDGET_KILOBYTES) * 1024,
+				Integer.getInteger(KEYFRAME_INTERVAL_PROPERTY, DEFAULT_KEYFRAME_INTERVAL));
+	}
+
+	/**
+	 * Records the input of the next tick.
+	 * Called before the input is applied to the world; a keyframe is captured first if one is due.
+	 * If the world is not at the end of the buffer, because it was stepped back or restored from elsewhere,
+	 * the ticks recorded after it are dropped first, or everything if the buffer cannot rebuild it.
+	 *
+	 * @param model the world, which must not have been stepped since the previous call unless this buffer stepped it
+	 * @param input the {@link com.example.demo.model.TickInput} bits of the tick
+	 */
+	public void record(LevelModel model, int input) {
+		long start = System.nanoTime();
+		long tick = model.getTickCount();
+		if (tick != endTick) {
+			truncate(tick);
+		}
+		if (keyframeCount == 0 || tick - keyframeTicks[keyframeIndex(keyframeCount - 1)] >= keyframeInterval) {
+			captureKeyframe(model, tick);
+		}
+		if (keyframeCount > 0) {
+			inputs[(int) (tick % inputs.length)] = (byte) input;
+			endTick = tick + 1;
+			// Drop the oldest keyframe once the next one alone covers the window
+			while (keyframeCount > 1 && keyframeTicks[keyframeIndex(1)] <= endTick - windowTicks) {
+				dropOldestKeyframe();
+			}
+		}
+		long nanos = System.nanoTime() - start;
+		recordedTicks++;
+		recordNanos += nanos;
+		maxRecordNanos = Math.max(maxRecordNanos, nanos);
+	}
+
+	/**
+	 * Moves the world one tick back.
+	 *
+	 * @param model the world being rewound
+	 * @return true if the world moved, false if the previous tick is no longer kept
+	 */
+	public boolean stepBack(LevelModel model) {
+		return seek(model, model.getTickCount() - 1);
+	}
+
+	/**
+	 * Moves the world one tick forward through ticks that were stepped back over, playing the recorded input.
+	 *
+	 * @param model the world being rewound
+	 * @return true if the world moved, false if it is at the last recorded tick
+	 */
+	public boolean stepForward(LevelModel model) {
+		return seek(model, model.getTickCount() + 1);
+	}
+
+	/**
+	 * Moves the world to the state it was in before the given tick was played.
+	 * The nearest keyframe at or before the tick is restored, unless the world is already between that keyframe
+	 * and the tick, and the recorded inputs are then simulated up to the tick without publishing their events.
+	 *
+	 * @param model the world being rewound
+	 * @param tick  the tick to move to
+	 * @return true if the world moved, false if the tick is not kept
+	 */
+	public boolean seek(LevelModel model, long tick) {
+		if (keyframeCount == 0 || tick < keyframeTicks[firstKeyframe] || tick > endTick) {
+			return false;
+		}
+		int keyframe = keyframeCount - 1;
+		while (keyframeTicks[keyframeIndex(keyframe)] > tick) {
+			keyframe--;
+		}
+		long current = model.getTickCount();
+		EventBus eventBus = model.getEventBus();
+		model.setEventBus(silentBus);
+		try {
+			if (current > tick || current < keyframeTicks[keyframeIndex(keyframe)] || current > endTick) {
+				restoreKeyframe(model, keyframeIndex(keyframe));
+			}
+			while (model.getTickCount() < tick) {
+				model.applyInput(inputs[(int) (model.getTickCount() % inputs.length)]);
+				model.step(tickSeconds);
+			}
+		} finally {
+			model.setEventBus(eventBus);
+		}
+		return true;
+	}
+
+	/**
+	 * Forgets every recorded tick.
+	 */
+	public void clear() {
+		firstKeyframe = 0;
+		keyframeCount = 0;
+		endTick = 0;
+		usedBytes = 0;
+	}
+
+	/**
+	 * Drops the ticks recorded after a tick, so recording can go on from it.
+	 * Everything is dropped if the tick cannot be rebuilt.
+	 *
+	 * @param tick the tick the world is at
+	 */
+	private void truncate(long tick) {
+		if (keyframeCount == 0 || tick < keyframeTicks[firstKeyframe] || tick > endTick) {
+			clear();
+			return;
+		}
+		while (keyframeTicks[keyframeIndex(keyframeCount - 1)] > tick) {
+			keyframeCount--;
+			usedBytes -= keyframeLengths[keyframeIndex(keyframeCount)];
+		}
+		endTick = tick;
+	}
+
+	/**
+	 * Serialises the world into the arena as the newest keyframe, dropping the oldest keyframes to make room.
+	 * If the world does not fit in the whole arena, nothing is kept.
+	 *
+	 * @param model the world
+	 * @param tick  the tick the world is at
+	 */
+	private void captureKeyframe(LevelModel model, long tick) {
+		scratch.clear();
+		try {
+			model.writeState(scratch);
+		} catch (IOException e) {
+			// A buffer output never fails
+			throw new UncheckedIOException(e);
+		}
+		int length = scratch.size();
+		if (length > arena.length) {
+			clear();
+			return;
+		}
+		int offset = 0;
+		if (keyframeCount > 0) {
+			int newest = keyframeIndex(keyframeCount - 1);
+			offset = keyframeOffsets[newest] + keyframeLengths[newest];
+			if (offset + length > arena.length) {
+				offset = 0;
+			}
+		}
+		while (keyframeCount > 0 && overlapsKeyframe(offset, length)) {
+			dropOldestKeyframe();
+		}
+		if (keyframeCount == keyframeTicks.length) {
+			dropOldestKeyframe();
+		}
+		scratch.copyTo(arena, offset);
+		int index = keyframeIndex(keyframeCount);
+		keyframeTicks[index] = tick;
+		keyframeOffsets[index] = offset;
+		keyframeLengths[index] = length;
+		keyframeCount++;
+		usedBytes += length;
+	}
+
+	/**
+	 * Checks whether a region of the arena overlaps a kept keyframe.
+	 *
+	 * @param offset the start of the region
+	 * @param length the length of the region
+	 * @return true if a keyframe would be overwritten, false otherwise
+	 */
+	private boolean overlapsKeyframe(int offset, int length) {
+		for (int i = 0; i < keyframeCount; i++) {
+			int index = keyframeIndex(i);
+			if (offset < keyframeOffsets[index] + keyframeLengths[index] && keyframeOffsets[index] < offset + length) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Drops the oldest keyframe, and with it the ticks that can only be rebuilt from it.
+	 */
+	private void dropOldestKeyframe() {
+		usedBytes -= keyframeLengths[firstKeyframe];
+		firstKeyframe = keyframeIndex(1);
+		keyframeCount--;
+		if (keyframeCount == 0) {
+			endTick = 0;
+		}
+	}
+
+	/**
+	 * Restores a keyframe into the world.
+	 *
+	 * @param model the world
+	 * @param index the index of the keyframe in the keyframe rings
+	 */
+	private void restoreKeyframe(LevelModel model, int index) {
+		try {
+			model.readState(new ByteBufferInput(ByteBuffer.wrap(arena, keyframeOffsets[index], keyframeLengths[index])));
+		} catch (IOException e) {
+			// The keyframe was written by the same model, so it always reads back
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Gets the index in the keyframe rings of the keyframe at a position from the oldest.
+	 *
+	 * @param position the position of the keyframe, 0 for the oldest
+	 * @return the index
+	 */
+	private int keyframeIndex(int position) {
+		return (firstKeyframe + position) % keyframeTicks.length;
+	}
+
+	/**
+	 * Gets the earliest tick the world can be moved back to.
+	 *
+	 * @return the tick of the oldest keyframe, or -1 if nothing is kept
+	 */
+	public long getStartTick() {
+		return keyframeCount > 0 ? keyframeTicks[firstKeyframe] : -1;
+	}
+
+	/**
+	 * Gets the latest tick the world can be moved forward to.
+	 *
+	 * @return the tick after the last recorded input, or -1 if nothing is kept
+	 */
+	public long getEndTick() {
+		return keyframeCount > 0 ? endTick : -1;
+	}
+
+	/**
+	 * Gets the number of keyframes kept.
+	 *
+	 * @return the keyframe count
+	 */
+	public int getKeyframeCount() {
+		return keyframeCount;
+	}
+
+	/**
+	 * Gets the number of arena bytes taken by the kept keyframes.
+	 *
+	 * @return the bytes used
+	 */
+	public int getUsedBytes() {
+		return usedBytes;
+	}
+
+	/**
+	 * Gets the memory held by the buffer, which does not change once it is created.
+	 *
+	 * @return the size of the arena and the input ring, in bytes
+	 */
+	public int getFootprintBytes() {
+		return arena.length + inputs.length;
+	}
+
+	/**
+	 * Gets the average time spent recording a tick, keyframes included.
+	 *
+	 * @return the average in nanoseconds, or 0 if no tick was recorded
+	 */
+	public double getAverageRecordNanos() {
+		long ticks = recordedTicks;
+		return ticks > 0 ? (double) recordNanos / ticks : 0;
+	}
+
+	/**
+	 * Gets the longest time spent recording a tick, which is a keyframe tick.
+	 *
+	 * @return the maximum in nanoseconds
+	 */
+	public long getMaxRecordNanos() {
+		return maxRecordNanos;
+	}
+
+}
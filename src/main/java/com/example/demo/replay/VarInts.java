@@ -0,0 +1,74 @@
+package com.example.demo.replay;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * VarInts writes and reads non-negative ints in the variable-length LEB128 encoding.
+ * Each byte holds seven bits of the value and a flag telling whether more bytes follow,
+ * so the small tick deltas and sizes that make up most of a replay take a single byte.
+ */
+final class VarInts {
+
+	/**
+	 * The bits of a byte that hold part of the value.
+	 */
+	private static final int PAYLOAD_MASK = 0x7f;
+
+	/**
+	 * The bit of a byte that is set when more bytes follow.
+	 */
+	private static final int CONTINUATION_BIT = 0x80;
+
+	/**
+	 * The largest number of bytes an int takes.
+	 */
+	private static final int MAX_BYTES = 5;
+
+	/**
+	 * Private constructor; VarInts only holds static methods.
+	 */
+	private VarInts() {
+	}
+
+	/**
+	 * Writes a non-negative int.
+	 *
+	 * @param out   the output to write to
+	 * @param value the value, which must not be negative
+	 * @throws IOException if the output cannot be written
+	 */
+	static void write(DataOutput out, int value) throws IOException {
+		if (value < 0) {
+			throw new IllegalArgumentException("Value must not be negative: " + value);
+		}
+		while ((value & ~PAYLOAD_MASK) != 0) {
+			out.writeByte((value & PAYLOAD_MASK) | CONTINUATION_BIT);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	/**
+	 * Reads an int written by {@link #write(DataOutput, int)}.
+	 *
+	 * @param in the input to read from
+	 * @return the value
+	 * @throws IOException if the input cannot be read or does not hold a valid value
+	 */
+	static int read(DataInput in) throws IOException {
+		int value = 0;
+		for (int i = 0; i < MAX_BYTES; i++) {
+			int b = in.readUnsignedByte();
+			value |= (b & PAYLOAD_MASK) << (7 * i);
+			if ((b & CONTINUATION_BIT) == 0) {
+				if (value < 0) {
+					throw new IOException("Malformed varint");
+				}
+				return value;
+			}
+		}
+		throw new IOException("Malformed varint");
+	}
+}
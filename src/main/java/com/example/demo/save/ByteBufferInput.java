@@ -0,0 +1,228 @@
+package com.example.demo.save;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * The ByteBufferInput class reads the {@link DataInput} encoding from a {@link ByteBuffer}.
+ * It reads what {@link ByteBufferOutput} or a {@link java.io.DataOutputStream} wrote; reading past the end of the
+ * buffer throws an {@link EOFException}, as a stream would.
+ */
+public final class ByteBufferInput implements DataInput {
+
+	/**
+	 * The buffer read from, between its position and its limit.
+	 */
+	private final ByteBuffer buffer;
+
+	/**
+	 * Constructor for an input reading a buffer from its position.
+	 * The buffer's own position is left unchanged.
+	 *
+	 * @param buffer the buffer to read
+	 */
+	public ByteBufferInput(ByteBuffer buffer) {
+		this.buffer = buffer.duplicate();
+	}
+
+	/**
+	 * Gets the number of bytes left to read.
+	 *
+	 * @return the remaining bytes
+	 */
+	public int remaining() {
+		return buffer.remaining();
+	}
+
+	/**
+	 * Checks that a number of bytes are left to read.
+	 *
+	 * @param bytes the number of bytes about to be read
+	 * @throws EOFException if fewer bytes are left
+	 */
+	private void require(int bytes) throws EOFException {
+		if (buffer.remaining() < bytes) {
+			throw new EOFException("Needs " + bytes + " bytes, " + buffer.remaining() + " left");
+		}
+	}
+
+	/**
+	 * Reads bytes until an array is full.
+	 *
+	 * @param b the array to fill
+	 * @throws IOException if the buffer ends first
+	 */
+	@Override
+	public void readFully(byte[] b) throws IOException {
+		readFully(b, 0, b.length);
+	}
+
+	/**
+	 * Reads a number of bytes into part of an array.
+	 *
+	 * @param b   the array
+	 * @param off the index of the first byte to fill
+	 * @param len the number of bytes to read
+	 * @throws IOException if the buffer ends first
+	 */
+	@Override
+	public void readFully(byte[] b, int off, int len) throws IOException {
+		require(len);
+		buffer.get(b, off, len);
+	}
+
+	/**
+	 * Skips bytes, up to the end of the buffer.
+	 *
+	 * @param n the number of bytes to skip
+	 * @return the number of bytes skipped
+	 */
+	@Override
+	public int skipBytes(int n) {
+		int skipped = Math.max(0, Math.min(n, buffer.remaining()));
+		buffer.position(buffer.position() + skipped);
+		return skipped;
+	}
+
+	/**
+	 * Reads a boolean written as one byte.
+	 *
+	 * @return the value
+	 * @throws IOException if the buffer has ended
+	 */
+	@Override
+	public boolean readBoolean() throws IOException {
+		return readByte() != 0;
+	}
+
+	/**
+	 * Reads a byte.
+	 *
+	 * @return the value
+	 * @throws IOException if the buffer has ended
+	 */
+	@Override
+	public byte readByte() throws IOException {
+		require(Byte.BYTES);
+		return buffer.get();
+	}
+
+	/**
+	 * Reads a byte as an unsigned value.
+	 *
+	 * @return the value, from 0 to 255
+	 * @throws IOException if the buffer has ended
+	 */
+	@Override
+	public int readUnsignedByte() throws IOException {
+		return readByte() & 0xff;
+	}
+
+	/**
+	 * Reads a short written as two bytes.
+	 *
+	 * @return the value
+	 * @throws IOException if the buffer ends first
+	 */
+	@Override
+	public short readShort() throws IOException {
+		require(Short.BYTES);
+		return buffer.getShort();
+	}
+
+	/**
+	 * Reads two bytes as an unsigned value.
+	 *
+	 * @return the value, from 0 to 65535
+	 * @throws IOException if the buffer ends first
+	 */
+	@Override
+	public int readUnsignedShort() throws IOException {
+		return readShort() & 0xffff;
+	}
+
+	/**
+	 * Reads a char written as two bytes.
+	 *
+	 * @return the value
+	 * @throws IOException if the buffer ends first
+	 */
+	@Override
+	public char readChar() throws IOException {
+		require(Character.BYTES);
+		return buffer.getChar();
+	}
+
+	/**
+	 * Reads an int written as four bytes.
+	 *
+	 * @return the value
+	 * @throws IOException if the buffer ends first
+	 */
+	@Override
+	public int readInt() throws IOException {
+		require(Integer.BYTES);
+		return buffer.getInt();
+	}
+
+	/**
+	 * Reads a long written as eight bytes.
+	 *
+	 * @return the value
+	 * @throws IOException if the buffer ends first
+	 */
+	@Override
+	public long readLong() throws IOException {
+		require(Long.BYTES);
+		return buffer.getLong();
+	}
+
+	/**
+	 * Reads a float written as four bytes.
+	 *
+	 * @return the value
+	 * @throws IOException if the buffer ends first
+	 */
+	@Override
+	public float readFloat() throws IOException {
+		require(Float.BYTES);
+		return buffer.getFloat();
+	}
+
+	/**
+	 * Reads a double written as eight bytes.
+	 *
+	 * @return the value
+	 * @throws IOException if the buffer ends first
+	 */
+	@Override
+	public double readDouble() throws IOException {
+		require(Double.BYTES);
+		return buffer.getDouble();
+	}
+
+	/**
+	 * Not supported; state is never written as lines of text.
+	 *
+	 * @return never
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public String readLine() {
+		throw new UnsupportedOperationException("readLine");
+	}
+
+	/**
+	 * Reads a string in the modified UTF-8 encoding of {@link DataInputStream#readUTF()}.
+	 *
+	 * @return the string
+	 * @throws IOException if the buffer ends first or the encoding is malformed
+	 */
+	@Override
+	public String readUTF() throws IOException {
+		return DataInputStream.readUTF(this);
+	}
+}
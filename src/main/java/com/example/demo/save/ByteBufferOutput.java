@@ -0,0 +1,246 @@
+package com.example.demo.save;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * The ByteBufferOutput class writes the {@link DataOutput} encoding into a heap {@link ByteBuffer} that grows as needed.
+ * It produces the same big-endian bytes as a {@link DataOutputStream}, so state written through it is the state
+ * written into replay keyframes, without the stream's synchronization and copying. It is reused between writes.
+ */
+public final class ByteBufferOutput implements DataOutput {
+
+	/**
+	 * The capacity of a new output, enough for a typical level.
+	 */
+	private static final int INITIAL_CAPACITY = 16 * 1024;
+
+	/**
+	 * The buffer written to, between position 0 and its position.
+	 */
+	private ByteBuffer buffer;
+
+	/**
+	 * Constructor for an empty output.
+	 */
+	public ByteBufferOutput() {
+		this.buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Discards everything written, keeping the capacity.
+	 */
+	public void clear() {
+		buffer.clear();
+	}
+
+	/**
+	 * Gets the number of bytes written since the last {@link #clear()}.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return buffer.position();
+	}
+
+	/**
+	 * Copies everything written into a buffer of its own.
+	 *
+	 * @return a read-only buffer holding exactly the bytes written, positioned at 0
+	 */
+	public ByteBuffer toByteBuffer() {
+		ByteBuffer copy = ByteBuffer.allocate(buffer.position());
+		copy.put(0, buffer, 0, buffer.position());
+		return copy.asReadOnlyBuffer();
+	}
+
+	/**
+	 * Copies everything written into an array, without allocating.
+	 *
+	 * @param destination the array to copy into
+	 * @param offset      the index of the array to copy the first byte to
+	 * @throws IndexOutOfBoundsException if the array is too short to hold everything written from the offset
+	 */
+	public void copyTo(byte[] destination, int offset) {
+		buffer.get(0, destination, offset, buffer.position());
+	}
+
+	/**
+	 * Makes room for a number of bytes, doubling the capacity until they fit.
+	 *
+	 * @param bytes the number of bytes about to be written
+	 */
+	private void ensureRemaining(int bytes) {
+		if (buffer.remaining() >= bytes) {
+			return;
+		}
+		int capacity = buffer.capacity();
+		while (capacity - buffer.position() < bytes) {
+			capacity *= 2;
+		}
+		ByteBuffer grown = ByteBuffer.allocate(capacity);
+		grown.put(buffer.flip());
+		buffer = grown;
+	}
+
+	/**
+	 * Writes the low byte of a value.
+	 *
+	 * @param b the byte to write
+	 */
+	@Override
+	public void write(int b) {
+		ensureRemaining(1);
+		buffer.put((byte) b);
+	}
+
+	/**
+	 * Writes an array of bytes.
+	 *
+	 * @param b the bytes to write
+	 */
+	@Override
+	public void write(byte[] b) {
+		write(b, 0, b.length);
+	}
+
+	/**
+	 * Writes part of an array of bytes.
+	 *
+	 * @param b   the bytes
+	 * @param off the index of the first byte to write
+	 * @param len the number of bytes to write
+	 */
+	@Override
+	public void write(byte[] b, int off, int len) {
+		ensureRemaining(len);
+		buffer.put(b, off, len);
+	}
+
+	/**
+	 * Writes a boolean as one byte.
+	 *
+	 * @param v the value
+	 */
+	@Override
+	public void writeBoolean(boolean v) {
+		write(v ? 1 : 0);
+	}
+
+	/**
+	 * Writes the low byte of a value.
+	 *
+	 * @param v the value
+	 */
+	@Override
+	public void writeByte(int v) {
+		write(v);
+	}
+
+	/**
+	 * Writes the low two bytes of a value.
+	 *
+	 * @param v the value
+	 */
+	@Override
+	public void writeShort(int v) {
+		ensureRemaining(Short.BYTES);
+		buffer.putShort((short) v);
+	}
+
+	/**
+	 * Writes a char as two bytes.
+	 *
+	 * @param v the value
+	 */
+	@Override
+	public void writeChar(int v) {
+		ensureRemaining(Character.BYTES);
+		buffer.putChar((char) v);
+	}
+
+	/**
+	 * Writes an int as four bytes.
+	 *
+	 * @param v the value
+	 */
+	@Override
+	public void writeInt(int v) {
+		ensureRemaining(Integer.BYTES);
+		buffer.putInt(v);
+	}
+
+	/**
+	 * Writes a long as eight bytes.
+	 *
+	 * @param v the value
+	 */
+	@Override
+	public void writeLong(long v) {
+		ensureRemaining(Long.BYTES);
+		buffer.putLong(v);
+	}
+
+	/**
+	 * Writes a float as four bytes.
+	 *
+	 * @param v the value
+	 */
+	@Override
+	public void writeFloat(float v) {
+		ensureRemaining(Float.BYTES);
+		buffer.putFloat(v);
+	}
+
+	/**
+	 * Writes a double as eight bytes.
+	 *
+	 * @param v the value
+	 */
+	@Override
+	public void writeDouble(double v) {
+		ensureRemaining(Double.BYTES);
+		buffer.putDouble(v);
+	}
+
+	/**
+	 * Writes the low byte of every char of a string.
+	 *
+	 * @param s the string
+	 */
+	@Override
+	public void writeBytes(String s) {
+		for (int i = 0; i < s.length(); i++) {
+			write(s.charAt(i));
+		}
+	}
+
+	/**
+	 * Writes every char of a string as two bytes.
+	 *
+	 * @param s the string
+	 */
+	@Override
+	public void writeChars(String s) {
+		for (int i = 0; i < s.length(); i++) {
+			writeChar(s.charAt(i));
+		}
+	}
+
+	/**
+	 * Writes a string in the modified UTF-8 encoding of {@link DataOutputStream#writeUTF(String)}.
+	 * Strings are only written in headers, so the encoding goes through a stream.
+	 *
+	 * @param s the string
+	 * @throws IOException if the string is too long to encode
+	 */
+	@Override
+	public void writeUTF(String s) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(s.length() + 2);
+		new DataOutputStream(bytes).writeUTF(s);
+		write(bytes.toByteArray());
+	}
+}
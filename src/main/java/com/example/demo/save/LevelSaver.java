@@ -0,0 +1,325 @@
+package com.example.demo.save;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.demo.model.LevelModel;
+
+/**
+ * The LevelSaver class quick-saves, quick-loads and autosaves one level.
+ * Saves are captured on the thread stepping the model, between two ticks, which only costs a pass over the world;
+ * writing them to the save directory chosen at launch, if any, is left to a {@link SaveWriter}, so saving never
+ * waits for the disk. The last quick save is also kept in memory, and quick-loading restores it without reading a file.
+ * Autosaves are taken every few seconds of game time when an autosave interval is chosen at launch.
+ * Nothing is printed: the capture and restore times, and the writes that succeeded or failed, are kept for
+ * the profiler overlay to read from the JavaFX thread.
+ */
+public class LevelSaver {
+
+	/**
+	 * The system property naming the directory saves are written to, for example {@code -Dgame.saves=saves}.
+	 */
+	public static final String SAVE_DIRECTORY_PROPERTY = "game.saves";
+
+	/**
+	 * The system property giving the time between autosaves in seconds, for example {@code -Dgame.autosave=30}.
+	 */
+	public static final String AUTOSAVE_PROPERTY = "game.autosave";
+
+	/**
+	 * The name of the quick save slot.
+	 */
+	private static final String QUICK_SLOT = "quick";
+
+	/**
+	 * The name of the autosave slot.
+	 */
+	private static final String AUTO_SLOT = "auto";
+
+	/**
+	 * The file name extension of save files.
+	 */
+	private static final String EXTENSION = ".save";
+
+	/**
+	 * The class name of the level being saved.
+	 */
+	private final String levelName;
+
+	/**
+	 * The seed the level was started with.
+	 */
+	private final long seed;
+
+	/**
+	 * The number of ticks per second the level is simulated at.
+	 */
+	private final int tickRate;
+
+	/**
+	 * The directory saves are written to, or null if saves are only kept in memory.
+	 */
+	private final Path directory;
+
+	/**
+	 * The number of ticks between two autosaves, or 0 if autosaving is off.
+	 */
+	private final long autosaveInterval;
+
+	/**
+	 * The output every save is written into before it is copied, reused so capturing does not grow a new buffer.
+	 */
+	private final ByteBufferOutput scratch;
+
+	/**
+	 * The writer of the save files, or null if saves are only kept in memory.
+	 */
+	private final SaveWriter writer;
+
+	/**
+	 * The last quick save, or null if none has been made.
+	 */
+	private SaveState quickSave;
+
+	/**
+	 * The tick of the next autosave.
+	 */
+	private long nextAutosaveTick;
+
+	/**
+	 * The time the last save took to capture, in nanoseconds; written on the simulation thread.
+	 */
+	private volatile long lastCaptureNanos;
+
+	/**
+	 * The time the last quick load took to restore, in nanoseconds; written on the simulation thread.
+	 */
+	private volatile long lastRestoreNanos;
+
+	/**
+	 * The number of save files written.
+	 */
+	private final AtomicLong writtenCount;
+
+	/**
+	 * The number of save files that could not be written.
+	 */
+	private final AtomicLong failedWriteCount;
+
+	/**
+	 * The file the last save was written to, or null if none has been written.
+	 */
+	private volatile Path lastWrittenPath;
+
+	/**
+	 * The reason the last failed save could not be written, or null if no write has failed.
+	 */
+	private volatile Throwable lastWriteFailure;
+
+	/**
+	 * Constructor for the LevelSaver class.
+	 *
+	 * @param levelName       the class name of the level being saved
+	 * @param seed            the seed the level was started with
+	 * @param tickRate        the number of ticks per second the level is simulated at
+	 * @param directory       the directory saves are written to, or null to keep saves in memory only
+	 * @param autosaveSeconds the time between autosaves in seconds, or 0 to turn autosaving off
+	 */
+	public LevelSaver(String levelName, long seed, int tickRate, Path directory, int autosaveSeconds) {
+		this.levelName = levelName;
+		this.seed = seed;
+		this.tickRate = tickRate;
+		this.directory = directory;
+		this.autosaveInterval = directory != null ? Math.max(0, (long) autosaveSeconds * tickRate) : 0;
+		this.scratch = new ByteBufferOutput();
+		this.writer = directory != null ? new SaveWriter() : null;
+		this.nextAutosaveTick = autosaveInterval;
+		this.writtenCount = new AtomicLong();
+		this.failedWriteCount = new AtomicLong();
+	}
+
+	/**
+	 * Gets the directory saves are written to, chosen at launch.
+	 *
+	 * @return the directory named by the save directory property, or null if it is not set
+	 */
+	public static Path getConfiguredDirectory() {
+		String directory = System.getProperty(SAVE_DIRECTORY_PROPERTY);
+		return directory != null ? Paths.get(directory) : null;
+	}
+
+	/**
+	 * Gets the time between autosaves chosen at launch.
+	 *
+	 * @return the value of the autosave property in seconds, or 0 if it is not set
+	 */
+	public static int getConfiguredAutosaveSeconds() {
+		return Integer.getInteger(AUTOSAVE_PROPERTY, 0);
+	}
+
+	/**
+	 * Captures the world as the quick save, and writes it to the quick save file if there is a save directory.
+	 * Must be called between two ticks on the thread stepping the model.
+	 *
+	 * @param model the world to save
+	 */
+	public void quickSave(LevelModel model) {
+		long start = System.nanoTime();
+		quickSave = SaveState.capture(model, levelName, seed, tickRate, scratch);
+		lastCaptureNanos = System.nanoTime() - start;
+		write(quickSave, QUICK_SLOT);
+	}
+
+	/**
+	 * Restores the last quick save.
+	 * Must be called between two ticks on the thread stepping the model.
+	 *
+	 * @param model the world to restore into
+	 * @return true if a quick save was restored, false if none has been made
+	 * @throws IOException if the quick save cannot be restored into the model
+	 */
+	public boolean quickLoad(LevelModel model) throws IOException {
+		if (quickSave == null) {
+			return false;
+		}
+		long start = System.nanoTime();
+		quickSave.restore(model);
+		lastRestoreNanos = System.nanoTime() - start;
+		resync(model);
+		return true;
+	}
+
+	/**
+	 * Schedules the next autosave one autosave interval after the tick the world is at.
+	 * Called whenever the world's tick moves other than by stepping, such as after a quick load or a rewind,
+	 * so autosaves neither pause for the ticks moved back over nor fire at once after a jump forward.
+	 *
+	 * @param model the world being saved
+	 */
+	public void resync(LevelModel model) {
+		nextAutosaveTick = model.getTickCount() + autosaveInterval;
+	}
+
+	/**
+	 * Captures the world and writes it to the autosave file if the autosave interval has passed since the last one.
+	 * Called between every two ticks on the thread stepping the model; between autosaves it only compares two numbers.
+	 *
+	 * @param model the world to save
+	 */
+	public void autosave(LevelModel model) {
+		if (autosaveInterval == 0 || model.getTickCount() < nextAutosaveTick) {
+			return;
+		}
+		nextAutosaveTick = model.getTickCount() + autosaveInterval;
+		long start = System.nanoTime();
+		SaveState save = SaveState.capture(model, levelName, seed, tickRate, scratch);
+		lastCaptureNanos = System.nanoTime() - start;
+		write(save, AUTO_SLOT);
+	}
+
+	/**
+	 * Hands a save over to the writer, if there is a save directory, and counts whether it was written.
+	 *
+	 * @param save the save to write
+	 * @param slot the name of the save slot
+	 */
+	private void write(SaveState save, String slot) {
+		if (writer == null) {
+			return;
+		}
+		Path path = directory.resolve(getFileName(slot));
+		writer.write(save, path).whenComplete((written, error) -> {
+			if (error != null) {
+				lastWriteFailure = error;
+				failedWriteCount.incrementAndGet();
+			} else {
+				lastWrittenPath = written;
+				writtenCount.incrementAndGet();
+			}
+		});
+	}
+
+	/**
+	 * Gets the name of the file of a save slot, from the level's simple class name and the slot.
+	 *
+	 * @param slot the name of the save slot
+	 * @return the file name
+	 */
+	private String getFileName(String slot) {
+		return levelName.substring(levelName.lastIndexOf('.') + 1) + "-" + slot + EXTENSION;
+	}
+
+	/**
+	 * Stops the writer once the saves already handed over are written.
+	 */
+	public void close() {
+		if (writer != null) {
+			writer.shutdown();
+		}
+	}
+
+	/**
+	 * Gets the last quick save.
+	 *
+	 * @return the quick save, or null if none has been made
+	 */
+	public SaveState getQuickSave() {
+		return quickSave;
+	}
+
+	/**
+	 * Gets the time the last quick save or autosave took to capture.
+	 *
+	 * @return the capture time in nanoseconds, or 0 if nothing has been saved
+	 */
+	public long getLastCaptureNanos() {
+		return lastCaptureNanos;
+	}
+
+	/**
+	 * Gets the time the last quick load took to restore.
+	 *
+	 * @return the restore time in nanoseconds, or 0 if nothing has been loaded
+	 */
+	public long getLastRestoreNanos() {
+		return lastRestoreNanos;
+	}
+
+	/**
+	 * Gets the number of save files written.
+	 *
+	 * @return the written count
+	 */
+	public long getWrittenCount() {
+		return writtenCount.get();
+	}
+
+	/**
+	 * Gets the number of save files that could not be written.
+	 *
+	 * @return the failed write count
+	 */
+	public long getFailedWriteCount() {
+		return failedWriteCount.get();
+	}
+
+	/**
+	 * Gets the file the last save was written to.
+	 *
+	 * @return the path, or null if no save has been written
+	 */
+	public Path getLastWrittenPath() {
+		return lastWrittenPath;
+	}
+
+	/**
+	 * Gets the reason the last failed save could not be written.
+	 *
+	 * @return the failure, or null if no write has failed
+	 */
+	public Throwable getLastWriteFailure() {
+		return lastWriteFailure;
+	}
+}
@@ -0,0 +1,290 @@
+package com.example.demo.save;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import com.example.demo.level.LevelId;
+import com.example.demo.model.LevelModel;
+
+/**
+ * The SaveState class is a level in progress, captured between two ticks so it can be restored later.
+ * The world is held as the state written by {@link LevelModel#writeState}, the same hand-rolled schema as replay
+ * keyframes: the tick, the random state, the user's position, health and kill count, every enemy including the boss's
+ * move pattern and shield, and every projectile. It lives in a read-only {@link ByteBuffer}, so capturing is one
+ * pass over the world into a reused buffer and one copy, and restoring reads the buffer directly.
+ *
+ * <p>A save file starts with a magic number, a version, the level class name, the seed, the tick rate and the length
+ * of the state, followed by the state.
+ */
+public final class SaveState {
+
+	/**
+	 * The system property naming a save file to resume at launch, for example {@code -Dgame.load=saves/LevelTwo-quick.save}.
+	 */
+	public static final String LOAD_PROPERTY = "game.load";
+
+	/**
+	 * The number at the start of every save file, "SKYS" in ASCII.
+	 */
+	private static final int MAGIC = 0x534b5953;
+
+	/**
+	 * The version of the file format.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * The save named by the load property, loaded the first time it is asked for.
+	 */
+	private static SaveState configuredSave;
+
+	/**
+	 * Whether the load property has been read already.
+	 */
+	private static boolean configuredSaveLoaded;
+
+	/**
+	 * The reason the save named by the load property could not be read, or null if it was read or is not set.
+	 */
+	private static IOException configuredSaveFailure;
+
+	/**
+	 * The class name of the level the state was captured in.
+	 */
+	private final String levelName;
+
+	/**
+	 * The seed the level was started with.
+	 */
+	private final long seed;
+
+	/**
+	 * The number of ticks per second the level was simulated at.
+	 */
+	private final int tickRate;
+
+	/**
+	 * The world state, read-only and positioned at 0.
+	 */
+	private final ByteBuffer state;
+
+	/**
+	 * Constructor for a save.
+	 *
+	 * @param levelName the class name of the level the state was captured in
+	 * @param seed      the seed the level was started with
+	 * @param tickRate  the number of ticks per second the level was simulated at
+	 * @param state     the world state, read-only and positioned at 0
+	 */
+	private SaveState(String levelName, long seed, int tickRate, ByteBuffer state) {
+		this.levelName = levelName;
+		this.seed = seed;
+		this.tickRate = tickRate;
+		this.state = state;
+	}
+
+	/**
+	 * Captures a world between two ticks.
+	 * Must be called on the thread that steps the model.
+	 *
+	 * @param model     the world to capture
+	 * @param levelName the class name of the level
+	 * @param seed      the seed the level was started with
+	 * @param tickRate  the number of ticks per second the level is simulated at
+	 * @param scratch   the output the state is written into before it is copied; cleared first
+	 * @return the save
+	 */
+	public static SaveState capture(LevelModel model, String levelName, long seed, int tickRate, ByteBufferOutput scratch) {
+		scratch.clear();
+		try {
+			model.writeState(scratch);
+		} catch (IOException e) {
+			// A byte buffer output never fails
+			throw new UncheckedIOException(e);
+		}
+		return new SaveState(levelName, seed, tickRate, scratch.toByteBuffer());
+	}
+
+	/**
+	 * Restores the captured world into a world of the same level, between two ticks.
+	 * Must be called on the thread that steps the model.
+	 *
+	 * @param model the world to restore into
+	 * @throws IOException if the state is truncated or does not belong to the model's level
+	 */
+	public void restore(LevelModel model) throws IOException {
+		ByteBufferInput in = new ByteBufferInput(state);
+		model.readState(in);
+		if (in.remaining() != 0) {
+			throw new IOException(in.remaining() + " bytes of state left after restoring " + levelName);
+		}
+	}
+
+	/**
+	 * Gets the save chosen at launch.
+	 * The file is read the first time this method is called; if it cannot be read, the error is kept for
+	 * {@link #getConfiguredFailure()} and the game starts from the beginning.
+	 *
+	 * @return the save named by the load property, or null if the property is not set or the file cannot be read
+	 */
+	public static synchronized SaveState getConfigured() {
+		if (!configuredSaveLoaded) {
+			configuredSaveLoaded = true;
+			String path = System.getProperty(LOAD_PROPERTY);
+			if (path != null) {
+				try {
+					configuredSave = read(Paths.get(path));
+				} catch (IOException e) {
+					configuredSaveFailure = e;
+				}
+			}
+		}
+		return configuredSave;
+	}
+
+	/**
+	 * Gets the reason the save chosen at launch could not be read.
+	 *
+	 * @return the failure, or null if the save was read, is not set or has not been asked for yet
+	 */
+	public static synchronized IOException getConfiguredFailure() {
+		return configuredSaveFailure;
+	}
+
+	/**
+	 * Encodes the save in the file format.
+	 *
+	 * @return a buffer holding the whole file, positioned at 0
+	 */
+	public ByteBuffer encode() {
+		ByteBufferOutput out = new ByteBufferOutput();
+		try {
+			out.writeInt(MAGIC);
+			out.writeByte(VERSION);
+			out.writeUTF(levelName);
+			out.writeLong(seed);
+			out.writeInt(tickRate);
+			out.writeInt(state.remaining());
+		} catch (IOException e) {
+			// Only a level name too long for the format can fail
+			throw new UncheckedIOException(e);
+		}
+		ByteBuffer header = out.toByteBuffer();
+		return ByteBuffer.allocate(header.remaining() + state.remaining()).put(header).put(state.duplicate()).flip();
+	}
+
+	/**
+	 * Decodes a save from the file format.
+	 * The level name, the tick rate and the length of the state are checked before they are used,
+	 * so a corrupt file is reported as such rather than failing or allocating without limit.
+	 *
+	 * @param bytes the whole file, from its position to its limit
+	 * @return the save
+	 * @throws IOException if the bytes are not a save, are truncated or are corrupt
+	 */
+	public static SaveState decode(ByteBuffer bytes) throws IOException {
+		ByteBufferInput in = new ByteBufferInput(bytes);
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not a save file");
+		}
+		int version = in.readUnsignedByte();
+		if (version != VERSION) {
+			throw new IOException("Unsupported save version " + version);
+		}
+		String levelName = in.readUTF();
+		try {
+			LevelId.forClassName(levelName);
+		} catch (IllegalArgumentException e) {
+			throw new IOException("Corrupt save, unknown level " + levelName, e);
+		}
+		long seed = in.readLong();
+		int tickRate = in.readInt();
+		if (tickRate <= 0) {
+			throw new IOException("Corrupt save, tick rate " + tickRate);
+		}
+		int length = in.readInt();
+		if (length < 0 || length > in.remaining()) {
+			throw new IOException("Corrupt save, state length " + length + " with " + in.remaining() + " bytes left");
+		}
+		byte[] state = new byte[length];
+		in.readFully(state);
+		return new SaveState(levelName, seed, tickRate, ByteBuffer.wrap(state).asReadOnlyBuffer());
+	}
+
+	/**
+	 * Reads a save file.
+	 *
+	 * @param path the file to read
+	 * @return the save
+	 * @throws IOException if the file cannot be read or is not a save
+	 */
+	public static SaveState read(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE) {
+				throw new IOException("Save file too large: " + path);
+			}
+			ByteBuffer bytes = ByteBuffer.allocate((int) size);
+			while (bytes.hasRemaining()) {
+				if (channel.read(bytes) < 0) {
+					throw new IOException("Save file truncated: " + path);
+				}
+			}
+			try {
+				return decode(bytes.flip());
+			} catch (IOException e) {
+				throw new IOException(e.getMessage() + ": " + path, e);
+			}
+		}
+	}
+
+	/**
+	 * Gets the class name of the level the state was captured in.
+	 *
+	 * @return the level class name
+	 */
+	public String getLevelName() {
+		return levelName;
+	}
+
+	/**
+	 * Gets the seed the level was started with.
+	 *
+	 * @return the seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Gets the number of ticks per second the level was simulated at.
+	 *
+	 * @return the tick rate
+	 */
+	public int getTickRate() {
+		return tickRate;
+	}
+
+	/**
+	 * Gets the tick the world was captured at, the first field of the state.
+	 *
+	 * @return the tick count of the world
+	 */
+	public long getTick() {
+		return state.getLong(0);
+	}
+
+	/**
+	 * Gets the size of the world state.
+	 *
+	 * @return the number of bytes of state
+	 */
+	public int getStateSize() {
+		return state.remaining();
+	}
+}
@@ -0,0 +1,95 @@
+package com.example.demo.save;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The SaveWriter class writes saves to disk on a background thread of its own.
+ * Each save is encoded and written to a temporary file next to its destination through a {@link FileChannel},
+ * forced to the device, and then atomically renamed over the destination, so a save file is always either the
+ * previous complete save or the new complete save, even if the game stops halfway through a write.
+ * Saves are written one at a time in the order they were handed over; the caller only waits for the hand-over.
+ */
+public class SaveWriter {
+
+	/**
+	 * The suffix of the temporary file a save is written to before it is renamed.
+	 */
+	private static final String TEMPORARY_SUFFIX = ".tmp";
+
+	/**
+	 * The single thread writing the saves.
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * Constructor for the SaveWriter class.
+	 * The writing thread is a daemon thread, so pending saves do not keep the game running once it is closed.
+	 */
+	public SaveWriter() {
+		this.executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "save-writer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Hands a save over to be written to a file, replacing any existing file.
+	 * The parent directory is created if needed.
+	 *
+	 * @param save the save to write
+	 * @param path the file to write
+	 * @return a future completed with the path once the file is in place, or exceptionally if it could not be written
+	 */
+	public CompletableFuture<Path> write(SaveState save, Path path) {
+		CompletableFuture<Path> written = new CompletableFuture<>();
+		executor.execute(() -> {
+			try {
+				writeAtomically(save.encode(), path);
+				written.complete(path);
+			} catch (IOException | RuntimeException e) {
+				written.completeExceptionally(e);
+			}
+		});
+		return written;
+	}
+
+	/**
+	 * Writes bytes to a temporary file, forces them to the device and renames the file over the destination.
+	 *
+	 * @param bytes the bytes to write, from their position to their limit
+	 * @param path  the destination
+	 * @throws IOException if the file cannot be written or renamed
+	 */
+	static void writeAtomically(ByteBuffer bytes, Path path) throws IOException {
+		Path parent = path.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		Path temporary = path.resolveSibling(path.getFileName() + TEMPORARY_SUFFIX);
+		try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (bytes.hasRemaining()) {
+				channel.write(bytes);
+			}
+			channel.force(true);
+		}
+		Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/**
+	 * Stops accepting saves. Saves already handed over are still written.
+	 */
+	public void shutdown() {
+		executor.shutdown();
+	}
+}
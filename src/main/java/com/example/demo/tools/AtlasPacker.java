@@ -0,0 +1,298 @@
+package com.example.demo.tools;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+/**
+ * The AtlasPacker class is the build step that packs the game's sprites into a single texture atlas.
+ * Each sprite is scaled down so that its longer side fits a maximum size, which still leaves the sprites
+ * larger than they are displayed, and the sprites are then packed row by row, tallest first, with transparent
+ * padding between them. The atlas image is written next to a text index with one line per sprite:
+ * its file name followed by the x, y, width and height of its region in pixels.
+ * Maven runs the packer in the process-classes phase; it does nothing if the atlas is newer than every sprite.
+ *
+ * <p>Usage: {@code AtlasPacker <sprite directory> <output directory> <max sprite size> <sprite file>...}
+ */
+public final class AtlasPacker {
+
+	/**
+	 * The file name of the atlas image.
+	 */
+	public static final String ATLAS_IMAGE_NAME = "sprites.png";
+
+	/**
+	 * The file name of the atlas index.
+	 */
+	public static final String ATLAS_INDEX_NAME = "sprites.atlas";
+
+	/**
+	 * The transparent gap around every region, so filtering at a region's edge never samples its neighbour.
+	 */
+	private static final int PADDING = 2;
+
+	/**
+	 * The atlas widths tried; the one giving the squarest atlas is used.
+	 */
+	private static final int[] CANDIDATE_WIDTHS = {256, 512, 1024, 2048, 4096};
+
+	/**
+	 * Private constructor; AtlasPacker is only run through {@link #main(String[])}.
+	 */
+	private AtlasPacker() {
+	}
+
+	/**
+	 * Packs the sprites named on the command line.
+	 *
+	 * @param args the sprite directory, the output directory, the maximum sprite size and the sprite file names
+	 * @throws IOException if a sprite cannot be read or the atlas cannot be written
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 4) {
+			throw new IllegalArgumentException(
+					"Usage: AtlasPacker <sprite directory> <output directory> <max sprite size> <sprite file>...");
+		}
+		System.setProperty("java.awt.headless", "true");
+		Path spriteDirectory = Paths.get(args[0]);
+		Path outputDirectory = Paths.get(args[1]);
+		int maxSize = Integer.parseInt(args[2]);
+		List<String> names = Arrays.asList(args).subList(3, args.length);
+
+		String configuration = "max " + maxSize + " sprites " + String.join(" ", names);
+		if (isUpToDate(spriteDirectory, outputDirectory, names, configuration)) {
+			return;
+		}
+		List<Region> regions = new ArrayList<>();
+		for (String name : names) {
+			BufferedImage source = ImageIO.read(spriteDirectory.resolve(name).toFile());
+			if (source == null) {
+				throw new IOException("Not a readable image: " + spriteDirectory.resolve(name));
+			}
+			regions.add(new Region(name, fit(source, maxSize)));
+		}
+		BufferedImage atlas = pack(regions);
+		Files.createDirectories(outputDirectory);
+		ImageIO.write(atlas, "png", outputDirectory.resolve(ATLAS_IMAGE_NAME).toFile());
+		writeIndex(outputDirectory.resolve(ATLAS_INDEX_NAME), configuration, regions);
+		System.out.println("Packed " + regions.size() + " sprites into a " + atlas.getWidth() + "x" + atlas.getHeight()
+				+ " atlas");
+	}
+
+	/**
+	 * Checks whether the atlas was already packed from the same sprites with the same settings.
+	 *
+	 * @param spriteDirectory the sprite directory
+	 * @param outputDirectory the output directory
+	 * @param names           the sprite file names
+	 * @param configuration   the settings line recorded in the index
+	 * @return true if the index is newer than every sprite and records the same settings, false otherwise
+	 * @throws IOException if a file's modification time cannot be read
+	 */
+	private static boolean isUpToDate(Path spriteDirectory, Path outputDirectory, List<String> names,
+			String configuration) throws IOException {
+		Path index = outputDirectory.resolve(ATLAS_INDEX_NAME);
+		Path image = outputDirectory.resolve(ATLAS_IMAGE_NAME);
+		if (!Files.exists(index) || !Files.exists(image)
+				|| !Files.readAllLines(index, StandardCharsets.UTF_8).contains("# " + configuration)) {
+			return false;
+		}
+		FileTime packed = Files.getLastModifiedTime(index);
+		for (String name : names) {
+			if (Files.getLastModifiedTime(spriteDirectory.resolve(name)).compareTo(packed) > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Scales an image down so that its longer side is at most the given size, keeping its aspect ratio.
+	 * Large reductions are done in halving steps, which keeps the result smooth where a single bilinear step would alias.
+	 *
+	 * @param source  the image
+	 * @param maxSize the maximum width and height
+	 * @return the scaled image, or the image itself if it already fits
+	 */
+	private static BufferedImage fit(BufferedImage source, int maxSize) {
+		double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+		int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+		int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+		BufferedImage image = toArgb(source);
+		while (image.getWidth() != targetWidth || image.getHeight() != targetHeight) {
+			int width = Math.max(targetWidth, image.getWidth() / 2);
+			int height = Math.max(targetHeight, image.getHeight() / 2);
+			image = resize(image, width, height);
+		}
+		return image;
+	}
+
+	/**
+	 * Copies an image into the ARGB format the atlas uses.
+	 *
+	 * @param source the image
+	 * @return the image itself if it is already ARGB, or an ARGB copy
+	 */
+	private static BufferedImage toArgb(BufferedImage source) {
+		if (source.getType() == BufferedImage.TYPE_INT_ARGB) {
+			return source;
+		}
+		return resize(source, source.getWidth(), source.getHeight());
+	}
+
+	/**
+	 * Draws an image into a new ARGB image of the given size with bilinear filtering.
+	 *
+	 * @param source the image
+	 * @param width  the new width
+	 * @param height the new height
+	 * @return the resized image
+	 */
+	private static BufferedImage resize(BufferedImage source, int width, int height) {
+		BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = resized.createGraphics();
+		graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+		graphics.drawImage(source, 0, 0, width, height, null);
+		graphics.dispose();
+		return resized;
+	}
+
+	/**
+	 * Places the regions and draws them into a new atlas.
+	 * Every candidate width is tried with shelf packing, and the width giving the shortest longer side is kept,
+	 * since that is what a texture size limit applies to; ties go to the smaller area.
+	 *
+	 * @param regions the regions, whose positions are set
+	 * @return the atlas image
+	 */
+	private static BufferedImage pack(List<Region> regions) {
+		regions.sort(Comparator.comparingInt((Region region) -> region.image.getHeight()).reversed()
+				.thenComparing(region -> region.name));
+		int widest = regions.stream().mapToInt(region -> region.image.getWidth() + 2 * PADDING).max().orElse(1);
+		int bestWidth = -1;
+		int bestSide = Integer.MAX_VALUE;
+		long bestArea = Long.MAX_VALUE;
+		for (int width : CANDIDATE_WIDTHS) {
+			if (width >= widest) {
+				int height = place(regions, width);
+				int side = Math.max(width, height);
+				long area = (long) width * height;
+				if (side < bestSide || (side == bestSide && area < bestArea)) {
+					bestSide = side;
+					bestArea = area;
+					bestWidth = width;
+				}
+			}
+		}
+		if (bestWidth < 0) {
+			throw new IllegalArgumentException("A sprite is wider than the largest atlas");
+		}
+		int height = place(regions, bestWidth);
+		BufferedImage atlas = new BufferedImage(bestWidth, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = atlas.createGraphics();
+		for (Region region : regions) {
+			graphics.drawImage(region.image, region.x, region.y, null);
+		}
+		graphics.dispose();
+		return atlas;
+	}
+
+	/**
+	 * Places the regions on shelves across an atlas of the given width.
+	 *
+	 * @param regions the regions, sorted tallest first, whose positions are set
+	 * @param width   the atlas width
+	 * @return the atlas height needed
+	 */
+	private static int place(List<Region> regions, int width) {
+		int x = PADDING;
+		int y = PADDING;
+		int shelfHeight = 0;
+		for (Region region : regions) {
+			int regionWidth = region.image.getWidth();
+			if (x + regionWidth + PADDING > width) {
+				x = PADDING;
+				y += shelfHeight + PADDING;
+				shelfHeight = 0;
+			}
+			region.x = x;
+			region.y = y;
+			x += regionWidth + PADDING;
+			shelfHeight = Math.max(shelfHeight, region.image.getHeight());
+		}
+		return y + shelfHeight + PADDING;
+	}
+
+	/**
+	 * Writes the atlas index.
+	 *
+	 * @param path          the index file
+	 * @param configuration the settings line, so a change of settings repacks the atlas
+	 * @param regions       the placed regions
+	 * @throws IOException if the index cannot be written
+	 */
+	private static void writeIndex(Path path, String configuration, List<Region> regions) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			writer.write("# Sprite atlas index written by AtlasPacker: name x y width height");
+			writer.newLine();
+			writer.write("# " + configuration);
+			writer.newLine();
+			for (Region region : regions) {
+				writer.write(region.name + " " + region.x + " " + region.y + " " + region.image.getWidth() + " "
+						+ region.image.getHeight());
+				writer.newLine();
+			}
+		}
+	}
+
+	/**
+	 * Region is a sprite and its place in the atlas.
+	 */
+	private static final class Region {
+
+		/**
+		 * The sprite's file name.
+		 */
+		private final String name;
+
+		/**
+		 * The scaled sprite.
+		 */
+		private final BufferedImage image;
+
+		/**
+		 * The x-coordinate of the region in the atlas.
+		 */
+		private int x;
+
+		/**
+		 * The y-coordinate of the region in the atlas.
+		 */
+		private int y;
+
+		/**
+		 * Constructor for a region.
+		 *
+		 * @param name  the sprite's file name
+		 * @param image the scaled sprite
+		 */
+		private Region(String name, BufferedImage image) {
+			this.name = name;
+			this.image = image;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package com.example.demo.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.example.demo.level.GameLoop;
+
+/**
+ * The BatchRunner class plays many headless games of the campaign at once and prints what happened in them:
+ * how often the games were won, lost or abandoned, how long each level took to complete, and what a tick cost.
+ * Game {@code i} is played with seed {@code first seed + i}, so a batch can be repeated exactly, and two builds
+ * played with the same seeds differ only by the change between them, which makes it a way to check a change to
+ * the game's balance before playing it. The games share nothing but the totals, so they run on a fixed pool with
+ * one thread per core; the simulation never blocks, so more threads than cores would not play games any faster.
+ *
+ * <p>Usage: {@code BatchRunner [games] [threads] [first seed] [pilot] [max seconds per level]}, for example
+ * {@code mvn -q exec:java -Dexec.mainClass=com.example.demo.tools.BatchRunner -Dexec.args="1000 8 1 tracking"}.
+ * The defaults are 1000 games, one thread per core, seed 1, the {@link TrackingPilot} and 300 seconds per level;
+ * the tick rate is the one chosen with {@code -Dgame.tickRate}.
+ */
+public final class BatchRunner {
+
+	/**
+	 * The number of games played if none is given.
+	 */
+	private static final int DEFAULT_GAMES = 1000;
+
+	/**
+	 * The number of seconds a level may last if none is given.
+	 */
+	private static final int DEFAULT_MAX_SECONDS_PER_LEVEL = 300;
+
+	/**
+	 * Private constructor; BatchRunner is only run through {@link #main(String[])}.
+	 */
+	private BatchRunner() {
+	}
+
+	/**
+	 * Plays the batch described on the command line and prints its summary.
+	 *
+	 * @param args the number of games, threads, first seed, pilot name and maximum seconds per level, each optional
+	 * @throws InterruptedException if the runner is interrupted while waiting for the games
+	 * @throws ExecutionException   if a game fails
+	 */
+	public static void main(String[] args) throws InterruptedException, ExecutionException {
+		int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+		int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+		long firstSeed = args.length > 2 ? Long.parseLong(args[2]) : 1;
+		String pilotName = args.length > 3 ? args[3] : "tracking";
+		int maxSecondsPerLevel = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_MAX_SECONDS_PER_LEVEL;
+		int tickRate = GameLoop.getConfiguredTickRate();
+		// Fail on an unknown pilot name before any game starts
+		Pilot.create(pilotName, tickRate);
+
+		System.out.printf("%d games, seeds %d to %d, %s pilot, %d threads, %d ticks/s%n", games, firstSeed,
+				firstSeed + games - 1, pilotName, threads, tickRate);
+		BatchStatistics statistics = new BatchStatistics();
+		long start = System.nanoTime();
+		run(statistics, games, threads, firstSeed, pilotName, tickRate, (long) maxSecondsPerLevel * tickRate);
+		statistics.print(System.out, tickRate, System.nanoTime() - start);
+	}
+
+	/**
+	 * Plays a batch of games on a fixed pool of threads, recording every result.
+	 *
+	 * @param statistics       the totals to record the results in
+	 * @param games            the number of games
+	 * @param threads          the number of threads
+	 * @param firstSeed        the seed of the first game
+	 * @param pilotName        the name of the pilot flying every game, each with its own instance
+	 * @param tickRate         the number of ticks per second
+	 * @param maxTicksPerLevel the number of ticks a level may last before a game is abandoned
+	 * @throws InterruptedException if interrupted while waiting for the games
+	 * @throws ExecutionException   if a game fails
+	 */
+	public static void run(BatchStatistics statistics, int games, int threads, long firstSeed, String pilotName,
+			int tickRate, long maxTicksPerLevel) throws InterruptedException, ExecutionException {
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> futures = new ArrayList<>(games);
+			for (int i = 0; i < games; i++) {
+				long seed = firstSeed + i;
+				futures.add(pool.submit(() -> statistics.record(
+						new HeadlessGame(seed, tickRate, maxTicksPerLevel, Pilot.create(pilotName, tickRate)).play())));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package com.example.demo.tools;
+
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.example.demo.level.LevelId;
+
+/**
+ * The BatchStatistics class adds up the results of many headless games played at once.
+ * Every total is a {@link LongAdder}, which each thread updates in its own cell, so games finishing at the same
+ * time on different threads do not contend; each game reports once, when it ends, and never during play.
+ * The totals are only read for the summary, after every game has finished.
+ */
+public class BatchStatistics {
+
+	/**
+	 * The number of nanoseconds in a microsecond.
+	 */
+	private static final double NANOS_PER_MICRO = 1000.0;
+
+	/**
+	 * The number of games played.
+	 */
+	private final LongAdder games;
+
+	/**
+	 * The number of games ending each way.
+	 */
+	private final Map<HeadlessGame.Outcome, LongAdder> outcomes;
+
+	/**
+	 * The number of games completing each level.
+	 */
+	private final Map<LevelId, LongAdder> levelCompletions;
+
+	/**
+	 * The ticks each level took to complete, summed over the games completing it.
+	 */
+	private final Map<LevelId, LongAdder> levelTicks;
+
+	/**
+	 * The number of ticks played, over every game.
+	 */
+	private final LongAdder ticks;
+
+	/**
+	 * The time spent stepping, over every game, in nanoseconds.
+	 */
+	private final LongAdder stepNanos;
+
+	/**
+	 * The longest single step of any game, in nanoseconds.
+	 */
+	private final LongAccumulator maxStepNanos;
+
+	/**
+	 * Constructor for empty statistics.
+	 * Every map is filled here and only read afterwards, so the maps themselves are never written concurrently.
+	 */
+	public BatchStatistics() {
+		this.games = new LongAdder();
+		this.outcomes = new EnumMap<>(HeadlessGame.Outcome.class);
+		for (HeadlessGame.Outcome outcome : HeadlessGame.Outcome.values()) {
+			outcomes.put(outcome, new LongAdder());
+		}
+		this.levelCompletions = new EnumMap<>(LevelId.class);
+		this.levelTicks = new EnumMap<>(LevelId.class);
+		for (LevelId level : LevelId.values()) {
+			levelCompletions.put(level, new LongAdder());
+			levelTicks.put(level, new LongAdder());
+		}
+		this.ticks = new LongAdder();
+		this.stepNanos = new LongAdder();
+		this.maxStepNanos = new LongAccumulator(Math::max, 0);
+	}
+
+	/**
+	 * Adds the result of a finished game. May be called from any thread.
+	 *
+	 * @param result the result of the game
+	 */
+	public void record(HeadlessGame.Result result) {
+		games.increment();
+		outcomes.get(result.getOutcome()).increment();
+		for (LevelId level : LevelId.values()) {
+			long completionTicks = result.getLevelTicks(level);
+			if (completionTicks > 0) {
+				levelCompletions.get(level).increment();
+				levelTicks.get(level).add(completionTicks);
+			}
+		}
+		ticks.add(result.getTotalTicks());
+		stepNanos.add(result.getStepNanos());
+		maxStepNanos.accumulate(result.getMaxStepNanos());
+	}
+
+	/**
+	 * Gets the number of games recorded.
+	 *
+	 * @return the game count
+	 */
+	public long getGames() {
+		return games.sum();
+	}
+
+	/**
+	 * Gets the number of games that ended a given way.
+	 *
+	 * @param outcome the way the games ended
+	 * @return the game count
+	 */
+	public long getOutcomeCount(HeadlessGame.Outcome outcome) {
+		return outcomes.get(outcome).sum();
+	}
+
+	/**
+	 * Gets the number of ticks played, over every game.
+	 *
+	 * @return the tick count
+	 */
+	public long getTicks() {
+		return ticks.sum();
+	}
+
+	/**
+	 * Prints the summary of every game recorded.
+	 *
+	 * @param out       the stream to print to
+	 * @param tickRate  the number of ticks per second the games were stepped at
+	 * @param wallNanos how long the batch took, in nanoseconds
+	 */
+	public void print(PrintStream out, int tickRate, long wallNanos) {
+		long gameCount = Math.max(1, games.sum());
+		for (HeadlessGame.Outcome outcome : HeadlessGame.Outcome.values()) {
+			long count = outcomes.get(outcome).sum();
+			out.printf("%-10s %8d  %5.1f%%%n", outcome, count, 100.0 * count / gameCount);
+		}
+		for (LevelId level : LevelId.values()) {
+			long completions = levelCompletions.get(level).sum();
+			if (completions > 0) {
+				out.printf("%-10s completed %8d  %5.1f%%  mean time %.1f s%n", level, completions,
+						100.0 * completions / gameCount, (double) levelTicks.get(level).sum() / completions / tickRate);
+			}
+		}
+		long tickCount = Math.max(1, ticks.sum());
+		out.printf("ticks %d  mean step %.1f us  max step %.1f us%n", ticks.sum(),
+				stepNanos.sum() / NANOS_PER_MICRO / tickCount, maxStepNanos.get() / NANOS_PER_MICRO);
+		double wallSeconds = wallNanos / 1e9;
+		out.printf("wall %.2f s  %.1f games/s  %.0f ticks/s%n", wallSeconds, games.sum() / wallSeconds,
+				ticks.sum() / wallSeconds);
+	}
+}
@@ -0,0 +1,264 @@
+package com.example.demo.tools;
+
+import com.example.demo.level.LevelId;
+import com.example.demo.manager.GameRandom;
+import com.example.demo.model.LevelModel;
+
+/**
+ * The HeadlessGame class plays one game of the campaign without a scene, a window or a player.
+ * Each level's model is built from the game's seed, as in the real game, and stepped at a fixed tick length
+ * with the input of a {@link Pilot}; the game moves on when a level is complete and ends when the user is
+ * destroyed, the last level is complete, or a level runs out of time. Everything a game touches is its own,
+ * so any number of games can be played at once on different threads.
+ */
+public class HeadlessGame {
+
+	/**
+	 * The number of nanoseconds in a second.
+	 */
+	private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+	/**
+	 * The height of the game screen, as in the real game.
+	 */
+	private static final double SCREEN_HEIGHT = 750;
+
+	/**
+	 * The width of the game screen, as in the real game.
+	 */
+	private static final double SCREEN_WIDTH = 1300;
+
+	/**
+	 * The seed of every level's random source.
+	 */
+	private final long seed;
+
+	/**
+	 * The number of ticks per second.
+	 */
+	private final int tickRate;
+
+	/**
+	 * The number of ticks a level may last before the game is abandoned.
+	 */
+	private final long maxTicksPerLevel;
+
+	/**
+	 * The pilot flying the user's plane.
+	 */
+	private final Pilot pilot;
+
+	/**
+	 * Constructor for a headless game.
+	 *
+	 * @param seed             the seed of every level's random source
+	 * @param tickRate         the number of ticks per second
+	 * @param maxTicksPerLevel the number of ticks a level may last before the game is abandoned
+	 * @param pilot            the pilot flying the user's plane, used by this game only
+	 */
+	public HeadlessGame(long seed, int tickRate, long maxTicksPerLevel, Pilot pilot) {
+		this.seed = seed;
+		this.tickRate = tickRate;
+		this.maxTicksPerLevel = maxTicksPerLevel;
+		this.pilot = pilot;
+	}
+
+	/**
+	 * Plays the game from the first level until it is won, lost or abandoned.
+	 *
+	 * @return what happened in the game
+	 */
+	public Result play() {
+		double deltaSeconds = 1.0 / tickRate;
+		long[] levelTicks = new long[LevelId.values().length];
+		long ticks = 0;
+		long stepNanos = 0;
+		long maxStepNanos = 0;
+		LevelId level = LevelId.LEVEL_ONE;
+		while (true) {
+			LevelModel model = level.createModel(SCREEN_HEIGHT, SCREEN_WIDTH, new GameRandom(seed));
+			model.setParallelUpdate(null);
+			while (!model.isLevelComplete()) {
+				if (model.isUserDestroyed()) {
+					return new Result(seed, Outcome.LOST, level, levelTicks, ticks, stepNanos, maxStepNanos);
+				}
+				if (model.getTickCount() >= maxTicksPerLevel) {
+					return new Result(seed, Outcome.TIMED_OUT, level, levelTicks, ticks, stepNanos, maxStepNanos);
+				}
+				model.applyInput(pilot.nextInput(model));
+				long start = System.nanoTime();
+				model.step(deltaSeconds);
+				long elapsed = System.nanoTime() - start;
+				ticks++;
+				stepNanos += elapsed;
+				maxStepNanos = Math.max(maxStepNanos, elapsed);
+			}
+			levelTicks[level.ordinal()] = model.getTickCount();
+			LevelId next = level.getNextLevel();
+			if (next == null) {
+				return new Result(seed, Outcome.WON, level, levelTicks, ticks, stepNanos, maxStepNanos);
+			}
+			level = next;
+		}
+	}
+
+	/**
+	 * Outcome is how a headless game ended.
+	 */
+	public enum Outcome {
+
+		/**
+		 * The last level of the campaign was completed.
+		 */
+		WON,
+
+		/**
+		 * The user was destroyed.
+		 */
+		LOST,
+
+		/**
+		 * A level lasted longer than allowed.
+		 */
+		TIMED_OUT
+	}
+
+	/**
+	 * Result is what happened in one headless game.
+	 */
+	public static final class Result {
+
+		/**
+		 * The seed the game was played with.
+		 */
+		private final long seed;
+
+		/**
+		 * How the game ended.
+		 */
+		private final Outcome outcome;
+
+		/**
+		 * The level the game ended in.
+		 */
+		private final LevelId lastLevel;
+
+		/**
+		 * The number of ticks each level took to complete, indexed by {@link LevelId#ordinal()}; 0 if it was not completed.
+		 */
+		private final long[] levelTicks;
+
+		/**
+		 * The number of ticks played, over every level.
+		 */
+		private final long ticks;
+
+		/**
+		 * The total time spent stepping the game's models, in nanoseconds.
+		 */
+		private final long stepNanos;
+
+		/**
+		 * The longest single step, in nanoseconds.
+		 */
+		private final long maxStepNanos;
+
+		/**
+		 * Constructor for a result.
+		 *
+		 * @param seed         the seed the game was played with
+		 * @param outcome      how the game ended
+		 * @param lastLevel    the level the game ended in
+		 * @param levelTicks   the number of ticks each completed level took
+		 * @param ticks        the number of ticks played, over every level
+		 * @param stepNanos    the total time spent stepping, in nanoseconds
+		 * @param maxStepNanos the longest single step, in nanoseconds
+		 */
+		Result(long seed, Outcome outcome, LevelId lastLevel, long[] levelTicks, long ticks, long stepNanos,
+				long maxStepNanos) {
+			this.seed = seed;
+			this.outcome = outcome;
+			this.lastLevel = lastLevel;
+			this.levelTicks = levelTicks;
+			this.ticks = ticks;
+			this.stepNanos = stepNanos;
+			this.maxStepNanos = maxStepNanos;
+		}
+
+		/**
+		 * Gets the seed the game was played with.
+		 *
+		 * @return the seed
+		 */
+		public long getSeed() {
+			return seed;
+		}
+
+		/**
+		 * Gets how the game ended.
+		 *
+		 * @return the outcome
+		 */
+		public Outcome getOutcome() {
+			return outcome;
+		}
+
+		/**
+		 * Gets the level the game ended in.
+		 *
+		 * @return the last level played
+		 */
+		public LevelId getLastLevel() {
+			return lastLevel;
+		}
+
+		/**
+		 * Gets the number of ticks a level took to complete: for the first level, the time to reach the kill target;
+		 * for the second, the time to kill the boss.
+		 *
+		 * @param level the level
+		 * @return the number of ticks, or 0 if the level was not completed
+		 */
+		public long getLevelTicks(LevelId level) {
+			return levelTicks[level.ordinal()];
+		}
+
+		/**
+		 * Gets the total number of ticks played, over every level.
+		 *
+		 * @return the tick count
+		 */
+		public long getTotalTicks() {
+			return ticks;
+		}
+
+		/**
+		 * Gets the total time spent stepping the game's models.
+		 *
+		 * @return the time, in nanoseconds
+		 */
+		public long getStepNanos() {
+			return stepNanos;
+		}
+
+		/**
+		 * Gets the longest single step.
+		 *
+		 * @return the time, in nanoseconds
+		 */
+		public long getMaxStepNanos() {
+			return maxStepNanos;
+		}
+
+		/**
+		 * Describes the result in one line.
+		 *
+		 * @return the seed, outcome, last level and total time stepping
+		 */
+		@Override
+		public String toString() {
+			return "seed=" + seed + " " + outcome + " in " + lastLevel + " after "
+					+ String.format("%.3f", stepNanos / NANOS_PER_SECOND) + " s of stepping";
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package com.example.demo.tools;
+
+import com.example.demo.model.LevelModel;
+import com.example.demo.model.TickInput;
+
+/**
+ * Pilot flies the user's plane in a game played without a player, choosing the input of every tick
+ * from the state of the world. A pilot may remember things between ticks, so each game needs its own.
+ */
+public interface Pilot {
+
+	/**
+	 * Chooses the input for the next tick.
+	 *
+	 * @param model the world about to be stepped
+	 * @return the {@link TickInput} bits of the tick
+	 */
+	int nextInput(LevelModel model);
+
+	/**
+	 * Creates a pilot by name.
+	 *
+	 * @param name     "tracking" for a {@link TrackingPilot} or "sweeping" for a {@link SweepingPilot}
+	 * @param tickRate the number of ticks per second the game is stepped at
+	 * @return a new pilot
+	 * @throws IllegalArgumentException if no pilot has that name
+	 */
+	static Pilot create(String name, int tickRate) {
+		switch (name) {
+			case "tracking":
+				return new TrackingPilot(tickRate);
+			case "sweeping":
+				return new SweepingPilot(tickRate);
+			default:
+				throw new IllegalArgumentException("Unknown pilot: " + name);
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.example.demo.tools;
+
+import com.example.demo.model.LevelModel;
+import com.example.demo.model.TickInput;
+
+/**
+ * SweepingPilot follows a fixed script that ignores the enemies: it sweeps the user's plane from the top of its
+ * range to the bottom and back while firing at a steady rate. It is a baseline for the tracking pilot,
+ * showing how much of a level can be won without aiming.
+ */
+public class SweepingPilot implements Pilot {
+
+	/**
+	 * The number of shots the pilot fires per second.
+	 */
+	private static final double SHOTS_PER_SECOND = 5;
+
+	/**
+	 * The number of ticks between two shots.
+	 */
+	private final long ticksPerShot;
+
+	/**
+	 * Whether the plane is currently sweeping down the screen.
+	 */
+	private boolean movingDown;
+
+	/**
+	 * The y-coordinate of the plane when the previous input was chosen.
+	 */
+	private double previousY;
+
+	/**
+	 * Constructor for a sweeping pilot.
+	 *
+	 * @param tickRate the number of ticks per second the game is stepped at
+	 */
+	public SweepingPilot(int tickRate) {
+		this.ticksPerShot = Math.max(1, Math.round(tickRate / SHOTS_PER_SECOND));
+		this.movingDown = true;
+		this.previousY = Double.NaN;
+	}
+
+	/**
+	 * Keeps sweeping, turning around once the plane stops at the edge of its range, and fires every few ticks.
+	 *
+	 * @param model the world about to be stepped
+	 * @return the {@link TickInput} bits of the tick
+	 */
+	@Override
+	public int nextInput(LevelModel model) {
+		double y = model.getUser().getY();
+		if (y == previousY) {
+			movingDown = !movingDown;
+		}
+		previousY = y;
+		int input = movingDown ? TickInput.MOVE_DOWN : TickInput.MOVE_UP;
+		if (model.getTickCount() % ticksPerShot == 0) {
+			input |= TickInput.FIRE;
+		}
+		return input;
+	}
+}
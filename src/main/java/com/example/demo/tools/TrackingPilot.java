@@ -0,0 +1,122 @@
+package com.example.demo.tools;
+
+import java.util.List;
+
+import com.example.demo.Actor.ActiveActor;
+import com.example.demo.model.LevelModel;
+import com.example.demo.model.TickInput;
+import com.example.demo.plane.UserPlane;
+import com.example.demo.projectile.ProjectileStore;
+
+/**
+ * TrackingPilot plays like an attentive player: it lines the user's plane up with the enemy closest to
+ * breaking through on the left, and fires at a steady rate while that enemy is within reach of its shots.
+ * When an enemy projectile is about to hit the plane, it moves out of the way first.
+ */
+public class TrackingPilot implements Pilot {
+
+	/**
+	 * The number of shots the pilot fires per second at most, about as fast as a player can tap the key.
+	 */
+	private static final double SHOTS_PER_SECOND = 10;
+
+	/**
+	 * The fraction of the target's height the plane's centre may be off by before the pilot moves.
+	 */
+	private static final double ALIGNMENT_TOLERANCE = 0.25;
+
+	/**
+	 * How far ahead of the plane, in pixels, an incoming projectile is dodged.
+	 */
+	private static final double DODGE_DISTANCE = 250;
+
+	/**
+	 * The number of ticks between two shots.
+	 */
+	private final long ticksPerShot;
+
+	/**
+	 * The tick of the last shot, or a tick long before the game for no shot yet.
+	 */
+	private long lastShotTick;
+
+	/**
+	 * Constructor for a tracking pilot.
+	 *
+	 * @param tickRate the number of ticks per second the game is stepped at
+	 */
+	public TrackingPilot(int tickRate) {
+		this.ticksPerShot = Math.max(1, Math.round(tickRate / SHOTS_PER_SECOND));
+		this.lastShotTick = Long.MIN_VALUE / 2;
+	}
+
+	/**
+	 * Dodges the nearest incoming projectile, or else moves towards the leftmost enemy,
+	 * and fires when lined up with that enemy and the gun is ready.
+	 *
+	 * @param model the world about to be stepped
+	 * @return the {@link TickInput} bits of the tick
+	 */
+	@Override
+	public int nextInput(LevelModel model) {
+		ActiveActor target = findTarget(model.getEnemyUnits());
+		if (target == null) {
+			return TickInput.NONE;
+		}
+		UserPlane user = model.getUser();
+		double offset = (target.getY() + target.getHeight() / 2) - (user.getY() + user.getHeight() / 2);
+		double tolerance = target.getHeight() * ALIGNMENT_TOLERANCE;
+		int input = findDodge(model, user);
+		if (input == TickInput.NONE) {
+			input = offset > tolerance ? TickInput.MOVE_DOWN : offset < -tolerance ? TickInput.MOVE_UP : TickInput.NONE;
+		}
+		long tick = model.getTickCount();
+		if (Math.abs(offset) < target.getHeight() / 2 && tick - lastShotTick >= ticksPerShot) {
+			lastShotTick = tick;
+			input |= TickInput.FIRE;
+		}
+		return input;
+	}
+
+	/**
+	 * Chooses a move away from the nearest enemy projectile that would hit the plane if it stayed where it is.
+	 *
+	 * @param model the world about to be stepped
+	 * @param user  the user's plane
+	 * @return {@link TickInput#MOVE_UP} or {@link TickInput#MOVE_DOWN}, or {@link TickInput#NONE} if nothing is coming
+	 */
+	private static int findDodge(LevelModel model, UserPlane user) {
+		ProjectileStore projectiles = model.getEnemyProjectiles();
+		double top = user.getY();
+		double bottom = top + user.getHeight();
+		double nose = user.getX() + user.getWidth();
+		double nearest = DODGE_DISTANCE;
+		int dodge = TickInput.NONE;
+		for (int i = 0, n = projectiles.getCount(); i < n; i++) {
+			double distance = projectiles.getX(i) - nose;
+			double projectileTop = projectiles.getY(i);
+			double projectileBottom = projectileTop + projectiles.getHeight(i);
+			if (distance > -user.getWidth() && distance < nearest && projectileBottom > top && projectileTop < bottom) {
+				nearest = distance;
+				dodge = projectileTop + projectileBottom > top + bottom ? TickInput.MOVE_UP : TickInput.MOVE_DOWN;
+			}
+		}
+		return dodge;
+	}
+
+	/**
+	 * Finds the enemy closest to the left edge of the screen.
+	 *
+	 * @param enemies the enemies in the world
+	 * @return the leftmost enemy that is not destroyed, or null if there is none
+	 */
+	private static ActiveActor findTarget(List<ActiveActor.ActiveActorDestructible> enemies) {
+		ActiveActor.ActiveActorDestructible target = null;
+		for (ActiveActor.ActiveActorDestructible enemy : enemies) {
+			if (!enemy.isDestroyed() && (target == null || enemy.getX() < target.getX())) {
+				target = enemy;
+			}
+		}
+		return target;
+	}
+}
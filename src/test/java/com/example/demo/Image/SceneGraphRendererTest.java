@@ -0,0 +1,166 @@
+package com.example.demo.Image;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+
+/**
+ * SceneGraphRendererTest checks how {@link SceneGraphRenderer} detaches the views of planes that left the world.
+ * A batch of children is detached from a root, and the root must see a single change that keeps the other children
+ * in order, with the batch looked up a number of times that grows linearly with the number of children.
+ */
+class SceneGraphRendererTest {
+
+	/**
+	 * The number of children of the smaller root.
+	 */
+	private static final int CHILD_COUNT = 1_000;
+
+	/**
+	 * How many times more children the larger root has.
+	 */
+	private static final int GROWTH = 4;
+
+	/**
+	 * Every child whose index is a multiple of this is detached.
+	 */
+	private static final int DETACHED_EVERY = 3;
+
+	/**
+	 * Chooses the software graphics pipeline, which creating nodes loads, so the test needs no display libraries.
+	 */
+	@BeforeAll
+	static void useSoftwarePipeline() {
+		if (System.getProperty("prism.order") == null) {
+			System.setProperty("prism.order", "sw");
+		}
+	}
+
+	/**
+	 * Detaches a batch and checks the children left and the changes the root saw.
+	 */
+	@Test
+	void detachingIsOneChangeThatKeepsOrder() {
+		Group root = createRoot(CHILD_COUNT);
+		List<Node> survivors = new ArrayList<>();
+		Set<Node> detached = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (int i = 0; i < CHILD_COUNT; i++) {
+			Node child = root.getChildren().get(i);
+			if (i % DETACHED_EVERY == 0) {
+				detached.add(child);
+			} else {
+				survivors.add(child);
+			}
+		}
+		int[] changes = new int[1];
+		root.getChildren().addListener((ListChangeListener<Node>) change -> changes[0]++);
+
+		SceneGraphRenderer.detachAll(root.getChildren(), detached);
+
+		assertEquals(1, changes[0]);
+		assertIterableEquals(survivors, root.getChildren());
+	}
+
+	/**
+	 * Counts the lookups into the batch for two roots of different sizes and checks that they grow linearly.
+	 */
+	@Test
+	void lookupsGrowLinearly() {
+		long small = countLookups(CHILD_COUNT);
+		long large = countLookups(CHILD_COUNT * GROWTH);
+		assertEquals(small * GROWTH, large);
+	}
+
+	/**
+	 * Detaches every third child of a new root and counts the lookups into the batch.
+	 *
+	 * @param childCount The number of children of the root.
+	 * @return The number of times the batch was asked whether it holds a node.
+	 */
+	private static long countLookups(int childCount) {
+		Group root = createRoot(childCount);
+		CountingSet detached = new CountingSet();
+		for (int i = 0; i < childCount; i += DETACHED_EVERY) {
+			detached.nodes.add(root.getChildren().get(i));
+		}
+		SceneGraphRenderer.detachAll(root.getChildren(), detached);
+		assertEquals(childCount - detached.size(), root.getChildren().size());
+		return detached.lookups;
+	}
+
+	/**
+	 * Creates a root with empty groups as children.
+	 *
+	 * @param childCount The number of children.
+	 * @return The root.
+	 */
+	private static Group createRoot(int childCount) {
+		Group root = new Group();
+		for (int i = 0; i < childCount; i++) {
+			root.getChildren().add(new Group());
+		}
+		return root;
+	}
+
+	/**
+	 * CountingSet is an identity set of nodes that counts how many times it is asked whether it holds one.
+	 */
+	private static final class CountingSet extends AbstractSet<Node> {
+
+		/**
+		 * The nodes in the set.
+		 */
+		private final Set<Node> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		/**
+		 * The number of calls to {@link #contains(Object)}.
+		 */
+		private long lookups;
+
+		/**
+		 * Checks whether the set holds a node, counting the call.
+		 *
+		 * @param node The node to look up.
+		 * @return True if the set holds the node, false otherwise.
+		 */
+		@Override
+		public boolean contains(Object node) {
+			lookups++;
+			return nodes.contains(node);
+		}
+
+		/**
+		 * Gets an iterator over the nodes.
+		 *
+		 * @return The iterator.
+		 */
+		@Override
+		public Iterator<Node> iterator() {
+			return nodes.iterator();
+		}
+
+		/**
+		 * Gets the number of nodes in the set.
+		 *
+		 * @return The size of the set.
+		 */
+		@Override
+		public int size() {
+			return nodes.size();
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package com.example.demo.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.Actor.ActiveActor;
+import com.example.demo.manager.GameRandom;
+import com.example.demo.plane.EnemyPlane;
+import com.example.demo.projectile.ProjectileStore;
+import com.example.demo.projectile.ProjectileType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+
+/**
+ * RemoveDestroyedActorsTest checks what {@link LevelModel#removeAllDestroyedActors()} leaves behind.
+ * Some of a world's enemies and projectiles are destroyed, and after one removal the survivors must be exactly
+ * the others, in their original order, with the listener told about each destroyed enemy once, in order.
+ */
+class RemoveDestroyedActorsTest {
+
+	/**
+	 * The number of enemies and of projectiles in the world before the removal.
+	 */
+	private static final int ACTOR_COUNT = 1_000;
+
+	/**
+	 * Every actor whose index is a multiple of this is destroyed, as well as the last one.
+	 */
+	private static final int DESTROYED_EVERY = 3;
+
+	/**
+	 * Destroys some enemies and checks the enemies left and the removals the listener saw.
+	 */
+	@Test
+	void survivingEnemiesKeepTheirOrder() {
+		TestLevelModel model = new TestLevelModel();
+		List<ActiveActor.ActiveActorDestructible> survivors = new ArrayList<>();
+		List<ActiveActor.ActiveActorDestructible> destroyed = new ArrayList<>();
+		for (int i = 0; i < ACTOR_COUNT; i++) {
+			EnemyPlane enemy = new EnemyPlane(i, 0, model.getRandom());
+			model.addEnemyUnit(enemy);
+			if (isDestroyed(i)) {
+				enemy.destroy();
+				destroyed.add(enemy);
+			} else {
+				survivors.add(enemy);
+			}
+		}
+		List<ActiveActor.ActiveActorDestructible> removed = new ArrayList<>();
+		model.setListener(new LevelModel.Listener() {
+			@Override
+			public void actorAdded(ActiveActor.ActiveActorDestructible actor) {
+			}
+
+			@Override
+			public void actorRemoved(ActiveActor.ActiveActorDestructible actor) {
+				removed.add(actor);
+			}
+		});
+
+		model.removeAllDestroyedActors();
+
+		assertIterableEquals(survivors, model.getEnemyUnits());
+		assertIterableEquals(destroyed, removed);
+	}
+
+	/**
+	 * Destroys some projectiles of each store and checks the projectiles left, by their x-coordinates.
+	 */
+	@Test
+	void survivingProjectilesKeepTheirOrder() {
+		TestLevelModel model = new TestLevelModel();
+		List<Double> survivors = fill(model.getUserProjectiles(), ProjectileType.USER);
+		List<Double> enemySurvivors = fill(model.getEnemyProjectiles(), ProjectileType.ENEMY);
+
+		model.removeAllDestroyedActors();
+
+		assertEquals(survivors, getXs(model.getUserProjectiles()));
+		assertEquals(enemySurvivors, getXs(model.getEnemyProjectiles()));
+	}
+
+	/**
+	 * Fills a store with projectiles at increasing x-coordinates and destroys some of them.
+	 *
+	 * @param projectiles The store to fill.
+	 * @param type        The type of the projectiles.
+	 * @return The x-coordinates of the projectiles that were not destroyed, in slot order.
+	 */
+	private static List<Double> fill(ProjectileStore projectiles, ProjectileType type) {
+		List<Double> survivors = new ArrayList<>();
+		for (int i = 0; i < ACTOR_COUNT; i++) {
+			int slot = projectiles.spawn(type, i, 0);
+			if (isDestroyed(i)) {
+				projectiles.destroy(slot);
+			} else {
+				survivors.add(projectiles.getX(slot));
+			}
+		}
+		return survivors;
+	}
+
+	/**
+	 * Gets the x-coordinate of every projectile in a store.
+	 *
+	 * @param projectiles The store.
+	 * @return The x-coordinates, in slot order.
+	 */
+	private static List<Double> getXs(ProjectileStore projectiles) {
+		List<Double> xs = new ArrayList<>();
+		for (int i = 0, count = projectiles.getCount(); i < count; i++) {
+			xs.add(projectiles.getX(i));
+		}
+		return xs;
+	}
+
+	/**
+	 * Checks whether the actor at an index is one the tests destroy.
+	 *
+	 * @param index The index of the actor.
+	 * @return True if the actor is destroyed, false otherwise.
+	 */
+	private static boolean isDestroyed(int index) {
+		return index % DESTROYED_EVERY == 0 || index == ACTOR_COUNT - 1;
+	}
+
+	/**
+	 * TestLevelModel is a world that never spawns enemies, filled by the test.
+	 */
+	private static class TestLevelModel extends LevelModel {
+
+		/**
+		 * Constructor for an empty world with only the user's plane.
+		 */
+		TestLevelModel() {
+			super(750, 1300, 5, new GameRandom(1));
+		}
+
+		/**
+		 * Spawns nothing; the test fills the world itself.
+		 */
+		@Override
+		protected void spawnEnemyUnits() {
+		}
+
+		/**
+		 * Never completes.
+		 *
+		 * @return False.
+		 */
+		@Override
+		public boolean isLevelComplete() {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,162 @@
+package com.example.demo.model;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.collision.CollisionMode;
+import com.example.demo.manager.GameRandom;
+import com.example.demo.plane.EnemyPlane;
+import com.example.demo.projectile.ProjectileStore;
+import com.example.demo.projectile.ProjectileType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * RetiredActorCollisionTest checks that a projectile retired for leaving the world takes no part in the collisions
+ * of the tick it was retired in. An enemy straddles the right edge of the world, and a user projectile overlapping it
+ * lies just past that edge, so it is retired; the enemy must take no damage, with the grid and with brute force.
+ * The same projectile just inside the edge is the control: it stays alive and does damage the enemy.
+ */
+class RetiredActorCollisionTest {
+
+	/**
+	 * The height of the game screen, as in the real game.
+	 */
+	private static final double SCREEN_HEIGHT = 750;
+
+	/**
+	 * The width of the game screen, as in the real game.
+	 */
+	private static final double SCREEN_WIDTH = 1300;
+
+	/**
+	 * The y-coordinate the enemy is placed at.
+	 */
+	private static final double ENEMY_Y = 300;
+
+	/**
+	 * Checks that a retired projectile does no damage with the spatial hash grid.
+	 */
+	@Test
+	void retiredProjectileDoesNoDamageWithGrid() {
+		assertNoDamage(CollisionMode.SPATIAL_HASH);
+	}
+
+	/**
+	 * Checks that a retired projectile does no damage with brute force.
+	 */
+	@Test
+	void retiredProjectileDoesNoDamageWithBruteForce() {
+		assertNoDamage(CollisionMode.BRUTE_FORCE);
+	}
+
+	/**
+	 * Checks that a projectile just inside the world does damage the enemy, so the overlap of the other tests is real.
+	 */
+	@Test
+	void liveProjectileDoesDamage() {
+		for (CollisionMode collisionMode : CollisionMode.values()) {
+			TestLevelModel model = new TestLevelModel(collisionMode);
+			EnemyPlane enemy = model.addEnemyAtRightEdge();
+			int health = enemy.getHealth();
+			model.spawnUserProjectileAt(model.getWorldBounds().getMaxX() - 1);
+			model.collide();
+			assertEquals(0, model.getRetiredUserProjectiles(), collisionMode.toString());
+			assertEquals(health - 1, enemy.getHealth(), collisionMode.toString());
+		}
+	}
+
+	/**
+	 * Retires a projectile overlapping an enemy and checks that the collisions of the tick leave the enemy whole.
+	 *
+	 * @param collisionMode the collision mode to use
+	 */
+	private static void assertNoDamage(CollisionMode collisionMode) {
+		TestLevelModel model = new TestLevelModel(collisionMode);
+		EnemyPlane enemy = model.addEnemyAtRightEdge();
+		int health = enemy.getHealth();
+		int slot = model.spawnUserProjectileAt(model.getWorldBounds().getMaxX() + 1);
+		assertTrue(enemy.getHitboxMaxX() > model.getUserProjectiles().getHitboxMinX(slot));
+		model.collide();
+		assertEquals(1, model.getRetiredUserProjectiles());
+		assertFalse(model.getUserProjectiles().isAlive(slot));
+		assertEquals(health, enemy.getHealth());
+		assertFalse(enemy.isDestroyed());
+	}
+
+	/**
+	 * TestLevelModel is a world that never spawns enemies, set up by the test.
+	 */
+	private static class TestLevelModel extends LevelModel {
+
+		/**
+		 * Constructor for an empty world with only the user's plane.
+		 *
+		 * @param collisionMode The collision mode to use.
+		 */
+		TestLevelModel(CollisionMode collisionMode) {
+			super(SCREEN_HEIGHT, SCREEN_WIDTH, 5, new GameRandom(1));
+			setParallelUpdate(null);
+			setCollisionMode(collisionMode);
+			setPixelCollisions(false);
+		}
+
+		/**
+		 * Adds an enemy whose hitbox straddles the right edge of the world, so it is not retired.
+		 *
+		 * @return The enemy.
+		 */
+		EnemyPlane addEnemyAtRightEdge() {
+			EnemyPlane enemy = new EnemyPlane(0, ENEMY_Y, new GameRandom(1));
+			enemy.updateHitbox();
+			double halfWidth = (enemy.getHitboxMaxX() - enemy.getHitboxMinX()) / 2;
+			enemy = new EnemyPlane(getWorldBounds().getMaxX() - halfWidth - enemy.getHitboxMinX(), ENEMY_Y,
+					new GameRandom(1));
+			enemy.updateHitbox();
+			addEnemyUnit(enemy);
+			return enemy;
+		}
+
+		/**
+		 * Spawns a user projectile whose hitbox starts at the given x-coordinate, level with the middle of the enemy.
+		 *
+		 * @param hitboxMinX The left edge of the projectile's hitbox.
+		 * @return The slot of the projectile.
+		 */
+		int spawnUserProjectileAt(double hitboxMinX) {
+			ProjectileType type = ProjectileType.USER;
+			EnemyPlane enemy = (EnemyPlane) getEnemyUnits().get(0);
+			double middleY = (enemy.getHitboxMinY() + enemy.getHitboxMaxY()) / 2;
+			ProjectileStore projectiles = getUserProjectiles();
+			return projectiles.spawn(type, hitboxMinX - type.getHitboxMinXOffset(),
+					middleY - (type.getHitboxMinYOffset() + type.getHitboxMaxYOffset()) / 2);
+		}
+
+		/**
+		 * Runs the part of a tick that retires actors and handles the user's projectiles hitting enemies.
+		 */
+		void collide() {
+			retireOffscreenActors();
+			rebuildCollisionGrids();
+			handleUserProjectileCollisions();
+		}
+
+		/**
+		 * Spawns nothing; the test sets up the world itself.
+		 */
+		@Override
+		protected void spawnEnemyUnits() {
+		}
+
+		/**
+		 * Never completes.
+		 *
+		 * @return False.
+		 */
+		@Override
+		public boolean isLevelComplete() {
+			return false;
+		}
+	}
+}
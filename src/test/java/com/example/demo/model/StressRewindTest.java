@@ -0,0 +1,123 @@
+package com.example.demo.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.manager.GameRandom;
+import com.example.demo.profiling.ScalingCurve;
+import com.example.demo.replay.RewindBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * StressRewindTest checks that rewinding a stress run does not measure its ticks twice.
+ * A run is recorded into a {@link RewindBuffer}, stepped back, which simulates the kept ticks again from a keyframe,
+ * stepped forward again and played on; its scaling curve must have one point per step of the ramp, in order,
+ * exactly like a run of the same seed that was never rewound.
+ */
+class StressRewindTest {
+
+	/**
+	 * The tick rate the run is played at.
+	 */
+	private static final int TICK_RATE = 60;
+
+	/**
+	 * The number of ticks played before rewinding, ten steps of the ramp.
+	 */
+	private static final int TICKS_BEFORE_REWIND = 300;
+
+	/**
+	 * The number of ticks stepped back and then forward again.
+	 */
+	private static final int REWOUND_TICKS = 100;
+
+	/**
+	 * The number of ticks played after rewinding.
+	 */
+	private static final int TICKS_AFTER_REWIND = 120;
+
+	/**
+	 * The seed the runs are started with.
+	 */
+	private static final long SEED = 7;
+
+	/**
+	 * Rewinds a run and compares its curve with one of a run that was never rewound.
+	 */
+	@Test
+	void rewindingRecordsNoDuplicatePoints() {
+		StressLevelModel rewound = createModel();
+		RewindBuffer rewindBuffer = new RewindBuffer(TICK_RATE, 10, 8 * 1024 * 1024, 30);
+		for (int i = 0; i < TICKS_BEFORE_REWIND; i++) {
+			play(rewound, rewindBuffer);
+		}
+		int pointsBeforeRewind = rewound.getCurve().getPoints().size();
+		for (int i = 0; i < REWOUND_TICKS; i++) {
+			assertTrue(rewindBuffer.stepBack(rewound));
+		}
+		assertEquals(pointsBeforeRewind, rewound.getCurve().getPoints().size());
+		for (int i = 0; i < REWOUND_TICKS; i++) {
+			assertTrue(rewindBuffer.stepForward(rewound));
+		}
+		assertEquals(pointsBeforeRewind, rewound.getCurve().getPoints().size());
+		for (int i = 0; i < TICKS_AFTER_REWIND; i++) {
+			play(rewound, rewindBuffer);
+		}
+
+		StressLevelModel straight = createModel();
+		for (int i = 0; i < TICKS_BEFORE_REWIND + TICKS_AFTER_REWIND; i++) {
+			play(straight, null);
+		}
+		List<Long> steps = getSteps(rewound.getCurve());
+		assertEquals(getSteps(straight.getCurve()), steps);
+		for (int i = 1; i < steps.size(); i++) {
+			assertTrue(steps.get(i) > steps.get(i - 1), "Duplicate or out-of-order points: " + steps);
+		}
+		assertFalse(rewound.isLevelComplete());
+	}
+
+	/**
+	 * Plays one tick without input, recording it first if a rewind buffer is given.
+	 *
+	 * @param model        the world to step
+	 * @param rewindBuffer the buffer to record into, or null
+	 */
+	private static void play(StressLevelModel model, RewindBuffer rewindBuffer) {
+		if (rewindBuffer != null) {
+			rewindBuffer.record(model, 0);
+		}
+		model.applyInput(0);
+		model.step(1.0 / TICK_RATE);
+	}
+
+	/**
+	 * Gets the ramp step of every point of a curve.
+	 *
+	 * @param curve the curve
+	 * @return the steps, in the order the points were measured
+	 */
+	private static List<Long> getSteps(ScalingCurve curve) {
+		List<Long> steps = new ArrayList<>();
+		for (ScalingCurve.Point point : curve.getPoints()) {
+			steps.add(point.getStep());
+		}
+		return steps;
+	}
+
+	/**
+	 * Creates a stress run that adds two enemies every half second and never runs over its budget.
+	 *
+	 * @return the world
+	 */
+	private static StressLevelModel createModel() {
+		StressConfig config = new StressConfig(2, 2, 0.5, 1_000, 1, -400, Long.MAX_VALUE, null);
+		StressLevelModel model = new StressLevelModel(750, 1300, new GameRandom(SEED), config);
+		model.setParallelUpdate(null);
+		return model;
+	}
+}
@@ -0,0 +1,135 @@
+package com.example.demo.replay;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * ReplayReadTest checks that {@link Replay#read(Path)} reads back what {@link Replay#write(Path)} wrote,
+ * and that a corrupt file only ever fails with an {@link IOException}, which launching a replay reports.
+ */
+class ReplayReadTest {
+
+	/**
+	 * The number of ticks in the replay written by the tests.
+	 */
+	private static final int TICK_COUNT = 600;
+
+	/**
+	 * The class name of the level the replays are recorded in.
+	 */
+	private static final String LEVEL_NAME = "com.example.demo.level.LevelOne";
+
+	/**
+	 * The directory the replay files are written to.
+	 */
+	@TempDir
+	Path directory;
+
+	/**
+	 * Writes a replay and reads it back.
+	 *
+	 * @throws IOException if the file cannot be written or read
+	 */
+	@Test
+	void readsWhatWasWritten() throws IOException {
+		Replay replay = createReplay();
+		Path path = directory.resolve("test.replay");
+		replay.write(path);
+		Replay read = Replay.read(path);
+		assertEquals(replay.getTickCount(), read.getTickCount());
+		assertEquals(replay.getKeyframeCount(), read.getKeyframeCount());
+		for (int tick = 0; tick < replay.getTickCount(); tick++) {
+			assertEquals(replay.getInput(tick), read.getInput(tick));
+		}
+		for (int i = 0; i < replay.getKeyframeCount(); i++) {
+			assertEquals(replay.getKeyframeTick(i), read.getKeyframeTick(i));
+			assertArrayEquals(replay.getKeyframe(i), read.getKeyframe(i));
+		}
+	}
+
+	/**
+	 * Sets every byte of a replay file in turn to values that make counts, ticks and lengths out of range,
+	 * and checks that reading either succeeds or throws an IOException.
+	 *
+	 * @throws IOException if the file cannot be written
+	 */
+	@Test
+	void corruptFileOnlyThrowsIOException() throws IOException {
+		Path path = directory.resolve("test.replay");
+		createReplay().write(path);
+		byte[] bytes = Files.readAllBytes(path);
+		Path corrupt = directory.resolve("corrupt.replay");
+		for (int i = 0; i < bytes.length; i++) {
+			for (int value : new int[] {0x00, 0x7f, 0xff}) {
+				byte[] copy = bytes.clone();
+				copy[i] = (byte) value;
+				Files.write(corrupt, copy);
+				try {
+					Replay.read(corrupt);
+				} catch (IOException e) {
+					// Reported as a corrupt or unreadable replay, as expected
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks that a tick count far beyond any recording is rejected before it is allocated.
+	 *
+	 * @throws IOException if the file cannot be written
+	 */
+	@Test
+	void hugeTickCountIsCorrupt() throws IOException {
+		Replay replay = new Replay(LEVEL_NAME, 1, 60, new byte[0], new int[0], new byte[0][]);
+		Path path = directory.resolve("test.replay");
+		replay.write(path);
+		byte[] bytes = Files.readAllBytes(path);
+		// The tick count follows the tick rate, whose varint is one byte; replace it with the largest varint
+		int tickCountOffset = bytes.length - 3;
+		byte[] corrupt = new byte[bytes.length + 4];
+		System.arraycopy(bytes, 0, corrupt, 0, tickCountOffset);
+		corrupt[tickCountOffset] = (byte) 0xff;
+		corrupt[tickCountOffset + 1] = (byte) 0xff;
+		corrupt[tickCountOffset + 2] = (byte) 0xff;
+		corrupt[tickCountOffset + 3] = (byte) 0xff;
+		corrupt[tickCountOffset + 4] = 0x07;
+		Files.write(path, corrupt);
+		assertThrows(IOException.class, () -> Replay.read(path));
+	}
+
+	/**
+	 * Checks that a replay of a level the game does not have is rejected.
+	 *
+	 * @throws IOException if the file cannot be written
+	 */
+	@Test
+	void unknownLevelIsCorrupt() throws IOException {
+		Replay replay = new Replay("com.example.demo.level.LevelNine", 1, 60, new byte[0], new int[0], new byte[0][]);
+		Path path = directory.resolve("test.replay");
+		replay.write(path);
+		assertThrows(IOException.class, () -> Replay.read(path));
+	}
+
+	/**
+	 * Creates a replay with changing inputs and a few keyframes of made-up state.
+	 *
+	 * @return the replay
+	 */
+	private static Replay createReplay() {
+		byte[] inputs = new byte[TICK_COUNT];
+		for (int tick = 0; tick < TICK_COUNT; tick++) {
+			inputs[tick] = (byte) (tick / 37 % 8);
+		}
+		int[] keyframeTicks = {0, 300};
+		byte[][] keyframes = {{1, 2, 3, 4}, {5, 6, 7, 8, 9}};
+		return new Replay(LEVEL_NAME, 42, 60, inputs, keyframeTicks, keyframes);
+	}
+}
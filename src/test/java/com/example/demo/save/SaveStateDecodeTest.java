@@ -0,0 +1,120 @@
+package com.example.demo.save;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.level.LevelId;
+import com.example.demo.manager.GameRandom;
+import com.example.demo.model.LevelModel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * SaveStateDecodeTest checks that {@link SaveState#decode(ByteBuffer)} reads back what {@link SaveState#encode()}
+ * wrote, and that a corrupt save only ever fails with an {@link IOException}, which launching a save reports.
+ */
+class SaveStateDecodeTest {
+
+	/**
+	 * The number of ticks played before the world is captured.
+	 */
+	private static final int TICK_COUNT = 600;
+
+	/**
+	 * The tick rate the world is played at.
+	 */
+	private static final int TICK_RATE = 60;
+
+	/**
+	 * The seed the world is started with.
+	 */
+	private static final long SEED = 42;
+
+	/**
+	 * The height of the game screen, as in the real game.
+	 */
+	private static final double SCREEN_HEIGHT = 750;
+
+	/**
+	 * The width of the game screen, as in the real game.
+	 */
+	private static final double SCREEN_WIDTH = 1300;
+
+	/**
+	 * Encodes a save and decodes it back.
+	 *
+	 * @throws IOException if the save cannot be decoded
+	 */
+	@Test
+	void decodesWhatWasEncoded() throws IOException {
+		SaveState save = createSave();
+		SaveState decoded = SaveState.decode(save.encode());
+		assertEquals(save.getLevelName(), decoded.getLevelName());
+		assertEquals(save.getSeed(), decoded.getSeed());
+		assertEquals(save.getTickRate(), decoded.getTickRate());
+		assertEquals(save.getTick(), decoded.getTick());
+		assertEquals(save.getStateSize(), decoded.getStateSize());
+		decoded.restore(createModel());
+	}
+
+	/**
+	 * Sets every byte of a save in turn to values that make lengths, counts and types out of range,
+	 * and checks that decoding and restoring it either succeed or throw an IOException.
+	 */
+	@Test
+	void corruptSaveOnlyThrowsIOException() {
+		ByteBuffer encoded = createSave().encode();
+		byte[] bytes = new byte[encoded.remaining()];
+		encoded.get(bytes);
+		for (int i = 0; i < bytes.length; i++) {
+			for (int value : new int[] {0x00, 0x7f, 0xff}) {
+				byte[] copy = bytes.clone();
+				copy[i] = (byte) value;
+				try {
+					SaveState.decode(ByteBuffer.wrap(copy)).restore(createModel());
+				} catch (IOException e) {
+					// Reported as a corrupt save, as expected
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks that a save of a level the game does not have is rejected.
+	 */
+	@Test
+	void unknownLevelIsCorrupt() {
+		SaveState save = SaveState.capture(createModel(), "com.example.demo.level.LevelNine", SEED, TICK_RATE,
+				new ByteBufferOutput());
+		assertThrows(IOException.class, () -> SaveState.decode(save.encode()));
+	}
+
+	/**
+	 * Plays the first level for a while and captures it.
+	 *
+	 * @return the save
+	 */
+	private static SaveState createSave() {
+		LevelModel model = createModel();
+		for (int tick = 0; tick < TICK_COUNT; tick++) {
+			model.applyInput(tick / 37 % 8);
+			model.step(1.0 / TICK_RATE);
+		}
+		return SaveState.capture(model, LevelId.LEVEL_ONE.getLevelClass().getName(), SEED, TICK_RATE,
+				new ByteBufferOutput());
+	}
+
+	/**
+	 * Creates a world of the first level.
+	 *
+	 * @return the world
+	 */
+	private static LevelModel createModel() {
+		LevelModel model = LevelId.LEVEL_ONE.createModel(SCREEN_HEIGHT, SCREEN_WIDTH, new GameRandom(SEED));
+		model.setParallelUpdate(null);
+		return model;
+	}
+}
@@ -0,0 +1,307 @@
+package com.example.demo.tools;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import com.example.demo.Actor.ActiveActor;
+import com.example.demo.event.ActorDestroyedEvent;
+import com.example.demo.event.DamageTakenEvent;
+import com.example.demo.event.EventBus;
+import com.example.demo.event.ProjectileFiredEvent;
+import com.example.demo.event.ShieldChangedEvent;
+import com.example.demo.level.LevelId;
+import com.example.demo.manager.GameRandom;
+import com.example.demo.model.FrameSnapshot;
+import com.example.demo.model.LevelModel;
+import com.example.demo.replay.RewindBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AllocationBudgetTest checks that a warm game tick allocates no memory.
+ * Each level of the campaign is played headless by a {@link Pilot} until the JIT has compiled the tick, and then
+ * the bytes the calling thread allocates while recording the input into the {@link RewindBuffer}, applying it,
+ * stepping the model and capturing it into a {@link FrameSnapshot}, as the simulation thread does every tick,
+ * are counted tick by tick with {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}.
+ * A listener counts every event of the tick on an {@link EventBus}, so dispatching the events is measured too.
+ * A tick in which an enemy entered the world is counted apart, since the new enemy is an allocation by design;
+ * every other tick is a steady-state tick, and the test of a level fails if those allocate more than the budget.
+ * A level that is complete or whose user is destroyed is started again outside the measured ticks, so the whole
+ * measurement is of a level in play.
+ */
+class AllocationBudgetTest {
+
+	/**
+	 * The number of bytes a steady-state tick may allocate on average.
+	 */
+	private static final long BUDGET_BYTES = 0;
+
+	/**
+	 * The number of ticks played before measuring, enough for the JIT to compile the tick.
+	 */
+	private static final int WARM_UP_TICKS = 30_000;
+
+	/**
+	 * The number of ticks measured, one minute of play at the default tick rate.
+	 */
+	private static final int MEASURED_TICKS = 3_600;
+
+	/**
+	 * The name of the pilot flying the user's plane.
+	 */
+	private static final String PILOT_NAME = "sweeping";
+
+	/**
+	 * The tick rate the levels are played at.
+	 */
+	private static final int TICK_RATE = 60;
+
+	/**
+	 * The height of the game screen, as in the real game.
+	 */
+	private static final double SCREEN_HEIGHT = 750;
+
+	/**
+	 * The width of the game screen, as in the real game.
+	 */
+	private static final double SCREEN_WIDTH = 1300;
+
+	/**
+	 * Creates one test per level of the campaign, which plays the level and checks its steady-state ticks.
+	 *
+	 * @return the tests
+	 */
+	@TestFactory
+	Stream<DynamicTest> steadyStateTicksStayWithinBudget() {
+		return Arrays.stream(LevelId.values())
+				.filter(LevelId::isCampaign)
+				.map(level -> DynamicTest.dynamicTest(level.toString(), () -> {
+					Measurement measurement = new LevelRun(level).measure(WARM_UP_TICKS, MEASURED_TICKS);
+					assertTrue(measurement.getSteadyBytesPerTick() <= BUDGET_BYTES,
+							"Steady-state ticks allocate more than " + BUDGET_BYTES + " bytes: " + measurement);
+				}));
+	}
+
+	/**
+	 * LevelRun plays one level of the campaign and measures the allocations of its ticks.
+	 */
+	private static final class LevelRun {
+
+		/**
+		 * The source of the calling thread's allocation counter.
+		 */
+		private final com.sun.management.ThreadMXBean threads;
+
+		/**
+		 * The level being played.
+		 */
+		private final LevelId level;
+
+		/**
+		 * The world being stepped.
+		 */
+		private LevelModel model;
+
+		/**
+		 * The snapshot the world is captured into after every tick.
+		 */
+		private final FrameSnapshot snapshot;
+
+		/**
+		 * The bus the tick's events are published on, with a synchronous listener counting them.
+		 */
+		private final EventBus eventBus;
+
+		/**
+		 * The rewind buffer every tick is recorded into, as chosen at launch, or null if rewinding is off.
+		 */
+		private final RewindBuffer rewindBuffer;
+
+		/**
+		 * The pilot flying the user's plane in the current world.
+		 */
+		private Pilot pilot;
+
+		/**
+		 * The number of times the level has been started, used as the seed of the next one.
+		 */
+		private long starts;
+
+		/**
+		 * The number of enemies that entered the world during the current tick.
+		 */
+		private int enemiesAdded;
+
+		/**
+		 * The number of events published during the measured ticks.
+		 */
+		private long eventCount;
+
+		/**
+		 * Constructor for a run of one level.
+		 *
+		 * @param level the level to play
+		 */
+		LevelRun(LevelId level) {
+			this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+			this.level = level;
+			this.snapshot = new FrameSnapshot();
+			this.eventBus = new EventBus();
+			this.rewindBuffer = RewindBuffer.createConfigured(TICK_RATE);
+			eventBus.subscribe(ActorDestroyedEvent.class, event -> eventCount++);
+			eventBus.subscribe(DamageTakenEvent.class, event -> eventCount++);
+			eventBus.subscribe(ShieldChangedEvent.class, event -> eventCount++);
+			eventBus.subscribe(ProjectileFiredEvent.class, event -> eventCount++);
+		}
+
+		/**
+		 * Plays the level through the warm-up and then measures the allocations of every tick.
+		 *
+		 * @param warmUpTicks   the number of ticks played before measuring
+		 * @param measuredTicks the number of ticks measured
+		 * @return the bytes allocated by the measured ticks
+		 */
+		Measurement measure(int warmUpTicks, int measuredTicks) {
+			double deltaSeconds = 1.0 / TICK_RATE;
+			start();
+			for (int i = 0; i < warmUpTicks; i++) {
+				step(deltaSeconds);
+			}
+			Measurement measurement = new Measurement(level);
+			eventCount = 0;
+			for (int i = 0; i < measuredTicks; i++) {
+				long bytes = step(deltaSeconds);
+				if (enemiesAdded > 0) {
+					measurement.spawnTicks++;
+					measurement.spawnBytes += bytes;
+				} else {
+					measurement.steadyTicks++;
+					measurement.steadyBytes += bytes;
+					measurement.maxSteadyBytes = Math.max(measurement.maxSteadyBytes, bytes);
+				}
+			}
+			measurement.events = eventCount;
+			return measurement;
+		}
+
+		/**
+		 * Plays one tick, first starting the level again if it has ended.
+		 *
+		 * @param deltaSeconds the length of the tick, in seconds
+		 * @return the bytes allocated while recording and applying the input, stepping the model and capturing the snapshot
+		 */
+		private long step(double deltaSeconds) {
+			if (model.isLevelComplete() || model.isUserDestroyed()) {
+				start();
+			}
+			int input = pilot.nextInput(model);
+			enemiesAdded = 0;
+			long before = threads.getCurrentThreadAllocatedBytes();
+			if (rewindBuffer != null) {
+				rewindBuffer.record(model, input);
+			}
+			model.applyInput(input);
+			model.step(deltaSeconds);
+			snapshot.capture(model, 0);
+			return threads.getCurrentThreadAllocatedBytes() - before;
+		}
+
+		/**
+		 * Starts the level with a new world and pilot, counting the enemies that enter it.
+		 */
+		private void start() {
+			model = level.createModel(SCREEN_HEIGHT, SCREEN_WIDTH, new GameRandom(++starts));
+			model.setParallelUpdate(null);
+			model.setEventBus(eventBus);
+			if (rewindBuffer != null) {
+				rewindBuffer.clear();
+			}
+			model.setListener(new LevelModel.Listener() {
+				@Override
+				public void actorAdded(ActiveActor.ActiveActorDestructible actor) {
+					enemiesAdded++;
+				}
+
+				@Override
+				public void actorRemoved(ActiveActor.ActiveActorDestructible actor) {
+				}
+			});
+			pilot = Pilot.create(PILOT_NAME, TICK_RATE);
+		}
+	}
+
+	/**
+	 * Measurement is the bytes allocated by the measured ticks of one level.
+	 */
+	private static final class Measurement {
+
+		/**
+		 * The level measured.
+		 */
+		private final LevelId level;
+
+		/**
+		 * The number of ticks in which no enemy entered the world.
+		 */
+		private long steadyTicks;
+
+		/**
+		 * The bytes allocated by the steady-state ticks.
+		 */
+		private long steadyBytes;
+
+		/**
+		 * The most bytes allocated by a single steady-state tick.
+		 */
+		private long maxSteadyBytes;
+
+		/**
+		 * The number of ticks in which an enemy entered the world.
+		 */
+		private long spawnTicks;
+
+		/**
+		 * The bytes allocated by the ticks in which an enemy entered the world.
+		 */
+		private long spawnBytes;
+
+		/**
+		 * The number of events published during the measured ticks.
+		 */
+		private long events;
+
+		/**
+		 * Constructor for an empty measurement.
+		 *
+		 * @param level the level measured
+		 */
+		Measurement(LevelId level) {
+			this.level = level;
+		}
+
+		/**
+		 * Gets the mean bytes allocated by a steady-state tick.
+		 *
+		 * @return the bytes per tick, rounded up so any allocation counts
+		 */
+		long getSteadyBytesPerTick() {
+			return steadyTicks == 0 ? 0 : (steadyBytes + steadyTicks - 1) / steadyTicks;
+		}
+
+		/**
+		 * Describes the measurement in one line.
+		 *
+		 * @return the bytes allocated by the steady-state ticks and by the spawn ticks, and the events published
+		 */
+		@Override
+		public String toString() {
+			return String.format("%s steady %d ticks %d bytes (%d per tick, max %d), spawn %d ticks %d bytes, events %d",
+					level, steadyTicks, steadyBytes, getSteadyBytesPerTick(), maxSteadyBytes, spawnTicks, spawnBytes,
+					events);
+		}
+	}
+}